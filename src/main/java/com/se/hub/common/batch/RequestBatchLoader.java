@@ -0,0 +1,124 @@
+package com.se.hub.common.batch;
+
+import com.se.hub.common.constant.BatchLoaderConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Request-scoped batch loader (DataLoader style).
+ *
+ * Services hand over every key they need of one kind (reaction state, view counts,
+ * author profiles, ...) and the loader resolves the ones not seen yet in this request
+ * with a single call to the batch function. Results, including keys the batch function
+ * did not return, are memoized in the current request's attributes, so rendering the
+ * same target again later in the request costs no further query.
+ *
+ * Outside an HTTP request (schedulers, listeners) the batch function is called
+ * directly and nothing is memoized.
+ */
+@Slf4j
+@Component
+public class RequestBatchLoader {
+
+    // Stored for keys the batch function did not resolve (ConcurrentHashMap rejects null values)
+    private static final Object MISSING = new Object();
+
+    /**
+     * Load values for many keys; keys already resolved in this request are served from the memo.
+     *
+     * @param loaderName loader name from BatchLoaderConstants (must include the viewer when results depend on it)
+     * @param keys keys to load; duplicates and nulls are ignored
+     * @param batchFn resolves the given keys with one query and returns the found values
+     * @return map of key -> value for every key that has a value
+     */
+    public <K, V> Map<K, V> loadMany(String loaderName, Collection<K> keys, Function<List<K>, Map<K, V>> batchFn) {
+        if (keys == null || keys.isEmpty()) {
+            return new HashMap<>();
+        }
+        Set<K> distinctKeys = new LinkedHashSet<>(keys);
+        distinctKeys.remove(null);
+
+        Map<Object, Object> memo = memo(loaderName);
+        if (memo == null) {
+            Map<K, V> loaded = batchFn.apply(new ArrayList<>(distinctKeys));
+            return loaded != null ? loaded : new HashMap<>();
+        }
+
+        List<K> missingKeys = distinctKeys.stream()
+                .filter(key -> !memo.containsKey(key))
+                .toList();
+        if (!missingKeys.isEmpty()) {
+            Map<K, V> loaded = batchFn.apply(missingKeys);
+            for (K key : missingKeys) {
+                V value = loaded != null ? loaded.get(key) : null;
+                memo.put(key, value != null ? value : MISSING);
+            }
+            log.debug("RequestBatchLoader_loadMany_Loaded {} keys for {}", missingKeys.size(), loaderName);
+        }
+
+        Map<K, V> result = new HashMap<>();
+        for (K key : distinctKeys) {
+            Object value = memo.get(key);
+            if (value != null && value != MISSING) {
+                @SuppressWarnings("unchecked")
+                V typed = (V) value;
+                result.put(key, typed);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Load the value of a single key through the same memo as loadMany
+     *
+     * @return the value, or null when the batch function did not resolve the key
+     */
+    public <K, V> V load(String loaderName, K key, Function<List<K>, Map<K, V>> batchFn) {
+        if (key == null) {
+            return null;
+        }
+        return loadMany(loaderName, List.of(key), batchFn).get(key);
+    }
+
+    /**
+     * Build a loader name from a prefix and its qualifiers, e.g. reaction:state:BLOG:{userId}.
+     * Null qualifiers (anonymous viewer) are written as "anonymous".
+     */
+    public static String loaderName(String prefix, Object... qualifiers) {
+        StringBuilder name = new StringBuilder(prefix);
+        for (int i = 0; i < qualifiers.length; i++) {
+            if (i > 0) {
+                name.append(BatchLoaderConstants.NAME_SEPARATOR);
+            }
+            name.append(qualifiers[i] != null ? qualifiers[i] : BatchLoaderConstants.ANONYMOUS);
+        }
+        return name.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Object, Object> memo(String loaderName) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<String, Map<Object, Object>> memos = (Map<String, Map<Object, Object>>) attributes
+                .getAttribute(BatchLoaderConstants.REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memos == null) {
+            memos = new ConcurrentHashMap<>();
+            attributes.setAttribute(BatchLoaderConstants.REQUEST_ATTRIBUTE, memos, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memos.computeIfAbsent(loaderName, name -> new ConcurrentHashMap<>());
+    }
+}
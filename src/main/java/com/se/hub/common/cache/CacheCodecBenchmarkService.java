@@ -0,0 +1,170 @@
+package com.se.hub.common.cache;
+
+import com.se.hub.common.constant.CacheConstants;
+import com.se.hub.common.dto.response.CacheCodecBenchmarkResponse;
+import com.se.hub.common.enums.ErrorCode;
+import com.se.hub.common.exception.AppException;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmarks the JSON and compact cache codecs on real cached values (admin only).
+ *
+ * For each cache with a compact schema, samples entries from Redis, decodes them and measures
+ * payload size and encode/decode time of both codecs on the same values.
+ * Runs on the serving node; keep sample size and iterations small on production.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CacheCodecBenchmarkService {
+    private static final int MAX_SAMPLE_SIZE = 200;
+    private static final int MAX_ITERATIONS = 1000;
+    private static final int WARMUP_ITERATIONS = 5;
+
+    StringRedisTemplate stringRedisTemplate;
+    CacheCodecRegistry cacheCodecRegistry;
+
+    public List<CacheCodecBenchmarkResponse> benchmark(int sampleSize, int iterations) {
+        if (!isAdmin()) {
+            log.error("CacheCodecBenchmarkService_benchmark_Current user is not admin");
+            throw new AppException(ErrorCode.AUTHZ_UNAUTHORIZED);
+        }
+        int samples = Math.clamp(sampleSize, 1, MAX_SAMPLE_SIZE);
+        int runs = Math.clamp(iterations, 1, MAX_ITERATIONS);
+
+        List<CacheCodecBenchmarkResponse> results = new ArrayList<>();
+        for (Map.Entry<String, CompactCacheSerializer> entry : cacheCodecRegistry.getCompactSerializers().entrySet()) {
+            results.add(benchmarkCache(entry.getKey(), entry.getValue(), samples, runs));
+        }
+        results.sort(Comparator.comparing(CacheCodecBenchmarkResponse::getCacheName));
+        return results;
+    }
+
+    private CacheCodecBenchmarkResponse benchmarkCache(String cacheName, CompactCacheSerializer compact,
+                                                       int sampleSize, int iterations) {
+        RedisSerializer<Object> json = cacheCodecRegistry.getJsonSerializer();
+        List<Object> values = new ArrayList<>();
+        for (byte[] raw : sampleRawValues(cacheName, sampleSize)) {
+            try {
+                Object value = compact.deserialize(raw);
+                if (value != null) {
+                    values.add(value);
+                }
+            } catch (Exception e) {
+                log.warn("CacheCodecBenchmarkService_benchmarkCache_Skipping unreadable entry in {}: {}", cacheName, e.getMessage());
+            }
+        }
+
+        CacheCodecBenchmarkResponse.CacheCodecBenchmarkResponseBuilder result = CacheCodecBenchmarkResponse.builder()
+                .cacheName(cacheName)
+                .activeCodec(cacheCodecRegistry.isCompact(cacheName) ? "compact" : "json")
+                .samples(values.size());
+        if (values.isEmpty()) {
+            return result.build();
+        }
+
+        long jsonBytes = 0;
+        long compactBytes = 0;
+        long jsonEncodeNanos = 0;
+        long jsonDecodeNanos = 0;
+        long compactEncodeNanos = 0;
+        long compactDecodeNanos = 0;
+        for (Object value : values) {
+            byte[] jsonPayload = json.serialize(value);
+            byte[] compactPayload = compact.serialize(value);
+            jsonBytes += jsonPayload.length;
+            compactBytes += compactPayload.length;
+
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                json.deserialize(json.serialize(value));
+                compact.deserialize(compact.serialize(value));
+            }
+            for (int i = 0; i < iterations; i++) {
+                long start = System.nanoTime();
+                json.serialize(value);
+                jsonEncodeNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                json.deserialize(jsonPayload);
+                jsonDecodeNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                compact.serialize(value);
+                compactEncodeNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                compact.deserialize(compactPayload);
+                compactDecodeNanos += System.nanoTime() - start;
+            }
+        }
+
+        double runs = (double) values.size() * iterations * 1_000;
+        return result
+                .jsonBytes(jsonBytes / values.size())
+                .compactBytes(compactBytes / values.size())
+                .sizeRatio(jsonBytes == 0 ? 0.0 : (double) compactBytes / jsonBytes)
+                .jsonEncodeMicros(jsonEncodeNanos / runs)
+                .jsonDecodeMicros(jsonDecodeNanos / runs)
+                .compactEncodeMicros(compactEncodeNanos / runs)
+                .compactDecodeMicros(compactDecodeNanos / runs)
+                .build();
+    }
+
+    /**
+     * Raw Redis payloads of up to sampleSize entries of a cache (SCAN, no KEYS)
+     */
+    private List<byte[]> sampleRawValues(String cacheName, int sampleSize) {
+        String pattern = CacheConstants.REDIS_KEY_PREFIX + cacheName + CacheConstants.TAG_MEMBER_SEPARATOR + "*";
+        List<byte[]> rawValues = stringRedisTemplate.execute((RedisCallback<List<byte[]>>) connection -> {
+            List<byte[]> found = new ArrayList<>();
+            ScanOptions options = ScanOptions.scanOptions().match(pattern).count(100).build();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext() && found.size() < sampleSize) {
+                    byte[] raw = get(connection, cursor.next());
+                    if (raw != null) {
+                        found.add(raw);
+                    }
+                }
+            }
+            return found;
+        });
+        return rawValues != null ? rawValues : List.of();
+    }
+
+    private static byte[] get(RedisConnection connection, byte[] key) {
+        return connection.stringCommands().get(key);
+    }
+
+    /**
+     * Check if current user is admin
+     */
+    private boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(authority -> authority.equals("ROLE_ADMIN"));
+    }
+}
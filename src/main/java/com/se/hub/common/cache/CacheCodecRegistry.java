@@ -0,0 +1,73 @@
+package com.se.hub.common.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Value codecs of the Redis cache tier, selectable per cache name.
+ *
+ * Every cache with a declared CacheValueSchema has a compact serializer; it is used for writes
+ * only when the cache is listed in cache.codec.compact-caches. Such caches read both formats
+ * whichever codec writes (the compact serializer falls back to JSON for payloads without its
+ * header), so they can be switched either way without flushing Redis. Caches without a schema
+ * are JSON only; a payload that still cannot be decoded is treated as a miss by TwoLevelCache.
+ */
+public class CacheCodecRegistry {
+    private final RedisSerializer<Object> jsonSerializer;
+    private final Map<String, CompactCacheSerializer> compactSerializers;
+    private final Set<String> compactCaches;
+
+    public CacheCodecRegistry(RedisSerializer<Object> jsonSerializer,
+                              Map<String, CompactCacheSerializer> compactSerializers,
+                              Set<String> compactCaches) {
+        this.jsonSerializer = jsonSerializer;
+        this.compactSerializers = compactSerializers;
+        this.compactCaches = compactCaches;
+    }
+
+    /**
+     * Serializer used by the Redis tier of a cache
+     */
+    public RedisSerializer<Object> serializerFor(String cacheName) {
+        CompactCacheSerializer compact = compactSerializers.get(cacheName);
+        if (compact == null) {
+            return jsonSerializer;
+        }
+        return compactCaches.contains(cacheName) ? compact : new JsonWritingSerializer(jsonSerializer, compact);
+    }
+
+    public boolean isCompact(String cacheName) {
+        return compactCaches.contains(cacheName) && compactSerializers.containsKey(cacheName);
+    }
+
+    public RedisSerializer<Object> getJsonSerializer() {
+        return jsonSerializer;
+    }
+
+    /**
+     * Compact serializers of every cache with a declared schema (enabled or not)
+     */
+    public Map<String, CompactCacheSerializer> getCompactSerializers() {
+        return compactSerializers;
+    }
+
+    /**
+     * Writes JSON but still reads compact payloads left by an earlier compact setting
+     */
+    private record JsonWritingSerializer(RedisSerializer<Object> jsonSerializer,
+                                         CompactCacheSerializer compactSerializer) implements RedisSerializer<Object> {
+
+        @Override
+        public byte[] serialize(Object value) throws SerializationException {
+            return jsonSerializer.serialize(value);
+        }
+
+        @Override
+        public Object deserialize(byte[] bytes) throws SerializationException {
+            return compactSerializer.deserialize(bytes);
+        }
+    }
+}
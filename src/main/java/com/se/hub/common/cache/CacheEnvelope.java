@@ -0,0 +1,31 @@
+package com.se.hub.common.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Cached value with the metadata needed for early refresh and stale-while-revalidate.
+ * Stored in both tiers; TwoLevelCache unwraps it before values reach callers or tag resolvers.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CacheEnvelope {
+    Object value;
+    // Epoch millis after which the value is logically expired (may still be served stale)
+    long expiresAt;
+    // How long the value took to compute; weights the probabilistic early refresh
+    long loadMillis;
+
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+}
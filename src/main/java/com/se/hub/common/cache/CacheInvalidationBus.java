@@ -0,0 +1,74 @@
+package com.se.hub.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.se.hub.common.constant.CacheConstants;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Cross-node cache invalidation over Redis Pub/Sub.
+ *
+ * Each node tags its messages with a random node id and ignores its own messages,
+ * since local invalidation has already been applied before publishing.
+ * Delivery is best-effort: the short L1 TTL bounds staleness if a message is lost.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CacheInvalidationBus {
+    StringRedisTemplate stringRedisTemplate;
+    RedisMessageListenerContainer redisMessageListenerContainer;
+    ObjectMapper objectMapper;
+    String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationBus(StringRedisTemplate stringRedisTemplate,
+                                RedisMessageListenerContainer redisMessageListenerContainer,
+                                ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Broadcast an invalidation for one key, or for the whole cache when key is null
+     */
+    public void publish(String cacheName, String key) {
+        CacheInvalidationMessage message = CacheInvalidationMessage.builder()
+                .origin(nodeId)
+                .cacheName(cacheName)
+                .key(key)
+                .build();
+        try {
+            stringRedisTemplate.convertAndSend(CacheConstants.INVALIDATION_CHANNEL,
+                    objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("CacheInvalidationBus_publish_Error publishing invalidation for cache: {}, key: {}", cacheName, key, e);
+        }
+    }
+
+    /**
+     * Register a handler for invalidations published by other nodes
+     */
+    public void subscribe(Consumer<CacheInvalidationMessage> handler) {
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                CacheInvalidationMessage invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+                if (!nodeId.equals(invalidation.getOrigin())) {
+                    handler.accept(invalidation);
+                }
+            } catch (Exception e) {
+                log.error("CacheInvalidationBus_subscribe_Error processing invalidation message", e);
+            }
+        }, new ChannelTopic(CacheConstants.INVALIDATION_CHANNEL));
+
+        log.info("CacheInvalidationBus_subscribe_Subscribed to Redis channel: {}", CacheConstants.INVALIDATION_CHANNEL);
+    }
+}
@@ -0,0 +1,26 @@
+package com.se.hub.common.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Message broadcast over Redis Pub/Sub so that every node drops its local (L1) copy
+ * of an entry that was changed or evicted on another node.
+ * A null key means the whole cache was cleared.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CacheInvalidationMessage {
+    String origin;
+    String cacheName;
+    String key;
+}
@@ -0,0 +1,104 @@
+package com.se.hub.common.cache;
+
+import com.se.hub.common.constant.CacheConstants;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Fine-grained cache invalidation by dependency tag.
+ *
+ * Replaces blanket @CacheEvict(allEntries = true): writers name the entities they changed
+ * (blog id, author id, feed) and only the entries tagged with them are evicted.
+ * When called inside a transaction, eviction is deferred until after commit so that
+ * concurrent readers cannot repopulate the cache with pre-commit data.
+ * Evicting a tag also bumps the resource versions of the tag and its group, which
+ * invalidates ETag / Last-Modified validators derived from them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CacheInvalidationService {
+    TwoLevelCacheManager cacheManager;
+    CacheTagIndex tagIndex;
+    ResourceVersionIndex resourceVersionIndex;
+
+    /**
+     * Evict every cache entry that depends on any of the given tags
+     */
+    public void evictByTags(String... tags) {
+        if (tags == null || tags.length == 0) {
+            return;
+        }
+        runAfterCommit(() -> {
+            Arrays.stream(tags).forEach(this::evictTag);
+            resourceVersionIndex.bump(versionNames(tags));
+        });
+    }
+
+    /**
+     * Evict a single key from a cache
+     */
+    public void evict(String cacheName, String key) {
+        runAfterCommit(() -> {
+            TwoLevelCache cache = cacheManager.getTwoLevelCache(cacheName);
+            if (cache != null) {
+                cache.evict(key);
+            }
+        });
+    }
+
+    private void evictTag(String tag) {
+        Set<String> members = tagIndex.drain(tag);
+        for (String member : members) {
+            int separator = member.indexOf(CacheConstants.TAG_MEMBER_SEPARATOR);
+            if (separator < 0) {
+                continue;
+            }
+            String cacheName = member.substring(0, separator);
+            String key = member.substring(separator + CacheConstants.TAG_MEMBER_SEPARATOR.length());
+            TwoLevelCache cache = cacheManager.getTwoLevelCache(cacheName);
+            if (cache != null) {
+                cache.evict(key);
+            }
+        }
+        log.debug("CacheInvalidationService_evictTag_Evicted {} entries for tag: {}", members.size(), tag);
+    }
+
+    /**
+     * Tags plus their groups ("blog:123" also bumps "blog:*")
+     */
+    private static Set<String> versionNames(String... tags) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String tag : tags) {
+            names.add(tag);
+            String group = ResourceVersionIndex.groupOf(tag);
+            if (group != null) {
+                names.add(group);
+            }
+        }
+        return names;
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
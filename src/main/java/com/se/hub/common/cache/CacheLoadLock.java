@@ -0,0 +1,72 @@
+package com.se.hub.common.cache;
+
+import com.se.hub.common.constant.CacheConstants;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cross-node single-flight lock for cache loads.
+ *
+ * Key pattern: cache:lock:{cacheName}::{key} -> token (SET NX with TTL)
+ * Only the holder computes the value; other nodes wait for it to appear in Redis.
+ * Fails open: if Redis is unavailable every caller may load.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CacheLoadLock {
+    // Returned when Redis is unreachable; the caller loads without a lock
+    public static final String NO_LOCK = "";
+
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * Try to become the loader of an entry
+     * @return lock token, NO_LOCK if Redis is unavailable, or null if another node holds the lock
+     */
+    public String tryAcquire(String cacheName, String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), token, ttl);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            log.warn("CacheLoadLock_tryAcquire_Redis unavailable, loading {}::{} without lock: {}",
+                    cacheName, key, e.getMessage());
+            return NO_LOCK;
+        }
+    }
+
+    public void release(String cacheName, String key, String token) {
+        if (token == null || NO_LOCK.equals(token)) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey(cacheName, key)), token);
+        } catch (Exception e) {
+            // Expires with its TTL
+            log.warn("CacheLoadLock_release_Failed to release lock for {}::{}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    private static String lockKey(String cacheName, String key) {
+        return CacheConstants.REDIS_KEY_LOAD_LOCK_PREFIX + cacheName + CacheConstants.TAG_MEMBER_SEPARATOR + key;
+    }
+}
@@ -0,0 +1,61 @@
+package com.se.hub.common.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Per-cache loading policy of the two-level cache.
+ *
+ * - ttl: logical lifetime of an entry
+ * - staleWhileRevalidate: after ttl, the entry is still served for this long while one caller
+ *   refreshes it in the background (Redis keeps the entry for ttl + staleWhileRevalidate)
+ * - earlyRefreshBeta: probabilistic early expiration (XFetch); entries that are expensive to
+ *   compute are refreshed a little before ttl with rising probability. 0 disables it
+ * - lockTtl / lockWait: cross-node single-flight lock lifetime and how long other nodes wait
+ *   for the lock holder's value before loading themselves
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CacheLoadPolicy {
+    Duration ttl;
+    @Builder.Default
+    Duration staleWhileRevalidate = Duration.ZERO;
+    @Builder.Default
+    double earlyRefreshBeta = 0;
+    Duration lockTtl;
+    Duration lockWait;
+
+    /**
+     * How long Redis must keep an entry so stale values remain available
+     */
+    public Duration getRemoteTtl() {
+        return ttl.plus(staleWhileRevalidate);
+    }
+
+    /**
+     * Whether an expired entry may still be served while it is refreshed
+     */
+    public boolean isStaleServable(CacheEnvelope envelope, long now) {
+        return !staleWhileRevalidate.isZero() && now < envelope.getExpiresAt() + staleWhileRevalidate.toMillis();
+    }
+
+    /**
+     * XFetch: refresh when now - loadMillis * beta * ln(rand) >= expiresAt
+     */
+    public boolean shouldRefreshEarly(CacheEnvelope envelope, long now) {
+        if (earlyRefreshBeta <= 0) {
+            return false;
+        }
+        double gap = Math.max(1, envelope.getLoadMillis()) * earlyRefreshBeta
+                * -Math.log(ThreadLocalRandom.current().nextDouble(Double.MIN_VALUE, 1.0));
+        return now + gap >= envelope.getExpiresAt();
+    }
+}
@@ -0,0 +1,48 @@
+package com.se.hub.common.cache;
+
+import com.se.hub.common.dto.response.CacheStatsResponse;
+import com.se.hub.common.enums.ErrorCode;
+import com.se.hub.common.exception.AppException;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Exposes per-cache hit/miss/eviction statistics of the current node (admin only)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CacheStatisticsService {
+    TwoLevelCacheManager cacheManager;
+
+    public List<CacheStatsResponse> getStatistics() {
+        if (!isAdmin()) {
+            log.error("CacheStatisticsService_getStatistics_Current user is not admin");
+            throw new AppException(ErrorCode.AUTHZ_UNAUTHORIZED);
+        }
+        return cacheManager.getStatistics();
+    }
+
+    /**
+     * Check if current user is admin
+     */
+    private boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(authority -> authority.equals("ROLE_ADMIN"));
+    }
+}
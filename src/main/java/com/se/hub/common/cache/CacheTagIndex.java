@@ -0,0 +1,84 @@
+package com.se.hub.common.cache;
+
+import com.se.hub.common.constant.CacheConstants;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis-backed index from dependency tag to the cache entries that depend on it.
+ *
+ * Key pattern: cache:tag:{tag} -> SET of "cacheName::key"
+ * The index is shared by all nodes, so a tag eviction on any node reaches entries
+ * written by every node.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CacheTagIndex {
+    StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * Record that an entry depends on the given tags (pipelined, one round trip)
+     */
+    public void register(String cacheName, String key, Collection<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return;
+        }
+        String member = cacheName + CacheConstants.TAG_MEMBER_SEPARATOR + key;
+        try {
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    for (String tag : tags) {
+                        String tagKey = CacheConstants.REDIS_KEY_TAG_PREFIX + tag;
+                        operations.opsForSet().add(tagKey, member);
+                        operations.expire(tagKey, CacheConstants.TAG_INDEX_TTL);
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("CacheTagIndex_register_Error registering tags for {}", member, e);
+        }
+    }
+
+    /**
+     * Read and remove every member of a tag
+     *
+     * @return "cacheName::key" members that depended on the tag
+     */
+    public Set<String> drain(String tag) {
+        String tagKey = CacheConstants.REDIS_KEY_TAG_PREFIX + tag;
+        try {
+            List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    operations.opsForSet().members(tagKey);
+                    operations.delete(tagKey);
+                    return null;
+                }
+            });
+            @SuppressWarnings("unchecked")
+            Set<String> members = (Set<String>) results.get(0);
+            return members != null ? members : Collections.emptySet();
+        } catch (Exception e) {
+            log.warn("CacheTagIndex_drain_Error draining tag: {}", tag, e);
+            return Collections.emptySet();
+        }
+    }
+}
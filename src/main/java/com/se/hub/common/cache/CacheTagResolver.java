@@ -0,0 +1,27 @@
+package com.se.hub.common.cache;
+
+import java.util.Set;
+
+/**
+ * Resolves dependency tags for a cache entry at write time.
+ *
+ * Tags let a writer invalidate exactly the entries that depend on an entity
+ * (e.g. every cached page containing a given blog) instead of clearing a whole cache.
+ * Implementations are Spring beans picked up by {@link TwoLevelCacheManager}.
+ */
+public interface CacheTagResolver {
+
+    /**
+     * @param cacheName name of the cache being written
+     * @return true if this resolver computes tags for the given cache
+     */
+    boolean supports(String cacheName);
+
+    /**
+     * @param cacheName name of the cache being written
+     * @param key       cache key (string form)
+     * @param value     value being cached
+     * @return tags the entry depends on, never null
+     */
+    Set<String> resolveTags(String cacheName, String key, Object value);
+}
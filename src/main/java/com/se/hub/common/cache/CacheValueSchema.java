@@ -0,0 +1,28 @@
+package com.se.hub.common.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Declared value type of a cache, used by the compact codec instead of per-value class names.
+ *
+ * schemaId and version are written into every compact payload. Bump the version whenever the
+ * value type changes incompatibly: nodes reading a payload with another version treat it as a
+ * cache miss, so mixed versions during a rolling deploy never fail a request.
+ */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CacheValueSchema {
+    String cacheName;
+    String schemaId;
+    int version;
+    JavaType valueType;
+
+    public boolean supports(Object value) {
+        return valueType.getRawClass().isInstance(value);
+    }
+}
@@ -0,0 +1,18 @@
+package com.se.hub.common.cache;
+
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import java.util.List;
+
+/**
+ * Declares the value types of a module's caches for the compact cache codec.
+ * Implementations are Spring beans picked up by CacheConfig.
+ */
+public interface CacheValueSchemaProvider {
+
+    /**
+     * @param typeFactory factory for generic value types (e.g. PagingResponse of a DTO)
+     * @return schemas of the caches owned by the module
+     */
+    List<CacheValueSchema> getSchemas(TypeFactory typeFactory);
+}
@@ -0,0 +1,184 @@
+package com.se.hub.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact, schema-aware cache value codec.
+ *
+ * Layout (big-endian):
+ *   byte   magic (0xCB)
+ *   byte   format version
+ *   byte   flags (1 = body deflated, 2 = CacheEnvelope metadata present)
+ *   UTF    schema id, short schema version        (versioned type header)
+ *   [long  expiresAt, long loadMillis]            (envelope only)
+ *   [int   uncompressed body length]              (deflated only)
+ *   bytes  body: value written for the cache's declared type, without class names
+ *
+ * Bodies at or above the compression threshold are deflated when that makes them smaller.
+ * Payloads without the magic byte (written by the JSON serializer) and values of another type
+ * are handled by the fallback serializer. Payloads of an unknown format or schema version
+ * decode to null, which the cache treats as a miss.
+ */
+@Slf4j
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+    static final byte MAGIC = (byte) 0xCB;
+    static final byte FORMAT_VERSION = 1;
+    private static final int FLAG_DEFLATED = 1;
+    private static final int FLAG_ENVELOPE = 2;
+
+    private final CacheValueSchema schema;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final int compressionThreshold;
+    private final RedisSerializer<Object> fallbackSerializer;
+
+    public CompactCacheSerializer(CacheValueSchema schema,
+                                  ObjectMapper objectMapper,
+                                  int compressionThreshold,
+                                  RedisSerializer<Object> fallbackSerializer) {
+        this.schema = schema;
+        this.writer = objectMapper.writerFor(schema.getValueType());
+        this.reader = objectMapper.readerFor(schema.getValueType());
+        this.compressionThreshold = compressionThreshold;
+        this.fallbackSerializer = fallbackSerializer;
+    }
+
+    public CacheValueSchema getSchema() {
+        return schema;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        CacheEnvelope envelope = value instanceof CacheEnvelope cacheEnvelope ? cacheEnvelope : null;
+        Object payload = envelope != null ? envelope.getValue() : value;
+        if (payload == null || !schema.supports(payload)) {
+            return fallbackSerializer.serialize(value);
+        }
+
+        try {
+            byte[] body = writer.writeValueAsBytes(payload);
+            byte[] deflated = body.length >= compressionThreshold ? deflate(body) : null;
+            boolean compressed = deflated != null && deflated.length < body.length;
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length + 64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            out.writeByte((compressed ? FLAG_DEFLATED : 0) | (envelope != null ? FLAG_ENVELOPE : 0));
+            out.writeUTF(schema.getSchemaId());
+            out.writeShort(schema.getVersion());
+            if (envelope != null) {
+                out.writeLong(envelope.getExpiresAt());
+                out.writeLong(envelope.getLoadMillis());
+            }
+            if (compressed) {
+                out.writeInt(body.length);
+                out.write(deflated);
+            } else {
+                out.write(body);
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not write compact cache value for " + schema.getSchemaId(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallbackSerializer.deserialize(bytes);
+        }
+
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            in.readByte();
+            byte formatVersion = in.readByte();
+            if (formatVersion != FORMAT_VERSION) {
+                log.debug("CompactCacheSerializer_deserialize_Unknown format version {}, treating as miss", formatVersion);
+                return null;
+            }
+            int flags = in.readByte();
+            String schemaId = in.readUTF();
+            int schemaVersion = in.readShort();
+            if (!schema.getSchemaId().equals(schemaId) || schema.getVersion() != schemaVersion) {
+                log.debug("CompactCacheSerializer_deserialize_Schema {} v{} does not match {} v{}, treating as miss",
+                        schemaId, schemaVersion, schema.getSchemaId(), schema.getVersion());
+                return null;
+            }
+
+            long expiresAt = 0;
+            long loadMillis = 0;
+            boolean hasEnvelope = (flags & FLAG_ENVELOPE) != 0;
+            if (hasEnvelope) {
+                expiresAt = in.readLong();
+                loadMillis = in.readLong();
+            }
+            byte[] body;
+            if ((flags & FLAG_DEFLATED) != 0) {
+                int length = in.readInt();
+                body = inflate(in.readAllBytes(), length);
+            } else {
+                body = in.readAllBytes();
+            }
+
+            Object value = reader.readValue(body);
+            return hasEnvelope
+                    ? CacheEnvelope.builder().value(value).expiresAt(expiresAt).loadMillis(loadMillis).build()
+                    : value;
+        } catch (IOException | DataFormatException e) {
+            throw new SerializationException("Could not read compact cache value for " + schema.getSchemaId(), e);
+        }
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input, int length) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            byte[] output = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(output, read, length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated compact cache body");
+                }
+                read += n;
+            }
+            return output;
+        } finally {
+            inflater.end();
+        }
+    }
+}
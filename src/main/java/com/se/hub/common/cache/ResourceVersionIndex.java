@@ -0,0 +1,122 @@
+package com.se.hub.common.cache;
+
+import com.se.hub.common.constant.CacheConstants;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Redis-backed version stamps of mutable resources, used as conditional GET validators.
+ *
+ * Key pattern: cache:version:{name} -> epoch millis of the last change
+ * Names are cache dependency tags (bumped by CacheInvalidationService on eviction) or
+ * version-only names such as a user's reactions. Stamps only move forward, so they double
+ * as Last-Modified values; a missing or expired stamp is initialized to the current time,
+ * never reused, so a stale validator cannot match again.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ResourceVersionIndex {
+
+    // ARGV[1] = now (millis), ARGV[2] = ttl (seconds)
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+            for _, key in ipairs(KEYS) do
+                local previous = tonumber(redis.call('GET', key) or '0')
+                local next = math.max(tonumber(ARGV[1]), previous + 1)
+                redis.call('SET', key, tostring(next), 'EX', ARGV[2])
+            end
+            return #KEYS
+            """, Long.class);
+
+    // Returns the stamp of every key, initializing missing ones to ARGV[1]
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CURRENT_SCRIPT = new DefaultRedisScript<>("""
+            local stamps = {}
+            for i, key in ipairs(KEYS) do
+                local stamp = redis.call('GET', key)
+                if not stamp then
+                    stamp = ARGV[1]
+                    redis.call('SET', key, stamp, 'EX', ARGV[2])
+                end
+                stamps[i] = stamp
+            end
+            return stamps
+            """, List.class);
+
+    StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * Mark the named resources as changed now
+     */
+    public void bump(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(BUMP_SCRIPT, keys(names),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(CacheConstants.VERSION_TTL.toSeconds()));
+        } catch (Exception e) {
+            // Stale validators would keep answering 304; drop them so clients refetch
+            log.warn("ResourceVersionIndex_bump_Error bumping {}, dropping versions: {}", names, e.getMessage());
+            try {
+                stringRedisTemplate.delete(keys(names));
+            } catch (Exception ignored) {
+                // Redis is down; versions are re-initialized when it comes back
+            }
+        }
+    }
+
+    /**
+     * Current stamps of the named resources, in order
+     *
+     * @return stamps, or null when Redis is unavailable (callers skip conditional handling)
+     */
+    public List<Long> current(List<String> names) {
+        try {
+            @SuppressWarnings("unchecked")
+            List<Object> stamps = stringRedisTemplate.execute(CURRENT_SCRIPT, keys(names),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(CacheConstants.VERSION_TTL.toSeconds()));
+            if (stamps == null || stamps.size() != names.size()) {
+                return null;
+            }
+            List<Long> result = new ArrayList<>(stamps.size());
+            for (Object stamp : stamps) {
+                result.add(Long.parseLong(String.valueOf(stamp)));
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("ResourceVersionIndex_current_Error reading versions of {}: {}", names, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Group name of a tag ("blog:123" -> "blog:*"), or null for tags without a group
+     */
+    public static String groupOf(String tag) {
+        int separator = tag.indexOf(CacheConstants.TAG_GROUP_SEPARATOR);
+        if (separator < 0 || tag.endsWith(CacheConstants.TAG_GROUP_WILDCARD)) {
+            return null;
+        }
+        return tag.substring(0, separator + 1) + CacheConstants.TAG_GROUP_WILDCARD;
+    }
+
+    private static List<String> keys(Collection<String> names) {
+        return names.stream()
+                .map(name -> CacheConstants.REDIS_KEY_VERSION_PREFIX + name)
+                .toList();
+    }
+}
@@ -0,0 +1,385 @@
+package com.se.hub.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.se.hub.common.constant.CacheConstants;
+import com.se.hub.common.dto.response.CacheStatsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Two-level cache: bounded in-process Caffeine cache (L1) in front of a Redis cache (L2).
+ *
+ * - Reads hit L1 first, then L2; L2 hits are promoted into L1
+ * - Writes go to both tiers, register dependency tags and notify other nodes
+ * - Evictions are per key; other nodes drop their L1 copy via Redis Pub/Sub
+ *
+ * Loading (get with a value loader, i.e. @Cacheable(sync = true)) is single-flight:
+ * - concurrent callers on this node share one in-flight load
+ * - across nodes a Redis lock (CacheLoadLock) elects one loader; the others wait for its value
+ * - entries may be refreshed in the background before they expire (probabilistic early refresh)
+ *   or served stale while one caller refreshes them (stale-while-revalidate), per CacheLoadPolicy
+ * Background refreshes re-run the loader on a virtual thread with no security context, so loaders
+ * of cached values must not depend on the viewer (add viewer-specific state after the lookup).
+ *
+ * Values are stored as CacheEnvelope in both tiers and unwrapped on read.
+ * Keys are normalized to strings, matching how RedisCache renders them.
+ * Values held in L1 are shared instances, so callers must not mutate cached results.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+    private final String name;
+    private final Cache<String, Object> localCache;
+    private final org.springframework.cache.Cache remoteCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheTagIndex tagIndex;
+    private final List<CacheTagResolver> tagResolvers;
+    private final CacheLoadPolicy loadPolicy;
+    private final CacheLoadLock loadLock;
+    private final Executor refreshExecutor;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder clears = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalescedLocal = new LongAdder();
+    private final LongAdder coalescedRemote = new LongAdder();
+    private final LongAdder lockWaitTimeouts = new LongAdder();
+    private final LongAdder earlyRefreshes = new LongAdder();
+    private final LongAdder staleServed = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    public TwoLevelCache(String name,
+                         Cache<String, Object> localCache,
+                         org.springframework.cache.Cache remoteCache,
+                         CacheInvalidationBus invalidationBus,
+                         CacheTagIndex tagIndex,
+                         List<CacheTagResolver> tagResolvers,
+                         CacheLoadPolicy loadPolicy,
+                         CacheLoadLock loadLock,
+                         Executor refreshExecutor) {
+        super(false);
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationBus = invalidationBus;
+        this.tagIndex = tagIndex;
+        this.tagResolvers = tagResolvers.stream()
+                .filter(resolver -> resolver.supports(name))
+                .toList();
+        this.loadPolicy = loadPolicy;
+        this.loadLock = loadLock;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    @NonNull
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(@NonNull Object key) {
+        CacheEnvelope envelope = lookupEnvelope(toCacheKey(key));
+        // Plain lookups (non-sync @Cacheable) treat logically expired entries as misses
+        return envelope == null || envelope.isExpired(System.currentTimeMillis()) ? null : envelope.getValue();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        String cacheKey = toCacheKey(key);
+        CacheEnvelope envelope = lookupEnvelope(cacheKey);
+        long now = System.currentTimeMillis();
+        if (envelope != null) {
+            if (!envelope.isExpired(now)) {
+                if (loadPolicy.shouldRefreshEarly(envelope, now) && refreshInBackground(cacheKey, valueLoader)) {
+                    earlyRefreshes.increment();
+                }
+                return (T) envelope.getValue();
+            }
+            if (loadPolicy.isStaleServable(envelope, now)) {
+                staleServed.increment();
+                refreshInBackground(cacheKey, valueLoader);
+                return (T) envelope.getValue();
+            }
+        }
+        return (T) loadSingleFlight(cacheKey, valueLoader);
+    }
+
+    @Override
+    public void put(@NonNull Object key, Object value) {
+        // Loader duration is unknown here (@CachePut / non-sync @Cacheable)
+        put(toCacheKey(key), value, 0);
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        String cacheKey = toCacheKey(key);
+        remoteCache.evict(cacheKey);
+        localCache.invalidate(cacheKey);
+        evictions.increment();
+        invalidationBus.publish(name, cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        clears.increment();
+        invalidationBus.publish(name, null);
+    }
+
+    /**
+     * Drop an entry from L1 only (invalidation received from another node)
+     */
+    public void evictLocal(String key) {
+        localCache.invalidate(key);
+    }
+
+    /**
+     * Drop every L1 entry (clear received from another node)
+     */
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    /**
+     * Read the envelope from L1, then L2 (promoting L2 hits into L1).
+     * Entries written before envelopes were introduced are wrapped as never-expiring.
+     */
+    private CacheEnvelope lookupEnvelope(String cacheKey) {
+        Object value = localCache.getIfPresent(cacheKey);
+        if (value == null) {
+            ValueWrapper wrapper = getRemote(cacheKey);
+            if (wrapper == null || wrapper.get() == null) {
+                remoteMisses.increment();
+                return null;
+            }
+            remoteHits.increment();
+            value = wrapper.get();
+            localCache.put(cacheKey, value);
+        }
+        return value instanceof CacheEnvelope envelope
+                ? envelope
+                : CacheEnvelope.builder().value(value).expiresAt(Long.MAX_VALUE).build();
+    }
+
+    /**
+     * Read from L2. A payload this node cannot decode (e.g. written with another codec or DTO shape
+     * by an older node) is a miss: the key is evicted so the next load rewrites it.
+     */
+    private ValueWrapper getRemote(String cacheKey) {
+        try {
+            return remoteCache.get(cacheKey);
+        } catch (SerializationException e) {
+            log.warn("TwoLevelCache_getRemote_Unreadable value for {}::{}, evicting: {}", name, cacheKey, e.getMessage());
+            remoteCache.evict(cacheKey);
+            return null;
+        }
+    }
+
+    /**
+     * Load on this node once per key: later callers join the in-flight load
+     */
+    private Object loadSingleFlight(String cacheKey, Callable<?> valueLoader) {
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightLoads.putIfAbsent(cacheKey, load);
+        if (inFlight != null) {
+            coalescedLocal.increment();
+            return await(cacheKey, valueLoader, inFlight);
+        }
+        try {
+            Object value = loadWithRemoteLock(cacheKey, valueLoader);
+            load.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(cacheKey, load);
+        }
+    }
+
+    /**
+     * Refresh an entry on a virtual thread unless a load for it is already running
+     * @return true if a refresh was started
+     */
+    private boolean refreshInBackground(String cacheKey, Callable<?> valueLoader) {
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        if (inFlightLoads.putIfAbsent(cacheKey, load) != null) {
+            return false;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                // Shared values must not carry the triggering request's viewer
+                SecurityContextHolder.clearContext();
+                try {
+                    load.complete(loadWithRemoteLock(cacheKey, valueLoader));
+                } catch (RuntimeException e) {
+                    refreshFailures.increment();
+                    load.completeExceptionally(e);
+                    log.warn("TwoLevelCache_refreshInBackground_Refresh failed for {}::{}: {}", name, cacheKey, e.getMessage());
+                } finally {
+                    inFlightLoads.remove(cacheKey, load);
+                    SecurityContextHolder.clearContext();
+                }
+            });
+            return true;
+        } catch (RuntimeException e) {
+            inFlightLoads.remove(cacheKey, load);
+            load.completeExceptionally(e);
+            log.warn("TwoLevelCache_refreshInBackground_Could not schedule refresh for {}::{}", name, cacheKey, e);
+            return false;
+        }
+    }
+
+    /**
+     * Load under the cross-node lock. If another node holds it, wait for its value in Redis;
+     * after lockWait (or if the holder failed) load here anyway.
+     */
+    private Object loadWithRemoteLock(String cacheKey, Callable<?> valueLoader) {
+        String token = loadLock.tryAcquire(name, cacheKey, loadPolicy.getLockTtl());
+        if (token == null) {
+            CacheEnvelope loadedElsewhere = awaitRemoteLoad(cacheKey);
+            if (loadedElsewhere != null) {
+                coalescedRemote.increment();
+                localCache.put(cacheKey, loadedElsewhere);
+                return loadedElsewhere.getValue();
+            }
+            lockWaitTimeouts.increment();
+        }
+        try {
+            return loadAndPut(cacheKey, valueLoader);
+        } finally {
+            loadLock.release(name, cacheKey, token);
+        }
+    }
+
+    private CacheEnvelope awaitRemoteLoad(String cacheKey) {
+        long deadline = System.currentTimeMillis() + loadPolicy.getLockWait().toMillis();
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                Thread.sleep(CacheConstants.LOAD_WAIT_POLL_INTERVAL);
+                ValueWrapper wrapper = getRemote(cacheKey);
+                if (wrapper != null && wrapper.get() instanceof CacheEnvelope envelope
+                        && !envelope.isExpired(System.currentTimeMillis())) {
+                    return envelope;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private Object loadAndPut(String cacheKey, Callable<?> valueLoader) {
+        long start = System.nanoTime();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(cacheKey, valueLoader, e);
+        }
+        loads.increment();
+        put(cacheKey, value, (System.nanoTime() - start) / 1_000_000);
+        return value;
+    }
+
+    private void put(String cacheKey, Object value, long loadMillis) {
+        if (value == null) {
+            // Null values are not cached (same as the Redis tier)
+            evict(cacheKey);
+            return;
+        }
+
+        CacheEnvelope envelope = CacheEnvelope.builder()
+                .value(value)
+                .expiresAt(System.currentTimeMillis() + loadPolicy.getTtl().toMillis())
+                .loadMillis(loadMillis)
+                .build();
+        remoteCache.put(cacheKey, envelope);
+        localCache.put(cacheKey, envelope);
+        puts.increment();
+
+        registerTags(cacheKey, value);
+        // Other nodes may still hold the previous value in L1
+        invalidationBus.publish(name, cacheKey);
+    }
+
+    private Object await(String cacheKey, Callable<?> valueLoader, CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(cacheKey, valueLoader, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ValueRetrievalException(cacheKey, valueLoader, e.getCause());
+        }
+    }
+
+    public CacheStatsResponse getStatistics() {
+        CacheStats localStats = localCache.stats();
+        long hits = localStats.hitCount() + remoteHits.sum();
+        long requests = localStats.hitCount() + localStats.missCount();
+        return CacheStatsResponse.builder()
+                .cacheName(name)
+                .localSize(localCache.estimatedSize())
+                .localHits(localStats.hitCount())
+                .localMisses(localStats.missCount())
+                .localEvictions(localStats.evictionCount())
+                .remoteHits(remoteHits.sum())
+                .remoteMisses(remoteMisses.sum())
+                .hitRatio(requests == 0 ? 0.0 : (double) hits / requests)
+                .puts(puts.sum())
+                .evictions(evictions.sum())
+                .clears(clears.sum())
+                .loads(loads.sum())
+                .coalescedLocal(coalescedLocal.sum())
+                .coalescedRemote(coalescedRemote.sum())
+                .lockWaitTimeouts(lockWaitTimeouts.sum())
+                .earlyRefreshes(earlyRefreshes.sum())
+                .staleServed(staleServed.sum())
+                .refreshFailures(refreshFailures.sum())
+                .build();
+    }
+
+    private void registerTags(String cacheKey, Object value) {
+        if (tagResolvers.isEmpty()) {
+            return;
+        }
+        for (CacheTagResolver resolver : tagResolvers) {
+            Set<String> tags = resolver.resolveTags(name, cacheKey, value);
+            tagIndex.register(name, cacheKey, tags);
+        }
+    }
+
+    private static String toCacheKey(Object key) {
+        return String.valueOf(key);
+    }
+}
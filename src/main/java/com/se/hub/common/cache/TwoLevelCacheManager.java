@@ -0,0 +1,124 @@
+package com.se.hub.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.se.hub.common.dto.response.CacheStatsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Cache manager combining a per-node Caffeine tier (L1) with the shared RedisCacheManager (L2).
+ *
+ * Every cache known to the Redis manager (and any cache requested later) is wrapped
+ * in a {@link TwoLevelCache} with its {@link CacheLoadPolicy} (or the default policy).
+ * Invalidations published by other nodes are applied to L1 here.
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+    private final RedisCacheManager redisCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheTagIndex tagIndex;
+    private final List<CacheTagResolver> tagResolvers;
+    private final long localMaximumSize;
+    private final Duration localTtl;
+    private final Map<String, CacheLoadPolicy> loadPolicies;
+    private final CacheLoadPolicy defaultLoadPolicy;
+    private final CacheLoadLock loadLock;
+    private final Executor refreshExecutor;
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                CacheInvalidationBus invalidationBus,
+                                CacheTagIndex tagIndex,
+                                List<CacheTagResolver> tagResolvers,
+                                long localMaximumSize,
+                                Duration localTtl,
+                                Map<String, CacheLoadPolicy> loadPolicies,
+                                CacheLoadPolicy defaultLoadPolicy,
+                                CacheLoadLock loadLock,
+                                Executor refreshExecutor) {
+        this.redisCacheManager = redisCacheManager;
+        this.invalidationBus = invalidationBus;
+        this.tagIndex = tagIndex;
+        this.tagResolvers = tagResolvers;
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+        this.loadPolicies = loadPolicies;
+        this.defaultLoadPolicy = defaultLoadPolicy;
+        this.loadLock = loadLock;
+        this.refreshExecutor = refreshExecutor;
+        this.invalidationBus.subscribe(this::onRemoteInvalidation);
+    }
+
+    @Override
+    @NonNull
+    protected Collection<? extends Cache> loadCaches() {
+        redisCacheManager.initializeCaches();
+        return redisCacheManager.getCacheNames().stream()
+                .map(this::createTwoLevelCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(@NonNull String name) {
+        return createTwoLevelCache(name);
+    }
+
+    /**
+     * Resolve the undecorated two-level cache (bypasses the transaction-aware wrapper)
+     */
+    public TwoLevelCache getTwoLevelCache(String name) {
+        Cache cache = getCache(name);
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        return cache instanceof TwoLevelCache twoLevelCache ? twoLevelCache : null;
+    }
+
+    /**
+     * Statistics for every cache on this node, sorted by cache name
+     */
+    public List<CacheStatsResponse> getStatistics() {
+        return getCacheNames().stream()
+                .map(this::getTwoLevelCache)
+                .filter(cache -> cache != null)
+                .map(TwoLevelCache::getStatistics)
+                .sorted(Comparator.comparing(CacheStatsResponse::getCacheName))
+                .toList();
+    }
+
+    private TwoLevelCache createTwoLevelCache(String name) {
+        Cache remoteCache = redisCacheManager.getCache(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CacheLoadPolicy loadPolicy = loadPolicies.getOrDefault(name, defaultLoadPolicy);
+        log.info("TwoLevelCacheManager_createTwoLevelCache_Created cache: {} (L1 max size: {}, L1 ttl: {}, ttl: {}, stale window: {})",
+                name, localMaximumSize, localTtl, loadPolicy.getTtl(), loadPolicy.getStaleWhileRevalidate());
+        return new TwoLevelCache(name, localCache, remoteCache, invalidationBus, tagIndex, tagResolvers,
+                loadPolicy, loadLock, refreshExecutor);
+    }
+
+    private void onRemoteInvalidation(CacheInvalidationMessage message) {
+        TwoLevelCache cache = getTwoLevelCache(message.getCacheName());
+        if (cache == null) {
+            return;
+        }
+        if (message.getKey() == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(message.getKey());
+        }
+    }
+}
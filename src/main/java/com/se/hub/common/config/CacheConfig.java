@@ -1,8 +1,22 @@
 package com.se.hub.common.config;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.springframework.cache.CacheManager;
+import com.se.hub.common.cache.CacheCodecRegistry;
+import com.se.hub.common.cache.CacheInvalidationBus;
+import com.se.hub.common.cache.CacheLoadLock;
+import com.se.hub.common.cache.CacheLoadPolicy;
+import com.se.hub.common.cache.CacheTagIndex;
+import com.se.hub.common.cache.CacheTagResolver;
+import com.se.hub.common.cache.CacheValueSchema;
+import com.se.hub.common.cache.CacheValueSchemaProvider;
+import com.se.hub.common.cache.CompactCacheSerializer;
+import com.se.hub.common.cache.TwoLevelCacheManager;
+import com.se.hub.common.constant.CacheConstants;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,18 +24,28 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
 
 /**
  * Cache Configuration
  * 
- * Configures Redis as cache provider for Spring Cache abstraction
- * Uses JSON serialization for cache values
+ * Configures a two-level cache for Spring Cache abstraction:
+ * - L1: bounded in-process Caffeine cache per node (short TTL)
+ * - L2: Redis, shared by all nodes (JSON serialization for cache values, or the compact
+ *   schema-aware codec for caches listed in cache.codec.compact-caches)
+ * Writes and evictions are broadcast over Redis Pub/Sub so other nodes drop stale L1 entries
+ * Loads are single-flight per key (per node and across nodes), with probabilistic early refresh;
+ * blog list caches also serve stale entries while they are refreshed in the background.
+ * Use @Cacheable(sync = true) so reads go through the single-flight loader.
  * 
  * Best Practices:
  * - Use Redis for distributed caching in microservices
@@ -29,6 +53,7 @@ import java.util.Map;
  * - Use JSON serialization for better compatibility
  * - Cache-specific TTL configurations for different data types
  * - Transaction support enabled for cache consistency
+ * - Evict by key or dependency tag (CacheInvalidationService) instead of clearing whole caches
  */
 @Configuration
 @EnableCaching
@@ -44,8 +69,38 @@ public class CacheConfig {
     // Blog lists (blogs, popular, latest): 30 minutes (more frequently updated)
     private static final Duration BLOG_LIST_TTL = Duration.ofMinutes(30);
 
+    @Value("${cache.local.maximum-size:" + CacheConstants.LOCAL_DEFAULT_MAXIMUM_SIZE + "}")
+    private long localMaximumSize;
+
+    @Value("${cache.local.ttl:60s}")
+    private Duration localTtl;
+
+    @Value("${cache.load.lock-ttl:10s}")
+    private Duration loadLockTtl;
+
+    @Value("${cache.load.lock-wait:2s}")
+    private Duration loadLockWait;
+
+    @Value("${cache.load.early-refresh-beta:1.0}")
+    private double earlyRefreshBeta;
+
+    @Value("${cache.load.list-stale-while-revalidate:5m}")
+    private Duration listStaleWhileRevalidate;
+
+    @Value("${search.cache.ttl:2m}")
+    private Duration searchResultTtl;
+
+    @Value("${mention.candidates.ttl:10m}")
+    private Duration mentionCandidatesTtl;
+
+    @Value("${cache.codec.compact-caches:}")
+    private Set<String> compactCaches;
+
+    @Value("${cache.codec.compression-threshold-bytes:1024}")
+    private int compressionThreshold;
+
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public CacheCodecRegistry cacheCodecRegistry(ObjectProvider<CacheValueSchemaProvider> cacheValueSchemaProviders) {
         // Configure ObjectMapper with JSR310Module for Java 8 time support
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
@@ -55,35 +110,105 @@ public class CacheConfig {
         );
         
         // Create GenericJackson2JsonRedisSerializer with configured ObjectMapper
-        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
-        
+        RedisSerializer<Object> jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+
+        // Compact codec: the declared schema replaces embedded class names; unknown fields are
+        // ignored so a newer node's additive DTO changes stay readable
+        ObjectMapper compactMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        Map<String, CompactCacheSerializer> compactSerializers = new HashMap<>();
+        cacheValueSchemaProviders.orderedStream()
+                .flatMap(provider -> provider.getSchemas(compactMapper.getTypeFactory()).stream())
+                .forEach((CacheValueSchema schema) -> compactSerializers.put(schema.getCacheName(),
+                        new CompactCacheSerializer(schema, compactMapper, compressionThreshold, jsonSerializer)));
+
+        return new CacheCodecRegistry(jsonSerializer, compactSerializers, new HashSet<>(compactCaches));
+    }
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             CacheInvalidationBus cacheInvalidationBus,
+                                             CacheTagIndex cacheTagIndex,
+                                             CacheLoadLock cacheLoadLock,
+                                             CacheCodecRegistry cacheCodecRegistry,
+                                             ObjectProvider<CacheTagResolver> cacheTagResolvers) {
         // Default cache configuration
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(DEFAULT_TTL)
                 .serializeKeysWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair
-                        .fromSerializer(jsonSerializer))
+                        .fromSerializer(cacheCodecRegistry.getJsonSerializer()))
                 .disableCachingNullValues()
-                .prefixCacheNameWith("cache:"); // Prefix to avoid key conflicts
+                .prefixCacheNameWith(CacheConstants.REDIS_KEY_PREFIX); // Prefix to avoid key conflicts
+
+        // Cache-specific load policies (logical TTL, stale window, early refresh)
+        CacheLoadPolicy defaultPolicy = CacheLoadPolicy.builder()
+                .ttl(DEFAULT_TTL)
+                .earlyRefreshBeta(earlyRefreshBeta)
+                .lockTtl(loadLockTtl)
+                .lockWait(loadLockWait)
+                .build();
+        Map<String, CacheLoadPolicy> loadPolicies = new HashMap<>();
 
-        // Cache-specific configurations
-        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
-        
         // Blog cache: longer TTL for individual blog entries
-        cacheConfigurations.put("blog", defaultConfig.entryTtl(BLOG_TTL));
-        
-        // Blog list caches: shorter TTL for frequently updated lists
-        cacheConfigurations.put("blogs", defaultConfig.entryTtl(BLOG_LIST_TTL));
-        cacheConfigurations.put("blogsByAuthor", defaultConfig.entryTtl(BLOG_LIST_TTL));
-        cacheConfigurations.put("popularBlogs", defaultConfig.entryTtl(BLOG_LIST_TTL));
-        cacheConfigurations.put("likedBlogs", defaultConfig.entryTtl(BLOG_LIST_TTL));
-        cacheConfigurations.put("latestBlogs", defaultConfig.entryTtl(BLOG_LIST_TTL));
-
-        return RedisCacheManager.builder(redisConnectionFactory)
+        loadPolicies.put("blog", defaultPolicy.toBuilder().ttl(BLOG_TTL).build());
+
+        // Blog list caches: shorter TTL for frequently updated lists, stale pages served while refreshing
+        CacheLoadPolicy listPolicy = defaultPolicy.toBuilder()
+                .ttl(BLOG_LIST_TTL)
+                .staleWhileRevalidate(listStaleWhileRevalidate)
+                .build();
+        loadPolicies.put("blogs", listPolicy);
+        loadPolicies.put("blogsByAuthor", listPolicy);
+        loadPolicies.put("popularBlogs", listPolicy);
+        loadPolicies.put("likedBlogs", listPolicy);
+        loadPolicies.put("latestBlogs", listPolicy);
+
+        // Search hit pages: short TTL, no background refresh (loaders run in the caller's transaction)
+        CacheLoadPolicy searchPolicy = defaultPolicy.toBuilder()
+                .ttl(searchResultTtl)
+                .earlyRefreshBeta(0)
+                .build();
+        loadPolicies.put("searchBlogs", searchPolicy);
+        loadPolicies.put("searchExams", searchPolicy);
+        loadPolicies.put("searchUsers", searchPolicy);
+
+        // Per-user mention candidates: evicted on follow/unfollow, TTL picks up new chat partners
+        loadPolicies.put("mentionCandidates", defaultPolicy.toBuilder().ttl(mentionCandidatesTtl).build());
+
+        // Redis keeps entries for ttl + stale window, encoded with the codec selected for the cache
+        Set<String> configuredCaches = new HashSet<>(loadPolicies.keySet());
+        configuredCaches.addAll(cacheCodecRegistry.getCompactSerializers().keySet());
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        for (String name : configuredCaches) {
+            CacheLoadPolicy policy = loadPolicies.getOrDefault(name, defaultPolicy);
+            cacheConfigurations.put(name, defaultConfig
+                    .entryTtl(policy.getRemoteTtl())
+                    .serializeValuesWith(RedisSerializationContext.SerializationPair
+                            .fromSerializer(cacheCodecRegistry.serializerFor(name))));
+        }
+
+        // Redis tier; transaction awareness is applied once by the two-level manager
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
-                .transactionAware()
                 .build();
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+                redisCacheManager,
+                cacheInvalidationBus,
+                cacheTagIndex,
+                cacheTagResolvers.orderedStream().toList(),
+                localMaximumSize,
+                localTtl,
+                loadPolicies,
+                defaultPolicy,
+                cacheLoadLock,
+                Executors.newVirtualThreadPerTaskExecutor());
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
     }
 }
@@ -0,0 +1,32 @@
+package com.se.hub.common.constant;
+
+/**
+ * Batch Loader Constants
+ *
+ * Names of the per-request loaders used by RequestBatchLoader.
+ * Results of a loader are memoized per key for the rest of the HTTP request,
+ * so names that depend on the viewer must include the viewer's user ID.
+ */
+public class BatchLoaderConstants {
+
+    //===== REQUEST ATTRIBUTES ======
+    public static final String REQUEST_ATTRIBUTE = BatchLoaderConstants.class.getName() + ".memo";
+
+    //===== LOADER NAMES ======
+    // {targetType}:{userId} -> ReactionInfo of the viewer per target
+    public static final String REACTION_STATE_PREFIX = "reaction:state:";
+    // {targetType} -> live net reaction count per target (LIKE - DISLIKE)
+    public static final String REACTION_NET_COUNT_PREFIX = "reaction:net:";
+    // Blog ID -> persisted view count plus views still buffered in Redis
+    public static final String BLOG_VIEW_COUNT = "blog:view";
+    // Profile ID -> Profile (with stats) for author snippets
+    public static final String AUTHOR_PROFILE = "profile:author";
+
+    //===== NAME PARTS ======
+    public static final String NAME_SEPARATOR = ":";
+    public static final String ANONYMOUS = "anonymous";
+
+    private BatchLoaderConstants() {
+        // Prevent instantiation
+    }
+}
@@ -0,0 +1,47 @@
+package com.se.hub.common.constant;
+
+import java.time.Duration;
+
+/**
+ * Cache Constants
+ *
+ * Shared settings for the two-level cache (in-process L1 + Redis L2)
+ * configured in CacheConfig.
+ */
+public class CacheConstants {
+
+    //===== REDIS KEY PATTERNS ======
+    public static final String REDIS_KEY_PREFIX = "cache:";
+    // Set of "cacheName::key" members that depend on a tag
+    public static final String REDIS_KEY_TAG_PREFIX = "cache:tag:";
+    public static final String TAG_MEMBER_SEPARATOR = "::";
+    // Single-flight load lock: cache:lock:{cacheName}::{key}
+    public static final String REDIS_KEY_LOAD_LOCK_PREFIX = "cache:lock:";
+    // Resource version (conditional GET validator): cache:version:{name} -> epoch millis of the last change
+    public static final String REDIS_KEY_VERSION_PREFIX = "cache:version:";
+
+    //===== PUB/SUB ======
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    //===== LOCAL (L1) DEFAULTS ======
+    public static final long LOCAL_DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    //===== LOADING ======
+    // Poll interval while waiting for another node's load to land in Redis
+    public static final Duration LOAD_WAIT_POLL_INTERVAL = Duration.ofMillis(50);
+
+    //===== TAG INDEX ======
+    // Must outlive the longest L2 entry TTL so a tag never forgets a live entry
+    public static final Duration TAG_INDEX_TTL = Duration.ofHours(2);
+
+    //===== RESOURCE VERSIONS ======
+    // Evicting tag "blog:{id}" also bumps its group "blog:*" (any blog changed)
+    public static final String TAG_GROUP_WILDCARD = "*";
+    public static final char TAG_GROUP_SEPARATOR = ':';
+    // Expired versions are re-initialized to the current time, which only costs one full response
+    public static final Duration VERSION_TTL = Duration.ofDays(7);
+
+    private CacheConstants() {
+        // Prevent instantiation
+    }
+}
@@ -8,6 +8,9 @@ public class PaginationConstants {
     // =======  PAGEABLE PARAMETER NAMES =======
     public static final String PARAM_PAGE = "page";
     public static final String PARAM_SIZE = "size";
+    // Cursor mode: present (empty for the first page) to seek instead of offset
+    public static final String PARAM_CURSOR = "cursor";
+    public static final String PARAM_INCLUDE_TOTAL = "includeTotal";
 
     // =======  PAGEABLE DEFAULT VALUES =======
     public static final String DEFAULT_PAGE = "1";
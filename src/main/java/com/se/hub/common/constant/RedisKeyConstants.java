@@ -46,6 +46,51 @@ public class RedisKeyConstants {
     // - cache:popularBlogs:page_size_sort
     // - cache:likedBlogs:page_size_sort
     // - cache:latestBlogs:page_size_sort
+
+    // Search result cache keys (defined in SearchCacheConstants)
+    // - cache:searchBlogs|searchExams|searchUsers:version|query|paging -> ranked hit IDs + paging metadata
+    // - cache:version:search:TARGET -> version stamp bumped on every committed write to the target
+
+    // Mention autocomplete (defined in MentionConstants)
+    // - cache:mentionCandidates:userId -> recent chat partners + follows with their prefix index
+    
+    // Cache tag index & invalidation (defined in CacheConstants)
+    // - cache:tag:tag -> SET of cacheName::key (e.g. cache:tag:blog:blogId)
+    // - cache:lock:cacheName::key -> token (single-flight load lock, SET NX with TTL)
+    // - cache:version:name -> epoch millis of the last change (ETag / Last-Modified validators)
+    // - cache:invalidation (Pub/Sub channel for cross-node L1 invalidation)
+    
+    // Blog view counter keys (defined in BlogViewConstants)
+    // - blog:view:pending -> HASH blogId -> buffered views
+    // - blog:view:flushing -> HASH blogId -> views being written to DB
+    // - blog:view:flush:lock (single-node flush lock)
+    // - blog:view:seen:blogId:viewerKey (de-duplication marker, TTL = window)
+    
+    // Blog feed keys (defined in BlogFeedConstants)
+    // - blog:feed:popular | blog:feed:liked | blog:feed:latest -> ZSET blogId by score
+    // - blog:feed:total (approved blog count, also marks feeds as materialized)
+    // - blog:feed:rebuild:lock (single-node rebuild lock)
+    
+    // Ranking keys (defined in RankingConstants)
+    // - ranking:points -> ZSET userId by user_stats.points
+    // - ranking:points:ready (marks the board as materialized)
+    // - ranking:points:staging (board being rebuilt, swapped in when complete)
+    // - ranking:points:rebuild:lock (single-node rebuild lock)
+    // - ranking:season:seasonId -> ZSET gamificationProfileId by season XP (defined in SeasonLeaderBoardConstants)
+    // - ranking:season:seasonId:ready | :cursor (materialized flag, last aggregated event)
+
+    // Progress pipeline keys (defined in ProgressOutboxConstants)
+    // - gamification:progress-outbox:lock:partition (single consumer per outbox partition)
+
+    // Profile catalog channels (defined in ProfileCatalogConstants)
+    // - profile:catalog:reload (Pub/Sub channel: reload in-memory achievement rules / level thresholds on every node)
+
+    // Reaction counter keys (defined in ReactionCounterConstants)
+    // - reaction:count:TARGET_TYPE:targetId -> HASH reactionType -> count, v -> version
+    // - reaction:state:TARGET_TYPE:targetId -> HASH userId -> reactionType | NONE
+    // - reaction:dirty -> SET of TARGET_TYPE:targetId awaiting reconcile
+    // - reaction:dirty:TARGET_TYPE:targetId -> SET of userIds awaiting reconcile
+    // - reaction:reconcile:lock (single-node reconcile lock)
     
     private RedisKeyConstants() {
         // Prevent instantiation
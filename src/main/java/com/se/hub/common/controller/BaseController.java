@@ -4,10 +4,18 @@ import com.se.hub.common.constant.ApiConstant;
 import com.se.hub.common.constant.MessageCodeConstant;
 import com.se.hub.common.constant.MessageConstant;
 import com.se.hub.common.dto.MessageDTO;
+import com.se.hub.common.dto.ResourceVersion;
 import com.se.hub.common.dto.response.GenericResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
 
 public abstract class BaseController {
+    // Responses may be stored by the client only, and must be revalidated before reuse
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
 
     /**
      * Return success response with data and custom message
@@ -57,5 +65,47 @@ public abstract class BaseController {
                 .build();
         return success(data, message);
     }
-}
 
+    /**
+     * Conditional GET: answer 304 Not Modified while the client's If-None-Match / If-Modified-Since
+     * still matches the resource version, otherwise load the data and return it with its validators.
+     * The data supplier is not called for a 304, so it skips both the service work and serialization.
+     *
+     * @param webRequest    current request (carries the conditional headers)
+     * @param version       validators of the resource; null disables conditional handling
+     * @param data          loads the response data
+     * @param onNotModified side effects that must still happen on a 304 (e.g. counting a view), may be null
+     * @param messageCode   message code
+     * @param messageDetail message detail
+     * @param <T>           response type
+     * @return 304 without body, or ResponseEntity with GenericResponse
+     */
+    protected <T> ResponseEntity<GenericResponse<T>> conditional(WebRequest webRequest, ResourceVersion version,
+                                                                Supplier<T> data, Runnable onNotModified,
+                                                                String messageCode, String messageDetail) {
+        // Sets ETag / Last-Modified on the response and matches them against the request headers
+        if (version != null && webRequest.checkNotModified(version.getEtag(), version.getLastModifiedMillis())) {
+            if (onNotModified != null) {
+                onNotModified.run();
+            }
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+        ResponseEntity<GenericResponse<T>> response = success(data.get(), messageCode, messageDetail);
+        return ResponseEntity.status(response.getStatusCode())
+                .cacheControl(REVALIDATE)
+                .body(response.getBody());
+    }
+
+    /**
+     * Conditional GET without side effects on 304
+     *
+     * @see #conditional(WebRequest, ResourceVersion, Supplier, Runnable, String, String)
+     */
+    protected <T> ResponseEntity<GenericResponse<T>> conditional(WebRequest webRequest, ResourceVersion version,
+                                                                Supplier<T> data,
+                                                                String messageCode, String messageDetail) {
+        return conditional(webRequest, version, data, null, messageCode, messageDetail);
+    }
+}
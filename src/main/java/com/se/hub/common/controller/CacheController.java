@@ -0,0 +1,59 @@
+package com.se.hub.common.controller;
+
+import com.se.hub.common.cache.CacheCodecBenchmarkService;
+import com.se.hub.common.cache.CacheStatisticsService;
+import com.se.hub.common.constant.MessageCodeConstant;
+import com.se.hub.common.constant.MessageConstant;
+import com.se.hub.common.constant.ResponseCode;
+import com.se.hub.common.dto.response.CacheCodecBenchmarkResponse;
+import com.se.hub.common.dto.response.CacheStatsResponse;
+import com.se.hub.common.dto.response.GenericResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Cache Management",
+        description = "Cache statistics and codec benchmark API")
+@RequestMapping("/cache")
+@RestController
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CacheController extends BaseController {
+    CacheStatisticsService cacheStatisticsService;
+    CacheCodecBenchmarkService cacheCodecBenchmarkService;
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get cache statistics (Admin only)",
+            description = "Get L1/L2 hit, miss and eviction counters and single-flight load counters (coalesced loads, early refreshes, stale serves) for every cache on the serving node")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200, description = MessageConstant.RETRIEVED),
+            @ApiResponse(responseCode = ResponseCode.FORBIDDEN_403, description = MessageConstant.FORBIDDEN)
+    })
+    public ResponseEntity<GenericResponse<List<CacheStatsResponse>>> getStatistics() {
+        return success(cacheStatisticsService.getStatistics(), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+    }
+
+    @GetMapping("/codec/benchmark")
+    @Operation(summary = "Benchmark cache codecs (Admin only)",
+            description = "Compare payload size and encode/decode time of the JSON and compact codecs on entries currently cached in Redis, for every cache with a compact schema")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200, description = MessageConstant.RETRIEVED),
+            @ApiResponse(responseCode = ResponseCode.FORBIDDEN_403, description = MessageConstant.FORBIDDEN)
+    })
+    public ResponseEntity<GenericResponse<List<CacheCodecBenchmarkResponse>>> benchmarkCodecs(
+            @RequestParam(defaultValue = "20") int sampleSize,
+            @RequestParam(defaultValue = "50") int iterations) {
+        return success(cacheCodecBenchmarkService.benchmark(sampleSize, iterations), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+    }
+}
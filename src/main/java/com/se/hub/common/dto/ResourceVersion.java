@@ -0,0 +1,61 @@
+package com.se.hub.common.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Validators of a GET response (ETag / Last-Modified), computed from entity versions
+ * without rendering the body. See BaseController#conditional.
+ *
+ * ETags are weak: two responses with the same validator are equivalent for the client,
+ * not necessarily byte-identical (e.g. approximate view counts may differ).
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ResourceVersion {
+    private static final String PART_SEPARATOR = "|";
+
+    // Quoted weak entity tag, e.g. W/"5d41402abc4b2a76b9719d911017c592"
+    String etag;
+    // Null when the resource has no meaningful modification time
+    Instant lastModified;
+
+    /**
+     * Build a validator from everything the response depends on (entity versions,
+     * request parameters, viewer)
+     */
+    public static ResourceVersion of(Instant lastModified, Object... parts) {
+        String source = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining(PART_SEPARATOR));
+        String hash = DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8));
+        return new ResourceVersion("W/\"" + hash + "\"", lastModified);
+    }
+
+    /**
+     * Newest of the given modification times, ignoring nulls (null when all are null)
+     */
+    public static Instant latest(Instant... instants) {
+        return Arrays.stream(instants)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    public long getLastModifiedMillis() {
+        return lastModified != null ? lastModified.toEpochMilli() : -1;
+    }
+}
@@ -26,8 +26,23 @@ public class PagingRequest {
 
     SortRequest sortRequest;
 
+    /**
+     * Opaque keyset cursor from PagingResponse.nextCursor.
+     * null → offset paging; blank → first page in cursor mode
+     */
+    String cursor;
+
+    /**
+     * Cursor mode only: include (approximate) totalElement/totalPages
+     */
+    Boolean includeTotal;
+
     public PagingRequest(int page, int pageSize) {
         this.page = page;
         this.pageSize = pageSize;
     }
+
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
 }
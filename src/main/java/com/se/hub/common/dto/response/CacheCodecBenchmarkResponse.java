@@ -0,0 +1,35 @@
+package com.se.hub.common.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * JSON vs compact codec comparison for one cache, measured on entries currently in Redis
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CacheCodecBenchmarkResponse {
+    String cacheName;
+    // Codec currently used for writes ("compact" or "json")
+    String activeCodec;
+    int samples;
+    // Average payload size in bytes
+    long jsonBytes;
+    long compactBytes;
+    // compactBytes / jsonBytes
+    double sizeRatio;
+    // Average time per value in microseconds
+    double jsonEncodeMicros;
+    double jsonDecodeMicros;
+    double compactEncodeMicros;
+    double compactDecodeMicros;
+}
@@ -0,0 +1,47 @@
+package com.se.hub.common.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Per-cache statistics of the two-level cache on the current node
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CacheStatsResponse {
+    String cacheName;
+    long localSize;
+    long localHits;
+    long localMisses;
+    // Entries dropped by the L1 size/TTL policy
+    long localEvictions;
+    long remoteHits;
+    long remoteMisses;
+    double hitRatio;
+    long puts;
+    // Explicit evictions by key or by tag
+    long evictions;
+    long clears;
+    // Loader executions on this node
+    long loads;
+    // Callers that joined a load already running on this node
+    long coalescedLocal;
+    // Loads skipped because another node held the load lock and published the value
+    long coalescedRemote;
+    // Waits for another node's load that timed out (loaded here instead)
+    long lockWaitTimeouts;
+    // Background refreshes started before expiry (probabilistic early expiration)
+    long earlyRefreshes;
+    // Expired entries served while a background refresh ran (stale-while-revalidate)
+    long staleServed;
+    long refreshFailures;
+}
@@ -1,5 +1,6 @@
 package com.se.hub.common.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,6 +21,13 @@ public class PagingResponse<T> {
     int totalPages;
     long totalElement;
 
+    // Cursor mode only: cursor of the next page (null on the last page)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String nextCursor;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Boolean hasNext;
+
     @Builder.Default
     List<T> data = Collections.emptyList();
 }
@@ -34,6 +34,7 @@ public enum ErrorCode {
     // ===== PAGINATION ERRORS =====
     PAGE_NUMBER_INVALID("PAGE_1000", "Page number must be greater than or equal to 0", HttpStatus.BAD_REQUEST),
     PAGE_SIZE_INVALID("PAGE_1001", "Page size must be between 1 and 100", HttpStatus.BAD_REQUEST),
+    PAGE_CURSOR_INVALID("PAGE_1002", "Page cursor is invalid", HttpStatus.BAD_REQUEST),
 
     // ==== ROLE ====
     ROLE_NOT_FOUND("ROLE_1000", "Role not found", HttpStatus.NOT_FOUND),
@@ -11,7 +11,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 public class PagingUtil {
+    private static final char CURSOR_SEPARATOR = '|';
+
     public static Sort createSort(PagingRequest pagingRequest) {
         if(pagingRequest == null || pagingRequest.getSortRequest() == null || pagingRequest.getSortRequest().getField() == null) {
             return Sort.unsorted();
@@ -50,5 +55,34 @@ public class PagingUtil {
         );
     }
 
+    /**
+     * Encode a keyset cursor from the sort key and id of the last row of a page.
+     * The cursor is opaque to clients (URL-safe Base64 of "sortKey|id").
+     */
+    public static String encodeCursor(String sortKey, String id) {
+        String raw = sortKey + CURSOR_SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a keyset cursor
+     * @return [sortKey, id], or null for a blank cursor (first page)
+     */
+    public static String[] decodeCursor(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(CURSOR_SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new AppException(ErrorCode.PAGE_CURSOR_INVALID);
+            }
+            return new String[]{raw.substring(0, separator), raw.substring(separator + 1)};
+        } catch (IllegalArgumentException e) {
+            throw new AppException(ErrorCode.PAGE_CURSOR_INVALID);
+        }
+    }
+
     private PagingUtil() {}
 }
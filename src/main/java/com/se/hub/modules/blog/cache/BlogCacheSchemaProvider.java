@@ -0,0 +1,43 @@
+package com.se.hub.modules.blog.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.se.hub.common.cache.CacheValueSchema;
+import com.se.hub.common.cache.CacheValueSchemaProvider;
+import com.se.hub.common.dto.response.PagingResponse;
+import com.se.hub.modules.blog.constant.BlogCacheConstants;
+import com.se.hub.modules.blog.dto.response.BlogResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Value types of the blog caches for the compact cache codec:
+ * - blog: BlogResponse
+ * - blog lists: PagingResponse of BlogResponse
+ */
+@Component
+public class BlogCacheSchemaProvider implements CacheValueSchemaProvider {
+
+    @Override
+    public List<CacheValueSchema> getSchemas(TypeFactory typeFactory) {
+        JavaType detailType = typeFactory.constructType(BlogResponse.class);
+        JavaType pageType = typeFactory.constructParametricType(PagingResponse.class, BlogResponse.class);
+        return List.of(
+                detail(BlogCacheConstants.CACHE_BLOG, detailType),
+                page(BlogCacheConstants.CACHE_BLOGS, pageType),
+                page(BlogCacheConstants.CACHE_BLOGS_BY_AUTHOR, pageType),
+                page(BlogCacheConstants.CACHE_POPULAR_BLOGS, pageType),
+                page(BlogCacheConstants.CACHE_LIKED_BLOGS, pageType),
+                page(BlogCacheConstants.CACHE_LATEST_BLOGS, pageType)
+        );
+    }
+
+    private static CacheValueSchema detail(String cacheName, JavaType type) {
+        return new CacheValueSchema(cacheName, BlogCacheConstants.SCHEMA_BLOG_DETAIL, BlogCacheConstants.SCHEMA_VERSION, type);
+    }
+
+    private static CacheValueSchema page(String cacheName, JavaType type) {
+        return new CacheValueSchema(cacheName, BlogCacheConstants.SCHEMA_BLOG_PAGE, BlogCacheConstants.SCHEMA_VERSION, type);
+    }
+}
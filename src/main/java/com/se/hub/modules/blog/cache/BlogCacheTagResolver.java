@@ -0,0 +1,66 @@
+package com.se.hub.modules.blog.cache;
+
+import com.se.hub.common.cache.CacheTagResolver;
+import com.se.hub.common.dto.response.PagingResponse;
+import com.se.hub.modules.blog.constant.BlogCacheConstants;
+import com.se.hub.modules.blog.dto.response.BlogResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Computes dependency tags for blog cache entries:
+ * - blog:{id} and author:{profileId} for every blog rendered in the entry
+ * - feed:{cacheName} for global list pages
+ * - authorFeed:{profileId} for pages of an author's blog list (taken from the key,
+ *   so empty pages are tagged too)
+ */
+@Component
+public class BlogCacheTagResolver implements CacheTagResolver {
+    private static final Set<String> BLOG_CACHES = Set.of(
+            BlogCacheConstants.CACHE_BLOG,
+            BlogCacheConstants.CACHE_BLOGS,
+            BlogCacheConstants.CACHE_BLOGS_BY_AUTHOR,
+            BlogCacheConstants.CACHE_POPULAR_BLOGS,
+            BlogCacheConstants.CACHE_LIKED_BLOGS,
+            BlogCacheConstants.CACHE_LATEST_BLOGS
+    );
+
+    @Override
+    public boolean supports(String cacheName) {
+        return BLOG_CACHES.contains(cacheName);
+    }
+
+    @Override
+    public Set<String> resolveTags(String cacheName, String key, Object value) {
+        Set<String> tags = new HashSet<>();
+
+        if (value instanceof BlogResponse blog) {
+            addBlogTags(tags, blog);
+        } else if (value instanceof PagingResponse<?> page) {
+            for (Object item : page.getData()) {
+                if (item instanceof BlogResponse blog) {
+                    addBlogTags(tags, blog);
+                }
+            }
+            if (BlogCacheConstants.CACHE_BLOGS_BY_AUTHOR.equals(cacheName)) {
+                int separator = key.indexOf(BlogCacheConstants.KEY_SEPARATOR);
+                String authorId = separator > 0 ? key.substring(0, separator) : key;
+                tags.add(BlogCacheConstants.TAG_AUTHOR_FEED_PREFIX + authorId);
+            } else {
+                tags.add(BlogCacheConstants.TAG_FEED_PREFIX + cacheName);
+            }
+        }
+        return tags;
+    }
+
+    private static void addBlogTags(Set<String> tags, BlogResponse blog) {
+        if (blog.getId() != null) {
+            tags.add(BlogCacheConstants.TAG_BLOG_PREFIX + blog.getId());
+        }
+        if (blog.getAuthor() != null && blog.getAuthor().getId() != null) {
+            tags.add(BlogCacheConstants.TAG_AUTHOR_PREFIX + blog.getAuthor().getId());
+        }
+    }
+}
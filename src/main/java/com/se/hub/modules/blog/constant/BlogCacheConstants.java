@@ -1,8 +1,12 @@
 package com.se.hub.modules.blog.constant;
 
+import com.se.hub.common.constant.CacheConstants;
+
+import java.time.Duration;
+
 /**
  * Blog Cache Constants
- * Contains all cache names for Blog module
+ * Contains all cache names and dependency tags for Blog module
  */
 public class BlogCacheConstants {
     public static final String CACHE_BLOG = "blog";
@@ -12,8 +16,45 @@ public class BlogCacheConstants {
     public static final String CACHE_LIKED_BLOGS = "likedBlogs";
     public static final String CACHE_LATEST_BLOGS = "latestBlogs";
 
+    //===== DEPENDENCY TAGS ======
+    // blog:{blogId} - detail entry and every cached page containing the blog
+    public static final String TAG_BLOG_PREFIX = "blog:";
+    // author:{profileId} - every cached entry rendering the author's card
+    public static final String TAG_AUTHOR_PREFIX = "author:";
+    // authorFeed:{profileId} - every cached page of the author's blog list
+    public static final String TAG_AUTHOR_FEED_PREFIX = "authorFeed:";
+    // feed:{cacheName} - every cached page of a global list
+    public static final String TAG_FEED_PREFIX = "feed:";
+
+    public static final String TAG_FEED_BLOGS = TAG_FEED_PREFIX + CACHE_BLOGS;
+    public static final String TAG_FEED_POPULAR = TAG_FEED_PREFIX + CACHE_POPULAR_BLOGS;
+    public static final String TAG_FEED_LIKED = TAG_FEED_PREFIX + CACHE_LIKED_BLOGS;
+    public static final String TAG_FEED_LATEST = TAG_FEED_PREFIX + CACHE_LATEST_BLOGS;
+
+    //===== CONDITIONAL GET ======
+    // Groups bumped by any blog / author snapshot change (see ResourceVersionIndex.groupOf)
+    public static final String TAG_BLOG_GROUP = TAG_BLOG_PREFIX + CacheConstants.TAG_GROUP_WILDCARD;
+    public static final String TAG_AUTHOR_GROUP = TAG_AUTHOR_PREFIX + CacheConstants.TAG_GROUP_WILDCARD;
+    // List validators also roll over on this window: ranks and view counts move without tag evictions
+    public static final Duration LIST_VALIDATOR_WINDOW = Duration.ofMinutes(5);
+
+    //===== COMPACT CODEC SCHEMAS ======
+    // Bump the version when BlogResponse changes incompatibly (other versions read as misses)
+    public static final String SCHEMA_BLOG_DETAIL = "blog.detail";
+    public static final String SCHEMA_BLOG_PAGE = "blog.page";
+    public static final int SCHEMA_VERSION = 1;
+
+    //===== LIST KEYS ======
+    // Separator between the parts of list keys (blogsByAuthor keys start with the authorId)
+    public static final String KEY_SEPARATOR = "_";
+    // blogsByAuthor scope: every blog (admin viewers) or approved blogs only
+    public static final String KEY_SCOPE_ALL = "all";
+    public static final String KEY_SCOPE_APPROVED = "approved";
+    // Paging variant: offset pages, or cursor pages ('c' + cursor + '_' + includeTotal)
+    public static final String KEY_OFFSET = "o";
+    public static final String KEY_CURSOR_PREFIX = "c";
+
     private BlogCacheConstants() {
         // Prevent instantiation
     }
 }
-
@@ -14,9 +14,33 @@ public class BlogConstants {
     public static final String COL_IS_APPROVED = "is_approved";
     public static final String COL_REQUIRE_APPROVAL = "require_approval";
 
+    // Card read model (computed on write, served to list endpoints instead of content)
+    public static final String COL_EXCERPT = "excerpt";
+    public static final String COL_READING_TIME_MINUTES = "reading_time_minutes";
+    public static final String COL_AUTHOR_USER_ID = "author_user_id";
+    public static final String COL_AUTHOR_USERNAME = "author_username";
+    public static final String COL_AUTHOR_NAME = "author_name";
+    public static final String COL_AUTHOR_AVATAR_URL = "author_avatar_url";
+
     public static final int CONTENT_MAX_LENGTH = 50000;
     public static final String CONTENT_DEFINITION = "TEXT";
     public static final String IMG_URL_DEFINITION = "VARCHAR(500)";
+
+    public static final int EXCERPT_MAX_LENGTH = 300;
+    public static final String EXCERPT_DEFINITION = "VARCHAR(310)";
+    public static final String EXCERPT_ELLIPSIS = "...";
+    public static final int HEADLINE_MAX_LENGTH = 80;
+    public static final int READING_WORDS_PER_MINUTE = 200;
+
+    // Full-text search snippets (ts_headline options, see BlogRepository.searchApprovedHits)
+    public static final String HIGHLIGHT_START = "<mark>";
+    public static final String HIGHLIGHT_END = "</mark>";
+    public static final String SEARCH_HEADLINE_OPTIONS = "StartSel=" + HIGHLIGHT_START + ", StopSel=" + HIGHLIGHT_END
+            + ", MaxWords=35, MinWords=15, ShortWord=2, MaxFragments=2, FragmentDelimiter=\" ... \"";
+
+    // Suggestion popularity: views + weighted reactions and comments (see BlogSearchDocumentProvider)
+    public static final int SUGGEST_REACTION_WEIGHT = 5;
+    public static final int SUGGEST_COMMENT_WEIGHT = 3;
     
     private BlogConstants() {
         // Prevent instantiation
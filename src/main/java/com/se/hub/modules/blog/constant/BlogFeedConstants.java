@@ -0,0 +1,28 @@
+package com.se.hub.modules.blog.constant;
+
+/**
+ * Blog Feed Constants
+ * Redis keys and defaults for the materialized popular/liked/latest feeds
+ */
+public class BlogFeedConstants {
+    //===== REDIS KEY PATTERNS ======
+    // ZSET of approved blog IDs ranked by the feed's score
+    public static final String REDIS_KEY_FEED_POPULAR = "blog:feed:popular";
+    public static final String REDIS_KEY_FEED_LIKED = "blog:feed:liked";
+    public static final String REDIS_KEY_FEED_LATEST = "blog:feed:latest";
+    // Number of approved blogs (totalElement of every feed page)
+    public static final String REDIS_KEY_FEED_TOTAL = "blog:feed:total";
+    // One rebuild at a time across nodes
+    public static final String REDIS_KEY_REBUILD_LOCK = "blog:feed:rebuild:lock";
+    // Suffix of the staging key a rebuild writes before swapping it in
+    public static final String REBUILD_STAGING_SUFFIX = ":staging";
+
+    //===== DEFAULTS ======
+    // Ranks kept per feed; pages beyond this fall back to the database query
+    public static final int DEFAULT_MAX_SIZE = 1000;
+    public static final long REBUILD_LOCK_TTL_SECONDS = 60;
+
+    private BlogFeedConstants() {
+        // Prevent instantiation
+    }
+}
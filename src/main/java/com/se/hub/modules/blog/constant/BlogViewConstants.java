@@ -0,0 +1,30 @@
+package com.se.hub.modules.blog.constant;
+
+/**
+ * Blog View Counter Constants
+ * Redis keys and defaults for the write-behind view counter
+ */
+public class BlogViewConstants {
+    //===== REDIS KEY PATTERNS ======
+    // HASH blogId -> views not yet written to Postgres
+    public static final String REDIS_KEY_PENDING = "blog:view:pending";
+    // HASH blogId -> views being written by the current (or an interrupted) flush
+    public static final String REDIS_KEY_FLUSHING = "blog:view:flushing";
+    // Lock so that a single node flushes at a time
+    public static final String REDIS_KEY_FLUSH_LOCK = "blog:view:flush:lock";
+    // blog:view:seen:blogId:viewerKey - marker for de-duplicating repeat views
+    public static final String REDIS_KEY_SEEN_PREFIX = "blog:view:seen:";
+
+    //===== VIEWER KEY PREFIXES ======
+    public static final String VIEWER_USER_PREFIX = "u:";
+    public static final String VIEWER_CLIENT_PREFIX = "c:";
+
+    //===== DEFAULTS ======
+    public static final long DEFAULT_DEDUP_WINDOW_SECONDS = 1_800; // 30 minutes
+    // Renewed on every flushed row; only expires if the flushing node stalls or dies
+    public static final long FLUSH_LOCK_TTL_SECONDS = 60;
+
+    private BlogViewConstants() {
+        // Prevent instantiation
+    }
+}
@@ -10,6 +10,7 @@ import com.se.hub.common.dto.request.PagingRequest;
 import com.se.hub.common.dto.request.SortRequest;
 import com.se.hub.common.dto.response.GenericResponse;
 import com.se.hub.common.dto.response.PagingResponse;
+import com.se.hub.modules.blog.constant.BlogCacheConstants;
 import com.se.hub.modules.blog.constant.BlogMessageConstants;
 import com.se.hub.modules.blog.dto.request.CreateBlogRequest;
 import com.se.hub.modules.blog.dto.request.UpdateBlogRequest;
@@ -37,6 +38,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @Tag(name = "Blog Management",
@@ -66,7 +68,8 @@ public class BlogController extends BaseController {
 
     @GetMapping
     @Operation(summary = "Get all blogs",
-            description = "Get list of all blogs with pagination")
+            description = "Get list of all blogs with pagination. Pass cursor (empty for the first page) to use "
+                    + "cursor paging over approved blogs, newest first; totals are only returned with includeTotal=true")
     @ApiResponses(value = {
             @ApiResponse(responseCode = ResponseCode.OK_200, description = BlogMessageConstants.API_BLOG_RETRIEVED_ALL_SUCCESS),
             @ApiResponse(responseCode = ResponseCode.BAD_REQUEST_400, description = BlogMessageConstants.API_BAD_REQUEST),
@@ -76,15 +79,21 @@ public class BlogController extends BaseController {
             @RequestParam(value = PaginationConstants.PARAM_PAGE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE) int page,
             @RequestParam(value = PaginationConstants.PARAM_SIZE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE) int size,
             @RequestParam(required = false, defaultValue = BaseFieldConstant.CREATE_DATE) String field,
-            @RequestParam(required = false, defaultValue = PaginationConstants.DESC) String direction
+            @RequestParam(required = false, defaultValue = PaginationConstants.DESC) String direction,
+            @RequestParam(value = PaginationConstants.PARAM_CURSOR, required = false) String cursor,
+            @RequestParam(value = PaginationConstants.PARAM_INCLUDE_TOTAL, required = false) Boolean includeTotal,
+            WebRequest webRequest
     ) {
         PagingRequest request = PagingRequest.builder()
                 .page(page)
                 .pageSize(size)
                 .sortRequest(new SortRequest(direction, field))
+                .cursor(cursor)
+                .includeTotal(includeTotal)
                 .build();
 
-        return success(blogService.getBlogs(request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+        return conditional(webRequest, blogService.getListVersion(BlogCacheConstants.CACHE_BLOGS, request),
+                () -> blogService.getBlogs(request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
     }
 
     @GetMapping("/{blogId}")
@@ -95,8 +104,11 @@ public class BlogController extends BaseController {
             @ApiResponse(responseCode = ResponseCode.NOT_FOUND_404, description = BlogMessageConstants.BLOG_NOT_FOUND_MESSAGE),
             @ApiResponse(responseCode = ResponseCode.INTERNAL_ERROR_500, description = BlogMessageConstants.API_INTERNAL_ERROR)
     })
-    public ResponseEntity<GenericResponse<BlogResponse>> getBlogById(@PathVariable String blogId) {
-        return success(blogService.getById(blogId), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+    public ResponseEntity<GenericResponse<BlogResponse>> getBlogById(@PathVariable String blogId, WebRequest webRequest) {
+        // A revalidated read still counts as a view
+        return conditional(webRequest, blogService.getBlogVersion(blogId),
+                () -> blogService.getById(blogId), () -> blogService.incrementViewCount(blogId),
+                MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
     }
 
     @GetMapping("/author/{authorId}")
@@ -112,7 +124,8 @@ public class BlogController extends BaseController {
             @RequestParam(value = PaginationConstants.PARAM_PAGE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE) int page,
             @RequestParam(value = PaginationConstants.PARAM_SIZE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE) int size,
             @RequestParam(required = false, defaultValue = BaseFieldConstant.CREATE_DATE) String field,
-            @RequestParam(required = false, defaultValue = PaginationConstants.DESC) String direction
+            @RequestParam(required = false, defaultValue = PaginationConstants.DESC) String direction,
+            WebRequest webRequest
     ) {
 
         PagingRequest request = PagingRequest.builder()
@@ -121,7 +134,8 @@ public class BlogController extends BaseController {
                 .sortRequest(new SortRequest(direction, field))
                 .build();
 
-        return success(blogService.getBlogsByAuthorId(authorId, request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+        return conditional(webRequest, blogService.getAuthorListVersion(authorId, request),
+                () -> blogService.getBlogsByAuthorId(authorId, request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
     }
 
     @PutMapping("/{blogId}")
@@ -155,7 +169,7 @@ public class BlogController extends BaseController {
 
     @GetMapping("/popular")
     @Operation(summary = "Get most popular blogs",
-            description = "Get list of most popular blogs sorted by view count with pagination")
+            description = "Get list of most popular blogs sorted by view count with pagination. Pass cursor (empty for the first page) for cursor paging")
     @ApiResponses(value = {
             @ApiResponse(responseCode = ResponseCode.OK_200, description = BlogMessageConstants.API_BLOG_POPULAR_SUCCESS, 
                     useReturnTypeSchema = true),
@@ -166,20 +180,26 @@ public class BlogController extends BaseController {
             @RequestParam(value = PaginationConstants.PARAM_PAGE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE) int page,
             @RequestParam(value = PaginationConstants.PARAM_SIZE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE) int size,
             @RequestParam(required = false, defaultValue = BaseFieldConstant.CREATE_DATE) String field,
-            @RequestParam(required = false, defaultValue = PaginationConstants.DESC) String direction
+            @RequestParam(required = false, defaultValue = PaginationConstants.DESC) String direction,
+            @RequestParam(value = PaginationConstants.PARAM_CURSOR, required = false) String cursor,
+            @RequestParam(value = PaginationConstants.PARAM_INCLUDE_TOTAL, required = false) Boolean includeTotal,
+            WebRequest webRequest
     ) {
         PagingRequest request = PagingRequest.builder()
                 .page(page)
                 .pageSize(size)
                 .sortRequest(new SortRequest(direction, field))
+                .cursor(cursor)
+                .includeTotal(includeTotal)
                 .build();
 
-        return success(blogService.getMostPopularBlogs(request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+        return conditional(webRequest, blogService.getListVersion(BlogCacheConstants.CACHE_POPULAR_BLOGS, request),
+                () -> blogService.getMostPopularBlogs(request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
     }
 
     @GetMapping("/liked")
     @Operation(summary = "Get most liked blogs",
-            description = "Get list of most liked blogs sorted by reaction count with pagination")
+            description = "Get list of most liked blogs sorted by reaction count with pagination. Pass cursor (empty for the first page) for cursor paging")
     @ApiResponses(value = {
             @ApiResponse(responseCode = ResponseCode.OK_200, description = BlogMessageConstants.API_BLOG_MOST_LIKED_SUCCESS, 
                     useReturnTypeSchema = true),
@@ -190,20 +210,26 @@ public class BlogController extends BaseController {
             @RequestParam(value = PaginationConstants.PARAM_PAGE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE) int page,
             @RequestParam(value = PaginationConstants.PARAM_SIZE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE) int size,
             @RequestParam(required = false, defaultValue = BaseFieldConstant.CREATE_DATE) String field,
-            @RequestParam(required = false, defaultValue = PaginationConstants.DESC) String direction
+            @RequestParam(required = false, defaultValue = PaginationConstants.DESC) String direction,
+            @RequestParam(value = PaginationConstants.PARAM_CURSOR, required = false) String cursor,
+            @RequestParam(value = PaginationConstants.PARAM_INCLUDE_TOTAL, required = false) Boolean includeTotal,
+            WebRequest webRequest
     ) {
         PagingRequest request = PagingRequest.builder()
                 .page(page)
                 .pageSize(size)
                 .sortRequest(new SortRequest(direction, field))
+                .cursor(cursor)
+                .includeTotal(includeTotal)
                 .build();
 
-        return success(blogService.getMostLikedBlogs(request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+        return conditional(webRequest, blogService.getListVersion(BlogCacheConstants.CACHE_LIKED_BLOGS, request),
+                () -> blogService.getMostLikedBlogs(request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
     }
 
     @GetMapping("/latest")
     @Operation(summary = "Get latest blogs",
-            description = "Get list of latest blogs sorted by created date with pagination")
+            description = "Get list of latest blogs sorted by created date with pagination. Pass cursor (empty for the first page) for cursor paging")
     @ApiResponses(value = {
             @ApiResponse(responseCode = ResponseCode.OK_200, description = BlogMessageConstants.API_BLOG_LATEST_SUCCESS, 
                     useReturnTypeSchema = true),
@@ -214,15 +240,21 @@ public class BlogController extends BaseController {
             @RequestParam(value = PaginationConstants.PARAM_PAGE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE) int page,
             @RequestParam(value = PaginationConstants.PARAM_SIZE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE) int size,
             @RequestParam(required = false, defaultValue = BaseFieldConstant.CREATE_DATE) String field,
-            @RequestParam(required = false, defaultValue = PaginationConstants.DESC) String direction
+            @RequestParam(required = false, defaultValue = PaginationConstants.DESC) String direction,
+            @RequestParam(value = PaginationConstants.PARAM_CURSOR, required = false) String cursor,
+            @RequestParam(value = PaginationConstants.PARAM_INCLUDE_TOTAL, required = false) Boolean includeTotal,
+            WebRequest webRequest
     ) {
         PagingRequest request = PagingRequest.builder()
                 .page(page)
                 .pageSize(size)
                 .sortRequest(new SortRequest(direction, field))
+                .cursor(cursor)
+                .includeTotal(includeTotal)
                 .build();
 
-        return success(blogService.getLatestBlogs(request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+        return conditional(webRequest, blogService.getListVersion(BlogCacheConstants.CACHE_LATEST_BLOGS, request),
+                () -> blogService.getLatestBlogs(request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
     }
 
     @PostMapping("/{blogId}/view")
@@ -20,7 +20,10 @@ import java.time.Instant;
 public class BlogResponse {
     String id;
     BlogAuthorResponse author;
-    String content;
+    String content;         // Only on blog detail; list endpoints return the excerpt
+    String excerpt;
+    String highlight;       // Only on search results: snippet with <mark> around matched terms
+    int readingTimeMinutes;
     String coverImageUrl;
     int cmtCount;
     int reactionCount;
@@ -4,12 +4,17 @@ import com.se.hub.common.constant.BaseFieldConstant;
 import com.se.hub.common.entity.BaseEntity;
 import com.se.hub.modules.blog.constant.BlogConstants;
 import com.se.hub.modules.blog.constant.BlogErrorCodeConstants;
+import com.se.hub.modules.blog.utils.BlogCardUtil;
 import com.se.hub.modules.profile.entity.Profile;
+import com.se.hub.modules.search.listener.SearchIndexEntityListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -30,6 +35,7 @@ import lombok.experimental.FieldDefaults;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Table(name = BlogConstants.TABLE_BLOG)
 @Entity
+@EntityListeners(SearchIndexEntityListener.class)
 public class Blog extends BaseEntity {
     @NotNull(message = BlogErrorCodeConstants.BLOG_AUTHOR_INVALID)
     @ManyToOne(fetch = FetchType.LAZY)
@@ -75,6 +81,63 @@ public class Blog extends BaseEntity {
             nullable = false)
     Boolean isApproved = false;
 
+    /*
+     * Card read model: list endpoints read these through BlogCardProjection
+     * instead of loading content and the author graph.
+     * Excerpt and reading time are recomputed on every write; the author snapshot
+     * is set on create and refreshed by BlogCardService when the profile changes.
+     */
+    @Column(name = BlogConstants.COL_EXCERPT,
+            columnDefinition = BlogConstants.EXCERPT_DEFINITION)
+    String excerpt;
+
+    @Builder.Default
+    @Column(name = BlogConstants.COL_READING_TIME_MINUTES,
+            nullable = false)
+    int readingTimeMinutes = 1;
+
+    @Column(name = BlogConstants.COL_AUTHOR_USER_ID)
+    String authorUserId;
+
+    @Column(name = BlogConstants.COL_AUTHOR_USERNAME)
+    String authorUsername;
+
+    @Column(name = BlogConstants.COL_AUTHOR_NAME)
+    String authorName;
+
+    @Column(name = BlogConstants.COL_AUTHOR_AVATAR_URL,
+            columnDefinition = BlogConstants.IMG_URL_DEFINITION)
+    String authorAvatarUrl;
+
+    /**
+     * Copy the author fields rendered on blog cards
+     */
+    public void applyAuthorSnapshot(Profile profile) {
+        this.authorUserId = profile.getUser() != null ? profile.getUser().getId() : null;
+        this.authorUsername = profile.getUsername();
+        this.authorName = profile.getFullName();
+        this.authorAvatarUrl = profile.getAvtUrl();
+    }
+
+    @Override
+    @PrePersist
+    protected void onCreate() {
+        super.onCreate();
+        refreshCardContent();
+    }
+
+    @Override
+    @PreUpdate
+    protected void onUpdate() {
+        super.onUpdate();
+        refreshCardContent();
+    }
+
+    private void refreshCardContent() {
+        this.excerpt = BlogCardUtil.toExcerpt(content);
+        this.readingTimeMinutes = BlogCardUtil.readingTimeMinutes(content);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
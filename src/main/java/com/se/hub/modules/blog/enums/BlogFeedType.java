@@ -0,0 +1,18 @@
+package com.se.hub.modules.blog.enums;
+
+import com.se.hub.modules.blog.constant.BlogFeedConstants;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Materialized blog feeds, each a Redis sorted set of approved blog IDs
+ */
+@Getter
+@AllArgsConstructor
+public enum BlogFeedType {
+    POPULAR(BlogFeedConstants.REDIS_KEY_FEED_POPULAR),   // score = viewCount
+    LIKED(BlogFeedConstants.REDIS_KEY_FEED_LIKED),       // score = reactionCount
+    LATEST(BlogFeedConstants.REDIS_KEY_FEED_LATEST);     // score = createDate (epoch millis)
+
+    private final String redisKey;
+}
@@ -5,6 +5,7 @@ import com.se.hub.modules.blog.dto.request.UpdateBlogRequest;
 import com.se.hub.modules.blog.dto.response.BlogAuthorResponse;
 import com.se.hub.modules.blog.dto.response.BlogResponse;
 import com.se.hub.modules.blog.entity.Blog;
+import com.se.hub.modules.blog.repository.projection.BlogCardProjection;
 import com.se.hub.modules.profile.entity.Profile;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -20,6 +21,26 @@ import java.util.List;
 public interface BlogMapper {
     Blog toBlog(CreateBlogRequest request);
     BlogResponse toBlogResponse(Blog blog);
+
+    /**
+     * Map a blog card row to BlogResponse (no content; author from the denormalized snapshot)
+     * @param card blog card projection
+     * @return BlogResponse for list endpoints
+     */
+    @Mapping(target = "content", ignore = true)
+    @Mapping(target = "reactions", ignore = true)
+    @Mapping(target = "author.id", source = "authorId")
+    @Mapping(target = "author.userId", source = "authorUserId")
+    @Mapping(target = "author.username", source = "authorUsername")
+    @Mapping(target = "author.fullName", source = "authorName")
+    @Mapping(target = "author.avtUrl", source = "authorAvatarUrl")
+    BlogResponse toBlogCardResponse(BlogCardProjection card);
+
+    /**
+     * Copy a (possibly cached, shared) response before viewer-specific fields are set on it
+     */
+    BlogResponse copyBlogResponse(BlogResponse response);
+
     Blog updateBlogFromRequest(@MappingTarget Blog blog, UpdateBlogRequest request);
     
     /**
@@ -1,6 +1,9 @@
 package com.se.hub.modules.blog.repository;
 
 import com.se.hub.modules.blog.entity.Blog;
+import com.se.hub.modules.blog.repository.projection.BlogCardProjection;
+import com.se.hub.modules.blog.repository.projection.BlogSearchHitProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,83 +12,227 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 
 @Repository
 public interface BlogRepository extends JpaRepository<Blog, String>, JpaSpecificationExecutor<Blog> {
-    Page<Blog> findAllByAuthor_Id(String authorId, Pageable pageable);
+    /**
+     * Card columns for list endpoints (see BlogCardProjection).
+     * Reads only the blogs table: no content, no join to profiles (author.id is the FK column)
+     */
+    String CARD_SELECT = """
+            SELECT b.id AS id, b.author.id AS authorId, b.authorUserId AS authorUserId,
+                   b.authorUsername AS authorUsername, b.authorName AS authorName,
+                   b.authorAvatarUrl AS authorAvatarUrl, b.excerpt AS excerpt,
+                   b.readingTimeMinutes AS readingTimeMinutes, b.coverImageUrl AS coverImageUrl,
+                   b.cmtCount AS cmtCount, b.reactionCount AS reactionCount, b.viewCount AS viewCount,
+                   b.allowComments AS allowComments, b.isApproved AS isApproved,
+                   b.createDate AS createDate, b.updatedDate AS updatedDate
+            FROM Blog b
+            """;
+
+    // Full-text search building blocks (see migration/add_blog_search_vector.sql)
+    String SEARCH_RANKED = """
+            SELECT b.id AS id, ts_rank(b.search_vector, websearch_to_tsquery('simple', :keyword)) AS rank
+            FROM blogs b
+            WHERE b.is_approved = true AND b.search_vector @@ websearch_to_tsquery('simple', :keyword)
+            """;
+
+    // HTML tags are stripped before ts_headline so snippets only carry the <mark> highlights
+    String SEARCH_HIT_SELECT = """
+            SELECT p.id AS id, p.rank AS rank,
+                   ts_headline('simple', regexp_replace(b.content, '<[^>]+>', ' ', 'g'),
+                               websearch_to_tsquery('simple', :keyword), :headlineOptions) AS highlight
+            FROM (
+            """;
+
+    String SEARCH_HIT_JOIN = """
+            ) p
+            JOIN blogs b ON b.id = p.id
+            ORDER BY p.rank DESC, p.id DESC
+            """;
+
+    /**
+     * Find all blog cards by author ID (admin view, includes pending)
+     */
+    @Query(value = CARD_SELECT + "WHERE b.author.id = :authorId",
+            countQuery = "SELECT COUNT(b) FROM Blog b WHERE b.author.id = :authorId")
+    Page<BlogCardProjection> findCardsByAuthorId(@Param("authorId") String authorId, Pageable pageable);
     
     /**
-     * Find all approved blogs by author ID
+     * Find all approved blog cards by author ID
      */
-    @Query("SELECT b FROM Blog b WHERE b.author.id = :authorId AND b.isApproved = true")
-    Page<Blog> findAllApprovedByAuthor_Id(@Param("authorId") String authorId, Pageable pageable);
+    @Query(value = CARD_SELECT + "WHERE b.author.id = :authorId AND b.isApproved = true",
+            countQuery = "SELECT COUNT(b) FROM Blog b WHERE b.author.id = :authorId AND b.isApproved = true")
+    Page<BlogCardProjection> findApprovedCardsByAuthorId(@Param("authorId") String authorId, Pageable pageable);
     
     /**
-     * Find all approved blogs
+     * Find all blog cards (admin view, includes pending)
+     */
+    @Query(value = CARD_SELECT,
+            countQuery = "SELECT COUNT(b) FROM Blog b")
+    Page<BlogCardProjection> findAllCards(Pageable pageable);
+
+    /**
+     * Find all approved blog cards
      */
-    @Query("SELECT b FROM Blog b WHERE b.isApproved = true")
-    Page<Blog> findAllApproved(Pageable pageable);
+    @Query(value = CARD_SELECT + "WHERE b.isApproved = true",
+            countQuery = "SELECT COUNT(b) FROM Blog b WHERE b.isApproved = true")
+    Page<BlogCardProjection> findApprovedCards(Pageable pageable);
 
     /**
-     * Find most popular blogs sorted by view count (only approved)
-     * Uses LEFT JOIN FETCH to optimize N+1 problem by eagerly loading author
+     * Find most popular blog cards sorted by view count (only approved)
      */
-    @Query("SELECT DISTINCT b FROM Blog b LEFT JOIN FETCH b.author WHERE b.isApproved = true ORDER BY b.viewCount DESC")
-    Page<Blog> findMostPopularBlogs(Pageable pageable);
+    @Query(value = CARD_SELECT + "WHERE b.isApproved = true ORDER BY b.viewCount DESC",
+            countQuery = "SELECT COUNT(b) FROM Blog b WHERE b.isApproved = true")
+    Page<BlogCardProjection> findMostPopularBlogs(Pageable pageable);
 
     /**
-     * Find most liked blogs sorted by reaction count (only approved)
-     * Uses LEFT JOIN FETCH to optimize N+1 problem by eagerly loading author
+     * Find most liked blog cards sorted by reaction count (only approved)
      */
-    @Query("SELECT DISTINCT b FROM Blog b LEFT JOIN FETCH b.author WHERE b.isApproved = true ORDER BY b.reactionCount DESC")
-    Page<Blog> findMostLikedBlogs(Pageable pageable);
+    @Query(value = CARD_SELECT + "WHERE b.isApproved = true ORDER BY b.reactionCount DESC",
+            countQuery = "SELECT COUNT(b) FROM Blog b WHERE b.isApproved = true")
+    Page<BlogCardProjection> findMostLikedBlogs(Pageable pageable);
 
     /**
-     * Find latest blogs sorted by created date (only approved)
-     * Uses LEFT JOIN FETCH to optimize N+1 problem by eagerly loading author
+     * Find latest blog cards sorted by created date (only approved)
      */
-    @Query("SELECT DISTINCT b FROM Blog b LEFT JOIN FETCH b.author WHERE b.isApproved = true ORDER BY b.createDate DESC")
-    Page<Blog> findLatestBlogs(Pageable pageable);
+    @Query(value = CARD_SELECT + "WHERE b.isApproved = true ORDER BY b.createDate DESC",
+            countQuery = "SELECT COUNT(b) FROM Blog b WHERE b.isApproved = true")
+    Page<BlogCardProjection> findLatestBlogs(Pageable pageable);
     
+    /**
+     * Full-text search (native, search_vector is not mapped on the entity).
+     * The inner query ranks the matches and keeps one page; ts_headline only runs for that page.
+     * Order is rank DESC, id DESC so the After query can seek on (rank, id).
+     */
+    @Query(value = SEARCH_HIT_SELECT + SEARCH_RANKED + """
+            ORDER BY rank DESC, id DESC
+            LIMIT :limit OFFSET :offset
+            """ + SEARCH_HIT_JOIN,
+            nativeQuery = true)
+    List<BlogSearchHitProjection> searchApprovedHits(@Param("keyword") String keyword,
+                                                     @Param("headlineOptions") String headlineOptions,
+                                                     @Param("limit") int limit,
+                                                     @Param("offset") long offset);
+
+    @Query(value = SEARCH_HIT_SELECT + "SELECT r.id, r.rank FROM (" + SEARCH_RANKED + """
+            ) r
+            WHERE r.rank < :rank OR (r.rank = :rank AND r.id < :id)
+            ORDER BY r.rank DESC, r.id DESC
+            LIMIT :limit
+            """ + SEARCH_HIT_JOIN,
+            nativeQuery = true)
+    List<BlogSearchHitProjection> searchApprovedHitsAfter(@Param("keyword") String keyword,
+                                                          @Param("headlineOptions") String headlineOptions,
+                                                          @Param("rank") float rank,
+                                                          @Param("id") String id,
+                                                          @Param("limit") int limit);
+
     @Query(value = """
-            SELECT DISTINCT b FROM Blog b
-            LEFT JOIN FETCH b.author a
-            WHERE b.isApproved = true AND (
-                LOWER(b.content) LIKE LOWER(CONCAT('%', :keyword, '%'))
-                OR LOWER(COALESCE(a.fullName, '')) LIKE LOWER(CONCAT('%', :keyword, '%'))
-            )
+            SELECT COUNT(*) FROM blogs b
+            WHERE b.is_approved = true AND b.search_vector @@ websearch_to_tsquery('simple', :keyword)
             """,
-            countQuery = """
-            SELECT COUNT(DISTINCT b.id) FROM Blog b
-            LEFT JOIN b.author a
-            WHERE b.isApproved = true AND (
-                LOWER(b.content) LIKE LOWER(CONCAT('%', :keyword, '%'))
-                OR LOWER(COALESCE(a.fullName, '')) LIKE LOWER(CONCAT('%', :keyword, '%'))
-            )
-            """)
-    Page<Blog> searchApprovedBlogs(@Param("keyword") String keyword, Pageable pageable);
+            nativeQuery = true)
+    long countApprovedHits(@Param("keyword") String keyword);
     
     /**
-     * Find all pending blogs (not approved)
+     * Count approved blogs (total of every materialized feed)
+     */
+    long countByIsApprovedTrue();
+
+    /**
+     * Search index batch: approved blogs with ID after afterId, in ID order
+     */
+    List<Blog> findByIsApprovedTrueAndIdGreaterThanOrderByIdAsc(String afterId, Limit limit);
+
+    /**
+     * Load blog cards by IDs for feed pages (order is restored by the caller)
+     */
+    @Query(CARD_SELECT + "WHERE b.id IN :blogIds")
+    List<BlogCardProjection> findCardsByIdIn(@Param("blogIds") List<String> blogIds);
+
+    /**
+     * Feed seed queries: top approved (id, score) pairs in feed order
+     */
+    @Query("SELECT b.id, b.viewCount FROM Blog b WHERE b.isApproved = true ORDER BY b.viewCount DESC")
+    List<Object[]> findPopularFeedEntries(Pageable pageable);
+
+    @Query("SELECT b.id, b.reactionCount FROM Blog b WHERE b.isApproved = true ORDER BY b.reactionCount DESC")
+    List<Object[]> findLikedFeedEntries(Pageable pageable);
+
+    @Query("SELECT b.id, b.createDate FROM Blog b WHERE b.isApproved = true ORDER BY b.createDate DESC")
+    List<Object[]> findLatestFeedEntries(Pageable pageable);
+
+    /**
+     * Current feed scores of approved blogs among the given IDs
+     * Used to refresh feed ranks after view/reaction counts change
      */
-    Page<Blog> findAllByIsApprovedFalse(Pageable pageable);
+    @Query("SELECT b.id, b.viewCount FROM Blog b WHERE b.isApproved = true AND b.id IN :blogIds")
+    List<Object[]> findApprovedViewCountsByIds(@Param("blogIds") List<String> blogIds);
+
+    @Query("SELECT b.id, b.reactionCount FROM Blog b WHERE b.isApproved = true AND b.id IN :blogIds")
+    List<Object[]> findApprovedReactionCountsByIds(@Param("blogIds") List<String> blogIds);
 
     /**
-     * Find top N latest blogs (only approved)
-     * Uses LEFT JOIN FETCH to optimize N+1 problem by eagerly loading author
+     * Keyset (cursor) queries for approved feeds.
+     * Seek past (sortKey, id) of the previous page's last row instead of OFFSET; no count query.
+     * Backed by the partial indexes in migration/add_blog_feed_keyset_indexes.sql
      */
-    @Query("SELECT DISTINCT b FROM Blog b LEFT JOIN FETCH b.author WHERE b.isApproved = true ORDER BY b.createDate DESC")
-    List<Blog> findTopNByOrderByCreatedDateDesc(Pageable pageable);
+    @Query(CARD_SELECT + "WHERE b.isApproved = true ORDER BY b.createDate DESC, b.id DESC")
+    List<BlogCardProjection> findLatestApprovedFirstPage(Pageable limit);
+
+    @Query(CARD_SELECT + """
+            WHERE b.isApproved = true
+              AND (b.createDate < :createDate OR (b.createDate = :createDate AND b.id < :id))
+            ORDER BY b.createDate DESC, b.id DESC
+            """)
+    List<BlogCardProjection> findLatestApprovedAfter(@Param("createDate") Instant createDate, @Param("id") String id, Pageable limit);
+
+    @Query(CARD_SELECT + "WHERE b.isApproved = true ORDER BY b.viewCount DESC, b.id DESC")
+    List<BlogCardProjection> findPopularApprovedFirstPage(Pageable limit);
+
+    @Query(CARD_SELECT + """
+            WHERE b.isApproved = true
+              AND (b.viewCount < :viewCount OR (b.viewCount = :viewCount AND b.id < :id))
+            ORDER BY b.viewCount DESC, b.id DESC
+            """)
+    List<BlogCardProjection> findPopularApprovedAfter(@Param("viewCount") int viewCount, @Param("id") String id, Pageable limit);
+
+    @Query(CARD_SELECT + "WHERE b.isApproved = true ORDER BY b.reactionCount DESC, b.id DESC")
+    List<BlogCardProjection> findLikedApprovedFirstPage(Pageable limit);
+
+    @Query(CARD_SELECT + """
+            WHERE b.isApproved = true
+              AND (b.reactionCount < :reactionCount OR (b.reactionCount = :reactionCount AND b.id < :id))
+            ORDER BY b.reactionCount DESC, b.id DESC
+            """)
+    List<BlogCardProjection> findLikedApprovedAfter(@Param("reactionCount") int reactionCount, @Param("id") String id, Pageable limit);
 
     /**
-     * Atomic operation to increment view count
-     * Prevents race conditions when multiple requests update view count simultaneously
+     * Find all pending blog cards (not approved)
+     */
+    @Query(value = CARD_SELECT + "WHERE b.isApproved = false",
+            countQuery = "SELECT COUNT(b) FROM Blog b WHERE b.isApproved = false")
+    Page<BlogCardProjection> findPendingCards(Pageable pageable);
+
+    /**
+     * Find top N latest blog cards (only approved)
+     */
+    @Query(CARD_SELECT + "WHERE b.isApproved = true ORDER BY b.createDate DESC")
+    List<BlogCardProjection> findTopNByOrderByCreatedDateDesc(Pageable pageable);
+
+    /**
+     * Atomic operation to increment view count by delta
+     * Used by the write-behind view counter to apply buffered views in one UPDATE per blog
      */
     @Modifying
-    @Query("UPDATE Blog b SET b.viewCount = b.viewCount + 1 WHERE b.id = :blogId")
-    void incrementViewCount(@Param("blogId") String blogId);
+    @Transactional
+    @Query("UPDATE Blog b SET b.viewCount = b.viewCount + :delta WHERE b.id = :blogId")
+    void incrementViewCount(@Param("blogId") String blogId, @Param("delta") int delta);
 
     /**
      * Get view counts for multiple blog IDs
@@ -103,6 +250,14 @@ public interface BlogRepository extends JpaRepository<Blog, String>, JpaSpecific
     @Query("UPDATE Blog b SET b.reactionCount = b.reactionCount + :delta WHERE b.id = :blogId")
     void incrementReactionCount(@Param("blogId") String blogId, @Param("delta") int delta);
 
+    /**
+     * Set reaction count (likes - dislikes) recomputed from the reaction table
+     * Used by the reaction reconciler to sync the column with the reaction table
+     */
+    @Modifying
+    @Query("UPDATE Blog b SET b.reactionCount = :reactionCount WHERE b.id = :blogId")
+    void updateReactionCount(@Param("blogId") String blogId, @Param("reactionCount") int reactionCount);
+
     /**
      * Atomic operation to increment comment count by delta
      * Delta can be positive (add comment) or negative (delete comment)
@@ -111,4 +266,23 @@ public interface BlogRepository extends JpaRepository<Blog, String>, JpaSpecific
     @Modifying
     @Query("UPDATE Blog b SET b.cmtCount = b.cmtCount + :delta WHERE b.id = :blogId")
     void incrementCommentCount(@Param("blogId") String blogId, @Param("delta") int delta);
+
+    /**
+     * Refresh the denormalized author snapshot on every card of an author
+     * Rows already up to date are not rewritten
+     * @return number of blogs updated
+     */
+    @Modifying
+    @Query("""
+            UPDATE Blog b
+            SET b.authorUsername = :username, b.authorName = :fullName, b.authorAvatarUrl = :avatarUrl
+            WHERE b.author.id = :authorId
+              AND (b.authorUsername IS DISTINCT FROM :username
+                   OR b.authorName IS DISTINCT FROM :fullName
+                   OR b.authorAvatarUrl IS DISTINCT FROM :avatarUrl)
+            """)
+    int updateAuthorSnapshot(@Param("authorId") String authorId,
+                             @Param("username") String username,
+                             @Param("fullName") String fullName,
+                             @Param("avatarUrl") String avatarUrl);
 }
@@ -0,0 +1,26 @@
+package com.se.hub.modules.blog.repository.projection;
+
+import java.time.Instant;
+
+/**
+ * Blog card row for list endpoints: card fields and the denormalized author snapshot,
+ * without content and without joining profiles
+ */
+public interface BlogCardProjection {
+    String getId();
+    String getAuthorId();
+    String getAuthorUserId();
+    String getAuthorUsername();
+    String getAuthorName();
+    String getAuthorAvatarUrl();
+    String getExcerpt();
+    int getReadingTimeMinutes();
+    String getCoverImageUrl();
+    int getCmtCount();
+    int getReactionCount();
+    int getViewCount();
+    Boolean getAllowComments();
+    Boolean getIsApproved();
+    Instant getCreateDate();
+    Instant getUpdatedDate();
+}
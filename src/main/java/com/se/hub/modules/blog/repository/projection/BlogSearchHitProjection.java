@@ -0,0 +1,11 @@
+package com.se.hub.modules.blog.repository.projection;
+
+/**
+ * Full-text search hit: blog ID, ts_rank relevance and the highlighted snippet.
+ * Cards are loaded separately for the page's IDs only.
+ */
+public interface BlogSearchHitProjection {
+    String getId();
+    Float getRank();
+    String getHighlight();
+}
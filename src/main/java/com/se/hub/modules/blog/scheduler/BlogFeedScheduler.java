@@ -0,0 +1,33 @@
+package com.se.hub.modules.blog.scheduler;
+
+import com.se.hub.modules.blog.service.api.BlogFeedService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler that rebuilds the materialized blog feeds from the database
+ * Refills ranks freed by removed blogs and corrects drift from missed updates
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class BlogFeedScheduler {
+    BlogFeedService blogFeedService;
+
+    /**
+     * Runs every 15 minutes by default
+     */
+    @Scheduled(cron = "${blog.feed.rebuild-cron:0 */15 * * * ?}")
+    public void rebuildFeeds() {
+        try {
+            blogFeedService.rebuildAll();
+        } catch (Exception e) {
+            log.error("BlogFeedScheduler_rebuildFeeds_Rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+}
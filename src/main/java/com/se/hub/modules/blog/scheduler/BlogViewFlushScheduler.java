@@ -0,0 +1,31 @@
+package com.se.hub.modules.blog.scheduler;
+
+import com.se.hub.modules.blog.service.api.BlogViewCounterService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler that writes buffered blog views to the database
+ * Runs every flush interval (default 10 seconds)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class BlogViewFlushScheduler {
+    BlogViewCounterService blogViewCounterService;
+
+    @Scheduled(fixedDelayString = "${blog.view.flush-interval-ms:10000}")
+    public void flushPendingViews() {
+        try {
+            blogViewCounterService.flushPendingViews();
+        } catch (Exception e) {
+            // Remaining entries stay in Redis and are retried on the next run
+            log.error("BlogViewFlushScheduler_flushPendingViews_Flush failed: {}", e.getMessage(), e);
+        }
+    }
+}
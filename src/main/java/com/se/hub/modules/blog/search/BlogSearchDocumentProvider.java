@@ -0,0 +1,73 @@
+package com.se.hub.modules.blog.search;
+
+import com.se.hub.modules.blog.constant.BlogConstants;
+import com.se.hub.modules.blog.entity.Blog;
+import com.se.hub.modules.blog.repository.BlogRepository;
+import com.se.hub.modules.blog.utils.BlogCardUtil;
+import com.se.hub.modules.search.enums.SearchTarget;
+import com.se.hub.modules.search.index.SearchDocument;
+import com.se.hub.modules.search.index.SearchDocumentProvider;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Approved blogs for the search index.
+ * Blogs have no title: the hit title is the excerpt's first line, the author name is a keyword
+ * and the plain-text content is the body. The headline is also the suggestion, ranked by views,
+ * reactions and comments.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class BlogSearchDocumentProvider implements SearchDocumentProvider {
+    BlogRepository blogRepository;
+
+    @Override
+    public SearchTarget getTarget() {
+        return SearchTarget.BLOG;
+    }
+
+    @Override
+    public Class<?> getEntityType() {
+        return Blog.class;
+    }
+
+    @Override
+    public Optional<SearchDocument> load(String id) {
+        return blogRepository.findById(id)
+                .filter(blog -> Boolean.TRUE.equals(blog.getIsApproved()))
+                .map(this::toDocument);
+    }
+
+    @Override
+    public List<SearchDocument> loadBatch(String afterId, int batchSize) {
+        return blogRepository.findByIsApprovedTrueAndIdGreaterThanOrderByIdAsc(afterId, Limit.of(batchSize)).stream()
+                .map(this::toDocument)
+                .toList();
+    }
+
+    private SearchDocument toDocument(Blog blog) {
+        String excerpt = blog.getExcerpt() != null ? blog.getExcerpt() : BlogCardUtil.toExcerpt(blog.getContent());
+        String headline = BlogCardUtil.toHeadline(excerpt);
+        return SearchDocument.builder()
+                .target(SearchTarget.BLOG)
+                .id(blog.getId())
+                .title(headline)
+                .keywords(blog.getAuthorName())
+                .body(BlogCardUtil.toPlainText(blog.getContent()))
+                .summary(excerpt)
+                .imageUrl(blog.getCoverImageUrl())
+                .updatedDate(blog.getUpdatedDate())
+                .suggestion(headline)
+                .popularity(blog.getViewCount()
+                        + BlogConstants.SUGGEST_REACTION_WEIGHT * Math.max(0, blog.getReactionCount())
+                        + BlogConstants.SUGGEST_COMMENT_WEIGHT * blog.getCmtCount())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.se.hub.modules.blog.service.api;
+
+import com.se.hub.modules.profile.event.ProfileChangedEvent;
+
+/**
+ * Maintains the blog card read model (excerpt, reading time, author snapshot on the blogs table).
+ * Excerpt and reading time are recomputed by the Blog entity on every write;
+ * this service keeps the denormalized author snapshot in sync with profiles.
+ */
+public interface BlogCardService {
+    /**
+     * Refresh the author snapshot of every blog card of the changed profile and evict cached
+     * pages rendering that author. Runs after the profile update commits.
+     * @param event profile change
+     */
+    void handleProfileChanged(ProfileChangedEvent event);
+}
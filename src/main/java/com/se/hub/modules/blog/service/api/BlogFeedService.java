@@ -0,0 +1,52 @@
+package com.se.hub.modules.blog.service.api;
+
+import com.se.hub.modules.blog.entity.Blog;
+import com.se.hub.modules.blog.enums.BlogFeedType;
+import com.se.hub.modules.blog.repository.projection.BlogCardProjection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Materialized popular/liked/latest feeds.
+ * Each feed keeps the ranked IDs of the top approved blogs in a Redis sorted set, updated
+ * incrementally; a page read is a range lookup plus one batched load of the blog cards.
+ */
+public interface BlogFeedService {
+    /**
+     * Read a feed page from the materialized ranking
+     * @param feedType feed
+     * @param pageable page request (unsorted or the default createDate DESC tie-break; other sorts use the database query)
+     * @return the page of blog cards, or empty if it cannot be served from the feed (beyond the kept ranks, feed unavailable)
+     */
+    Optional<Page<BlogCardProjection>> getPage(BlogFeedType feedType, Pageable pageable);
+
+    /**
+     * Number of approved blogs, from the feed counter when materialized (approximate between rebuilds)
+     */
+    long getApprovedCount();
+
+    /**
+     * Add an approved blog to every feed (applied after commit)
+     */
+    void onBlogPublished(Blog blog);
+
+    /**
+     * Remove a blog that was approved from every feed (applied after commit)
+     */
+    void onBlogRemoved(String blogId);
+
+    /**
+     * Re-read the current scores of the given blogs from the database and update their ranks
+     * @param feedType POPULAR or LIKED
+     * @param blogIds blogs whose counts changed
+     */
+    void refreshScores(BlogFeedType feedType, Collection<String> blogIds);
+
+    /**
+     * Rebuild every feed and the approved total from the database
+     */
+    void rebuildAll();
+}
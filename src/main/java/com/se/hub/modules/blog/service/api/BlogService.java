@@ -1,5 +1,6 @@
 package com.se.hub.modules.blog.service.api;
 
+import com.se.hub.common.dto.ResourceVersion;
 import com.se.hub.common.dto.request.PagingRequest;
 import com.se.hub.common.dto.response.PagingResponse;
 import com.se.hub.modules.blog.dto.request.CreateBlogRequest;
@@ -133,4 +134,27 @@ public interface BlogService {
      * @return paging response with pending blogs
      */
     PagingResponse<BlogResponse> getPendingBlogs(PagingRequest request);
+
+    /**
+     * Validators of the blog detail response for the current viewer (no database access)
+     * @param blogId blog ID
+     * @return ResourceVersion, or null when versions are unavailable
+     */
+    ResourceVersion getBlogVersion(String blogId);
+
+    /**
+     * Validators of a global blog list page for the current viewer (no database access)
+     * @param listName list cache name (BlogCacheConstants.CACHE_BLOGS, CACHE_POPULAR_BLOGS, ...)
+     * @param request paging request
+     * @return ResourceVersion, or null when versions are unavailable
+     */
+    ResourceVersion getListVersion(String listName, PagingRequest request);
+
+    /**
+     * Validators of an author's blog list page for the current viewer (no database access)
+     * @param authorId author profile ID
+     * @param request paging request
+     * @return ResourceVersion, or null when versions are unavailable
+     */
+    ResourceVersion getAuthorListVersion(String authorId, PagingRequest request);
 }
@@ -0,0 +1,38 @@
+package com.se.hub.modules.blog.service.api;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Write-behind view counter for blogs.
+ * Views are buffered in Redis and written to Postgres in periodic batches.
+ */
+public interface BlogViewCounterService {
+    /**
+     * Record a view of a blog by the current viewer.
+     * Repeat views by the same user (or anonymous client) within the de-duplication window are ignored.
+     * @param blogId blog ID
+     * @return true if the view was counted
+     */
+    boolean recordView(String blogId);
+
+    /**
+     * Views recorded but not yet taken by a flush (views of a running flush appear once written to Postgres)
+     * @param blogId blog ID
+     * @return pending view delta (0 if none)
+     */
+    long getPendingViews(String blogId);
+
+    /**
+     * Pending view deltas for multiple blogs (single round trip)
+     * @param blogIds blog IDs
+     * @return map of blogId -> pending delta; blogs without pending views are omitted
+     */
+    Map<String, Long> getPendingViews(Collection<String> blogIds);
+
+    /**
+     * Write buffered views to Postgres
+     * @return number of blogs updated
+     */
+    int flushPendingViews();
+}
@@ -0,0 +1,44 @@
+package com.se.hub.modules.blog.service.impl;
+
+import com.se.hub.common.cache.CacheInvalidationService;
+import com.se.hub.modules.blog.constant.BlogCacheConstants;
+import com.se.hub.modules.blog.repository.BlogRepository;
+import com.se.hub.modules.blog.service.api.BlogCardService;
+import com.se.hub.modules.profile.event.ProfileChangedEvent;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class BlogCardServiceImpl implements BlogCardService {
+    BlogRepository blogRepository;
+    CacheInvalidationService cacheInvalidationService;
+
+    @Override
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleProfileChanged(ProfileChangedEvent event) {
+        try {
+            // No-op for authors without blogs or when the snapshot is already current
+            int updated = blogRepository.updateAuthorSnapshot(
+                    event.getProfileId(), event.getUsername(), event.getFullName(), event.getAvtUrl());
+            if (updated > 0) {
+                log.debug("BlogCardService_handleProfileChanged_Refreshed author snapshot on {} blogs of profile {}",
+                        updated, event.getProfileId());
+                cacheInvalidationService.evictByTags(BlogCacheConstants.TAG_AUTHOR_PREFIX + event.getProfileId());
+            }
+        } catch (Exception e) {
+            log.error("BlogCardService_handleProfileChanged_Error refreshing author snapshot for profile {}",
+                    event.getProfileId(), e);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.se.hub.modules.blog.service.impl;
+
+import com.se.hub.common.constant.BaseFieldConstant;
+import com.se.hub.modules.blog.constant.BlogFeedConstants;
+import com.se.hub.modules.blog.entity.Blog;
+import com.se.hub.modules.blog.enums.BlogFeedType;
+import com.se.hub.modules.blog.repository.BlogRepository;
+import com.se.hub.modules.blog.repository.projection.BlogCardProjection;
+import com.se.hub.modules.blog.service.api.BlogFeedService;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Blog Feed Service Implementation
+ *
+ * - Each feed is a sorted set capped at the top N ranks (blog.feed.max-size)
+ * - The total key doubles as the "feeds are materialized" marker: incremental updates are
+ *   skipped while it is absent, and the first read rebuilds all feeds from the database
+ * - Scores are always written as absolute values read from the database, so a blog pushed
+ *   out of the cap re-enters at the right rank the next time its count changes
+ * - A periodic rebuild (BlogFeedScheduler) refills ranks freed by removals and corrects drift
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class BlogFeedServiceImpl implements BlogFeedService {
+    /**
+     * KEYS[1] = feed, KEYS[2] = total; ARGV[1] = max size, ARGV[2..] = score/member pairs
+     * Upserts the members and trims the lowest ranks beyond the cap
+     */
+    private static final RedisScript<Long> UPSERT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                return 0
+            end
+            for i = 2, #ARGV, 2 do
+                redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            local excess = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[1])
+            if excess > 0 then
+                redis.call('ZREMRANGEBYRANK', KEYS[1], 0, excess - 1)
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    StringRedisTemplate stringRedisTemplate;
+    BlogRepository blogRepository;
+    int maxSize;
+
+    public BlogFeedServiceImpl(StringRedisTemplate stringRedisTemplate,
+                               BlogRepository blogRepository,
+                               @Value("${blog.feed.max-size:" + BlogFeedConstants.DEFAULT_MAX_SIZE + "}") int maxSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.blogRepository = blogRepository;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public Optional<Page<BlogCardProjection>> getPage(BlogFeedType feedType, Pageable pageable) {
+        if (!isFeedOrder(pageable.getSort()) || pageable.getOffset() + pageable.getPageSize() > maxSize) {
+            return Optional.empty();
+        }
+
+        try {
+            String total = stringRedisTemplate.opsForValue().get(BlogFeedConstants.REDIS_KEY_FEED_TOTAL);
+            if (total == null) {
+                rebuildAll();
+                total = stringRedisTemplate.opsForValue().get(BlogFeedConstants.REDIS_KEY_FEED_TOTAL);
+                if (total == null) {
+                    return Optional.empty();
+                }
+            }
+            long totalElements = Long.parseLong(total);
+
+            long start = pageable.getOffset();
+            Set<String> ids = stringRedisTemplate.opsForZSet()
+                    .reverseRange(feedType.getRedisKey(), start, start + pageable.getPageSize() - 1);
+            List<String> orderedIds = ids == null ? List.of() : new ArrayList<>(ids);
+
+            // Ranks freed by removals are refilled by the next rebuild; until then use the database
+            long expected = Math.min(pageable.getPageSize(), Math.max(0, totalElements - start));
+            if (orderedIds.size() < expected) {
+                return Optional.empty();
+            }
+            if (orderedIds.isEmpty()) {
+                return Optional.of(new PageImpl<>(List.of(), pageable, totalElements));
+            }
+
+            Map<String, BlogCardProjection> blogsById = blogRepository.findCardsByIdIn(orderedIds).stream()
+                    .collect(Collectors.toMap(BlogCardProjection::getId, Function.identity()));
+            if (blogsById.size() < orderedIds.size()) {
+                return Optional.empty();
+            }
+            List<BlogCardProjection> blogs = orderedIds.stream().map(blogsById::get).toList();
+            return Optional.of(new PageImpl<>(blogs, pageable, totalElements));
+        } catch (Exception e) {
+            log.warn("BlogFeedService_getPage_Failed to read {} feed: {}", feedType, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public long getApprovedCount() {
+        try {
+            String total = stringRedisTemplate.opsForValue().get(BlogFeedConstants.REDIS_KEY_FEED_TOTAL);
+            if (total != null) {
+                return Long.parseLong(total);
+            }
+        } catch (Exception e) {
+            log.warn("BlogFeedService_getApprovedCount_Failed to read feed total: {}", e.getMessage());
+        }
+        return blogRepository.countByIsApprovedTrue();
+    }
+
+    @Override
+    public void onBlogPublished(Blog blog) {
+        String blogId = blog.getId();
+        long viewScore = blog.getViewCount();
+        long reactionScore = blog.getReactionCount();
+        long createScore = blog.getCreateDate() != null ? blog.getCreateDate().toEpochMilli() : Instant.now().toEpochMilli();
+        runAfterCommit(() -> {
+            upsert(BlogFeedType.POPULAR, List.of(blogId), List.of(viewScore));
+            upsert(BlogFeedType.LIKED, List.of(blogId), List.of(reactionScore));
+            if (upsert(BlogFeedType.LATEST, List.of(blogId), List.of(createScore))) {
+                stringRedisTemplate.opsForValue().increment(BlogFeedConstants.REDIS_KEY_FEED_TOTAL);
+            }
+        });
+    }
+
+    @Override
+    public void onBlogRemoved(String blogId) {
+        runAfterCommit(() -> {
+            for (BlogFeedType feedType : BlogFeedType.values()) {
+                stringRedisTemplate.opsForZSet().remove(feedType.getRedisKey(), blogId);
+            }
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(BlogFeedConstants.REDIS_KEY_FEED_TOTAL))) {
+                stringRedisTemplate.opsForValue().decrement(BlogFeedConstants.REDIS_KEY_FEED_TOTAL);
+            }
+        });
+    }
+
+    @Override
+    public void refreshScores(BlogFeedType feedType, Collection<String> blogIds) {
+        if (blogIds == null || blogIds.isEmpty()) {
+            return;
+        }
+
+        List<String> ids = new ArrayList<>(blogIds);
+        List<Object[]> rows = switch (feedType) {
+            case POPULAR -> blogRepository.findApprovedViewCountsByIds(ids);
+            case LIKED -> blogRepository.findApprovedReactionCountsByIds(ids);
+            // createDate never changes
+            case LATEST -> List.of();
+        };
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<String> members = rows.stream().map(row -> (String) row[0]).toList();
+        List<Long> scores = rows.stream().map(row -> ((Number) row[1]).longValue()).toList();
+        runAfterCommit(() -> upsert(feedType, members, scores));
+    }
+
+    @Override
+    public void rebuildAll() {
+        String lockKey = BlogFeedConstants.REDIS_KEY_REBUILD_LOCK;
+        String lockToken = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(lockKey, lockToken,
+                Duration.ofSeconds(BlogFeedConstants.REBUILD_LOCK_TTL_SECONDS));
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("BlogFeedService_rebuildAll_Rebuild already running");
+            return;
+        }
+
+        try {
+            Pageable top = PageRequest.of(0, maxSize);
+            rebuild(BlogFeedType.POPULAR, blogRepository.findPopularFeedEntries(top));
+            rebuild(BlogFeedType.LIKED, blogRepository.findLikedFeedEntries(top));
+            rebuild(BlogFeedType.LATEST, blogRepository.findLatestFeedEntries(top));
+            long total = blogRepository.countByIsApprovedTrue();
+            stringRedisTemplate.opsForValue().set(BlogFeedConstants.REDIS_KEY_FEED_TOTAL, String.valueOf(total));
+            log.info("BlogFeedService_rebuildAll_Rebuilt blog feeds, {} approved blogs", total);
+        } finally {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), lockToken);
+        }
+    }
+
+    /* ========================  HELPERS  ======================== */
+
+    /**
+     * Feeds define their own ranking; the controllers' default createDate DESC sort
+     * only breaks ties in the database queries, so it is served from the feed as well
+     */
+    private boolean isFeedOrder(Sort sort) {
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        Sort.Order order = sort.getOrderFor(BaseFieldConstant.CREATE_DATE);
+        return order != null && order.isDescending() && sort.stream().count() == 1;
+    }
+
+    /**
+     * Write the seed entries to a staging key and swap it in atomically
+     */
+    private void rebuild(BlogFeedType feedType, List<Object[]> entries) {
+        String key = feedType.getRedisKey();
+        String stagingKey = key + BlogFeedConstants.REBUILD_STAGING_SUFFIX;
+        if (entries.isEmpty()) {
+            stringRedisTemplate.delete(key);
+            return;
+        }
+
+        byte[] rawStagingKey = stagingKey.getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.delete(stagingKey);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Object[] entry : entries) {
+                connection.zSetCommands().zAdd(rawStagingKey, toScore(entry[1]),
+                        ((String) entry[0]).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        stringRedisTemplate.rename(stagingKey, key);
+    }
+
+    /**
+     * @return true if the feed is materialized and was updated
+     */
+    private boolean upsert(BlogFeedType feedType, List<String> members, List<Long> scores) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(maxSize));
+        for (int i = 0; i < members.size(); i++) {
+            args.add(String.valueOf(scores.get(i)));
+            args.add(members.get(i));
+        }
+        try {
+            Long updated = stringRedisTemplate.execute(UPSERT_SCRIPT,
+                    List.of(feedType.getRedisKey(), BlogFeedConstants.REDIS_KEY_FEED_TOTAL), args.toArray());
+            return updated != null && updated == 1;
+        } catch (Exception e) {
+            // The periodic rebuild repairs missed updates
+            log.warn("BlogFeedService_upsert_Failed to update {} feed: {}", feedType, e.getMessage());
+            return false;
+        }
+    }
+
+    private double toScore(Object value) {
+        if (value instanceof Instant instant) {
+            return instant.toEpochMilli();
+        }
+        return value == null ? 0 : ((Number) value).doubleValue();
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
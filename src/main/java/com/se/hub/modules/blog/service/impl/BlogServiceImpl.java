@@ -1,9 +1,18 @@
 package com.se.hub.modules.blog.service.impl;
 
+import com.se.hub.common.batch.RequestBatchLoader;
+import com.se.hub.common.cache.CacheInvalidationService;
+import com.se.hub.common.cache.ResourceVersionIndex;
+import com.se.hub.common.cache.TwoLevelCacheManager;
+import com.se.hub.common.constant.BaseFieldConstant;
+import com.se.hub.common.constant.BatchLoaderConstants;
+import com.se.hub.common.dto.ResourceVersion;
 import com.se.hub.common.dto.request.PagingRequest;
+import com.se.hub.common.dto.request.SortRequest;
 import com.se.hub.common.dto.response.PagingResponse;
 import com.se.hub.common.enums.ErrorCode;
 import com.se.hub.common.exception.AppException;
+import com.se.hub.common.constant.PaginationConstants;
 import com.se.hub.common.utils.PagingUtil;
 import com.se.hub.modules.auth.utils.AuthUtils;
 import com.se.hub.modules.blog.exception.BlogErrorCode;
@@ -12,23 +21,32 @@ import com.se.hub.modules.blog.dto.request.UpdateBlogRequest;
 import com.se.hub.modules.blog.dto.response.BlogResponse;
 import com.se.hub.modules.blog.entity.Blog;
 import com.se.hub.modules.blog.mapper.BlogMapper;
-import com.se.hub.modules.gamification.enums.MissionTargetType;
-import com.se.hub.modules.gamification.service.MissionProgressService;
+import com.se.hub.modules.gamification.enums.ProgressAction;
+import com.se.hub.modules.gamification.service.ProgressOutboxService;
 import com.se.hub.modules.interaction.dto.response.ReactionInfo;
-import com.se.hub.modules.interaction.dto.response.ReactionToggleResult;
 import com.se.hub.modules.interaction.enums.ReactionType;
 import com.se.hub.modules.interaction.enums.TargetType;
 import com.se.hub.modules.interaction.repository.CommentRepository;
 import com.se.hub.modules.interaction.repository.ReactionRepository;
 import com.se.hub.modules.interaction.service.api.ReactionService;
 import com.se.hub.modules.blog.constant.BlogCacheConstants;
+import com.se.hub.modules.blog.constant.BlogConstants;
 import com.se.hub.modules.blog.repository.BlogRepository;
+import com.se.hub.modules.blog.repository.projection.BlogCardProjection;
+import com.se.hub.modules.blog.repository.projection.BlogSearchHitProjection;
+import com.se.hub.modules.blog.enums.BlogFeedType;
+import com.se.hub.modules.blog.service.api.BlogFeedService;
 import com.se.hub.modules.blog.service.api.BlogService;
+import com.se.hub.modules.blog.service.api.BlogViewCounterService;
 import com.se.hub.modules.profile.entity.Profile;
 import com.se.hub.modules.profile.repository.ProfileRepository;
 import com.se.hub.modules.profile.service.api.ActivityService;
-import com.se.hub.modules.profile.service.api.ProfileProgressService;
+import com.se.hub.modules.search.cache.SearchHitPage;
+import com.se.hub.modules.search.enums.SearchTarget;
+import com.se.hub.modules.search.service.SearchResultCacheService;
+import com.se.hub.modules.search.utils.SearchTextUtil;
 import com.se.hub.modules.blog.service.api.BlogSettingService;
+import com.se.hub.modules.blog.utils.BlogCardUtil;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -36,15 +54,23 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -65,78 +91,229 @@ public class BlogServiceImpl implements BlogService {
     BlogRepository blogRepository;
     ProfileRepository profileRepository;
     BlogMapper blogMapper;
-    ProfileProgressService profileProgressService;
     ActivityService activityService;
     BlogSettingService blogSettingService;
     ReactionService reactionService;
     CommentRepository commentRepository;
     ReactionRepository reactionRepository;
-    MissionProgressService missionProgressService;
+    ProgressOutboxService progressOutboxService;
+    CacheInvalidationService cacheInvalidationService;
+    BlogViewCounterService blogViewCounterService;
+    BlogFeedService blogFeedService;
+    RequestBatchLoader requestBatchLoader;
+    ResourceVersionIndex resourceVersionIndex;
+    SearchResultCacheService searchResultCacheService;
+    TwoLevelCacheManager cacheManager;
 
     /**
-     * Helper method to build PagingResponse from Page<Blog>
+     * Helper method to build PagingResponse from a page of blog cards
      * Reduces code duplication across get methods
      * View counts are refreshed from database to ensure accuracy even when using cached data
      */
-    private PagingResponse<BlogResponse> buildPagingResponse(Page<Blog> blogs) {
-        log.info("in BlogServiceImpl.buildPagingResponse");
-        String currentUserId = AuthUtils.getCurrentUserIdOrNull();
-        log.info("userId = {}", currentUserId);
-        List<Blog> blogList = blogs.getContent();
-
-        // Batch check reactions for all blogs (user-specific reaction info)
-        List<String> blogIds = blogList.stream().map(Blog::getId).toList();
-        Map<String, ReactionInfo> reactionsMap = reactionService
-                .getReactionsForTargets(TargetType.BLOG, blogIds, currentUserId);
-        
-        // Get fresh view counts from database (view count changes frequently, so always get latest)
-        Map<String, Integer> viewCountMap = blogRepository.findViewCountsByIds(blogIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        result -> (String) result[0],
-                        result -> ((Number) result[1]).intValue()
-                ));
-        
+    private PagingResponse<BlogResponse> buildPagingResponse(Page<BlogCardProjection> blogs) {
         return PagingResponse.<BlogResponse>builder()
                 .currentPage(blogs.getNumber())
                 .totalPages(blogs.getTotalPages())
                 .pageSize(blogs.getSize())
                 .totalElement(blogs.getTotalElements())
-                .data(blogList.stream()
-                        .map(blog -> {
-                            BlogResponse response = toBlogResponseWithReaction(blog, reactionsMap.get(blog.getId()));
-                            // Always read counts directly from Blog entity fields
-                            response.setCmtCount(blog.getCmtCount());
-                            response.setReactionCount(blog.getReactionCount());
-                            // Use fresh view count from database
-                            Integer freshViewCount = viewCountMap.get(blog.getId());
-                            if (freshViewCount != null) {
-                                response.setViewCount(freshViewCount);
-                            }
-                            return response;
-                        })
-                        .toList()
-                )
+                .data(toBlogResponses(blogs.getContent()))
                 .build();
     }
 
     /**
-     * Convert Blog to BlogResponse with reaction info
+     * Convert a page of blog cards to viewer-independent responses with fresh counts, safe to cache
+     * and share; the viewer's reaction state is added by withViewerReactions.
+     * Every per-blog lookup goes through the request batch loader: one query per kind for the
+     * whole page, memoized for the rest of the request.
+     * Author snippets come from the card's denormalized snapshot, so no profile is loaded.
      */
-    private BlogResponse toBlogResponseWithReaction(Blog blog, ReactionInfo reactionInfo) {
-        BlogResponse response = blogMapper.toBlogResponse(blog);
-        if (reactionInfo != null) {
-            response.setReactions(reactionInfo);
-        } else {
-            response.setReactions(ReactionInfo.builder()
-                    .userReacted(false)
-                    .type(null)
-                    .build());
+    private List<BlogResponse> toBlogResponses(List<BlogCardProjection> blogList) {
+        List<String> blogIds = blogList.stream().map(BlogCardProjection::getId).toList();
+
+        // Live reaction counts from Redis (blogs.reactionCount lags until the reconciler runs)
+        Map<String, Long> reactionCountMap = loadNetReactionCounts(blogIds);
+        // Fresh view counts from database plus views still buffered in Redis
+        Map<String, Integer> viewCountMap = loadViewCounts(blogIds);
+
+        return blogList.stream()
+                .map(blog -> {
+                    BlogResponse response = blogMapper.toBlogCardResponse(blog);
+                    response.setReactionCount(reactionCountMap
+                            .getOrDefault(blog.getId(), (long) blog.getReactionCount()).intValue());
+                    Integer freshViewCount = viewCountMap.get(blog.getId());
+                    if (freshViewCount != null) {
+                        response.setViewCount(freshViewCount);
+                    }
+                    return response;
+                })
+                .toList();
+    }
+
+    /**
+     * Copies of shared responses with the current viewer's reaction on each blog.
+     * Cached pages are never mutated: they are served to every viewer.
+     */
+    private List<BlogResponse> withViewerReactions(List<BlogResponse> responses) {
+        if (responses == null || responses.isEmpty()) {
+            return responses;
         }
-        // Always read counts directly from Blog entity fields
-        response.setCmtCount(blog.getCmtCount());
-        response.setReactionCount(blog.getReactionCount());
-        return response;
+        List<String> blogIds = responses.stream().map(BlogResponse::getId).toList();
+        Map<String, ReactionInfo> reactionsMap = loadReactionStates(blogIds, AuthUtils.getCurrentUserIdOrNull());
+        return responses.stream()
+                .map(shared -> {
+                    BlogResponse response = blogMapper.copyBlogResponse(shared);
+                    response.setReactions(reactionOrNone(reactionsMap.get(shared.getId())));
+                    return response;
+                })
+                .toList();
+    }
+
+    private PagingResponse<BlogResponse> withViewerReactions(PagingResponse<BlogResponse> page) {
+        return PagingResponse.<BlogResponse>builder()
+                .currentPage(page.getCurrentPage())
+                .totalPages(page.getTotalPages())
+                .pageSize(page.getPageSize())
+                .totalElement(page.getTotalElement())
+                .nextCursor(page.getNextCursor())
+                .hasNext(page.getHasNext())
+                .data(withViewerReactions(page.getData()))
+                .build();
+    }
+
+    /**
+     * Shared list page from a cache (the loader must not depend on the viewer), with the viewer's reactions added
+     */
+    private PagingResponse<BlogResponse> cachedPage(String cacheName, String key,
+                                                    Supplier<PagingResponse<BlogResponse>> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return withViewerReactions(loader.get());
+        }
+        try {
+            return withViewerReactions(cache.get(key, loader::get));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Cache key part of a paging request (page, size, sort and cursor)
+     */
+    private static String pagingKey(PagingRequest request) {
+        SortRequest sort = request.getSortRequest();
+        String direction = sort != null && sort.getDirection() != null ? sort.getDirection() : PaginationConstants.DESC;
+        String field = sort != null && sort.getField() != null ? sort.getField() : BaseFieldConstant.CREATE_DATE;
+        String variant = request.isCursorMode()
+                ? BlogCacheConstants.KEY_CURSOR_PREFIX + request.getCursor()
+                        + BlogCacheConstants.KEY_SEPARATOR + Boolean.TRUE.equals(request.getIncludeTotal())
+                : BlogCacheConstants.KEY_OFFSET;
+        return String.join(BlogCacheConstants.KEY_SEPARATOR, String.valueOf(request.getPage()),
+                String.valueOf(request.getPageSize()), direction, field, variant);
+    }
+
+    /**
+     * Load the viewer's reaction on each blog (batched, memoized per request)
+     */
+    private Map<String, ReactionInfo> loadReactionStates(List<String> blogIds, String userId) {
+        return requestBatchLoader.loadMany(
+                RequestBatchLoader.loaderName(BatchLoaderConstants.REACTION_STATE_PREFIX, TargetType.BLOG, userId),
+                blogIds,
+                ids -> reactionService.getReactionsForTargets(TargetType.BLOG, ids, userId));
+    }
+
+    /**
+     * Load live net reaction counts (batched, memoized per request)
+     */
+    private Map<String, Long> loadNetReactionCounts(List<String> blogIds) {
+        return requestBatchLoader.loadMany(
+                RequestBatchLoader.loaderName(BatchLoaderConstants.REACTION_NET_COUNT_PREFIX, TargetType.BLOG),
+                blogIds,
+                ids -> reactionService.getNetReactionCounts(TargetType.BLOG, ids));
+    }
+
+    /**
+     * Load persisted view counts plus pending Redis views (batched, memoized per request)
+     */
+    private Map<String, Integer> loadViewCounts(List<String> blogIds) {
+        return requestBatchLoader.loadMany(BatchLoaderConstants.BLOG_VIEW_COUNT, blogIds, ids -> {
+            Map<String, Long> pendingViewMap = blogViewCounterService.getPendingViews(ids);
+            return blogRepository.findViewCountsByIds(ids)
+                    .stream()
+                    .collect(Collectors.toMap(
+                            result -> (String) result[0],
+                            result -> ((Number) result[1]).intValue()
+                                    + pendingViewMap.getOrDefault((String) result[0], 0L).intValue()
+                    ));
+        });
+    }
+
+    /**
+     * Keyset (cursor) page of an approved feed.
+     * Seeks past the cursor's (sortKey, id) and fetches pageSize + 1 rows to detect the next page;
+     * no count query unless includeTotal is requested, in which case the approximate approved count is used.
+     */
+    private PagingResponse<BlogResponse> buildCursorPagingResponse(BlogFeedType feedType, PagingRequest request) {
+        if (request.getPageSize() < PaginationConstants.MIN_PAGE_SIZE) {
+            throw new AppException(ErrorCode.PAGE_SIZE_INVALID);
+        }
+        int pageSize = request.getPageSize();
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        String[] cursor = PagingUtil.decodeCursor(request.getCursor());
+
+        List<BlogCardProjection> rows;
+        try {
+            rows = switch (feedType) {
+                case LATEST -> cursor == null
+                        ? blogRepository.findLatestApprovedFirstPage(limit)
+                        : blogRepository.findLatestApprovedAfter(Instant.parse(cursor[0]), cursor[1], limit);
+                case POPULAR -> cursor == null
+                        ? blogRepository.findPopularApprovedFirstPage(limit)
+                        : blogRepository.findPopularApprovedAfter(Integer.parseInt(cursor[0]), cursor[1], limit);
+                case LIKED -> cursor == null
+                        ? blogRepository.findLikedApprovedFirstPage(limit)
+                        : blogRepository.findLikedApprovedAfter(Integer.parseInt(cursor[0]), cursor[1], limit);
+            };
+        } catch (DateTimeParseException | NumberFormatException e) {
+            log.error("BlogService_buildCursorPagingResponse_Invalid cursor for {} feed", feedType);
+            throw new AppException(ErrorCode.PAGE_CURSOR_INVALID);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<BlogCardProjection> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            BlogCardProjection last = page.get(page.size() - 1);
+            String sortKey = switch (feedType) {
+                case LATEST -> last.getCreateDate().toString();
+                case POPULAR -> String.valueOf(last.getViewCount());
+                case LIKED -> String.valueOf(last.getReactionCount());
+            };
+            nextCursor = PagingUtil.encodeCursor(sortKey, last.getId());
+        }
+
+        PagingResponse.PagingResponseBuilder<BlogResponse> builder = PagingResponse.<BlogResponse>builder()
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .data(toBlogResponses(page));
+        if (Boolean.TRUE.equals(request.getIncludeTotal())) {
+            long total = blogFeedService.getApprovedCount();
+            builder.totalElement(total)
+                    .totalPages((int) ((total + pageSize - 1) / pageSize));
+        }
+        return builder.build();
+    }
+
+    private static ReactionInfo reactionOrNone(ReactionInfo reactionInfo) {
+        return reactionInfo != null
+                ? reactionInfo
+                : ReactionInfo.builder()
+                .userReacted(false)
+                .type(null)
+                .build();
     }
 
     /**
@@ -144,50 +321,73 @@ public class BlogServiceImpl implements BlogService {
      */
     private BlogResponse toBlogResponseWithReaction(Blog blog, String userId) {
         BlogResponse response = blogMapper.toBlogResponse(blog);
-        ReactionInfo reactionInfo = reactionService.getReactionsForTargets(
-                TargetType.BLOG, 
-                List.of(blog.getId()), 
-                userId
-        ).get(blog.getId());
-        
-        if (reactionInfo != null) {
-            response.setReactions(reactionInfo);
-        } else {
-            response.setReactions(ReactionInfo.builder()
-                    .userReacted(false)
-                    .type(null)
-                    .build());
-        }
-        // Always read counts directly from Blog entity fields
+        response.setReactions(reactionOrNone(loadReactionStates(List.of(blog.getId()), userId).get(blog.getId())));
+        // Always read counts directly from Blog entity fields, preferring the live Redis reaction count
         response.setCmtCount(blog.getCmtCount());
-        response.setReactionCount(blog.getReactionCount());
+        response.setReactionCount(loadNetReactionCounts(List.of(blog.getId()))
+                .getOrDefault(blog.getId(), (long) blog.getReactionCount()).intValue());
         return response;
     }
 
     /**
-     * Update blog reaction count from Reaction table.
-     * Virtual Thread Best Practice: Uses synchronous blocking I/O operations.
-     * Virtual threads yield during database queries, enabling high concurrency.
+     * Validator over the given resource versions, the viewer and the request parts.
+     * Last-Modified is the newest version (or the notBefore floor when later).
      */
-    private void updateBlogReactionCount(Blog blog) {
-        // Blocking I/O - virtual thread yields here
-        long likeCount = reactionService.getReactionCount(TargetType.BLOG, blog.getId(), ReactionType.LIKE);
-        // Blocking I/O - virtual thread yields here
-        long dislikeCount = reactionService.getReactionCount(TargetType.BLOG, blog.getId(), ReactionType.DISLIKE);
-        int totalReactionCount = (int) (likeCount - dislikeCount);
-        blog.setReactionCount(totalReactionCount);
-        // Blocking I/O - virtual thread yields here
-        blogRepository.save(blog);
+    private ResourceVersion toResourceVersion(List<String> versionNames, long notBefore, Object... parts) {
+        List<Long> stamps = resourceVersionIndex.current(versionNames);
+        if (stamps == null) {
+            return null;
+        }
+        long lastModified = Math.max(notBefore, Collections.max(stamps));
+        List<Object> validatorParts = new ArrayList<>(List.of(parts));
+        validatorParts.add(stamps);
+        validatorParts.add(notBefore);
+        validatorParts.add(AuthUtils.getCurrentUserIdOrNull());
+        validatorParts.add(isAdmin());
+        return ResourceVersion.of(Instant.ofEpochMilli(lastModified), validatorParts.toArray());
+    }
+
+    /**
+     * Validator of a list page: list membership tag, any blog or author snapshot change,
+     * the paging parameters and the current LIST_VALIDATOR_WINDOW
+     */
+    private ResourceVersion toListVersion(String listTag, PagingRequest request) {
+        long window = BlogCacheConstants.LIST_VALIDATOR_WINDOW.toMillis();
+        long windowStart = System.currentTimeMillis() / window * window;
+        SortRequest sort = request.getSortRequest();
+        return toResourceVersion(
+                List.of(listTag, BlogCacheConstants.TAG_BLOG_GROUP, BlogCacheConstants.TAG_AUTHOR_GROUP),
+                windowStart,
+                listTag, request.getPage(), request.getPageSize(),
+                sort != null ? sort.getDirection() : null, sort != null ? sort.getField() : null,
+                request.getCursor(), request.getIncludeTotal());
+    }
+
+    /**
+     * Evict cached entries that render this blog (detail entry and every cached page containing it).
+     * Runs after commit; other cached pages are left untouched.
+     */
+    private void evictBlogCaches(String blogId) {
+        cacheInvalidationService.evictByTags(BlogCacheConstants.TAG_BLOG_PREFIX + blogId);
+    }
+
+    /**
+     * Evict cached pages whose membership changes when a blog is published, hidden or deleted:
+     * the blog's own entries, the author's list and the global feeds.
+     */
+    private void evictBlogListCaches(String blogId, String authorId) {
+        cacheInvalidationService.evictByTags(
+                BlogCacheConstants.TAG_BLOG_PREFIX + blogId,
+                BlogCacheConstants.TAG_AUTHOR_FEED_PREFIX + authorId,
+                BlogCacheConstants.TAG_FEED_BLOGS,
+                BlogCacheConstants.TAG_FEED_POPULAR,
+                BlogCacheConstants.TAG_FEED_LIKED,
+                BlogCacheConstants.TAG_FEED_LATEST
+        );
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {
-            BlogCacheConstants.CACHE_BLOGS,
-            BlogCacheConstants.CACHE_POPULAR_BLOGS,
-            BlogCacheConstants.CACHE_LIKED_BLOGS,
-            BlogCacheConstants.CACHE_LATEST_BLOGS
-    }, allEntries = true)
     public BlogResponse createBlog(CreateBlogRequest request) {
         String userId = AuthUtils.getCurrentUserId();
 
@@ -199,6 +399,7 @@ public class BlogServiceImpl implements BlogService {
 
         Blog blog = blogMapper.toBlog(request);
         blog.setAuthor(author);
+        blog.applyAuthorSnapshot(author);
         blog.setCreatedBy(userId);
         blog.setUpdateBy(userId);
 
@@ -211,11 +412,12 @@ public class BlogServiceImpl implements BlogService {
 
         Blog savedBlog = blogRepository.save(blog);
         BlogResponse response = blogMapper.toBlogResponse(savedBlog);
+        evictBlogListCaches(savedBlog.getId(), author.getId());
         
         // If blog is auto-approved, update stats and activity immediately
         if (savedBlog.getIsApproved()) {
-            profileProgressService.updatePostsUploaded();
-            missionProgressService.updateCurrentValue(author.getId(), MissionTargetType.BLOG);
+            blogFeedService.onBlogPublished(savedBlog);
+            progressOutboxService.append(userId, author.getId(), ProgressAction.BLOG_PUBLISHED);
             activityService.incrementActivity(author.getId());
         } else {
             // Note: User stats and activity will be incremented only when blog is approved by admin
@@ -225,16 +427,24 @@ public class BlogServiceImpl implements BlogService {
         return response;
     }
 
+    @Override
+    public ResourceVersion getBlogVersion(String blogId) {
+        // Content, approval, comment and reaction changes all evict the blog tag
+        return toResourceVersion(List.of(BlogCacheConstants.TAG_BLOG_PREFIX + blogId), 0, blogId);
+    }
+
+    @Override
+    public ResourceVersion getListVersion(String listName, PagingRequest request) {
+        return toListVersion(BlogCacheConstants.TAG_FEED_PREFIX + listName, request);
+    }
+
+    @Override
+    public ResourceVersion getAuthorListVersion(String authorId, PagingRequest request) {
+        return toListVersion(BlogCacheConstants.TAG_AUTHOR_FEED_PREFIX + authorId, request);
+    }
+
     @Override
     @Transactional
-    @CacheEvict(value = {
-            BlogCacheConstants.CACHE_BLOG,
-            BlogCacheConstants.CACHE_BLOGS,
-            BlogCacheConstants.CACHE_BLOGS_BY_AUTHOR,
-            BlogCacheConstants.CACHE_POPULAR_BLOGS,
-            BlogCacheConstants.CACHE_LIKED_BLOGS,
-            BlogCacheConstants.CACHE_LATEST_BLOGS
-    }, allEntries = true)
     public BlogResponse getById(String blogId) {
         Blog blog = blogRepository.findById(blogId)
                 .orElseThrow(() -> {
@@ -248,66 +458,53 @@ public class BlogServiceImpl implements BlogService {
             throw BlogErrorCode.BLOG_NOT_FOUND.toException();
         }
         
-        // Increment view count for each request
-        // Note: incrementViewCount also evicts cache, but we evict here too to ensure
-        // all list caches are cleared immediately when a blog is viewed
-        incrementViewCount(blogId);
-        
-        // Refresh blog to get updated view count
-        blog = blogRepository.findById(blogId)
-                .orElseThrow(() -> {
-                    log.error("BlogService_getById_Blog not found with id: {}", blogId);
-                    return BlogErrorCode.BLOG_NOT_FOUND.toException();
-                });
+        // Buffer the view in Redis; it is written to the database by BlogViewFlushScheduler
+        // Note: views do not evict list caches; cached view counts refresh with the list TTL
+        blogViewCounterService.recordView(blogId);
         
         String currentUserId = AuthUtils.getCurrentUserIdOrNull();
         BlogResponse response = toBlogResponseWithReaction(blog, currentUserId);
+        // Persisted count plus views not yet flushed
+        response.setViewCount((int) (blog.getViewCount() + blogViewCounterService.getPendingViews(blogId)));
         return response;
     }
 
     @Override
-    @Cacheable(value = BlogCacheConstants.CACHE_BLOGS_BY_AUTHOR, 
-            key = "#authorId + '_' + #request.page + '_' + #request.pageSize + '_' + (#request.sortRequest?.direction ?: 'desc') + '_' + (#request.sortRequest?.field ?: 'createDate')")
     public PagingResponse<BlogResponse> getBlogsByAuthorId(String authorId, PagingRequest request) {
         Pageable pageable = PagingUtil.createPageable(request);
 
-        // Only show approved blogs (unless admin viewing their own blogs)
-        Page<Blog> blogs;
-        if (isAdmin()) {
-            blogs = blogRepository.findAllByAuthor_Id(authorId, pageable);
-        } else {
-            blogs = blogRepository.findAllApprovedByAuthor_Id(authorId, pageable);
-        }
-        return buildPagingResponse(blogs);
+        // Only show approved blogs (unless admin); the scope is part of the key so admin pages stay apart
+        boolean admin = isAdmin();
+        String key = String.join(BlogCacheConstants.KEY_SEPARATOR, authorId,
+                admin ? BlogCacheConstants.KEY_SCOPE_ALL : BlogCacheConstants.KEY_SCOPE_APPROVED, pagingKey(request));
+        return cachedPage(BlogCacheConstants.CACHE_BLOGS_BY_AUTHOR, key, () -> buildPagingResponse(admin
+                ? blogRepository.findCardsByAuthorId(authorId, pageable)
+                : blogRepository.findApprovedCardsByAuthorId(authorId, pageable)));
     }
 
     @Override
 //    @Cacheable(value = BlogCacheConstants.CACHE_BLOGS,
 //            key = "#request.page + '_' + #request.pageSize + '_' + (#request.sortRequest?.direction ?: 'desc') + '_' + (#request.sortRequest?.field ?: 'createDate')")
     public PagingResponse<BlogResponse> getBlogs(PagingRequest request) {
+        // Cursor mode is the infinite-scroll feed: approved blogs, newest first
+        if (request.isCursorMode()) {
+            return withViewerReactions(buildCursorPagingResponse(BlogFeedType.LATEST, request));
+        }
         Pageable pageable = PagingUtil.createPageable(request);
         log.info("in getBlogs service");
 
         // Only show approved blogs (unless admin)
-        Page<Blog> blogs;
+        Page<BlogCardProjection> blogs;
         if (isAdmin()) {
-            blogs = blogRepository.findAll(pageable);
+            blogs = blogRepository.findAllCards(pageable);
         } else {
-            blogs = blogRepository.findAllApproved(pageable);
+            blogs = blogRepository.findApprovedCards(pageable);
         }
-        return buildPagingResponse(blogs);
+        return withViewerReactions(buildPagingResponse(blogs));
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {
-            BlogCacheConstants.CACHE_BLOG,
-            BlogCacheConstants.CACHE_BLOGS,
-            BlogCacheConstants.CACHE_BLOGS_BY_AUTHOR,
-            BlogCacheConstants.CACHE_POPULAR_BLOGS,
-            BlogCacheConstants.CACHE_LIKED_BLOGS,
-            BlogCacheConstants.CACHE_LATEST_BLOGS
-    }, allEntries = true)
     public BlogResponse updateBlogById(String blogId, UpdateBlogRequest request) {
         Blog blog = blogRepository.findById(blogId)
                 .orElseThrow(() -> {
@@ -319,61 +516,74 @@ public class BlogServiceImpl implements BlogService {
         blog.setUpdateBy(AuthUtils.getCurrentUserId());
 
         BlogResponse response = blogMapper.toBlogResponse(blogRepository.save(blog));
+        evictBlogCaches(blogId);
         return response;
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {
-            BlogCacheConstants.CACHE_BLOG,
-            BlogCacheConstants.CACHE_BLOGS,
-            BlogCacheConstants.CACHE_BLOGS_BY_AUTHOR,
-            BlogCacheConstants.CACHE_POPULAR_BLOGS,
-            BlogCacheConstants.CACHE_LIKED_BLOGS,
-            BlogCacheConstants.CACHE_LATEST_BLOGS
-    }, allEntries = true)
     public void deleteBlogById(String blogId) {
         if (blogId == null || blogId.isBlank()) {
             log.error("BlogService_deleteBlogById_Blog ID is required");
             throw BlogErrorCode.BLOG_ID_REQUIRED.toException();
         }
 
-        if (!blogRepository.existsById(blogId)) {
-            log.error("BlogService_deleteBlogById_Blog not found with id: {}", blogId);
-            throw BlogErrorCode.BLOG_NOT_FOUND.toException();
-        }
+        Blog blog = blogRepository.findById(blogId)
+                .orElseThrow(() -> {
+                    log.error("BlogService_deleteBlogById_Blog not found with id: {}", blogId);
+                    return BlogErrorCode.BLOG_NOT_FOUND.toException();
+                });
 
-        blogRepository.deleteById(blogId);
+        blogRepository.delete(blog);
+        if (Boolean.TRUE.equals(blog.getIsApproved())) {
+            blogFeedService.onBlogRemoved(blogId);
+        }
+        evictBlogListCaches(blogId, blog.getAuthor().getId());
     }
 
     @Override
-    @Cacheable(value = BlogCacheConstants.CACHE_POPULAR_BLOGS, 
-            key = "#request.page + '_' + #request.pageSize + '_' + (#request.sortRequest?.direction ?: 'desc') + '_' + (#request.sortRequest?.field ?: 'createDate')")
     public PagingResponse<BlogResponse> getMostPopularBlogs(PagingRequest request) {
-        Pageable pageable = PagingUtil.createPageable(request);
+        return cachedPage(BlogCacheConstants.CACHE_POPULAR_BLOGS, pagingKey(request), () -> {
+            if (request.isCursorMode()) {
+                return buildCursorPagingResponse(BlogFeedType.POPULAR, request);
+            }
+            Pageable pageable = PagingUtil.createPageable(request);
 
-        Page<Blog> blogs = blogRepository.findMostPopularBlogs(pageable);
-        return buildPagingResponse(blogs);
+            // Served from the materialized feed; explicit sorts and deep pages use the database query
+            Page<BlogCardProjection> blogs = blogFeedService.getPage(BlogFeedType.POPULAR, pageable)
+                    .orElseGet(() -> blogRepository.findMostPopularBlogs(pageable));
+            return buildPagingResponse(blogs);
+        });
     }
 
     @Override
-    @Cacheable(value = BlogCacheConstants.CACHE_LIKED_BLOGS, 
-            key = "#request.page + '_' + #request.pageSize + '_' + (#request.sortRequest?.direction ?: 'desc') + '_' + (#request.sortRequest?.field ?: 'createDate')")
     public PagingResponse<BlogResponse> getMostLikedBlogs(PagingRequest request) {
-        Pageable pageable = PagingUtil.createPageable(request);
+        return cachedPage(BlogCacheConstants.CACHE_LIKED_BLOGS, pagingKey(request), () -> {
+            if (request.isCursorMode()) {
+                return buildCursorPagingResponse(BlogFeedType.LIKED, request);
+            }
+            Pageable pageable = PagingUtil.createPageable(request);
 
-        Page<Blog> blogs = blogRepository.findMostLikedBlogs(pageable);
-        return buildPagingResponse(blogs);
+            // Served from the materialized feed; explicit sorts and deep pages use the database query
+            Page<BlogCardProjection> blogs = blogFeedService.getPage(BlogFeedType.LIKED, pageable)
+                    .orElseGet(() -> blogRepository.findMostLikedBlogs(pageable));
+            return buildPagingResponse(blogs);
+        });
     }
 
     @Override
-    @Cacheable(value = BlogCacheConstants.CACHE_LATEST_BLOGS, 
-            key = "#request.page + '_' + #request.pageSize + '_' + (#request.sortRequest?.direction ?: 'desc') + '_' + (#request.sortRequest?.field ?: 'createDate')")
     public PagingResponse<BlogResponse> getLatestBlogs(PagingRequest request) {
-        Pageable pageable = PagingUtil.createPageable(request);
+        return cachedPage(BlogCacheConstants.CACHE_LATEST_BLOGS, pagingKey(request), () -> {
+            if (request.isCursorMode()) {
+                return buildCursorPagingResponse(BlogFeedType.LATEST, request);
+            }
+            Pageable pageable = PagingUtil.createPageable(request);
 
-        Page<Blog> blogs = blogRepository.findLatestBlogs(pageable);
-        return buildPagingResponse(blogs);
+            // Served from the materialized feed; explicit sorts and deep pages use the database query
+            Page<BlogCardProjection> blogs = blogFeedService.getPage(BlogFeedType.LATEST, pageable)
+                    .orElseGet(() -> blogRepository.findLatestBlogs(pageable));
+            return buildPagingResponse(blogs);
+        });
     }
 
     @Override
@@ -384,21 +594,112 @@ public class BlogServiceImpl implements BlogService {
             throw new AppException(ErrorCode.DATA_INVALID);
         }
 
+        if (request == null) {
+            throw new AppException(ErrorCode.DATA_INVALID);
+        }
+
+        // Case and spacing do not change a 'simple' tsquery; accents do, so they are kept
+        String query = SearchTextUtil.normalizeQuery(sanitizedKeyword);
+        SearchHitPage hitPage = searchResultCacheService.get(SearchTarget.BLOG, query, request, false,
+                () -> request.isCursorMode() ? searchHitsByCursor(query, request) : searchHits(query, request));
+        return hitPage.toPagingResponse(toSearchResponses(hitPage));
+    }
+
+    /**
+     * Offset page of search hits, in relevance order (the requested sort does not apply to search)
+     */
+    private SearchHitPage searchHits(String keyword, PagingRequest request) {
         Pageable pageable = PagingUtil.createPageable(request);
-        Page<Blog> blogs = blogRepository.searchApprovedBlogs(sanitizedKeyword, pageable);
-        return buildPagingResponse(blogs);
+        List<BlogSearchHitProjection> hits = blogRepository.searchApprovedHits(keyword,
+                BlogConstants.SEARCH_HEADLINE_OPTIONS, pageable.getPageSize(), pageable.getOffset());
+        Page<BlogSearchHitProjection> page = PageableExecutionUtils.getPage(hits, pageable,
+                () -> blogRepository.countApprovedHits(keyword));
+        return toSearchHitPage(hits, SearchHitPage.builder()
+                .currentPage(page.getNumber())
+                .totalPages(page.getTotalPages())
+                .pageSize(page.getSize())
+                .totalElement(page.getTotalElements()));
+    }
+
+    /**
+     * Keyset paging over search results, seeking on (rank, id) from the cursor
+     */
+    private SearchHitPage searchHitsByCursor(String keyword, PagingRequest request) {
+        if (request.getPageSize() < PaginationConstants.MIN_PAGE_SIZE) {
+            throw new AppException(ErrorCode.PAGE_SIZE_INVALID);
+        }
+        int pageSize = request.getPageSize();
+        String[] cursor = PagingUtil.decodeCursor(request.getCursor());
+
+        List<BlogSearchHitProjection> rows;
+        try {
+            rows = cursor == null
+                    ? blogRepository.searchApprovedHits(keyword, BlogConstants.SEARCH_HEADLINE_OPTIONS, pageSize + 1, 0)
+                    : blogRepository.searchApprovedHitsAfter(keyword, BlogConstants.SEARCH_HEADLINE_OPTIONS,
+                            Float.parseFloat(cursor[0]), cursor[1], pageSize + 1);
+        } catch (NumberFormatException e) {
+            log.error("BlogService_searchHitsByCursor_Invalid search cursor");
+            throw new AppException(ErrorCode.PAGE_CURSOR_INVALID);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<BlogSearchHitProjection> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            BlogSearchHitProjection last = page.get(page.size() - 1);
+            nextCursor = PagingUtil.encodeCursor(String.valueOf(last.getRank()), last.getId());
+        }
+
+        SearchHitPage.SearchHitPageBuilder builder = SearchHitPage.builder()
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor);
+        if (Boolean.TRUE.equals(request.getIncludeTotal())) {
+            long total = blogRepository.countApprovedHits(keyword);
+            builder.totalElement(total)
+                    .totalPages((int) ((total + pageSize - 1) / pageSize));
+        }
+        return toSearchHitPage(page, builder);
+    }
+
+    /**
+     * Hit IDs in rank order with their safe highlighted snippets
+     */
+    private SearchHitPage toSearchHitPage(List<BlogSearchHitProjection> hits, SearchHitPage.SearchHitPageBuilder builder) {
+        List<String> ids = new ArrayList<>(hits.size());
+        Map<String, String> highlights = new HashMap<>();
+        for (BlogSearchHitProjection hit : hits) {
+            ids.add(hit.getId());
+            String highlight = BlogCardUtil.toHighlight(hit.getHighlight());
+            if (highlight != null) {
+                highlights.put(hit.getId(), highlight);
+            }
+        }
+        return builder.ids(ids).highlights(highlights).build();
+    }
+
+    /**
+     * Hydrate search hits into card responses in rank order, with the highlighted snippet.
+     * Hits whose blog disappeared since the search query are dropped.
+     */
+    private List<BlogResponse> toSearchResponses(SearchHitPage hitPage) {
+        List<String> blogIds = hitPage.getIds();
+        if (blogIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<String, BlogCardProjection> cardMap = blogRepository.findCardsByIdIn(blogIds).stream()
+                .collect(Collectors.toMap(BlogCardProjection::getId, card -> card));
+        List<BlogCardProjection> cards = blogIds.stream()
+                .map(cardMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        List<BlogResponse> responses = withViewerReactions(toBlogResponses(cards));
+        responses.forEach(response -> response.setHighlight(hitPage.getHighlights().get(response.getId())));
+        return responses;
     }
 
     @Override
-    @Transactional
-    @CacheEvict(value = {
-            BlogCacheConstants.CACHE_BLOG,
-            BlogCacheConstants.CACHE_BLOGS,
-            BlogCacheConstants.CACHE_BLOGS_BY_AUTHOR,
-            BlogCacheConstants.CACHE_POPULAR_BLOGS,
-            BlogCacheConstants.CACHE_LIKED_BLOGS,
-            BlogCacheConstants.CACHE_LATEST_BLOGS
-    }, allEntries = true)
     public void incrementViewCount(String blogId) {
         if (blogId == null || blogId.isBlank()) {
             log.error("BlogService_incrementViewCount_Blog ID is required");
@@ -410,7 +711,7 @@ public class BlogServiceImpl implements BlogService {
             throw BlogErrorCode.BLOG_NOT_FOUND.toException();
         }
 
-        blogRepository.incrementViewCount(blogId);
+        blogViewCounterService.recordView(blogId);
     }
 
     @Override
@@ -427,18 +728,11 @@ public class BlogServiceImpl implements BlogService {
         }
 
         blogRepository.incrementReactionCount(blogId, delta);
+        evictBlogCaches(blogId);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {
-            BlogCacheConstants.CACHE_BLOG,
-            BlogCacheConstants.CACHE_BLOGS,
-            BlogCacheConstants.CACHE_BLOGS_BY_AUTHOR,
-            BlogCacheConstants.CACHE_POPULAR_BLOGS,
-            BlogCacheConstants.CACHE_LIKED_BLOGS,
-            BlogCacheConstants.CACHE_LATEST_BLOGS
-    }, allEntries = true)
     public void incrementCommentCount(String blogId, int delta) {
         if (blogId == null || blogId.isBlank()) {
             log.error("BlogService_incrementCommentCount_Blog ID is required");
@@ -451,18 +745,11 @@ public class BlogServiceImpl implements BlogService {
         }
 
         blogRepository.incrementCommentCount(blogId, delta);
+        evictBlogCaches(blogId);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {
-            BlogCacheConstants.CACHE_BLOG,
-            BlogCacheConstants.CACHE_BLOGS,
-            BlogCacheConstants.CACHE_BLOGS_BY_AUTHOR,
-            BlogCacheConstants.CACHE_POPULAR_BLOGS,
-            BlogCacheConstants.CACHE_LIKED_BLOGS,
-            BlogCacheConstants.CACHE_LATEST_BLOGS
-    }, allEntries = true)
     public BlogResponse likeBlog(String blogId) {
         Blog blog = blogRepository.findById(blogId)
                 .orElseThrow(() -> {
@@ -475,36 +762,17 @@ public class BlogServiceImpl implements BlogService {
             throw BlogErrorCode.BLOG_NOT_FOUND.toException();
         }
 
-        // Use ReactionService to toggle like reaction
-        ReactionToggleResult toggleResult = reactionService.toggleReactionWithCount(TargetType.BLOG, blogId, ReactionType.LIKE);
-        
-        // Update reaction count from Reaction table
-        updateBlogReactionCount(blog);
+        // Use ReactionService to toggle like reaction (Redis counters; reaction count, stats and
+        // activity are written to the database by the reaction reconciler)
+        reactionService.toggleReactionWithCount(TargetType.BLOG, blogId, ReactionType.LIKE);
+        evictBlogCaches(blogId);
         
-        // Increment activity count if reaction was added (not removed)
         String currentUserId = AuthUtils.getCurrentUserId();
-        if (toggleResult.isAdded()) {
-            Profile currentUser = profileRepository.findByUserId(currentUserId)
-                    .orElseThrow(() -> {
-                        log.error("BlogService_likeBlog_Profile not found for user: {}", currentUserId);
-                        return new AppException(ErrorCode.PROFILE_NOT_FOUND);
-                    });
-            activityService.incrementActivity(currentUser.getId());
-        }
-        
-        return toBlogResponseWithReaction(blogRepository.findById(blogId).orElse(blog), currentUserId);
+        return toBlogResponseWithReaction(blog, currentUserId);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {
-            BlogCacheConstants.CACHE_BLOG,
-            BlogCacheConstants.CACHE_BLOGS,
-            BlogCacheConstants.CACHE_BLOGS_BY_AUTHOR,
-            BlogCacheConstants.CACHE_POPULAR_BLOGS,
-            BlogCacheConstants.CACHE_LIKED_BLOGS,
-            BlogCacheConstants.CACHE_LATEST_BLOGS
-    }, allEntries = true)
     public BlogResponse dislikeBlog(String blogId) {
         Blog blog = blogRepository.findById(blogId)
                 .orElseThrow(() -> {
@@ -519,24 +787,14 @@ public class BlogServiceImpl implements BlogService {
 
         // Use ReactionService to toggle dislike reaction
         reactionService.toggleReactionWithCount(TargetType.BLOG, blogId, ReactionType.DISLIKE);
-        
-        // Update reaction count from Reaction table
-        updateBlogReactionCount(blog);
+        evictBlogCaches(blogId);
         
         String currentUserId = AuthUtils.getCurrentUserId();
-        return toBlogResponseWithReaction(blogRepository.findById(blogId).orElse(blog), currentUserId);
+        return toBlogResponseWithReaction(blog, currentUserId);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {
-            BlogCacheConstants.CACHE_BLOG,
-            BlogCacheConstants.CACHE_BLOGS,
-            BlogCacheConstants.CACHE_BLOGS_BY_AUTHOR,
-            BlogCacheConstants.CACHE_POPULAR_BLOGS,
-            BlogCacheConstants.CACHE_LIKED_BLOGS,
-            BlogCacheConstants.CACHE_LATEST_BLOGS
-    }, allEntries = true)
     public BlogResponse removeReaction(String blogId) {
         Blog blog = blogRepository.findById(blogId)
                 .orElseThrow(() -> {
@@ -544,40 +802,24 @@ public class BlogServiceImpl implements BlogService {
                     return BlogErrorCode.BLOG_NOT_FOUND.toException();
                 });
 
-        // Check if user has reacted, then toggle to remove
-        boolean hasReacted = reactionService.hasUserReacted(TargetType.BLOG, blogId);
-        if (hasReacted) {
-            // Get current reaction type and toggle it off
-            String userId = AuthUtils.getCurrentUserId();
-            Map<String, ReactionInfo> reactionsMap = reactionService.getReactionsForTargets(
-                    TargetType.BLOG, 
-                    List.of(blogId), 
-                    userId
-            );
-            ReactionInfo currentReaction = reactionsMap.get(blogId);
-            if (currentReaction != null && currentReaction.getType() != null) {
-                // Toggle the same reaction type to remove it
-                reactionService.toggleReactionWithCount(TargetType.BLOG, blogId, currentReaction.getType());
-            }
+        // Get current reaction type and toggle it off
+        String currentUserId = AuthUtils.getCurrentUserId();
+        ReactionInfo currentReaction = reactionService.getReactionsForTargets(
+                TargetType.BLOG, 
+                List.of(blogId), 
+                currentUserId
+        ).get(blogId);
+        if (currentReaction != null && currentReaction.getType() != null) {
+            // Toggle the same reaction type to remove it
+            reactionService.toggleReactionWithCount(TargetType.BLOG, blogId, currentReaction.getType());
+            evictBlogCaches(blogId);
         }
         
-        // Update reaction count from Reaction table
-        updateBlogReactionCount(blog);
-        
-        String currentUserId = AuthUtils.getCurrentUserId();
-        return toBlogResponseWithReaction(blogRepository.findById(blogId).orElse(blog), currentUserId);
+        return toBlogResponseWithReaction(blog, currentUserId);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {
-            BlogCacheConstants.CACHE_BLOG,
-            BlogCacheConstants.CACHE_BLOGS,
-            BlogCacheConstants.CACHE_BLOGS_BY_AUTHOR,
-            BlogCacheConstants.CACHE_POPULAR_BLOGS,
-            BlogCacheConstants.CACHE_LIKED_BLOGS,
-            BlogCacheConstants.CACHE_LATEST_BLOGS
-    }, allEntries = true)
     public BlogResponse approveBlog(String blogId) {
         checkAdminPermission();
 
@@ -601,9 +843,12 @@ public class BlogServiceImpl implements BlogService {
         blog.setUpdateBy(AuthUtils.getCurrentUserId());
 
         Blog savedBlog = blogRepository.save(blog);
+        blogFeedService.onBlogPublished(savedBlog);
+        evictBlogListCaches(blogId, savedBlog.getAuthor().getId());
         
-        // Update user stats and achievements when blog is approved
-        profileProgressService.updatePostsUploaded();
+        // Update the author's stats, missions and achievements when blog is approved
+        Profile author = savedBlog.getAuthor();
+        progressOutboxService.append(author.getUser().getId(), author.getId(), ProgressAction.BLOG_PUBLISHED);
         
         // Increment activity count for author when blog is approved
         activityService.incrementActivity(savedBlog.getAuthor().getId());
@@ -614,14 +859,6 @@ public class BlogServiceImpl implements BlogService {
 
     @Override
     @Transactional
-    @CacheEvict(value = {
-            BlogCacheConstants.CACHE_BLOG,
-            BlogCacheConstants.CACHE_BLOGS,
-            BlogCacheConstants.CACHE_BLOGS_BY_AUTHOR,
-            BlogCacheConstants.CACHE_POPULAR_BLOGS,
-            BlogCacheConstants.CACHE_LIKED_BLOGS,
-            BlogCacheConstants.CACHE_LATEST_BLOGS
-    }, allEntries = true)
     public BlogResponse rejectBlog(String blogId) {
         checkAdminPermission();
 
@@ -645,6 +882,8 @@ public class BlogServiceImpl implements BlogService {
         blog.setUpdateBy(AuthUtils.getCurrentUserId());
 
         Blog savedBlog = blogRepository.save(blog);
+        blogFeedService.onBlogRemoved(blogId);
+        evictBlogListCaches(blogId, savedBlog.getAuthor().getId());
         
         String currentUserId = AuthUtils.getCurrentUserId();
         return toBlogResponseWithReaction(savedBlog, currentUserId);
@@ -655,9 +894,9 @@ public class BlogServiceImpl implements BlogService {
         checkAdminPermission();
 
         Pageable pageable = PagingUtil.createPageable(request);
-        Page<Blog> blogs = blogRepository.findAllByIsApprovedFalse(pageable);
+        Page<BlogCardProjection> blogs = blogRepository.findPendingCards(pageable);
         
-        return buildPagingResponse(blogs);
+        return withViewerReactions(buildPagingResponse(blogs));
     }
 
     /**
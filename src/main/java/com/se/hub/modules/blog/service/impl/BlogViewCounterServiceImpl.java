@@ -0,0 +1,225 @@
+package com.se.hub.modules.blog.service.impl;
+
+import com.se.hub.modules.auth.utils.AuthUtils;
+import com.se.hub.modules.blog.constant.BlogViewConstants;
+import com.se.hub.modules.blog.enums.BlogFeedType;
+import com.se.hub.modules.blog.repository.BlogRepository;
+import com.se.hub.modules.blog.service.api.BlogFeedService;
+import com.se.hub.modules.blog.service.api.BlogViewCounterService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Blog View Counter Service Implementation
+ *
+ * Write-behind design:
+ * - recordView() de-duplicates and increments a Redis hash in a single script call (no DB write on read path)
+ * - flushPendingViews() moves the pending hash to a flushing hash (RENAMENX) and applies each delta
+ *   to Postgres, removing the field once its UPDATE has committed
+ * - Every row is claimed through a script that checks the flush lock is still held by this node and
+ *   renews it, so a slow flush keeps the lock and a node that lost it stops before writing
+ * - Read paths only add the pending hash: views taken by a flush show up once their UPDATE commits,
+ *   instead of being counted both in Postgres and in the flushing hash
+ * - A crashed flush leaves the flushing hash in place; the next run resumes it before taking new views,
+ *   so at most one row can be double counted and views are never dropped by an application crash
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class BlogViewCounterServiceImpl implements BlogViewCounterService {
+    /**
+     * KEYS[1] = seen marker, KEYS[2] = pending hash
+     * ARGV[1] = de-duplication window (seconds), ARGV[2] = blogId
+     */
+    private static final RedisScript<Long> RECORD_VIEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[1]) then
+                return redis.call('HINCRBY', KEYS[2], ARGV[2], 1)
+            end
+            return -1
+            """, Long.class);
+
+    /**
+     * Release the flush lock only if it is still held by this caller
+     */
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * Delta of a flushing row, if the flush lock is still held by this caller (renewed on success)
+     * KEYS[1] = flush lock, KEYS[2] = flushing hash
+     * ARGV[1] = lock token, ARGV[2] = blogId, ARGV[3] = lock TTL (seconds)
+     * Returns -1 when the lock was lost
+     */
+    private static final RedisScript<Long> CLAIM_ROW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return -1
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0')
+            """, Long.class);
+
+    StringRedisTemplate stringRedisTemplate;
+    BlogRepository blogRepository;
+    BlogFeedService blogFeedService;
+    long dedupWindowSeconds;
+
+    public BlogViewCounterServiceImpl(StringRedisTemplate stringRedisTemplate,
+                                      BlogRepository blogRepository,
+                                      BlogFeedService blogFeedService,
+                                      @Value("${blog.view.dedup-window-seconds:" + BlogViewConstants.DEFAULT_DEDUP_WINDOW_SECONDS + "}")
+                                      long dedupWindowSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.blogRepository = blogRepository;
+        this.blogFeedService = blogFeedService;
+        this.dedupWindowSeconds = dedupWindowSeconds;
+    }
+
+    @Override
+    public boolean recordView(String blogId) {
+        String seenKey = BlogViewConstants.REDIS_KEY_SEEN_PREFIX + blogId + ":" + resolveViewerKey();
+        try {
+            Long result = stringRedisTemplate.execute(RECORD_VIEW_SCRIPT,
+                    List.of(seenKey, BlogViewConstants.REDIS_KEY_PENDING),
+                    String.valueOf(dedupWindowSeconds), blogId);
+            return result != null && result > 0;
+        } catch (Exception e) {
+            // View counting must never fail a read
+            log.warn("BlogViewCounterService_recordView_Failed to record view for blog {}: {}", blogId, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public long getPendingViews(String blogId) {
+        return getPendingViews(List.of(blogId)).getOrDefault(blogId, 0L);
+    }
+
+    @Override
+    public Map<String, Long> getPendingViews(Collection<String> blogIds) {
+        Map<String, Long> result = new HashMap<>();
+        if (blogIds == null || blogIds.isEmpty()) {
+            return result;
+        }
+
+        // The flushing hash is left out: its rows may already be committed to Postgres
+        List<Object> fields = new ArrayList<>(blogIds);
+        try {
+            List<Object> pending = stringRedisTemplate.opsForHash()
+                    .multiGet(BlogViewConstants.REDIS_KEY_PENDING, fields);
+            for (int i = 0; i < fields.size(); i++) {
+                long delta = parseDelta(pending.get(i));
+                if (delta > 0) {
+                    result.put((String) fields.get(i), delta);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("BlogViewCounterService_getPendingViews_Failed to read pending views: {}", e.getMessage());
+        }
+        return result;
+    }
+
+    @Override
+    public int flushPendingViews() {
+        String lockToken = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(BlogViewConstants.REDIS_KEY_FLUSH_LOCK,
+                lockToken, Duration.ofSeconds(BlogViewConstants.FLUSH_LOCK_TTL_SECONDS));
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("BlogViewCounterService_flushPendingViews_Flush already running on another node");
+            return 0;
+        }
+
+        try {
+            // Resume an interrupted flush before taking a new batch
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(BlogViewConstants.REDIS_KEY_FLUSHING))) {
+                if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(BlogViewConstants.REDIS_KEY_PENDING))
+                        || !Boolean.TRUE.equals(stringRedisTemplate.renameIfAbsent(
+                                BlogViewConstants.REDIS_KEY_PENDING, BlogViewConstants.REDIS_KEY_FLUSHING))) {
+                    return 0;
+                }
+            }
+
+            Set<Object> batch = stringRedisTemplate.opsForHash().keys(BlogViewConstants.REDIS_KEY_FLUSHING);
+            List<String> updatedIds = new ArrayList<>();
+            for (Object field : batch) {
+                String blogId = (String) field;
+                Long delta = stringRedisTemplate.execute(CLAIM_ROW_SCRIPT,
+                        List.of(BlogViewConstants.REDIS_KEY_FLUSH_LOCK, BlogViewConstants.REDIS_KEY_FLUSHING),
+                        lockToken, blogId, String.valueOf(BlogViewConstants.FLUSH_LOCK_TTL_SECONDS));
+                if (delta == null || delta < 0) {
+                    // Lock expired and may be held by another node, which resumes the remaining rows
+                    log.warn("BlogViewCounterService_flushPendingViews_Lost flush lock after {} blogs", updatedIds.size());
+                    break;
+                }
+                if (delta > 0) {
+                    blogRepository.incrementViewCount(blogId, (int) Math.min(delta, Integer.MAX_VALUE));
+                    updatedIds.add(blogId);
+                }
+                stringRedisTemplate.opsForHash().delete(BlogViewConstants.REDIS_KEY_FLUSHING, blogId);
+            }
+
+            // Re-rank flushed blogs in the popular feed
+            blogFeedService.refreshScores(BlogFeedType.POPULAR, updatedIds);
+
+            log.debug("BlogViewCounterService_flushPendingViews_Flushed views for {} blogs", updatedIds.size());
+            return updatedIds.size();
+        } finally {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT,
+                    List.of(BlogViewConstants.REDIS_KEY_FLUSH_LOCK), lockToken);
+        }
+    }
+
+    /**
+     * Viewer identity for de-duplication: user ID when authenticated,
+     * otherwise client IP + User-Agent hash
+     */
+    private String resolveViewerKey() {
+        String userId = AuthUtils.getCurrentUserIdOrNull();
+        if (userId != null) {
+            return BlogViewConstants.VIEWER_USER_PREFIX + userId;
+        }
+
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            String userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+            return BlogViewConstants.VIEWER_CLIENT_PREFIX + request.getRemoteAddr()
+                    + ":" + Integer.toHexString(userAgent == null ? 0 : userAgent.hashCode());
+        }
+
+        // No request context (e.g. internal call) - every call is a distinct view
+        return BlogViewConstants.VIEWER_CLIENT_PREFIX + UUID.randomUUID();
+    }
+
+    private long parseDelta(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.toString());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.se.hub.modules.blog.utils;
+
+import com.se.hub.modules.blog.constant.BlogConstants;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.regex.Pattern;
+
+/**
+ * Utility class for computing the blog card fields (excerpt, reading time) from blog content
+ * and for rendering search snippets
+ */
+public class BlogCardUtil {
+
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]+>");
+    private static final Pattern MARKDOWN_IMAGE = Pattern.compile("!\\[[^]]*]\\([^)]*\\)");
+    private static final Pattern MARKDOWN_LINK = Pattern.compile("\\[([^]]*)]\\([^)]*\\)");
+    private static final Pattern MARKDOWN_SYNTAX = Pattern.compile("[#>*_`~|]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private BlogCardUtil() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Plain-text excerpt: HTML tags and markdown syntax removed, whitespace collapsed,
+     * cut at the last word boundary within EXCERPT_MAX_LENGTH
+     */
+    public static String toExcerpt(String content) {
+        return cut(toPlainText(content), BlogConstants.EXCERPT_MAX_LENGTH);
+    }
+
+    /**
+     * Short one-line title for places that list blogs next to titled items (blogs have no title),
+     * cut from the excerpt at the last word boundary within HEADLINE_MAX_LENGTH
+     */
+    public static String toHeadline(String excerpt) {
+        return excerpt == null ? "" : cut(excerpt, BlogConstants.HEADLINE_MAX_LENGTH);
+    }
+
+    /**
+     * Estimated reading time in minutes (at least 1)
+     */
+    public static int readingTimeMinutes(String content) {
+        String text = toPlainText(content);
+        if (text.isEmpty()) {
+            return 1;
+        }
+        int words = text.split(" ").length;
+        return Math.max(1, (words + BlogConstants.READING_WORDS_PER_MINUTE - 1) / BlogConstants.READING_WORDS_PER_MINUTE);
+    }
+
+    /**
+     * Safe search snippet: everything except the highlight markers is HTML-escaped,
+     * so matched terms stay wrapped in <mark> while blog text cannot inject markup
+     */
+    public static String toHighlight(String headline) {
+        if (headline == null || headline.isBlank()) {
+            return null;
+        }
+        StringBuilder highlight = new StringBuilder(headline.length() + 32);
+        int from = 0;
+        while (from < headline.length()) {
+            int start = headline.indexOf(BlogConstants.HIGHLIGHT_START, from);
+            int end = start < 0 ? -1 : headline.indexOf(BlogConstants.HIGHLIGHT_END, start);
+            if (end < 0) {
+                highlight.append(HtmlUtils.htmlEscape(headline.substring(from)));
+                break;
+            }
+            highlight.append(HtmlUtils.htmlEscape(headline.substring(from, start)))
+                    .append(BlogConstants.HIGHLIGHT_START)
+                    .append(HtmlUtils.htmlEscape(headline.substring(start + BlogConstants.HIGHLIGHT_START.length(), end)))
+                    .append(BlogConstants.HIGHLIGHT_END);
+            from = end + BlogConstants.HIGHLIGHT_END.length();
+        }
+        return WHITESPACE.matcher(highlight).replaceAll(" ").trim();
+    }
+
+    /**
+     * Content with HTML tags and markdown syntax removed and whitespace collapsed
+     */
+    public static String toPlainText(String content) {
+        if (content == null || content.isBlank()) {
+            return "";
+        }
+        String text = HTML_TAG.matcher(content).replaceAll(" ");
+        text = MARKDOWN_IMAGE.matcher(text).replaceAll(" ");
+        text = MARKDOWN_LINK.matcher(text).replaceAll("$1");
+        text = MARKDOWN_SYNTAX.matcher(text).replaceAll(" ");
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+
+    private static String cut(String text, int maxLength) {
+        if (text.length() <= maxLength) {
+            return text;
+        }
+        int cut = text.lastIndexOf(' ', maxLength);
+        if (cut <= 0) {
+            cut = maxLength;
+        }
+        return text.substring(0, cut) + BlogConstants.EXCERPT_ELLIPSIS;
+    }
+}
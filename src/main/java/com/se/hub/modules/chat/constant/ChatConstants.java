@@ -9,6 +9,9 @@ public class ChatConstants {
     public static final String COLLECTION_CONVERSATION = "conversation";
     public static final String COLLECTION_CHAT_MESSAGE = "chat-message";
     
+    // Field Names
+    public static final String FIELD_MODIFIED_DATE = "modifiedDate";
+
     // Field Definitions
     public static final String CONVERSATION_TYPE_DEFINITION = "VARCHAR(20)";
     public static final String PARTICIPANTS_HASH_DEFINITION = "VARCHAR(64)";
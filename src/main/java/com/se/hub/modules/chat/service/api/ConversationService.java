@@ -5,6 +5,8 @@ import com.se.hub.common.dto.response.PagingResponse;
 import com.se.hub.modules.chat.dto.request.CreateConversationRequest;
 import com.se.hub.modules.chat.dto.response.ConversationResponse;
 
+import java.util.List;
+
 /**
  * Conversation Service Interface
  * Manages conversations (DIRECT and GROUP)
@@ -20,5 +22,9 @@ public interface ConversationService {
      * Get all conversations for current user with pagination
      */
     PagingResponse<ConversationResponse> getConversations(PagingRequest request);
-}
 
+    /**
+     * Other participants of a user's most recently active direct conversations, most recent first
+     */
+    List<String> getRecentDirectPartnerIds(String userId, int limit);
+}
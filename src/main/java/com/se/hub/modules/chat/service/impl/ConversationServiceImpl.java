@@ -27,6 +27,7 @@ import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +37,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -203,6 +205,19 @@ public class ConversationServiceImpl implements ConversationService {
             .build();
     }
     
+    @Override
+    public List<String> getRecentDirectPartnerIds(String userId, int limit) {
+        Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, ChatConstants.FIELD_MODIFIED_DATE));
+        return conversationRepository.findByParticipantIdsContainsAndType(userId, ConversationType.DIRECT, pageable)
+            .getContent().stream()
+            .flatMap(conversation -> conversation.getParticipants().stream())
+            .map(ParticipantInfo::getUserId)
+            .filter(Objects::nonNull)
+            .filter(participantId -> !participantId.equals(userId))
+            .distinct()
+            .toList();
+    }
+    
     /**
      * Generate participant hash for conversation uniqueness
      */
@@ -56,6 +56,7 @@ public class SecurityConfig {
             "/api/documents/{documentId}",
             "/api/documents/course/{courseId}",
             "/api/documents/latest",
+            "/api/documents/search",
             "/api/documents/{documentId}/suggestions",
             // Comment endpoints
             "/api/comments",
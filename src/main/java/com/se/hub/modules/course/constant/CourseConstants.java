@@ -24,6 +24,10 @@ public class CourseConstants {
     public static final int SEMESTER_MIN = 1;
     public static final int SEMESTER_MAX = 9;
 
+    //===== CATALOG SEARCH ======
+    // Semester filter value meaning "any" in native catalog queries (semesters start at SEMESTER_MIN)
+    public static final int CATALOG_ANY_SEMESTER = 0;
+
 
     private CourseConstants() {}
 }
@@ -19,6 +19,7 @@ public class CourseMessageConstants {
     public static final String API_COURSE_RETRIEVED_ALL_SUCCESS = "Retrieved all courses successfully";
     public static final String API_COURSE_RETRIEVED_BY_ID_SUCCESS = "Retrieved course by ID successfully";
     public static final String API_COURSE_RETRIEVED_BY_USER_ID_SUCCESS = "Retrieved courses by user ID successfully";
+    public static final String API_COURSE_SEARCH_SUCCESS = "Searched courses successfully";
     public static final String API_COURSE_UPDATED_SUCCESS = "Course updated successfully";
     public static final String API_COURSE_DELETED_SUCCESS = "Course deleted successfully";
     public static final String API_BAD_REQUEST = "Bad request";
@@ -11,9 +11,11 @@ import com.se.hub.common.dto.request.SortRequest;
 import com.se.hub.common.dto.response.GenericResponse;
 import com.se.hub.common.dto.response.PagingResponse;
 import com.se.hub.modules.course.constant.CourseMessageConstants;
+import com.se.hub.modules.course.dto.request.CourseSearchRequest;
 import com.se.hub.modules.course.dto.request.CreateCourseRequest;
 import com.se.hub.modules.course.dto.request.UpdateCourseRequest;
 import com.se.hub.modules.course.dto.response.CourseResponse;
+import com.se.hub.modules.course.enums.Specialization;
 import com.se.hub.modules.course.service.CourseService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -35,6 +37,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @Tag(name = "Course Management",
@@ -73,7 +76,8 @@ public class CourseController extends BaseController {
             @RequestParam(value = PaginationConstants.PARAM_PAGE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE) int page,
             @RequestParam(value = PaginationConstants.PARAM_SIZE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE) int size,
             @RequestParam(required = false, defaultValue = BaseFieldConstant.CREATE_DATE) String field,
-            @RequestParam(required = false, defaultValue = PaginationConstants.DESC) String direction
+            @RequestParam(required = false, defaultValue = PaginationConstants.DESC) String direction,
+            WebRequest webRequest
     ) {
 
         PagingRequest request = PagingRequest.builder()
@@ -82,7 +86,40 @@ public class CourseController extends BaseController {
                 .sortRequest(new SortRequest(direction, field))
                 .build();
 
-        return success(courseService.getCourses(request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+        return conditional(webRequest, courseService.getCatalogVersion(null, request),
+                () -> courseService.getCourses(request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search courses",
+            description = "Search courses by keyword (name, short description, description; accents optional) "
+                    + "and filters. Ordered by relevance with a keyword, by name without one. "
+                    + "Cursor paging: pass nextCursor to get the next page; totals are only returned with includeTotal=true")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200, description = CourseMessageConstants.API_COURSE_SEARCH_SUCCESS),
+            @ApiResponse(responseCode = ResponseCode.BAD_REQUEST_400, description = CourseMessageConstants.API_BAD_REQUEST),
+            @ApiResponse(responseCode = ResponseCode.INTERNAL_ERROR_500, description = CourseMessageConstants.API_INTERNAL_ERROR)
+    })
+    public ResponseEntity<GenericResponse<PagingResponse<CourseResponse>>> searchCourses(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Specialization specialization,
+            @RequestParam(required = false) Integer semester,
+            @RequestParam(value = PaginationConstants.PARAM_SIZE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(value = PaginationConstants.PARAM_CURSOR, required = false) String cursor,
+            @RequestParam(value = PaginationConstants.PARAM_INCLUDE_TOTAL, required = false) Boolean includeTotal
+    ) {
+        CourseSearchRequest filter = CourseSearchRequest.builder()
+                .keyword(keyword)
+                .specialization(specialization)
+                .semester(semester)
+                .build();
+        PagingRequest request = PagingRequest.builder()
+                .pageSize(size)
+                .cursor(cursor)
+                .includeTotal(includeTotal)
+                .build();
+
+        return success(courseService.searchCourses(filter, request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
     }
 
     @GetMapping("/{courseId}")
@@ -110,7 +147,8 @@ public class CourseController extends BaseController {
             @RequestParam(value = PaginationConstants.PARAM_PAGE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE) int page,
             @RequestParam(value = PaginationConstants.PARAM_SIZE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE) int size,
             @RequestParam(required = false, defaultValue = BaseFieldConstant.CREATE_DATE) String field,
-            @RequestParam(required = false, defaultValue = PaginationConstants.DESC) String direction
+            @RequestParam(required = false, defaultValue = PaginationConstants.DESC) String direction,
+            WebRequest webRequest
     ) {
 
         PagingRequest request = PagingRequest.builder()
@@ -119,7 +157,8 @@ public class CourseController extends BaseController {
                 .sortRequest(new SortRequest(direction, field))
                 .build();
 
-        return success(courseService.getCoursesByUserId(userId, request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+        return conditional(webRequest, courseService.getCatalogVersion(userId, request),
+                () -> courseService.getCoursesByUserId(userId, request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
     }
 
     @PutMapping("/{courseId}")
@@ -0,0 +1,29 @@
+package com.se.hub.modules.course.dto.request;
+
+import com.se.hub.modules.course.enums.Specialization;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Course catalog search filters. Every field is optional; without a keyword
+ * the matching courses are listed by name.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CourseSearchRequest {
+    /**
+     * Full-text query (web search syntax: quoted phrases, OR, -word), accents optional
+     */
+    String keyword;
+    Specialization specialization;
+    Integer semester;
+}
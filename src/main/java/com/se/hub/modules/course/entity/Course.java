@@ -5,9 +5,11 @@ import com.se.hub.modules.course.constant.CourseConstants;
 import com.se.hub.modules.course.constant.CourseErrorCodeConstants;
 import com.se.hub.modules.course.enums.Specialization;
 import com.se.hub.modules.document.entity.Document;
+import com.se.hub.modules.search.listener.SearchIndexEntityListener;
 import com.se.hub.modules.user.entity.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -38,6 +40,7 @@ import java.util.Set;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Table(name = CourseConstants.TABLE_COURSE)
 @Entity
+@EntityListeners(SearchIndexEntityListener.class)
 public class Course extends BaseEntity {
     @NotBlank(message = CourseErrorCodeConstants.COURSE_NAME_INVALID)
     @Size(min = CourseConstants.NAME_MIN_LENGTH,
@@ -1,14 +1,136 @@
 package com.se.hub.modules.course.repository;
 
 import com.se.hub.modules.course.entity.Course;
+import com.se.hub.modules.course.enums.Specialization;
+import com.se.hub.modules.course.repository.projection.CourseCatalogHitProjection;
+import com.se.hub.modules.course.repository.projection.CourseCatalogVersionProjection;
+import com.se.hub.modules.course.repository.projection.CourseSearchProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface CourseRepository extends JpaRepository<Course, String>, JpaSpecificationExecutor<Course> {
     boolean existsByName(String name);
     Page<Course> findAllByUsers_Id(String userId, Pageable pageable);
+
+    @Query("""
+            SELECT MAX(c.updatedDate) AS lastModified, COUNT(c) AS courseCount
+            FROM Course c
+            """)
+    CourseCatalogVersionProjection findCatalogVersion();
+
+    @Query("""
+            SELECT MAX(c.updatedDate) AS lastModified, COUNT(c) AS courseCount
+            FROM Course c
+            JOIN c.users u
+            WHERE u.id = :userId
+            """)
+    CourseCatalogVersionProjection findCatalogVersionByUserId(@Param("userId") String userId);
+
+    String SEARCH_SELECT = """
+            SELECT c.id AS id, c.name AS name, CAST(c.specialization AS String) AS specialization,
+                   c.shortDescription AS shortDescription, c.description AS description,
+                   c.imgUrl AS imgUrl, c.updatedDate AS updatedDate, SIZE(c.users) AS enrollmentCount
+            FROM Course c
+            """;
+
+    /**
+     * Search index: one course with its enrolment count
+     */
+    @Query(SEARCH_SELECT + "WHERE c.id = :id")
+    Optional<CourseSearchProjection> findSearchDocumentById(@Param("id") String id);
+
+    /**
+     * Search index batch: courses with ID after afterId, in ID order
+     */
+    @Query(SEARCH_SELECT + "WHERE c.id > :afterId ORDER BY c.id")
+    List<CourseSearchProjection> findSearchDocumentsAfter(@Param("afterId") String afterId, Limit limit);
+
+    // Catalog full-text search building blocks (see migration/add_catalog_search.sql).
+    // Native filters take '' / 0 for "any" so no untyped NULL is bound.
+    String CATALOG_MATCHES = """
+            FROM course c
+            WHERE c.search_vector @@ websearch_to_tsquery('simple', search_normalize(:keyword))
+              AND (:specialization = '' OR c.specialization = :specialization)
+              AND (:semester = 0 OR c.semester = :semester)
+            """;
+
+    String CATALOG_RANKED = """
+            SELECT c.id AS id, ts_rank(c.search_vector, websearch_to_tsquery('simple', search_normalize(:keyword))) AS rank
+            """ + CATALOG_MATCHES;
+
+    // Catalog browse (no keyword), by name; null filters are skipped
+    String CATALOG_BROWSE = """
+            SELECT c FROM Course c
+            WHERE (:specialization IS NULL OR c.specialization = :specialization)
+              AND (:semester IS NULL OR c.semester = :semester)
+            """;
+
+    /**
+     * Catalog full-text search, first page (native, search_vector is not mapped on the entity).
+     * Order is rank DESC, id DESC so the After query can seek on (rank, id).
+     */
+    @Query(value = CATALOG_RANKED + """
+            ORDER BY rank DESC, id DESC
+            LIMIT :limit
+            """,
+            nativeQuery = true)
+    List<CourseCatalogHitProjection> searchCatalogHits(@Param("keyword") String keyword,
+                                                       @Param("specialization") String specialization,
+                                                       @Param("semester") int semester,
+                                                       @Param("limit") int limit);
+
+    @Query(value = "SELECT r.id, r.rank FROM (" + CATALOG_RANKED + """
+            ) r
+            WHERE r.rank < :rank OR (r.rank = :rank AND r.id < :id)
+            ORDER BY r.rank DESC, r.id DESC
+            LIMIT :limit
+            """,
+            nativeQuery = true)
+    List<CourseCatalogHitProjection> searchCatalogHitsAfter(@Param("keyword") String keyword,
+                                                            @Param("specialization") String specialization,
+                                                            @Param("semester") int semester,
+                                                            @Param("rank") float rank,
+                                                            @Param("id") String id,
+                                                            @Param("limit") int limit);
+
+    @Query(value = "SELECT COUNT(*) " + CATALOG_MATCHES, nativeQuery = true)
+    long countCatalogHits(@Param("keyword") String keyword,
+                          @Param("specialization") String specialization,
+                          @Param("semester") int semester);
+
+    /**
+     * Catalog browse, first page: courses by name, then ID
+     */
+    @Query(CATALOG_BROWSE + "ORDER BY c.name ASC, c.id ASC")
+    List<Course> browseCatalogFirstPage(@Param("specialization") Specialization specialization,
+                                        @Param("semester") Integer semester,
+                                        Limit limit);
+
+    @Query(CATALOG_BROWSE + """
+              AND (c.name > :name OR (c.name = :name AND c.id > :id))
+            ORDER BY c.name ASC, c.id ASC
+            """)
+    List<Course> browseCatalogAfter(@Param("specialization") Specialization specialization,
+                                    @Param("semester") Integer semester,
+                                    @Param("name") String name,
+                                    @Param("id") String id,
+                                    Limit limit);
+
+    @Query("""
+            SELECT COUNT(c) FROM Course c
+            WHERE (:specialization IS NULL OR c.specialization = :specialization)
+              AND (:semester IS NULL OR c.semester = :semester)
+            """)
+    long countCatalog(@Param("specialization") Specialization specialization,
+                      @Param("semester") Integer semester);
 }
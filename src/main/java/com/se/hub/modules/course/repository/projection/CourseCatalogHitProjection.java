@@ -0,0 +1,10 @@
+package com.se.hub.modules.course.repository.projection;
+
+/**
+ * Catalog search hit: course ID and ts_rank relevance.
+ * Courses are loaded separately for the page's IDs only.
+ */
+public interface CourseCatalogHitProjection {
+    String getId();
+    Float getRank();
+}
@@ -0,0 +1,12 @@
+package com.se.hub.modules.course.repository.projection;
+
+import java.time.Instant;
+
+/**
+ * Change markers of a course list (conditional GET validator):
+ * newest update and course count (deletions, enrolment changes)
+ */
+public interface CourseCatalogVersionProjection {
+    Instant getLastModified();
+    long getCourseCount();
+}
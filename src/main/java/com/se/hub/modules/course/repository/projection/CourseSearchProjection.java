@@ -0,0 +1,18 @@
+package com.se.hub.modules.course.repository.projection;
+
+import java.time.Instant;
+
+/**
+ * Searchable course fields for the search index, with the enrolment count
+ * that ranks course name suggestions
+ */
+public interface CourseSearchProjection {
+    String getId();
+    String getName();
+    String getSpecialization();
+    String getShortDescription();
+    String getDescription();
+    String getImgUrl();
+    Instant getUpdatedDate();
+    int getEnrollmentCount();
+}
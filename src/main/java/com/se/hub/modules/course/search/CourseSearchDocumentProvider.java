@@ -0,0 +1,67 @@
+package com.se.hub.modules.course.search;
+
+import com.se.hub.modules.course.entity.Course;
+import com.se.hub.modules.course.repository.CourseRepository;
+import com.se.hub.modules.course.repository.projection.CourseSearchProjection;
+import com.se.hub.modules.search.enums.SearchTarget;
+import com.se.hub.modules.search.index.SearchDocument;
+import com.se.hub.modules.search.index.SearchDocumentProvider;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Courses for the search index: name, specialization as keyword, description as body.
+ * The name is also the suggestion, ranked by the number of enrolled users.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CourseSearchDocumentProvider implements SearchDocumentProvider {
+    CourseRepository courseRepository;
+
+    @Override
+    public SearchTarget getTarget() {
+        return SearchTarget.COURSE;
+    }
+
+    @Override
+    public Class<?> getEntityType() {
+        return Course.class;
+    }
+
+    @Override
+    public Optional<SearchDocument> load(String id) {
+        return courseRepository.findSearchDocumentById(id).map(this::toDocument);
+    }
+
+    @Override
+    public List<SearchDocument> loadBatch(String afterId, int batchSize) {
+        return courseRepository.findSearchDocumentsAfter(afterId, Limit.of(batchSize)).stream()
+                .map(this::toDocument)
+                .toList();
+    }
+
+    private SearchDocument toDocument(CourseSearchProjection course) {
+        String summary = course.getShortDescription() != null && !course.getShortDescription().isBlank()
+                ? course.getShortDescription()
+                : course.getDescription();
+        return SearchDocument.builder()
+                .target(SearchTarget.COURSE)
+                .id(course.getId())
+                .title(course.getName())
+                .keywords(course.getSpecialization())
+                .body(course.getDescription())
+                .summary(summary)
+                .imageUrl(course.getImgUrl())
+                .updatedDate(course.getUpdatedDate())
+                .suggestion(course.getName())
+                .popularity(course.getEnrollmentCount())
+                .build();
+    }
+}
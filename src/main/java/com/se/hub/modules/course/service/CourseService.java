@@ -1,7 +1,9 @@
 package com.se.hub.modules.course.service;
 
+import com.se.hub.common.dto.ResourceVersion;
 import com.se.hub.common.dto.request.PagingRequest;
 import com.se.hub.common.dto.response.PagingResponse;
+import com.se.hub.modules.course.dto.request.CourseSearchRequest;
 import com.se.hub.modules.course.dto.request.CreateCourseRequest;
 import com.se.hub.modules.course.dto.request.UpdateCourseRequest;
 import com.se.hub.modules.course.dto.response.CourseResponse;
@@ -12,6 +14,20 @@ public interface CourseService {
     CourseResponse getById(String courseId);
     PagingResponse<CourseResponse> getCoursesByUserId(String userId, PagingRequest request);
     PagingResponse<CourseResponse> getCourses(PagingRequest request);
+
+    /**
+     * Catalog search over courses with cursor paging (a null cursor means the first page).
+     * Ordered by relevance when a keyword is given, by name otherwise.
+     */
+    PagingResponse<CourseResponse> searchCourses(CourseSearchRequest filter, PagingRequest request);
+
+    /**
+     * Validators of a course list page for the current viewer, without loading the courses
+     * @param userId user whose courses are listed, or null for all courses
+     * @param request paging request
+     * @return ResourceVersion, or null when versions are unavailable
+     */
+    ResourceVersion getCatalogVersion(String userId, PagingRequest request);
     CourseResponse updateCoursesById(String courseId, UpdateCourseRequest request);
     void deleteCourseById(String courseId);
 }
@@ -1,10 +1,17 @@
 package com.se.hub.modules.course.service.impl;
 
 import com.se.hub.common.constant.GlobalVariable;
+import com.se.hub.common.constant.PaginationConstants;
+import com.se.hub.common.dto.ResourceVersion;
 import com.se.hub.common.dto.request.PagingRequest;
+import com.se.hub.common.dto.request.SortRequest;
 import com.se.hub.common.dto.response.PagingResponse;
+import com.se.hub.common.enums.ErrorCode;
+import com.se.hub.common.exception.AppException;
 import com.se.hub.common.utils.PagingUtil;
 import com.se.hub.modules.auth.utils.AuthUtils;
+import com.se.hub.modules.course.constant.CourseConstants;
+import com.se.hub.modules.course.dto.request.CourseSearchRequest;
 import com.se.hub.modules.course.dto.request.CreateCourseRequest;
 import com.se.hub.modules.course.dto.request.UpdateCourseRequest;
 import com.se.hub.modules.course.dto.response.CourseResponse;
@@ -15,21 +22,29 @@ import com.se.hub.modules.interaction.service.api.ReactionService;
 import com.se.hub.modules.course.exception.CourseErrorCode;
 import com.se.hub.modules.course.mapper.CourseMapper;
 import com.se.hub.modules.course.repository.CourseRepository;
+import com.se.hub.modules.course.repository.projection.CourseCatalogHitProjection;
+import com.se.hub.modules.course.repository.projection.CourseCatalogVersionProjection;
 import com.se.hub.modules.course.service.CourseService;
 import com.se.hub.modules.document.repository.DocumentRepository;
 import com.se.hub.modules.document.entity.Document;
+import com.se.hub.modules.search.utils.SearchTextUtil;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -141,6 +156,148 @@ public class CourseServiceImpl implements CourseService {
         return buildPagingResponse(courses);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PagingResponse<CourseResponse> searchCourses(CourseSearchRequest filter, PagingRequest request) {
+        if (filter == null || request == null) {
+            throw new AppException(ErrorCode.DATA_INVALID);
+        }
+        if (request.getPageSize() < PaginationConstants.MIN_PAGE_SIZE) {
+            throw new AppException(ErrorCode.PAGE_SIZE_INVALID);
+        }
+        Integer semester = filter.getSemester();
+        if (semester != null && (semester < CourseConstants.SEMESTER_MIN || semester > CourseConstants.SEMESTER_MAX)) {
+            log.error("CourseService_searchCourses_Invalid semester filter: {}", semester);
+            throw CourseErrorCode.COURSE_SEMESTER_INVALID.toException();
+        }
+
+        String keyword = SearchTextUtil.normalizeQuery(filter.getKeyword());
+        log.debug("CourseService_searchCourses_Searching courses for '{}' with page size: {}",
+                keyword, request.getPageSize());
+        return keyword.isEmpty()
+                ? browseCatalog(filter, request)
+                : searchCatalog(keyword, filter, request);
+    }
+
+    /**
+     * Keyset page of full-text hits, seeking on (rank, id) from the cursor
+     */
+    private PagingResponse<CourseResponse> searchCatalog(String keyword, CourseSearchRequest filter, PagingRequest request) {
+        int pageSize = request.getPageSize();
+        // Native catalog filters take '' / 0 for "any"
+        String specialization = filter.getSpecialization() != null ? filter.getSpecialization().name() : "";
+        int semester = filter.getSemester() != null ? filter.getSemester() : CourseConstants.CATALOG_ANY_SEMESTER;
+        String[] cursor = PagingUtil.decodeCursor(request.getCursor());
+
+        List<CourseCatalogHitProjection> rows;
+        try {
+            rows = cursor == null
+                    ? courseRepository.searchCatalogHits(keyword, specialization, semester, pageSize + 1)
+                    : courseRepository.searchCatalogHitsAfter(keyword, specialization, semester,
+                            Float.parseFloat(cursor[0]), cursor[1], pageSize + 1);
+        } catch (NumberFormatException e) {
+            log.error("CourseService_searchCatalog_Invalid search cursor");
+            throw new AppException(ErrorCode.PAGE_CURSOR_INVALID);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<CourseCatalogHitProjection> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            CourseCatalogHitProjection last = page.get(page.size() - 1);
+            nextCursor = PagingUtil.encodeCursor(String.valueOf(last.getRank()), last.getId());
+        }
+
+        List<String> courseIds = page.stream().map(CourseCatalogHitProjection::getId).toList();
+        Map<String, Course> courseMap = courseRepository.findAllById(courseIds).stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity()));
+        List<Course> courses = courseIds.stream()
+                .map(courseMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        Long total = Boolean.TRUE.equals(request.getIncludeTotal())
+                ? courseRepository.countCatalogHits(keyword, specialization, semester)
+                : null;
+        return buildCursorPagingResponse(courses, pageSize, hasNext, nextCursor, total);
+    }
+
+    /**
+     * Keyset page of filtered courses by name, seeking on (name, id) from the cursor
+     */
+    private PagingResponse<CourseResponse> browseCatalog(CourseSearchRequest filter, PagingRequest request) {
+        int pageSize = request.getPageSize();
+        String[] cursor = PagingUtil.decodeCursor(request.getCursor());
+
+        List<Course> rows = cursor == null
+                ? courseRepository.browseCatalogFirstPage(filter.getSpecialization(), filter.getSemester(),
+                        Limit.of(pageSize + 1))
+                : courseRepository.browseCatalogAfter(filter.getSpecialization(), filter.getSemester(),
+                        cursor[0], cursor[1], Limit.of(pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Course> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Course last = page.get(page.size() - 1);
+            nextCursor = PagingUtil.encodeCursor(last.getName(), last.getId());
+        }
+
+        Long total = Boolean.TRUE.equals(request.getIncludeTotal())
+                ? courseRepository.countCatalog(filter.getSpecialization(), filter.getSemester())
+                : null;
+        return buildCursorPagingResponse(page, pageSize, hasNext, nextCursor, total);
+    }
+
+    /**
+     * Cursor paging response with reactions; totals only when counted
+     */
+    private PagingResponse<CourseResponse> buildCursorPagingResponse(List<Course> courses, int pageSize,
+                                                                     boolean hasNext, String nextCursor, Long total) {
+        String currentUserId = AuthUtils.getCurrentUserId();
+        List<String> courseIds = courses.stream().map(Course::getId).toList();
+        Map<String, ReactionInfo> reactionsMap = reactionService
+                .getReactionsForTargets(TargetType.COURSE, courseIds, currentUserId);
+
+        PagingResponse.PagingResponseBuilder<CourseResponse> builder = PagingResponse.<CourseResponse>builder()
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .data(courses.stream()
+                        .map(course -> {
+                            CourseResponse response = courseMapper.toCourseResponse(course);
+                            response.setReactions(reactionsMap.getOrDefault(
+                                    course.getId(),
+                                    ReactionInfo.builder().userReacted(false).type(null).build()
+                            ));
+                            return response;
+                        })
+                        .toList());
+        if (total != null) {
+            builder.totalElement(total)
+                    .totalPages((int) ((total + pageSize - 1) / pageSize));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public ResourceVersion getCatalogVersion(String userId, PagingRequest request) {
+        String currentUserId = AuthUtils.getCurrentUserIdOrNull();
+        Long reactionsVersion = reactionService.getUserReactionsVersion(TargetType.COURSE, currentUserId);
+        if (reactionsVersion == null) {
+            return null;
+        }
+        CourseCatalogVersionProjection catalog = userId == null
+                ? courseRepository.findCatalogVersion()
+                : courseRepository.findCatalogVersionByUserId(userId);
+        SortRequest sort = request.getSortRequest();
+        return ResourceVersion.of(
+                ResourceVersion.latest(catalog.getLastModified(), Instant.ofEpochMilli(reactionsVersion)),
+                userId, catalog.getLastModified(), catalog.getCourseCount(),
+                currentUserId, reactionsVersion, request.getPage(), request.getPageSize(),
+                sort != null ? sort.getDirection() : null, sort != null ? sort.getField() : null);
+    }
+
     @Override
     @Transactional
     public CourseResponse updateCoursesById(String courseId, UpdateCourseRequest request) {
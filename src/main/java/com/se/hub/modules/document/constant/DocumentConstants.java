@@ -1,5 +1,7 @@
 package com.se.hub.modules.document.constant;
 
+import java.time.Instant;
+
 public class DocumentConstants {
     public static final String TABLE_DOCUMENT = "documents";
 
@@ -34,6 +36,10 @@ public class DocumentConstants {
     public static final long IMAGE_MAX_FILE_SIZE_BYTES = 5L * 1024 * 1024;
     public static final int IMAGE_MAX_FILE_SIZE_MB = 5;
 
+    // Catalog search: date range used when the filter leaves a bound open
+    public static final Instant CATALOG_MIN_CREATE_DATE = Instant.EPOCH;
+    public static final Instant CATALOG_MAX_CREATE_DATE = Instant.parse("9999-12-31T00:00:00Z");
+
     private DocumentConstants() {}
 }
 
@@ -33,6 +33,7 @@ public class DocumentMessageConstants {
     public static final String API_DOCUMENT_SUGGESTED_SUCCESS = "Retrieved suggested documents successfully";
     public static final String API_DOCUMENT_PENDING_RETRIEVED_SUCCESS = "Retrieved pending documents successfully";
     public static final String API_DOCUMENT_APPROVED_SUCCESS = "Document approved successfully";
+    public static final String API_DOCUMENT_SEARCH_SUCCESS = "Searched documents successfully";
     public static final String API_DOCUMENT_IMAGE_UPLOAD_SUCCESS = "Image uploaded successfully";
     public static final String API_BAD_REQUEST = "Bad request";
     public static final String API_INTERNAL_ERROR = "Internal server error";
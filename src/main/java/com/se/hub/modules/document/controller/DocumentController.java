@@ -11,7 +11,9 @@ import com.se.hub.common.dto.request.SortRequest;
 import com.se.hub.common.dto.response.GenericResponse;
 import com.se.hub.common.dto.response.PagingResponse;
 import com.se.hub.modules.document.constant.DocumentMessageConstants;
+import com.se.hub.modules.course.enums.Specialization;
 import com.se.hub.modules.document.dto.request.CreateDocumentRequest;
+import com.se.hub.modules.document.dto.request.DocumentSearchRequest;
 import com.se.hub.modules.document.dto.request.UpdateDocumentRequest;
 import com.se.hub.modules.document.dto.response.DocumentResponse;
 import com.se.hub.modules.document.service.DocumentService;
@@ -24,6 +26,7 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -37,6 +40,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Instant;
 import java.util.List;
 
 @Slf4j
@@ -104,6 +108,44 @@ public class DocumentController extends BaseController {
         return success(documentService.getAllDocuments(request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Search documents",
+            description = "Search approved documents by keyword (document name, description, semester, major; accents optional) "
+                    + "and filters. Ordered by relevance with a keyword, newest first without one. "
+                    + "Cursor paging: pass nextCursor to get the next page; totals are only returned with includeTotal=true")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200, description = DocumentMessageConstants.API_DOCUMENT_SEARCH_SUCCESS),
+            @ApiResponse(responseCode = ResponseCode.BAD_REQUEST_400, description = DocumentMessageConstants.API_BAD_REQUEST),
+            @ApiResponse(responseCode = ResponseCode.INTERNAL_ERROR_500, description = DocumentMessageConstants.API_INTERNAL_ERROR)
+    })
+    public ResponseEntity<GenericResponse<PagingResponse<DocumentResponse>>> searchDocuments(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String courseId,
+            @RequestParam(required = false) Specialization specialization,
+            @RequestParam(required = false) String uploadedBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdTo,
+            @RequestParam(value = PaginationConstants.PARAM_SIZE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(value = PaginationConstants.PARAM_CURSOR, required = false) String cursor,
+            @RequestParam(value = PaginationConstants.PARAM_INCLUDE_TOTAL, required = false) Boolean includeTotal
+    ) {
+        DocumentSearchRequest filter = DocumentSearchRequest.builder()
+                .keyword(keyword)
+                .courseId(courseId)
+                .specialization(specialization)
+                .uploadedBy(uploadedBy)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .build();
+        PagingRequest request = PagingRequest.builder()
+                .pageSize(size)
+                .cursor(cursor)
+                .includeTotal(includeTotal)
+                .build();
+
+        return success(documentService.searchDocuments(filter, request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+    }
+
     @GetMapping("/{documentId}")
     @Operation(summary = "Get document by ID",
             description = "Get document information by document ID (only approved documents)")
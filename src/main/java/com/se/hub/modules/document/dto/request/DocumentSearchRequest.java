@@ -0,0 +1,43 @@
+package com.se.hub.modules.document.dto.request;
+
+import com.se.hub.modules.course.enums.Specialization;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+
+/**
+ * Document catalog search filters. Every field is optional; without a keyword
+ * the matching approved documents are listed newest first.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class DocumentSearchRequest {
+    /**
+     * Full-text query (web search syntax: quoted phrases, OR, -word), accents optional
+     */
+    String keyword;
+    String courseId;
+    Specialization specialization;
+    /**
+     * Uploader user ID
+     */
+    String uploadedBy;
+    /**
+     * Created at or after (inclusive)
+     */
+    Instant createdFrom;
+    /**
+     * Created before (exclusive)
+     */
+    Instant createdTo;
+}
@@ -5,8 +5,10 @@ import com.se.hub.common.entity.BaseEntity;
 import com.se.hub.modules.course.entity.Course;
 import com.se.hub.modules.document.constant.DocumentConstants;
 import com.se.hub.modules.document.constant.DocumentErrorCodeConstants;
+import com.se.hub.modules.search.listener.SearchIndexEntityListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -30,6 +32,7 @@ import lombok.experimental.FieldDefaults;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Table(name = DocumentConstants.TABLE_DOCUMENT)
 @Entity
+@EntityListeners(SearchIndexEntityListener.class)
 public class Document extends BaseEntity {
     @NotNull(message = DocumentErrorCodeConstants.DOCUMENT_COURSE_INVALID)
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,17 +1,49 @@
 package com.se.hub.modules.document.repository;
 
+import com.se.hub.modules.course.enums.Specialization;
 import com.se.hub.modules.document.entity.Document;
+import com.se.hub.modules.document.repository.projection.DocumentCatalogHitProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface DocumentRepository extends JpaRepository<Document, String> {
+    // Catalog full-text search building blocks (see migration/add_catalog_search.sql).
+    // Native filters take '' for "any" so no untyped NULL is bound; the date range is always bounded.
+    String CATALOG_MATCHES = """
+            FROM documents d
+            JOIN course c ON c.id = d.course_id
+            WHERE d.is_approved = true
+              AND d.search_vector @@ websearch_to_tsquery('simple', search_normalize(:keyword))
+              AND (:courseId = '' OR d.course_id = :courseId)
+              AND (:specialization = '' OR c.specialization = :specialization)
+              AND (:uploadedBy = '' OR d.uploaded_by = :uploadedBy)
+              AND d.create_date >= :createdFrom AND d.create_date < :createdTo
+            """;
+
+    String CATALOG_RANKED = """
+            SELECT d.id AS id, ts_rank(d.search_vector, websearch_to_tsquery('simple', search_normalize(:keyword))) AS rank
+            """ + CATALOG_MATCHES;
+
+    // Catalog browse (no keyword), newest first; null filters are skipped
+    String CATALOG_BROWSE_WHERE = """
+            WHERE d.isApproved = true
+              AND (:courseId IS NULL OR c.id = :courseId)
+              AND (:specialization IS NULL OR c.specialization = :specialization)
+              AND (:uploadedBy IS NULL OR d.uploadedBy = :uploadedBy)
+              AND d.createDate >= :createdFrom AND d.createDate < :createdTo
+            """;
+
     /**
      * Get all approved documents by course ID with pagination
      */
@@ -43,6 +75,91 @@ public interface DocumentRepository extends JpaRepository<Document, String> {
            "LOWER(d.descript) LIKE LOWER(CONCAT('%', :keyword, '%')))")
     List<Document> searchApprovedByKeyword(@Param("keyword") String keyword);
 
+    /**
+     * Catalog full-text search, first page (native, search_vector is not mapped on the entity).
+     * Order is rank DESC, id DESC so the After query can seek on (rank, id).
+     */
+    @Query(value = CATALOG_RANKED + """
+            ORDER BY rank DESC, id DESC
+            LIMIT :limit
+            """,
+            nativeQuery = true)
+    List<DocumentCatalogHitProjection> searchCatalogHits(@Param("keyword") String keyword,
+                                                         @Param("courseId") String courseId,
+                                                         @Param("specialization") String specialization,
+                                                         @Param("uploadedBy") String uploadedBy,
+                                                         @Param("createdFrom") Instant createdFrom,
+                                                         @Param("createdTo") Instant createdTo,
+                                                         @Param("limit") int limit);
+
+    @Query(value = "SELECT r.id, r.rank FROM (" + CATALOG_RANKED + """
+            ) r
+            WHERE r.rank < :rank OR (r.rank = :rank AND r.id < :id)
+            ORDER BY r.rank DESC, r.id DESC
+            LIMIT :limit
+            """,
+            nativeQuery = true)
+    List<DocumentCatalogHitProjection> searchCatalogHitsAfter(@Param("keyword") String keyword,
+                                                              @Param("courseId") String courseId,
+                                                              @Param("specialization") String specialization,
+                                                              @Param("uploadedBy") String uploadedBy,
+                                                              @Param("createdFrom") Instant createdFrom,
+                                                              @Param("createdTo") Instant createdTo,
+                                                              @Param("rank") float rank,
+                                                              @Param("id") String id,
+                                                              @Param("limit") int limit);
+
+    @Query(value = "SELECT COUNT(*) " + CATALOG_MATCHES, nativeQuery = true)
+    long countCatalogHits(@Param("keyword") String keyword,
+                          @Param("courseId") String courseId,
+                          @Param("specialization") String specialization,
+                          @Param("uploadedBy") String uploadedBy,
+                          @Param("createdFrom") Instant createdFrom,
+                          @Param("createdTo") Instant createdTo);
+
+    /**
+     * Catalog browse, first page: approved documents newest first (partial create_date indexes)
+     */
+    @Query("SELECT d FROM Document d JOIN FETCH d.course c " + CATALOG_BROWSE_WHERE
+            + "ORDER BY d.createDate DESC, d.id DESC")
+    List<Document> browseCatalogFirstPage(@Param("courseId") String courseId,
+                                          @Param("specialization") Specialization specialization,
+                                          @Param("uploadedBy") String uploadedBy,
+                                          @Param("createdFrom") Instant createdFrom,
+                                          @Param("createdTo") Instant createdTo,
+                                          Limit limit);
+
+    @Query("SELECT d FROM Document d JOIN FETCH d.course c " + CATALOG_BROWSE_WHERE + """
+              AND (d.createDate < :createDate OR (d.createDate = :createDate AND d.id < :id))
+            ORDER BY d.createDate DESC, d.id DESC
+            """)
+    List<Document> browseCatalogAfter(@Param("courseId") String courseId,
+                                      @Param("specialization") Specialization specialization,
+                                      @Param("uploadedBy") String uploadedBy,
+                                      @Param("createdFrom") Instant createdFrom,
+                                      @Param("createdTo") Instant createdTo,
+                                      @Param("createDate") Instant createDate,
+                                      @Param("id") String id,
+                                      Limit limit);
+
+    @Query("SELECT COUNT(d) FROM Document d JOIN d.course c " + CATALOG_BROWSE_WHERE)
+    long countCatalog(@Param("courseId") String courseId,
+                      @Param("specialization") Specialization specialization,
+                      @Param("uploadedBy") String uploadedBy,
+                      @Param("createdFrom") Instant createdFrom,
+                      @Param("createdTo") Instant createdTo);
+
+    /**
+     * Documents with their course, for hydrating catalog search hits
+     */
+    @EntityGraph(attributePaths = "course")
+    List<Document> findWithCourseByIdIn(Collection<String> ids);
+
+    /**
+     * Search index batch: approved documents with ID after afterId, in ID order
+     */
+    List<Document> findByIsApprovedTrueAndIdGreaterThanOrderByIdAsc(String afterId, Limit limit);
+
     /**
      * Check if document exists and is approved
      */
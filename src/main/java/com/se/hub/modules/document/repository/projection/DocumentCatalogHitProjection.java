@@ -0,0 +1,10 @@
+package com.se.hub.modules.document.repository.projection;
+
+/**
+ * Catalog search hit: document ID and ts_rank relevance.
+ * Documents are loaded separately for the page's IDs only.
+ */
+public interface DocumentCatalogHitProjection {
+    String getId();
+    Float getRank();
+}
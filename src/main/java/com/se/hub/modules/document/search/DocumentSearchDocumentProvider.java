@@ -0,0 +1,63 @@
+package com.se.hub.modules.document.search;
+
+import com.se.hub.modules.document.entity.Document;
+import com.se.hub.modules.document.repository.DocumentRepository;
+import com.se.hub.modules.search.enums.SearchTarget;
+import com.se.hub.modules.search.index.SearchDocument;
+import com.se.hub.modules.search.index.SearchDocumentProvider;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Approved documents for the search index: name, major and semester as keywords, description as body
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class DocumentSearchDocumentProvider implements SearchDocumentProvider {
+    DocumentRepository documentRepository;
+
+    @Override
+    public SearchTarget getTarget() {
+        return SearchTarget.DOCUMENT;
+    }
+
+    @Override
+    public Class<?> getEntityType() {
+        return Document.class;
+    }
+
+    @Override
+    public Optional<SearchDocument> load(String id) {
+        return documentRepository.findById(id)
+                .filter(document -> Boolean.TRUE.equals(document.getIsApproved()))
+                .map(this::toDocument);
+    }
+
+    @Override
+    public List<SearchDocument> loadBatch(String afterId, int batchSize) {
+        return documentRepository.findByIsApprovedTrueAndIdGreaterThanOrderByIdAsc(afterId, Limit.of(batchSize)).stream()
+                .map(this::toDocument)
+                .toList();
+    }
+
+    private SearchDocument toDocument(Document document) {
+        return SearchDocument.builder()
+                .target(SearchTarget.DOCUMENT)
+                .id(document.getId())
+                .title(document.getDocumentName())
+                .keywords(String.join(" ",
+                        document.getMajor() != null ? document.getMajor() : "",
+                        document.getSemester() != null ? document.getSemester() : ""))
+                .body(document.getDescript())
+                .summary(document.getDescript())
+                .updatedDate(document.getUpdatedDate())
+                .build();
+    }
+}
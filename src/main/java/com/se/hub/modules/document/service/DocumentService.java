@@ -3,6 +3,7 @@ package com.se.hub.modules.document.service;
 import com.se.hub.common.dto.request.PagingRequest;
 import com.se.hub.common.dto.response.PagingResponse;
 import com.se.hub.modules.document.dto.request.CreateDocumentRequest;
+import com.se.hub.modules.document.dto.request.DocumentSearchRequest;
 import com.se.hub.modules.document.dto.request.UpdateDocumentRequest;
 import com.se.hub.modules.document.dto.response.DocumentResponse;
 
@@ -32,6 +33,12 @@ public interface DocumentService {
      */
     PagingResponse<DocumentResponse> getAllDocuments(PagingRequest request);
 
+    /**
+     * Catalog search over approved documents with cursor paging (a null cursor means the first page).
+     * Ordered by relevance when a keyword is given, newest first otherwise.
+     */
+    PagingResponse<DocumentResponse> searchDocuments(DocumentSearchRequest filter, PagingRequest request);
+
     /**
      * Get 4 latest documents by created date (only approved documents)
      */
@@ -1,13 +1,18 @@
 package com.se.hub.modules.document.service.impl;
 
 import com.se.hub.common.constant.GlobalVariable;
+import com.se.hub.common.constant.PaginationConstants;
 import com.se.hub.common.dto.request.PagingRequest;
 import com.se.hub.common.dto.response.PagingResponse;
+import com.se.hub.common.enums.ErrorCode;
+import com.se.hub.common.exception.AppException;
 import com.se.hub.common.utils.PagingUtil;
 import com.se.hub.modules.auth.utils.AuthUtils;
 import com.se.hub.modules.course.entity.Course;
 import com.se.hub.modules.course.repository.CourseRepository;
+import com.se.hub.modules.document.constant.DocumentConstants;
 import com.se.hub.modules.document.dto.request.CreateDocumentRequest;
+import com.se.hub.modules.document.dto.request.DocumentSearchRequest;
 import com.se.hub.modules.document.dto.request.UpdateDocumentRequest;
 import com.se.hub.modules.document.dto.response.DocumentResponse;
 import com.se.hub.modules.document.entity.Document;
@@ -17,12 +22,15 @@ import com.se.hub.modules.interaction.service.api.ReactionService;
 import com.se.hub.modules.document.exception.DocumentErrorCode;
 import com.se.hub.modules.document.mapper.DocumentMapper;
 import com.se.hub.modules.document.repository.DocumentRepository;
+import com.se.hub.modules.document.repository.projection.DocumentCatalogHitProjection;
 import com.se.hub.modules.document.service.DocumentService;
 import com.se.hub.modules.document.service.GoogleDriveService;
+import com.se.hub.modules.search.utils.SearchTextUtil;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -31,11 +39,17 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.se.hub.modules.document.constant.DocumentConstants.DOCUMENT_MAX_FILE_SIZE_BYTES;
 import static com.se.hub.modules.document.constant.DocumentConstants.DOCUMENT_MAX_FILE_SIZE_MB;
@@ -211,6 +225,151 @@ public class DocumentServiceImpl implements DocumentService {
         return buildPagingResponse(documents);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PagingResponse<DocumentResponse> searchDocuments(DocumentSearchRequest filter, PagingRequest request) {
+        if (filter == null || request == null) {
+            throw new AppException(ErrorCode.DATA_INVALID);
+        }
+        if (request.getPageSize() < PaginationConstants.MIN_PAGE_SIZE) {
+            throw new AppException(ErrorCode.PAGE_SIZE_INVALID);
+        }
+
+        Instant createdFrom = filter.getCreatedFrom() != null ? filter.getCreatedFrom() : DocumentConstants.CATALOG_MIN_CREATE_DATE;
+        Instant createdTo = filter.getCreatedTo() != null ? filter.getCreatedTo() : DocumentConstants.CATALOG_MAX_CREATE_DATE;
+        if (!createdFrom.isBefore(createdTo)) {
+            log.error("DocumentService_searchDocuments_Invalid date range from {} to {}", createdFrom, createdTo);
+            throw new AppException(ErrorCode.DATA_INVALID);
+        }
+
+        String keyword = SearchTextUtil.normalizeQuery(filter.getKeyword());
+        log.debug("DocumentService_searchDocuments_Searching documents for '{}' with page size: {}",
+                keyword, request.getPageSize());
+        return keyword.isEmpty()
+                ? browseCatalog(filter, createdFrom, createdTo, request)
+                : searchCatalog(keyword, filter, createdFrom, createdTo, request);
+    }
+
+    /**
+     * Keyset page of full-text hits, seeking on (rank, id) from the cursor
+     */
+    private PagingResponse<DocumentResponse> searchCatalog(String keyword, DocumentSearchRequest filter,
+                                                           Instant createdFrom, Instant createdTo, PagingRequest request) {
+        int pageSize = request.getPageSize();
+        String courseId = anyIfBlank(filter.getCourseId());
+        String specialization = filter.getSpecialization() != null ? filter.getSpecialization().name() : "";
+        String uploadedBy = anyIfBlank(filter.getUploadedBy());
+        String[] cursor = PagingUtil.decodeCursor(request.getCursor());
+
+        List<DocumentCatalogHitProjection> rows;
+        try {
+            rows = cursor == null
+                    ? documentRepository.searchCatalogHits(keyword, courseId, specialization, uploadedBy,
+                            createdFrom, createdTo, pageSize + 1)
+                    : documentRepository.searchCatalogHitsAfter(keyword, courseId, specialization, uploadedBy,
+                            createdFrom, createdTo, Float.parseFloat(cursor[0]), cursor[1], pageSize + 1);
+        } catch (NumberFormatException e) {
+            log.error("DocumentService_searchCatalog_Invalid search cursor");
+            throw new AppException(ErrorCode.PAGE_CURSOR_INVALID);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<DocumentCatalogHitProjection> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            DocumentCatalogHitProjection last = page.get(page.size() - 1);
+            nextCursor = PagingUtil.encodeCursor(String.valueOf(last.getRank()), last.getId());
+        }
+
+        // Hydrate in rank order, with courses in the same query
+        List<String> documentIds = page.stream().map(DocumentCatalogHitProjection::getId).toList();
+        Map<String, Document> documentMap = documentRepository.findWithCourseByIdIn(documentIds).stream()
+                .collect(Collectors.toMap(Document::getId, Function.identity()));
+        List<Document> documents = documentIds.stream()
+                .map(documentMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        Long total = Boolean.TRUE.equals(request.getIncludeTotal())
+                ? documentRepository.countCatalogHits(keyword, courseId, specialization, uploadedBy, createdFrom, createdTo)
+                : null;
+        return buildCursorPagingResponse(documents, pageSize, hasNext, nextCursor, total);
+    }
+
+    /**
+     * Keyset page of filtered approved documents, newest first, seeking on (createDate, id) from the cursor
+     */
+    private PagingResponse<DocumentResponse> browseCatalog(DocumentSearchRequest filter, Instant createdFrom,
+                                                           Instant createdTo, PagingRequest request) {
+        int pageSize = request.getPageSize();
+        String courseId = StringUtils.hasText(filter.getCourseId()) ? filter.getCourseId() : null;
+        String uploadedBy = StringUtils.hasText(filter.getUploadedBy()) ? filter.getUploadedBy() : null;
+        String[] cursor = PagingUtil.decodeCursor(request.getCursor());
+
+        List<Document> rows;
+        try {
+            rows = cursor == null
+                    ? documentRepository.browseCatalogFirstPage(courseId, filter.getSpecialization(), uploadedBy,
+                            createdFrom, createdTo, Limit.of(pageSize + 1))
+                    : documentRepository.browseCatalogAfter(courseId, filter.getSpecialization(), uploadedBy,
+                            createdFrom, createdTo, Instant.parse(cursor[0]), cursor[1], Limit.of(pageSize + 1));
+        } catch (DateTimeParseException e) {
+            log.error("DocumentService_browseCatalog_Invalid catalog cursor");
+            throw new AppException(ErrorCode.PAGE_CURSOR_INVALID);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Document> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Document last = page.get(page.size() - 1);
+            nextCursor = PagingUtil.encodeCursor(last.getCreateDate().toString(), last.getId());
+        }
+
+        Long total = Boolean.TRUE.equals(request.getIncludeTotal())
+                ? documentRepository.countCatalog(courseId, filter.getSpecialization(), uploadedBy, createdFrom, createdTo)
+                : null;
+        return buildCursorPagingResponse(page, pageSize, hasNext, nextCursor, total);
+    }
+
+    /**
+     * Cursor paging response with reactions; totals only when counted
+     */
+    private PagingResponse<DocumentResponse> buildCursorPagingResponse(List<Document> documents, int pageSize,
+                                                                       boolean hasNext, String nextCursor, Long total) {
+        String currentUserId = AuthUtils.getCurrentUserId();
+        List<String> documentIds = documents.stream().map(Document::getId).toList();
+        Map<String, ReactionInfo> reactionsMap = reactionService
+                .getReactionsForTargets(TargetType.DOCUMENT, documentIds, currentUserId);
+
+        PagingResponse.PagingResponseBuilder<DocumentResponse> builder = PagingResponse.<DocumentResponse>builder()
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .data(documents.stream()
+                        .map(document -> {
+                            DocumentResponse response = documentMapper.toDocumentResponse(document);
+                            response.setReactions(reactionsMap.getOrDefault(
+                                    document.getId(),
+                                    ReactionInfo.builder().userReacted(false).type(null).build()
+                            ));
+                            return response;
+                        })
+                        .toList());
+        if (total != null) {
+            builder.totalElement(total)
+                    .totalPages((int) ((total + pageSize - 1) / pageSize));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Native catalog filters take '' for "any"
+     */
+    private static String anyIfBlank(String value) {
+        return StringUtils.hasText(value) ? value : "";
+    }
+
     @Override
     public List<DocumentResponse> getLatestDocuments() {
         log.debug("DocumentService_getLatestDocuments_Fetching latest documents");
@@ -25,6 +25,9 @@ public class QuestionMessageConstants {
     public static final String API_QUESTION_RANDOM_SUCCESS = "Retrieved random questions successfully";
     public static final String API_QUESTION_UPDATED_SUCCESS = "Question updated successfully";
     public static final String API_QUESTION_DELETED_SUCCESS = "Question deleted successfully";
+    public static final String API_QUESTION_SIMILAR_SUCCESS = "Retrieved similar questions successfully";
+    public static final String API_QUESTION_DEDUPE_REPORT_SUCCESS = "Question dedupe report generated successfully";
+    public static final String API_QUESTION_SIGNATURES_BACKFILLED_SUCCESS = "Question signatures backfilled successfully";
     public static final String API_BAD_REQUEST = "Bad request";
     public static final String API_INTERNAL_ERROR = "Internal server error";
 
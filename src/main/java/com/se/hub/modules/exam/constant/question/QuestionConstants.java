@@ -13,12 +13,16 @@ public class QuestionConstants {
     public static final String COL_CATEGORY = "category";
     public static final String COL_NORMALIZED_TEXT = "normalized_text";
     public static final String COL_CONTENT_HASH = "content_hash";
+    public static final String COL_MINHASH_SIGNATURE = "minhash_signature";
+    public static final String COL_MINHASH_BANDS = "minhash_bands";
 
     //===== COLUMN DEFINITIONS ======
     public static final String CONTENT_DEFINITION = "TEXT";
     public static final String QUESTION_TYPE_DEFINITION = "VARCHAR(30)";
     public static final String DIFFICULTY_DEFINITION = "VARCHAR(30)";
     public static final String CATEGORY_DEFINITION = "VARCHAR(30)";
+    public static final String MINHASH_SIGNATURE_DEFINITION = "BYTEA";
+    public static final String MINHASH_BANDS_DEFINITION = "BIGINT[]";
 
     //===== VALIDATION LIMITS ======
     public static final int CONTENT_MIN_LENGTH = 1;
@@ -26,6 +30,24 @@ public class QuestionConstants {
     public static final int SCORE_MIN = 0;
     public static final int SCORE_MAX = 1000;
 
+    //===== NEAR-DUPLICATE DETECTION (MinHash / LSH) ======
+    // Character shingles of the normalized question + options text
+    public static final int MINHASH_SHINGLE_LENGTH = 5;
+    // 64 min-hashes split into 16 bands of 4 rows: pairs with Jaccard similarity 0.8
+    // share a band with probability ~0.9998, pairs at 0.3 with probability ~0.12
+    public static final int MINHASH_SIGNATURE_SIZE = 64;
+    public static final int MINHASH_BANDS = 16;
+    public static final String DEFAULT_SIMILARITY_THRESHOLD = "0.8";
+    // Candidates fetched per requested question, and per request in total
+    public static final int SIMILAR_CANDIDATE_LIMIT = 500;
+    public static final int SIMILAR_MAX_CANDIDATES = 20_000;
+    // Matches returned per requested question, most similar first
+    public static final int SIMILAR_MAX_MATCHES = 5;
+    public static final int DEDUPE_BATCH_SIZE = 1000;
+    public static final int DEDUPE_MAX_PAGE_SIZE = 100;
+    // Clusters of a dedupe scan are paged from memory for this long before the bank is rescanned
+    public static final long DEDUPE_SNAPSHOT_TTL_SECONDS = 300;
+
     private QuestionConstants() {}
 }
 
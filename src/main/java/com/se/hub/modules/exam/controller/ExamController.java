@@ -47,6 +47,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -89,13 +90,15 @@ public class ExamController extends BaseController {
             @RequestParam(value = PaginationConstants.PARAM_PAGE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE) int page,
             @RequestParam(value = PaginationConstants.PARAM_SIZE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE) int size,
             @RequestParam(required = false, defaultValue = BaseFieldConstant.CREATE_DATE) String field,
-            @RequestParam(required = false, defaultValue = PaginationConstants.DESC) String direction) {
+            @RequestParam(required = false, defaultValue = PaginationConstants.DESC) String direction,
+            WebRequest webRequest) {
         PagingRequest request = PagingRequest.builder()
                 .page(page)
                 .pageSize(size)
                 .sortRequest(new SortRequest(direction, field))
                 .build();
-        return success(examService.getAll(request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+        return conditional(webRequest, examService.getCatalogVersion(null, request),
+                () -> examService.getAll(request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
     }
 
     @GetMapping("/course/{courseId}")
@@ -111,13 +114,15 @@ public class ExamController extends BaseController {
             @RequestParam(value = PaginationConstants.PARAM_PAGE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE) int page,
             @RequestParam(value = PaginationConstants.PARAM_SIZE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE) int size,
             @RequestParam(required = false, defaultValue = BaseFieldConstant.CREATE_DATE) String field,
-            @RequestParam(required = false, defaultValue = PaginationConstants.DESC) String direction) {
+            @RequestParam(required = false, defaultValue = PaginationConstants.DESC) String direction,
+            WebRequest webRequest) {
         PagingRequest request = PagingRequest.builder()
                 .page(page)
                 .pageSize(size)
                 .sortRequest(new SortRequest(direction, field))
                 .build();
-        return success(examService.getByCourseId(courseId, request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+        return conditional(webRequest, examService.getCatalogVersion(courseId, request),
+                () -> examService.getByCourseId(courseId, request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
     }
 
     @GetMapping("/{examId}/questions")
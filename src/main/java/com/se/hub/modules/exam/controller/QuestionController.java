@@ -12,12 +12,16 @@ import com.se.hub.common.dto.response.GenericResponse;
 import com.se.hub.common.dto.response.PagingResponse;
 import com.se.hub.modules.exam.constant.QuestionMessageConstants;
 import com.se.hub.modules.exam.dto.request.CreateQuestionRequest;
+import com.se.hub.modules.exam.dto.request.CreateQuestionsRequest;
 import com.se.hub.modules.exam.dto.request.UpdateQuestionRequest;
+import com.se.hub.modules.exam.dto.response.QuestionDedupeReportResponse;
 import com.se.hub.modules.exam.dto.response.QuestionResponse;
+import com.se.hub.modules.exam.dto.response.SimilarQuestionResponse;
 import com.se.hub.modules.exam.enums.QuestionCategory;
 import com.se.hub.modules.exam.enums.QuestionDifficulty;
 import com.se.hub.modules.exam.enums.QuestionType;
 import com.se.hub.modules.exam.service.QuestionService;
+import com.se.hub.modules.exam.service.QuestionSimilarityService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -51,6 +55,7 @@ import java.util.List;
 @Validated
 public class QuestionController extends BaseController {
     QuestionService questionService;
+    QuestionSimilarityService questionSimilarityService;
 
     @PostMapping
     @Operation(summary = "Create new question",
@@ -238,4 +243,57 @@ public class QuestionController extends BaseController {
         questionService.deleteQuestion(questionId);
         return success(null, MessageCodeConstant.M004_DELETED, MessageConstant.DELETED);
     }
+
+    @PostMapping("/similar")
+    @Operation(summary = "Find similar questions (Admin only)",
+            description = "Bulk near-duplicate check before an import: for each question, existing questions and other "
+                    + "questions of the same request whose estimated similarity reaches the configured threshold")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200, description = QuestionMessageConstants.API_QUESTION_SIMILAR_SUCCESS,
+                    useReturnTypeSchema = true),
+            @ApiResponse(responseCode = ResponseCode.BAD_REQUEST_400, description = QuestionMessageConstants.API_BAD_REQUEST),
+            @ApiResponse(responseCode = ResponseCode.FORBIDDEN_403, description = MessageConstant.FORBIDDEN),
+            @ApiResponse(responseCode = ResponseCode.INTERNAL_ERROR_500, description = QuestionMessageConstants.API_INTERNAL_ERROR)
+    })
+    public ResponseEntity<GenericResponse<List<SimilarQuestionResponse>>> findSimilarQuestions(
+            @Valid @RequestBody CreateQuestionsRequest request) {
+        return success(questionSimilarityService.findSimilarAsAdmin(request.getQuestions()),
+                MessageCodeConstant.M005_RETRIEVED, QuestionMessageConstants.API_QUESTION_SIMILAR_SUCCESS);
+    }
+
+    @GetMapping("/duplicates")
+    @Operation(summary = "Question dedupe report (Admin only)",
+            description = "Cluster near-duplicate questions across the whole bank, largest clusters first, with pagination. "
+                    + "Questions without a signature are counted as unsigned and left out until they are backfilled")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200, description = QuestionMessageConstants.API_QUESTION_DEDUPE_REPORT_SUCCESS,
+                    useReturnTypeSchema = true),
+            @ApiResponse(responseCode = ResponseCode.FORBIDDEN_403, description = MessageConstant.FORBIDDEN),
+            @ApiResponse(responseCode = ResponseCode.INTERNAL_ERROR_500, description = QuestionMessageConstants.API_INTERNAL_ERROR)
+    })
+    public ResponseEntity<GenericResponse<QuestionDedupeReportResponse>> getDedupeReport(
+            @RequestParam(value = PaginationConstants.PARAM_PAGE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE) int page,
+            @RequestParam(value = PaginationConstants.PARAM_SIZE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE) int size
+            ) {
+        PagingRequest request = PagingRequest.builder()
+                .page(page)
+                .pageSize(size)
+                .build();
+        return success(questionSimilarityService.buildDedupeReport(request),
+                MessageCodeConstant.M005_RETRIEVED, QuestionMessageConstants.API_QUESTION_DEDUPE_REPORT_SUCCESS);
+    }
+
+    @PostMapping("/duplicates/backfill")
+    @Operation(summary = "Backfill question signatures (Admin only)",
+            description = "Compute the near-duplicate signatures of questions created before near-duplicate detection existed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200, description = QuestionMessageConstants.API_QUESTION_SIGNATURES_BACKFILLED_SUCCESS,
+                    useReturnTypeSchema = true),
+            @ApiResponse(responseCode = ResponseCode.FORBIDDEN_403, description = MessageConstant.FORBIDDEN),
+            @ApiResponse(responseCode = ResponseCode.INTERNAL_ERROR_500, description = QuestionMessageConstants.API_INTERNAL_ERROR)
+    })
+    public ResponseEntity<GenericResponse<Integer>> backfillSignatures() {
+        return success(questionSimilarityService.backfillSignatures(),
+                MessageCodeConstant.M003_UPDATED, QuestionMessageConstants.API_QUESTION_SIGNATURES_BACKFILLED_SUCCESS);
+    }
 }
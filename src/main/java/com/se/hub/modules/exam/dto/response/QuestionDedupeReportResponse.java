@@ -0,0 +1,28 @@
+package com.se.hub.modules.exam.dto.response;
+
+import com.se.hub.common.dto.response.PagingResponse;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class QuestionDedupeReportResponse {
+    int scannedCount;
+    long unsignedCount;     // Questions left out of the scan until their signatures are backfilled
+    int clusterCount;
+    double similarityThreshold;
+    long durationMillis;
+    Instant generatedAt;
+    PagingResponse<DuplicateQuestionClusterResponse> clusters;    // Largest first
+}
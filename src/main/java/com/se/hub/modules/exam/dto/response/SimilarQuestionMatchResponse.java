@@ -0,0 +1,21 @@
+package com.se.hub.modules.exam.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SimilarQuestionMatchResponse {
+    String questionId;      // Existing question, null when the match is another question of the same request
+    Integer requestIndex;   // Index of the matching question in the same request, null for existing questions
+    double similarity;      // Estimated Jaccard similarity (0..1)
+}
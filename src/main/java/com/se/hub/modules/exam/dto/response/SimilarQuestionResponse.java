@@ -0,0 +1,23 @@
+package com.se.hub.modules.exam.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SimilarQuestionResponse {
+    int requestIndex;
+    String contentHash;     // Exact-duplicate hash of the requested question
+    List<SimilarQuestionMatchResponse> matches;
+}
@@ -6,8 +6,10 @@ import com.se.hub.modules.course.entity.Course;
 import com.se.hub.modules.exam.constant.exam.ExamConstants;
 import com.se.hub.modules.exam.constant.exam.ExamErrorCodeConstants;
 import com.se.hub.modules.exam.enums.ExamType;
+import com.se.hub.modules.search.listener.SearchIndexEntityListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -37,6 +39,7 @@ import java.util.Set;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Table(name = ExamConstants.TABLE_EXAM)
 @Entity
+@EntityListeners(SearchIndexEntityListener.class)
 public class Exam extends BaseEntity {
     @NotBlank(message = ExamErrorCodeConstants.EXAM_TITLE_INVALID)
     @Size(min = ExamConstants.TITLE_MIN_LENGTH,
@@ -26,6 +26,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.util.List;
 
@@ -91,6 +93,15 @@ public class Question extends BaseEntity {
             length = 64,
             unique = true)
     String contentHash; // SHA-256 hash of normalized text (not returned to user)
+
+    @Column(name = QuestionConstants.COL_MINHASH_SIGNATURE,
+            columnDefinition = QuestionConstants.MINHASH_SIGNATURE_DEFINITION)
+    byte[] minhashSignature; // MinHash signature for near-duplicate checking (not returned to user)
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = QuestionConstants.COL_MINHASH_BANDS,
+            columnDefinition = QuestionConstants.MINHASH_BANDS_DEFINITION)
+    long[] minhashBands; // LSH band keys of the signature, GIN-indexed (not returned to user)
 }
 
 
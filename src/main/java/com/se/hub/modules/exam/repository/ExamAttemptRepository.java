@@ -1,11 +1,15 @@
 package com.se.hub.modules.exam.repository;
 
 import com.se.hub.modules.exam.entity.ExamAttempt;
+import com.se.hub.modules.exam.repository.projection.ExamAttemptCountProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -19,5 +23,16 @@ public interface ExamAttemptRepository extends JpaRepository<ExamAttempt, String
     long countByExamId(String examId);
     
     long countByExamIdAndProfileId(String examId, String profileId);
+
+    /**
+     * Attempt counts of many exams in one query (exams without attempts are not returned)
+     */
+    @Query("""
+            SELECT a.exam.id AS examId, COUNT(a) AS attemptCount
+            FROM ExamAttempt a
+            WHERE a.exam.id IN :examIds
+            GROUP BY a.exam.id
+            """)
+    List<ExamAttemptCountProjection> findAttemptCountsByExamIds(@Param("examIds") Collection<String> examIds);
 }
 
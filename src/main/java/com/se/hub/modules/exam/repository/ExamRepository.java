@@ -1,7 +1,9 @@
 package com.se.hub.modules.exam.repository;
 
 import com.se.hub.modules.exam.entity.Exam;
+import com.se.hub.modules.exam.repository.projection.ExamCatalogVersionProjection;
 import com.se.hub.modules.exam.repository.projection.ExamQuestionCountProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -24,6 +26,11 @@ public interface ExamRepository extends JpaRepository<Exam, String> {
             """)
     Page<Exam> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
+    /**
+     * Search index batch: exams with ID after afterId, in ID order
+     */
+    List<Exam> findByIdGreaterThanOrderByIdAsc(String afterId, Limit limit);
+
     @Query("""
             SELECT e.id AS examId, COUNT(q.id) AS questionCount
             FROM Exam e
@@ -32,4 +39,21 @@ public interface ExamRepository extends JpaRepository<Exam, String> {
             GROUP BY e.id
             """)
     List<ExamQuestionCountProjection> findQuestionCountsByExamIds(@Param("examIds") Collection<String> examIds);
+
+    @Query("""
+            SELECT MAX(e.updatedDate) AS lastModified, COUNT(DISTINCT e.id) AS examCount,
+                   COUNT(q.id) AS questionLinkCount
+            FROM Exam e
+            LEFT JOIN e.questions q
+            """)
+    ExamCatalogVersionProjection findCatalogVersion();
+
+    @Query("""
+            SELECT MAX(e.updatedDate) AS lastModified, COUNT(DISTINCT e.id) AS examCount,
+                   COUNT(q.id) AS questionLinkCount
+            FROM Exam e
+            LEFT JOIN e.questions q
+            WHERE e.course.id = :courseId
+            """)
+    ExamCatalogVersionProjection findCatalogVersionByCourseId(@Param("courseId") String courseId);
 }
@@ -4,12 +4,17 @@ import com.se.hub.modules.exam.entity.Question;
 import com.se.hub.modules.exam.enums.QuestionCategory;
 import com.se.hub.modules.exam.enums.QuestionDifficulty;
 import com.se.hub.modules.exam.enums.QuestionType;
+import com.se.hub.modules.exam.repository.projection.QuestionSignatureProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -84,4 +89,49 @@ public interface QuestionRepository extends JpaRepository<Question, String> {
            "WHERE q.contentHash = :contentHash AND e.course.id = :courseId")
     java.util.Optional<Question> findByContentHashAndCourseId(@Param("contentHash") String contentHash, 
                                                                @Param("courseId") String courseId);
-}
\ No newline at end of file
+
+    /**
+     * Near-duplicate candidates: questions sharing at least one LSH band key (GIN index on minhash_bands),
+     * most shared bands first so the limit keeps the likeliest duplicates
+     * @param bands band keys as an array literal, see QuestionMinHashUtil.toArrayLiteral
+     */
+    @Query(value = """
+        SELECT q.id AS "id", q.minhash_signature AS "signature"
+        FROM question q
+        WHERE q.minhash_bands && CAST(:bands AS bigint[])
+        ORDER BY (SELECT count(*) FROM unnest(q.minhash_bands) AS b(band)
+                  WHERE b.band = ANY (CAST(:bands AS bigint[]))) DESC, q.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<QuestionSignatureProjection> findSignatureCandidates(@Param("bands") String bands,
+                                                              @Param("limit") int limit);
+
+    /**
+     * Signatures of the whole bank in ID order (dedupe report)
+     */
+    @Query("SELECT q.id AS id, q.minhashSignature AS signature FROM Question q " +
+           "WHERE q.id > :afterId AND q.minhashSignature IS NOT NULL ORDER BY q.id")
+    List<QuestionSignatureProjection> findSignaturesAfter(@Param("afterId") String afterId, Limit limit);
+
+    /**
+     * Questions without a signature yet (created before near-duplicate detection), with their options
+     */
+    @EntityGraph(attributePaths = "options")
+    List<Question> findByMinhashSignatureIsNullAndIdGreaterThanOrderByIdAsc(String afterId, Limit limit);
+
+    long countByMinhashSignatureIsNull();
+
+    /**
+     * Store the signature of an existing question without touching its audit fields (backfill)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE question
+        SET minhash_signature = :signature, minhash_bands = CAST(:bands AS bigint[])
+        WHERE id = :id
+        """, nativeQuery = true)
+    int updateSignature(@Param("id") String id,
+                        @Param("signature") byte[] signature,
+                        @Param("bands") String bands);
+}
@@ -0,0 +1,6 @@
+package com.se.hub.modules.exam.repository.projection;
+
+public interface ExamAttemptCountProjection {
+    String getExamId();
+    long getAttemptCount();
+}
@@ -0,0 +1,13 @@
+package com.se.hub.modules.exam.repository.projection;
+
+import java.time.Instant;
+
+/**
+ * Change markers of an exam catalog (conditional GET validator):
+ * newest update, exam count (deletions) and exam-question links (question add/remove)
+ */
+public interface ExamCatalogVersionProjection {
+    Instant getLastModified();
+    long getExamCount();
+    long getQuestionLinkCount();
+}
@@ -0,0 +1,9 @@
+package com.se.hub.modules.exam.repository.projection;
+
+/**
+ * Question ID with its MinHash signature (near-duplicate checks never load content or options)
+ */
+public interface QuestionSignatureProjection {
+    String getId();
+    byte[] getSignature();
+}
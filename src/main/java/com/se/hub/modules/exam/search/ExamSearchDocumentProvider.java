@@ -0,0 +1,75 @@
+package com.se.hub.modules.exam.search;
+
+import com.se.hub.modules.exam.entity.Exam;
+import com.se.hub.modules.exam.repository.ExamAttemptRepository;
+import com.se.hub.modules.exam.repository.ExamRepository;
+import com.se.hub.modules.exam.repository.projection.ExamAttemptCountProjection;
+import com.se.hub.modules.search.enums.SearchTarget;
+import com.se.hub.modules.search.index.SearchDocument;
+import com.se.hub.modules.search.index.SearchDocumentProvider;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Exams for the search index: title, exam code as keyword, description as body.
+ * The title is also the suggestion, ranked by the number of attempts.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ExamSearchDocumentProvider implements SearchDocumentProvider {
+    ExamRepository examRepository;
+    ExamAttemptRepository examAttemptRepository;
+
+    @Override
+    public SearchTarget getTarget() {
+        return SearchTarget.EXAM;
+    }
+
+    @Override
+    public Class<?> getEntityType() {
+        return Exam.class;
+    }
+
+    @Override
+    public Optional<SearchDocument> load(String id) {
+        return examRepository.findById(id)
+                .map(exam -> toDocument(exam, examAttemptRepository.countByExamId(exam.getId())));
+    }
+
+    @Override
+    public List<SearchDocument> loadBatch(String afterId, int batchSize) {
+        List<Exam> exams = examRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(batchSize));
+        if (exams.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Long> attemptCounts = examAttemptRepository
+                .findAttemptCountsByExamIds(exams.stream().map(Exam::getId).toList()).stream()
+                .collect(Collectors.toMap(ExamAttemptCountProjection::getExamId, ExamAttemptCountProjection::getAttemptCount));
+        return exams.stream()
+                .map(exam -> toDocument(exam, attemptCounts.getOrDefault(exam.getId(), 0L)))
+                .toList();
+    }
+
+    private SearchDocument toDocument(Exam exam, long attemptCount) {
+        return SearchDocument.builder()
+                .target(SearchTarget.EXAM)
+                .id(exam.getId())
+                .title(exam.getTitle())
+                .keywords(exam.getExamCode())
+                .body(exam.getDescription())
+                .summary(exam.getDescription())
+                .updatedDate(exam.getUpdatedDate())
+                .suggestion(exam.getTitle())
+                .popularity(attemptCount)
+                .build();
+    }
+}
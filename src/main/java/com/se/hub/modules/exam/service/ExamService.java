@@ -1,5 +1,6 @@
 package com.se.hub.modules.exam.service;
 
+import com.se.hub.common.dto.ResourceVersion;
 import com.se.hub.common.dto.request.PagingRequest;
 import com.se.hub.common.dto.response.PagingResponse;
 import com.se.hub.modules.exam.dto.request.AddQuestionsToExamRequest;
@@ -37,6 +38,14 @@ public interface ExamService {
      */
     PagingResponse<ExamResponse> getByCourseId(String courseId, PagingRequest request);
 
+    /**
+     * Validators of an exam catalog page for the current viewer, without loading the exams
+     * @param courseId course ID, or null for the whole catalog
+     * @param request paging request
+     * @return ResourceVersion, or null when versions are unavailable
+     */
+    ResourceVersion getCatalogVersion(String courseId, PagingRequest request);
+
     /**
      * Search exams by keyword (title or description)
      * @param keyword keyword to search
@@ -0,0 +1,45 @@
+package com.se.hub.modules.exam.service;
+
+import com.se.hub.common.dto.request.PagingRequest;
+import com.se.hub.modules.exam.dto.request.CreateQuestionRequest;
+import com.se.hub.modules.exam.dto.response.QuestionDedupeReportResponse;
+import com.se.hub.modules.exam.dto.response.SimilarQuestionResponse;
+import com.se.hub.modules.exam.entity.Question;
+
+import java.util.List;
+
+public interface QuestionSimilarityService {
+    /**
+     * Set the MinHash signature and LSH band keys of a question before it is saved
+     * @param optionContents option texts of the question (may be empty)
+     */
+    void sign(Question question, List<String> optionContents);
+
+    /**
+     * Bulk near-duplicate lookup for questions about to be imported: existing questions and other
+     * questions of the same request whose estimated similarity reaches the configured threshold.
+     * Candidates come from one LSH band query, so the cost does not grow with the bank size.
+     * @return one entry per requested question, in request order
+     */
+    List<SimilarQuestionResponse> findSimilar(List<CreateQuestionRequest> requests);
+
+    /**
+     * findSimilar for the admin endpoint: same lookup behind an admin check
+     */
+    List<SimilarQuestionResponse> findSimilarAsAdmin(List<CreateQuestionRequest> requests);
+
+    /**
+     * Dedupe report over the whole question bank (admin only, read-only).
+     * Clusters near-duplicates through LSH buckets; the clusters of a scan are kept for
+     * DEDUPE_SNAPSHOT_TTL_SECONDS so paging through them does not rescan the bank.
+     * Questions without a signature are not clustered, see backfillSignatures.
+     * @return report with one page of clusters, largest first
+     */
+    QuestionDedupeReportResponse buildDedupeReport(PagingRequest request);
+
+    /**
+     * Compute signatures of questions created before near-duplicate detection existed (admin only)
+     * @return number of questions signed
+     */
+    int backfillSignatures();
+}
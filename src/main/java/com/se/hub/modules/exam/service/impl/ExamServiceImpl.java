@@ -1,7 +1,9 @@
 package com.se.hub.modules.exam.service.impl;
 
 import com.se.hub.common.constant.GlobalVariable;
+import com.se.hub.common.dto.ResourceVersion;
 import com.se.hub.common.dto.request.PagingRequest;
+import com.se.hub.common.dto.request.SortRequest;
 import com.se.hub.common.dto.response.PagingResponse;
 import com.se.hub.common.enums.ErrorCode;
 import com.se.hub.common.exception.AppException;
@@ -28,9 +30,14 @@ import com.se.hub.modules.exam.mapper.QuestionMapper;
 import com.se.hub.modules.exam.repository.ExamAttemptRepository;
 import com.se.hub.modules.exam.repository.ExamRepository;
 import com.se.hub.modules.exam.repository.QuestionRepository;
+import com.se.hub.modules.exam.repository.projection.ExamCatalogVersionProjection;
 import com.se.hub.modules.exam.repository.projection.ExamQuestionCountProjection;
 import com.se.hub.modules.exam.service.ExamService;
 import com.se.hub.modules.exam.service.QuestionService;
+import com.se.hub.modules.search.cache.SearchHitPage;
+import com.se.hub.modules.search.enums.SearchTarget;
+import com.se.hub.modules.search.service.SearchResultCacheService;
+import com.se.hub.modules.search.utils.SearchTextUtil;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -41,10 +48,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -71,6 +80,7 @@ public class ExamServiceImpl implements ExamService {
     ReactionService reactionService;
     QuestionService questionService;
     ExamAttemptRepository examAttemptRepository;
+    SearchResultCacheService searchResultCacheService;
 
     private Map<String, Long> loadQuestionCountMap(List<String> examIds) {
         if (examIds == null || examIds.isEmpty()) {
@@ -93,36 +103,41 @@ public class ExamServiceImpl implements ExamService {
      * Reduces code duplication across get methods
      */
     private PagingResponse<ExamResponse> buildPagingResponse(Page<Exam> exams) {
-        List<Exam> examList = exams.getContent();
-        String currentUserId = AuthUtils.getCurrentUserIdOrNull();
-        
-        // Batch check reactions for all exams
-        List<String> examIds = examList.stream().map(Exam::getId).toList();
-        Map<String, Long> questionCounts = loadQuestionCountMap(examIds);
-        Map<String, ReactionInfo> reactionsMap = reactionService
-                .getReactionsForTargets(TargetType.EXAM, examIds, currentUserId);
-        
         return PagingResponse.<ExamResponse>builder()
                 .currentPage(exams.getNumber() + GlobalVariable.PAGE_SIZE_INDEX)
                 .totalPages(exams.getTotalPages())
                 .pageSize(exams.getSize())
                 .totalElement(exams.getTotalElements())
-                .data(examList.stream()
-                        .map(exam -> {
-                            ExamResponse response = examMapper.toExamResponse(exam);
-                            response.setQuestionCount(questionCounts.getOrDefault(exam.getId(), 0L));
-                            ReactionInfo reactionInfo = reactionsMap.getOrDefault(
-                                    exam.getId(),
-                                    ReactionInfo.builder().userReacted(false).type(null).build()
-                            );
-                            response.setReactions(reactionInfo);
-                            return response;
-                        })
-                        .toList()
-                )
+                .data(toExamResponses(exams.getContent()))
                 .build();
     }
 
+    /**
+     * Convert exams to responses with batched question counts and the viewer's reactions
+     */
+    private List<ExamResponse> toExamResponses(List<Exam> examList) {
+        String currentUserId = AuthUtils.getCurrentUserIdOrNull();
+
+        // Batch check reactions for all exams
+        List<String> examIds = examList.stream().map(Exam::getId).toList();
+        Map<String, Long> questionCounts = loadQuestionCountMap(examIds);
+        Map<String, ReactionInfo> reactionsMap = reactionService
+                .getReactionsForTargets(TargetType.EXAM, examIds, currentUserId);
+
+        return examList.stream()
+                .map(exam -> {
+                    ExamResponse response = examMapper.toExamResponse(exam);
+                    response.setQuestionCount(questionCounts.getOrDefault(exam.getId(), 0L));
+                    ReactionInfo reactionInfo = reactionsMap.getOrDefault(
+                            exam.getId(),
+                            ReactionInfo.builder().userReacted(false).type(null).build()
+                    );
+                    response.setReactions(reactionInfo);
+                    return response;
+                })
+                .toList();
+    }
+
     @Override
     @Transactional
     public ExamResponse create(CreateExamRequest request) {
@@ -191,6 +206,24 @@ public class ExamServiceImpl implements ExamService {
         return buildPagingResponse(examPages);
     }
 
+    @Override
+    public ResourceVersion getCatalogVersion(String courseId, PagingRequest request) {
+        String currentUserId = AuthUtils.getCurrentUserIdOrNull();
+        Long reactionsVersion = reactionService.getUserReactionsVersion(TargetType.EXAM, currentUserId);
+        if (reactionsVersion == null) {
+            return null;
+        }
+        ExamCatalogVersionProjection catalog = courseId == null
+                ? examRepository.findCatalogVersion()
+                : examRepository.findCatalogVersionByCourseId(courseId);
+        SortRequest sort = request.getSortRequest();
+        return ResourceVersion.of(
+                ResourceVersion.latest(catalog.getLastModified(), Instant.ofEpochMilli(reactionsVersion)),
+                courseId, catalog.getLastModified(), catalog.getExamCount(), catalog.getQuestionLinkCount(),
+                currentUserId, reactionsVersion, request.getPage(), request.getPageSize(),
+                sort != null ? sort.getDirection() : null, sort != null ? sort.getField() : null);
+    }
+
     @Override
     public PagingResponse<ExamResponse> getByCourseId(String courseId, PagingRequest request) {
         log.debug("ExamService_getByCourseId_Fetching exams for course: {} with page: {}, size: {}", 
@@ -223,8 +256,34 @@ public class ExamServiceImpl implements ExamService {
                 PagingUtil.createSort(request)
         );
 
-        Page<Exam> examPages = examRepository.searchByKeyword(sanitizedKeyword, pageable);
-        return buildPagingResponse(examPages);
+        // LOWER(...) LIKE ignores case but not accents, so only case and spacing are normalized
+        String query = SearchTextUtil.normalizeQuery(sanitizedKeyword);
+        SearchHitPage hitPage = searchResultCacheService.get(SearchTarget.EXAM, query, request, true, () -> {
+            Page<Exam> examPages = examRepository.searchByKeyword(query, pageable);
+            return SearchHitPage.builder()
+                    .ids(examPages.getContent().stream().map(Exam::getId).toList())
+                    .currentPage(examPages.getNumber() + GlobalVariable.PAGE_SIZE_INDEX)
+                    .totalPages(examPages.getTotalPages())
+                    .pageSize(examPages.getSize())
+                    .totalElement(examPages.getTotalElements())
+                    .build();
+        });
+        return hitPage.toPagingResponse(toExamResponses(loadInOrder(hitPage.getIds())));
+    }
+
+    /**
+     * Load exams by ID and restore the given order (exams deleted meanwhile are dropped)
+     */
+    private List<Exam> loadInOrder(List<String> examIds) {
+        if (examIds.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Exam> examMap = examRepository.findAllById(examIds).stream()
+                .collect(Collectors.toMap(Exam::getId, exam -> exam));
+        return examIds.stream()
+                .map(examMap::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Override
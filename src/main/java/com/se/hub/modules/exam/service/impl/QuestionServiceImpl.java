@@ -10,6 +10,8 @@ import com.se.hub.modules.exam.dto.request.CreateQuestionOptionRequest;
 import com.se.hub.modules.exam.dto.request.UpdateQuestionOptionRequest;
 import com.se.hub.modules.exam.dto.request.UpdateQuestionRequest;
 import com.se.hub.modules.exam.dto.response.QuestionResponse;
+import com.se.hub.modules.exam.dto.response.SimilarQuestionMatchResponse;
+import com.se.hub.modules.exam.dto.response.SimilarQuestionResponse;
 import com.se.hub.modules.exam.entity.AnswerReport;
 import com.se.hub.modules.exam.entity.Question;
 import com.se.hub.modules.exam.entity.QuestionOption;
@@ -23,6 +25,7 @@ import com.se.hub.modules.exam.repository.AnswerReportRepository;
 import com.se.hub.modules.exam.repository.QuestionOptionRepository;
 import com.se.hub.modules.exam.repository.QuestionRepository;
 import com.se.hub.modules.exam.service.QuestionService;
+import com.se.hub.modules.exam.service.QuestionSimilarityService;
 import com.se.hub.modules.exam.utils.QuestionHashUtil;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -62,6 +65,7 @@ public class QuestionServiceImpl implements QuestionService {
     AnswerReportRepository answerReportRepository;
     QuestionMapper questionMapper;
     QuestionOptionMapper questionOptionMapper;
+    QuestionSimilarityService questionSimilarityService;
 
     /**
      * Helper method to build PagingResponse from Page<Question>
@@ -108,6 +112,7 @@ public class QuestionServiceImpl implements QuestionService {
         Question question = questionMapper.toQuestion(request);
         question.setContentHash(contentHash);
         question.setNormalizedText(normalizedText);
+        questionSimilarityService.sign(question, optionContents);
         String userId = AuthUtils.getCurrentUserId();
         question.setCreatedBy(userId);
         question.setUpdateBy(userId);
@@ -332,6 +337,10 @@ public class QuestionServiceImpl implements QuestionService {
             question.setOptions(updatedOptions);
         }
 
+        // Keep the near-duplicate signature in line with the edited content and options
+        List<QuestionOption> currentOptions = question.getOptions() != null ? question.getOptions() : List.of();
+        questionSimilarityService.sign(question, currentOptions.stream().map(QuestionOption::getContent).toList());
+
         QuestionResponse response = questionMapper.toQuestionResponse(questionRepository.save(question));
         log.debug("QuestionService_updateQuestion_Question updated successfully with id: {}", questionId);
         return response;
@@ -412,6 +421,9 @@ public class QuestionServiceImpl implements QuestionService {
         // Track questions created in this batch to avoid duplicates within the same batch
         Map<String, Question> batchCreatedQuestions = new HashMap<>();
         
+        // Near duplicates (paraphrases) are not merged, only reported: one LSH lookup for the whole batch
+        logNearDuplicates(requests);
+        
         for (CreateQuestionRequest request : requests) {
             // Validate options based on question type
             // CONTENT type questions don't require options, other types do
@@ -459,6 +471,7 @@ public class QuestionServiceImpl implements QuestionService {
                 Question question = questionMapper.toQuestion(request);
                 question.setContentHash(contentHash);
                 question.setNormalizedText(normalizedText);
+                questionSimilarityService.sign(question, optionContents);
                 question.setCreatedBy(userId);
                 question.setUpdateBy(userId);
                 
@@ -502,4 +515,16 @@ public class QuestionServiceImpl implements QuestionService {
         
         return questionIds;
     }
+
+    private void logNearDuplicates(List<CreateQuestionRequest> requests) {
+        for (SimilarQuestionResponse similar : questionSimilarityService.findSimilar(requests)) {
+            for (SimilarQuestionMatchResponse match : similar.getMatches()) {
+                // Identical signatures are exact re-imports, reused through content_hash below
+                if (match.getQuestionId() != null && match.getSimilarity() < 1.0) {
+                    log.warn("QuestionService_createQuestions_Question #{} is a near duplicate of question {} (similarity {})",
+                            similar.getRequestIndex(), match.getQuestionId(), match.getSimilarity());
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,370 @@
+package com.se.hub.modules.exam.service.impl;
+
+import com.se.hub.common.constant.GlobalVariable;
+import com.se.hub.common.dto.request.PagingRequest;
+import com.se.hub.common.dto.response.PagingResponse;
+import com.se.hub.common.enums.ErrorCode;
+import com.se.hub.common.exception.AppException;
+import com.se.hub.common.utils.PagingUtil;
+import com.se.hub.modules.auth.utils.AuthUtils;
+import com.se.hub.modules.exam.constant.question.QuestionConstants;
+import com.se.hub.modules.exam.dto.request.CreateQuestionOptionRequest;
+import com.se.hub.modules.exam.dto.request.CreateQuestionRequest;
+import com.se.hub.modules.exam.dto.response.DuplicateQuestionClusterResponse;
+import com.se.hub.modules.exam.dto.response.QuestionDedupeReportResponse;
+import com.se.hub.modules.exam.dto.response.SimilarQuestionMatchResponse;
+import com.se.hub.modules.exam.dto.response.SimilarQuestionResponse;
+import com.se.hub.modules.exam.entity.Question;
+import com.se.hub.modules.exam.entity.QuestionOption;
+import com.se.hub.modules.exam.repository.QuestionRepository;
+import com.se.hub.modules.exam.repository.projection.QuestionSignatureProjection;
+import com.se.hub.modules.exam.service.QuestionSimilarityService;
+import com.se.hub.modules.exam.utils.QuestionHashUtil;
+import com.se.hub.modules.exam.utils.QuestionMinHashUtil;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Near-duplicate question detection with MinHash signatures and LSH banding.
+ *
+ * Every question stores a MinHash signature and its band keys next to content_hash. A lookup
+ * probes the GIN index on the band keys, so only questions sharing a band (the likely near
+ * duplicates) are compared; the dedupe report buckets the whole bank by band key in one pass
+ * instead of comparing every pair, and pages the clusters of that scan.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class QuestionSimilarityServiceImpl implements QuestionSimilarityService {
+    QuestionRepository questionRepository;
+
+    @NonFinal
+    @Value("${exam.question.similarity-threshold:" + QuestionConstants.DEFAULT_SIMILARITY_THRESHOLD + "}")
+    double similarityThreshold;
+
+    // Last dedupe scan, paged by buildDedupeReport until it expires or signatures are backfilled
+    @NonFinal
+    volatile DedupeSnapshot snapshot;
+
+    @Override
+    public void sign(Question question, List<String> optionContents) {
+        int[] signature = QuestionMinHashUtil.signature(question.getContent(), optionContents);
+        question.setMinhashSignature(QuestionMinHashUtil.toBytes(signature));
+        question.setMinhashBands(signature != null ? QuestionMinHashUtil.bands(signature) : null);
+    }
+
+    @Override
+    public List<SimilarQuestionResponse> findSimilar(List<CreateQuestionRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
+        }
+        int[][] signatures = new int[requests.size()][];
+        long[][] bands = new long[requests.size()][];
+        Set<Long> allBands = new LinkedHashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            signatures[i] = QuestionMinHashUtil.signature(requests.get(i).getContent(), optionContents(requests.get(i)));
+            if (signatures[i] != null) {
+                bands[i] = QuestionMinHashUtil.bands(signatures[i]);
+                Arrays.stream(bands[i]).forEach(allBands::add);
+            }
+        }
+        if (allBands.isEmpty()) {
+            return buildResponses(requests, List.of());
+        }
+
+        // One index probe for the whole request; candidates are then bucketed by band key in memory
+        int limit = (int) Math.min((long) QuestionConstants.SIMILAR_CANDIDATE_LIMIT * requests.size(),
+                QuestionConstants.SIMILAR_MAX_CANDIDATES);
+        List<QuestionSignatureProjection> candidates = questionRepository.findSignatureCandidates(
+                QuestionMinHashUtil.toArrayLiteral(allBands.stream().mapToLong(Long::longValue).toArray()), limit);
+        Map<Long, List<Candidate>> buckets = new HashMap<>();
+        for (QuestionSignatureProjection projection : candidates) {
+            int[] signature = QuestionMinHashUtil.fromBytes(projection.getSignature());
+            if (signature != null) {
+                addToBuckets(buckets, new Candidate(projection.getId(), null, signature));
+            }
+        }
+        for (int i = 0; i < requests.size(); i++) {
+            if (signatures[i] != null) {
+                addToBuckets(buckets, new Candidate(null, i, signatures[i]));
+            }
+        }
+
+        List<List<SimilarQuestionMatchResponse>> matches = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            matches.add(bands[i] == null ? List.of() : matchesOf(i, signatures[i], bands[i], buckets));
+        }
+        log.debug("QuestionSimilarityService_findSimilar_Checked {} questions against {} candidates",
+                requests.size(), candidates.size());
+        return buildResponses(requests, matches);
+    }
+
+    @Override
+    public List<SimilarQuestionResponse> findSimilarAsAdmin(List<CreateQuestionRequest> requests) {
+        checkAdminPermission();
+        return findSimilar(requests);
+    }
+
+    @Override
+    public QuestionDedupeReportResponse buildDedupeReport(PagingRequest request) {
+        checkAdminPermission();
+        Pageable pageable = PagingUtil.createPageable(request);
+        int pageSize = Math.min(pageable.getPageSize(), QuestionConstants.DEDUPE_MAX_PAGE_SIZE);
+
+        // Clustering scans every signature: pages of a recent scan are served from its snapshot
+        DedupeSnapshot current = snapshot;
+        if (current == null || current.isExpired()) {
+            current = scanClusters();
+            snapshot = current;
+        }
+        List<DuplicateQuestionClusterResponse> clusters = current.getClusters();
+        int from = (int) Math.min((long) pageable.getPageNumber() * pageSize, clusters.size());
+        int to = Math.min(from + pageSize, clusters.size());
+
+        return QuestionDedupeReportResponse.builder()
+                .scannedCount(current.getScannedCount())
+                .unsignedCount(questionRepository.countByMinhashSignatureIsNull())
+                .clusterCount(clusters.size())
+                .similarityThreshold(similarityThreshold)
+                .durationMillis(current.getDurationMillis())
+                .generatedAt(current.getGeneratedAt())
+                .clusters(PagingResponse.<DuplicateQuestionClusterResponse>builder()
+                        .currentPage(pageable.getPageNumber() + GlobalVariable.PAGE_SIZE_INDEX)
+                        .pageSize(pageSize)
+                        .totalPages((clusters.size() + pageSize - 1) / pageSize)
+                        .totalElement(clusters.size())
+                        .data(clusters.subList(from, to))
+                        .build())
+                .build();
+    }
+
+    @Override
+    public int backfillSignatures() {
+        checkAdminPermission();
+        long start = System.currentTimeMillis();
+        int count = 0;
+        String afterId = "";
+        while (true) {
+            List<Question> batch = questionRepository.findByMinhashSignatureIsNullAndIdGreaterThanOrderByIdAsc(afterId,
+                    Limit.of(QuestionConstants.DEDUPE_BATCH_SIZE));
+            for (Question question : batch) {
+                List<String> optionContents = question.getOptions() != null
+                        ? question.getOptions().stream().map(QuestionOption::getContent).toList()
+                        : List.of();
+                int[] signature = QuestionMinHashUtil.signature(question.getContent(), optionContents);
+                if (signature != null) {
+                    questionRepository.updateSignature(question.getId(), QuestionMinHashUtil.toBytes(signature),
+                            QuestionMinHashUtil.toArrayLiteral(QuestionMinHashUtil.bands(signature)));
+                    count++;
+                }
+            }
+            if (batch.size() < QuestionConstants.DEDUPE_BATCH_SIZE) {
+                break;
+            }
+            afterId = batch.getLast().getId();
+        }
+        if (count > 0) {
+            snapshot = null;
+        }
+        log.info("QuestionSimilarityService_backfillSignatures_Signed {} questions in {} ms",
+                count, System.currentTimeMillis() - start);
+        return count;
+    }
+
+    /**
+     * Cluster the whole bank: signatures are read in ID batches and bucketed by band key,
+     * then pairs sharing a bucket are verified and merged with union-find
+     */
+    private DedupeSnapshot scanClusters() {
+        long start = System.currentTimeMillis();
+        List<String> ids = new ArrayList<>();
+        List<int[]> signatures = new ArrayList<>();
+        Map<Long, List<Integer>> buckets = new HashMap<>();
+        String afterId = "";
+        while (true) {
+            List<QuestionSignatureProjection> batch = questionRepository.findSignaturesAfter(afterId,
+                    Limit.of(QuestionConstants.DEDUPE_BATCH_SIZE));
+            for (QuestionSignatureProjection projection : batch) {
+                int[] signature = QuestionMinHashUtil.fromBytes(projection.getSignature());
+                if (signature == null) {
+                    continue;
+                }
+                int index = ids.size();
+                ids.add(projection.getId());
+                signatures.add(signature);
+                for (long band : QuestionMinHashUtil.bands(signature)) {
+                    buckets.computeIfAbsent(band, key -> new ArrayList<>(2)).add(index);
+                }
+            }
+            if (batch.size() < QuestionConstants.DEDUPE_BATCH_SIZE) {
+                break;
+            }
+            afterId = batch.getLast().getId();
+        }
+
+        // Union-find over verified pairs that share a bucket
+        int[] parent = new int[ids.size()];
+        Arrays.setAll(parent, i -> i);
+        double[] maxSimilarity = new double[ids.size()];
+        for (List<Integer> bucket : buckets.values()) {
+            for (int a = 0; a < bucket.size(); a++) {
+                for (int b = a + 1; b < bucket.size(); b++) {
+                    int first = bucket.get(a);
+                    int second = bucket.get(b);
+                    if (find(parent, first) == find(parent, second)) {
+                        continue;
+                    }
+                    double similarity = QuestionMinHashUtil.similarity(signatures.get(first), signatures.get(second));
+                    if (similarity >= similarityThreshold) {
+                        int rootFirst = find(parent, first);
+                        int rootSecond = find(parent, second);
+                        parent[rootSecond] = rootFirst;
+                        maxSimilarity[rootFirst] = Math.max(similarity,
+                                Math.max(maxSimilarity[rootFirst], maxSimilarity[rootSecond]));
+                    }
+                }
+            }
+        }
+
+        Map<Integer, List<String>> clusters = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            clusters.computeIfAbsent(find(parent, i), root -> new ArrayList<>()).add(ids.get(i));
+        }
+        List<DuplicateQuestionClusterResponse> duplicates = clusters.entrySet().stream()
+                .filter(entry -> entry.getValue().size() > 1)
+                .map(entry -> DuplicateQuestionClusterResponse.builder()
+                        .questionIds(entry.getValue())
+                        .maxSimilarity(maxSimilarity[entry.getKey()])
+                        .build())
+                .sorted(Comparator.comparingInt((DuplicateQuestionClusterResponse cluster) -> cluster.getQuestionIds().size())
+                        .reversed()
+                        .thenComparing(DuplicateQuestionClusterResponse::getMaxSimilarity, Comparator.reverseOrder())
+                        .thenComparing(cluster -> cluster.getQuestionIds().getFirst()))
+                .toList();
+
+        long duration = System.currentTimeMillis() - start;
+        log.info("QuestionSimilarityService_scanClusters_Scanned {} questions, found {} clusters in {} ms",
+                ids.size(), duplicates.size(), duration);
+        return new DedupeSnapshot(duplicates, ids.size(), duration, Instant.now());
+    }
+
+    private List<SimilarQuestionMatchResponse> matchesOf(int requestIndex, int[] signature, long[] bands,
+                                                        Map<Long, List<Candidate>> buckets) {
+        Map<Object, SimilarQuestionMatchResponse> matches = new HashMap<>();
+        for (long band : bands) {
+            for (Candidate candidate : buckets.getOrDefault(band, List.of())) {
+                Object key = candidate.getQuestionId() != null ? candidate.getQuestionId() : candidate.getRequestIndex();
+                if (Integer.valueOf(requestIndex).equals(candidate.getRequestIndex()) || matches.containsKey(key)) {
+                    continue;
+                }
+                double similarity = QuestionMinHashUtil.similarity(signature, candidate.getSignature());
+                if (similarity >= similarityThreshold) {
+                    matches.put(key, SimilarQuestionMatchResponse.builder()
+                            .questionId(candidate.getQuestionId())
+                            .requestIndex(candidate.getRequestIndex())
+                            .similarity(similarity)
+                            .build());
+                }
+            }
+        }
+        return matches.values().stream()
+                .sorted(Comparator.comparingDouble(SimilarQuestionMatchResponse::getSimilarity).reversed())
+                .limit(QuestionConstants.SIMILAR_MAX_MATCHES)
+                .toList();
+    }
+
+    private List<SimilarQuestionResponse> buildResponses(List<CreateQuestionRequest> requests,
+                                                         List<List<SimilarQuestionMatchResponse>> matches) {
+        List<SimilarQuestionResponse> responses = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            CreateQuestionRequest request = requests.get(i);
+            responses.add(SimilarQuestionResponse.builder()
+                    .requestIndex(i)
+                    .contentHash(QuestionHashUtil.generateQuestionHash(request.getContent(), optionContents(request)))
+                    .matches(matches.isEmpty() ? List.of() : matches.get(i))
+                    .build());
+        }
+        return responses;
+    }
+
+    private void addToBuckets(Map<Long, List<Candidate>> buckets, Candidate candidate) {
+        for (long band : QuestionMinHashUtil.bands(candidate.getSignature())) {
+            buckets.computeIfAbsent(band, key -> new ArrayList<>(2)).add(candidate);
+        }
+    }
+
+    private List<String> optionContents(CreateQuestionRequest request) {
+        return request.getOptions() != null
+                ? request.getOptions().stream().map(CreateQuestionOptionRequest::getContent).toList()
+                : List.of();
+    }
+
+    private int find(int[] parent, int index) {
+        while (parent[index] != index) {
+            parent[index] = parent[parent[index]];
+            index = parent[index];
+        }
+        return index;
+    }
+
+    /**
+     * Check admin permission and throw exception if not authorized
+     */
+    private void checkAdminPermission() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean admin = authentication != null && authentication.isAuthenticated()
+                && authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(authority -> authority.equals("ROLE_ADMIN"));
+        if (!admin) {
+            log.error("QuestionSimilarityService_checkAdminPermission_User {} is not admin", AuthUtils.getCurrentUserId());
+            throw new AppException(ErrorCode.AUTHZ_UNAUTHORIZED);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static class Candidate {
+        String questionId;      // Existing question, or null
+        Integer requestIndex;   // Question of the current request, or null
+        int[] signature;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static class DedupeSnapshot {
+        List<DuplicateQuestionClusterResponse> clusters;    // Largest first
+        int scannedCount;
+        long durationMillis;
+        Instant generatedAt;
+
+        boolean isExpired() {
+            return generatedAt.plusSeconds(QuestionConstants.DEDUPE_SNAPSHOT_TTL_SECONDS).isBefore(Instant.now());
+        }
+    }
+}
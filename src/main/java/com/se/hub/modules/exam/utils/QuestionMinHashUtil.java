@@ -0,0 +1,156 @@
+package com.se.hub.modules.exam.utils;
+
+import com.se.hub.modules.exam.constant.question.QuestionConstants;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * MinHash signatures and LSH band keys for near-duplicate question detection.
+ *
+ * A question (content + option contents, normalized like QuestionHashUtil) is reduced to its
+ * set of character shingles; the signature keeps the minimum of MINHASH_SIGNATURE_SIZE seeded
+ * hashes over that set, so the share of equal positions between two signatures estimates their
+ * Jaccard similarity. Band keys hash consecutive rows of the signature: similar questions share
+ * at least one band key with high probability, which lets an index on the keys find candidates
+ * without comparing against the whole bank.
+ */
+public class QuestionMinHashUtil {
+
+    private static final int ROWS_PER_BAND = QuestionConstants.MINHASH_SIGNATURE_SIZE / QuestionConstants.MINHASH_BANDS;
+    private static final long[] SEEDS = new long[QuestionConstants.MINHASH_SIGNATURE_SIZE];
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < SEEDS.length; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            SEEDS[i] = seed;
+        }
+    }
+
+    private QuestionMinHashUtil() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Text the signature is computed from: normalized question content followed by every option
+     */
+    public static String buildSignatureText(String questionContent, List<String> optionContents) {
+        StringBuilder sb = new StringBuilder(QuestionHashUtil.normalizeQuestion(questionContent));
+        if (optionContents != null) {
+            for (String optionContent : optionContents) {
+                String normalizedOption = QuestionHashUtil.normalizeQuestion(optionContent);
+                if (!normalizedOption.isEmpty()) {
+                    sb.append(" | ").append(normalizedOption);
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * MinHash signature of a question
+     * @return MINHASH_SIGNATURE_SIZE values, or null when the text is empty
+     */
+    public static int[] signature(String questionContent, List<String> optionContents) {
+        String text = buildSignatureText(questionContent, optionContents);
+        if (text.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[QuestionConstants.MINHASH_SIGNATURE_SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingleLength = Math.min(QuestionConstants.MINHASH_SHINGLE_LENGTH, text.length());
+        for (int start = 0; start + shingleLength <= text.length(); start++) {
+            long shingle = hashShingle(text, start, shingleLength);
+            for (int i = 0; i < signature.length; i++) {
+                int value = (int) (mix(shingle ^ SEEDS[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * LSH band keys of a signature; the band number is mixed in, so equal rows in different bands never collide
+     */
+    public static long[] bands(int[] signature) {
+        long[] bands = new long[QuestionConstants.MINHASH_BANDS];
+        for (int band = 0; band < bands.length; band++) {
+            long hash = mix(band + 1L);
+            for (int row = 0; row < ROWS_PER_BAND; row++) {
+                hash = mix(hash ^ signature[band * ROWS_PER_BAND + row]);
+            }
+            bands[band] = hash;
+        }
+        return bands;
+    }
+
+    /**
+     * Estimated Jaccard similarity: share of equal signature positions
+     */
+    public static double similarity(int[] first, int[] second) {
+        if (first == null || second == null || first.length != second.length) {
+            return 0;
+        }
+        int equal = 0;
+        for (int i = 0; i < first.length; i++) {
+            if (first[i] == second[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / first.length;
+    }
+
+    public static byte[] toBytes(int[] signature) {
+        if (signature == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(signature.length * Integer.BYTES);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    public static int[] fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != QuestionConstants.MINHASH_SIGNATURE_SIZE * Integer.BYTES) {
+            return null;
+        }
+        int[] signature = new int[QuestionConstants.MINHASH_SIGNATURE_SIZE];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+        return signature;
+    }
+
+    /**
+     * Band keys as a PostgreSQL array literal, e.g. {1,-2,3}, for CAST(:bands AS bigint[])
+     */
+    public static String toArrayLiteral(long[] bands) {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < bands.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(bands[i]);
+        }
+        return sb.append('}').toString();
+    }
+
+    private static long hashShingle(String text, int start, int length) {
+        // FNV-1a over the UTF-16 chars of the shingle
+        long hash = 0xcbf29ce484222325L;
+        for (int i = start; i < start + length; i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,46 @@
+package com.se.hub.modules.gamification.constant.progressoutbox;
+
+public final class ProgressOutboxConstants {
+    private ProgressOutboxConstants() {}
+
+    // ===== TABLE NAME =====
+    public static final String TABLE_PROGRESS_OUTBOX = "progress_outbox";
+
+    // ===== COLUMN NAMES =====
+    public static final String USER_ID = "user_id";
+    public static final String PROFILE_ID = "profile_id";
+    public static final String ACTION = "action";
+    public static final String PARTITION_NO = "partition_no";
+    public static final String STATUS = "status";
+    public static final String ATTEMPTS = "attempts";
+    public static final String CREATE_DATE = "create_date";
+    public static final String NEXT_ATTEMPT_AT = "next_attempt_at";
+    public static final String PROCESSED_AT = "processed_at";
+    public static final String LAST_ERROR = "last_error";
+
+    // ===== COLUMN DEFINITIONS =====
+    public static final String ID_DEFINITION = "VARCHAR(255)";
+    public static final String ENUM_DEFINITION = "VARCHAR(50)";
+    public static final String LAST_ERROR_DEFINITION = "VARCHAR(500)";
+
+    // ===== PIPELINE =====
+    // Events are spread over partitions by user; one consumer per partition keeps a user's events in order.
+    // Changing it moves users between partitions: drain the outbox first
+    public static final int PARTITIONS = 8;
+    public static final int BATCH_SIZE = 200;
+    public static final int MAX_ATTEMPTS = 8;
+    public static final long RETRY_BASE_DELAY_SECONDS = 5;
+    public static final long RETRY_MAX_DELAY_SECONDS = 600;
+    public static final int LAST_ERROR_MAX = 500;
+    // Partition lock (one consumer per partition across nodes); a drain stops taking batches at half of it
+    public static final String REDIS_KEY_PARTITION_LOCK_PREFIX = "gamification:progress-outbox:lock:";
+    public static final long PARTITION_LOCK_TTL_SECONDS = 60;
+    // Processed events are kept this long, then deleted in chunks
+    public static final long RETENTION_HOURS = 24;
+    public static final int CLEANUP_BATCH_SIZE = 5000;
+    // Throughput window of the metrics
+    public static final int THROUGHPUT_WINDOW_SECONDS = 60;
+
+    // ===== API =====
+    public static final String METRICS_PATH = "/metrics";
+}
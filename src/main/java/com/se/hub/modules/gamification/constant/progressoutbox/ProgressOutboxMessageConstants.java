@@ -0,0 +1,8 @@
+package com.se.hub.modules.gamification.constant.progressoutbox;
+
+public final class ProgressOutboxMessageConstants {
+    private ProgressOutboxMessageConstants() {}
+
+    // API Response Messages
+    public static final String API_METRICS_RETRIEVED_SUCCESS = "Progress pipeline metrics retrieved successfully";
+}
@@ -16,6 +16,7 @@ public final class SeasonMessageConstants {
     public static final String API_SEASON_RETRIEVED_BY_ID_SUCCESS = "Retrieved season by ID successfully";
     public static final String API_SEASON_UPDATED_SUCCESS = "Season updated successfully";
     public static final String API_SEASON_DELETED_SUCCESS = "Season deleted successfully";
+    public static final String API_SEASON_STANDINGS_RETRIEVED_SUCCESS = "Retrieved season standings successfully";
     public static final String API_BAD_REQUEST = "Bad request";
     public static final String API_INTERNAL_ERROR = "Internal server error";
 }
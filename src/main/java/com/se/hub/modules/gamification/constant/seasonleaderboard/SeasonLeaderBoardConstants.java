@@ -17,6 +17,17 @@ public final class SeasonLeaderBoardConstants {
     public static final String SEASON_XP_DEFINITION = "BIGINT";
     public static final String FINAL_RANK_DEFINITION = "INT";
     public static final String REWARD_STATUS_DEFINITION = "VARCHAR(50)";
+
+    // ===== LIVE LEADERBOARD =====
+    // ZSET gamificationProfileId -> XP earned in the season, kept while the season is active
+    public static final String REDIS_KEY_SEASON_BOARD_PREFIX = "ranking:season:";
+    // Events folded into the live board per query / at most per scheduler run
+    public static final int AGGREGATE_BATCH_SIZE = 1000;
+    public static final int AGGREGATE_MAX_BATCHES_PER_RUN = 200;
+    // Only events older than this are folded, so a transaction committing late is not skipped by the cursor
+    public static final long AGGREGATE_LAG_SECONDS = 120;
+    // Separates the create date and ID of the last folded event in the board cursor
+    public static final String CURSOR_SEPARATOR = "|";
 }
 
 
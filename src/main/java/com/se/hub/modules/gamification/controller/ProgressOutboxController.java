@@ -0,0 +1,47 @@
+package com.se.hub.modules.gamification.controller;
+
+import com.se.hub.common.constant.MessageCodeConstant;
+import com.se.hub.common.constant.MessageConstant;
+import com.se.hub.common.constant.ResponseCode;
+import com.se.hub.common.controller.BaseController;
+import com.se.hub.common.dto.response.GenericResponse;
+import com.se.hub.modules.gamification.constant.progressoutbox.ProgressOutboxConstants;
+import com.se.hub.modules.gamification.constant.progressoutbox.ProgressOutboxMessageConstants;
+import com.se.hub.modules.gamification.dto.response.ProgressOutboxMetricsResponse;
+import com.se.hub.modules.gamification.service.ProgressOutboxService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@Tag(name = "Progress Pipeline",
+        description = "Asynchronous gamification progress pipeline API")
+@RequestMapping("/progress-outbox")
+@RestController
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProgressOutboxController extends BaseController {
+    ProgressOutboxService progressOutboxService;
+
+    @GetMapping(ProgressOutboxConstants.METRICS_PATH)
+    @Operation(summary = "Get progress pipeline metrics (Admin only)",
+            description = "Pending and dead-lettered events and lag of the outbox, "
+                    + "plus processed, failed and throughput counters of the serving node")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200, description = ProgressOutboxMessageConstants.API_METRICS_RETRIEVED_SUCCESS),
+            @ApiResponse(responseCode = ResponseCode.FORBIDDEN_403, description = MessageConstant.FORBIDDEN)
+    })
+    public ResponseEntity<GenericResponse<ProgressOutboxMetricsResponse>> getMetrics() {
+        return success(progressOutboxService.getMetrics(), MessageCodeConstant.M005_RETRIEVED,
+                ProgressOutboxMessageConstants.API_METRICS_RETRIEVED_SUCCESS);
+    }
+}
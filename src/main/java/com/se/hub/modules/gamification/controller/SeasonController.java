@@ -15,6 +15,8 @@ import com.se.hub.modules.gamification.constant.season.SeasonMessageConstants;
 import com.se.hub.modules.gamification.dto.request.CreateSeasonRequest;
 import com.se.hub.modules.gamification.dto.request.UpdateSeasonRequest;
 import com.se.hub.modules.gamification.dto.response.SeasonResponse;
+import com.se.hub.modules.gamification.dto.response.SeasonStandingResponse;
+import com.se.hub.modules.gamification.service.SeasonLeaderBoardService;
 import com.se.hub.modules.gamification.service.SeasonService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -47,6 +49,7 @@ import org.springframework.web.bind.annotation.RestController;
 @Validated
 public class SeasonController extends BaseController {
     SeasonService seasonService;
+    SeasonLeaderBoardService seasonLeaderBoardService;
 
     @PostMapping
     @Operation(summary = "create new season",
@@ -112,6 +115,34 @@ public class SeasonController extends BaseController {
                 MessageConstant.RETRIEVED);
     }
 
+    @GetMapping("/{seasonId}/leaderboard")
+    @Operation(summary = "get season standings",
+            description = "get paged standings of a season: the final snapshot once finalized, live ranks while active")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200,
+                    description = SeasonMessageConstants.API_SEASON_STANDINGS_RETRIEVED_SUCCESS),
+            @ApiResponse(responseCode = ResponseCode.NOT_FOUND_404,
+                    description = GamificationMessageConstants.SEASON_NOT_FOUND_MESSAGE),
+            @ApiResponse(responseCode = ResponseCode.INTERNAL_ERROR_500,
+                    description = SeasonMessageConstants.API_INTERNAL_ERROR)
+    })
+    public ResponseEntity<GenericResponse<PagingResponse<SeasonStandingResponse>>> getSeasonStandings(
+            @PathVariable String seasonId,
+            @RequestParam(value = PaginationConstants.PARAM_PAGE, required = false,
+                    defaultValue = PaginationConstants.DEFAULT_PAGE) int page,
+            @RequestParam(value = PaginationConstants.PARAM_SIZE, required = false,
+                    defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE) int size
+    ) {
+        PagingRequest request = PagingRequest.builder()
+                .page(page)
+                .pageSize(size)
+                .build();
+
+        return success(seasonLeaderBoardService.getStandings(seasonId, request),
+                MessageCodeConstant.M005_RETRIEVED,
+                MessageConstant.RETRIEVED);
+    }
+
     @PutMapping("/{seasonId}")
     @Operation(summary = "update season",
             description = "update season information by season id")
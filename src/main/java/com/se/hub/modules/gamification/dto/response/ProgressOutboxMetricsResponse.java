@@ -0,0 +1,34 @@
+package com.se.hub.modules.gamification.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Progress pipeline health: backlog and lag from the outbox table (all nodes),
+ * counters and throughput of the serving node since it started
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProgressOutboxMetricsResponse {
+    long pendingEvents;
+    long failedEvents;
+    // Age of the oldest pending event, 0 when the outbox is drained
+    long lagSeconds;
+
+    long appended;
+    long processed;
+    long skipped;
+    long failedAttempts;
+    long deadLettered;
+    double processedPerSecond;
+    double meanProcessingMillis;
+}
@@ -0,0 +1,30 @@
+package com.se.hub.modules.gamification.dto.response;
+
+import com.se.hub.modules.gamification.enums.RewardStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * One row of season standings: the frozen snapshot of a finalized season, or the live ranks of an active one
+ * (rewardStatus is only set for a finalized season)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SeasonStandingResponse {
+    Long rank;
+    Long seasonXp;
+    RewardStatus rewardStatus;
+
+    String profileId;
+    String fullName;
+    String avtUrl;
+}
@@ -0,0 +1,78 @@
+package com.se.hub.modules.gamification.entity;
+
+import com.se.hub.modules.gamification.constant.progressoutbox.ProgressOutboxConstants;
+import com.se.hub.modules.gamification.enums.ProgressAction;
+import com.se.hub.modules.gamification.enums.ProgressEventStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+
+/**
+ * Progress event appended in the transaction of the domain action and applied asynchronously
+ * Not a BaseEntity: the identity ID orders a partition's events and keeps the row compact
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Entity
+@Table(name = ProgressOutboxConstants.TABLE_PROGRESS_OUTBOX)
+public class ProgressOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+
+    @Column(name = ProgressOutboxConstants.USER_ID, nullable = false,
+            columnDefinition = ProgressOutboxConstants.ID_DEFINITION)
+    String userId;
+
+    @Column(name = ProgressOutboxConstants.PROFILE_ID, nullable = false,
+            columnDefinition = ProgressOutboxConstants.ID_DEFINITION)
+    String profileId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = ProgressOutboxConstants.ACTION, nullable = false,
+            columnDefinition = ProgressOutboxConstants.ENUM_DEFINITION)
+    ProgressAction action;
+
+    @Column(name = ProgressOutboxConstants.PARTITION_NO, nullable = false)
+    int partitionNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = ProgressOutboxConstants.STATUS, nullable = false,
+            columnDefinition = ProgressOutboxConstants.ENUM_DEFINITION)
+    ProgressEventStatus status;
+
+    @Column(name = ProgressOutboxConstants.ATTEMPTS, nullable = false)
+    int attempts;
+
+    @Column(name = ProgressOutboxConstants.CREATE_DATE, nullable = false, updatable = false)
+    Instant createDate;
+
+    @Column(name = ProgressOutboxConstants.NEXT_ATTEMPT_AT, nullable = false)
+    Instant nextAttemptAt;
+
+    @Column(name = ProgressOutboxConstants.PROCESSED_AT)
+    Instant processedAt;
+
+    @Column(name = ProgressOutboxConstants.LAST_ERROR,
+            columnDefinition = ProgressOutboxConstants.LAST_ERROR_DEFINITION)
+    String lastError;
+}
@@ -0,0 +1,29 @@
+package com.se.hub.modules.gamification.enums;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Domain actions that advance a user's progress, with the user_stats deltas they add
+ * and the mission target they count towards (null if none)
+ */
+@Getter
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public enum ProgressAction {
+    EXAM_SUBMITTED(10, 1, 0, 0, 0, 0, MissionTargetType.EXAM),
+    COMMENT_CREATED(5, 0, 1, 0, 0, 0, MissionTargetType.COMMENT),
+    DOCUMENT_UPLOADED(100, 0, 0, 1, 0, 0, null),
+    BLOG_PUBLISHED(15, 0, 0, 0, 1, 0, MissionTargetType.BLOG),
+    BLOG_SHARED(5, 0, 0, 0, 0, 1, null);
+
+    int points;
+    int examsDone;
+    int cmtCount;
+    int docsUploaded;
+    int blogsUploaded;
+    int blogsShared;
+    MissionTargetType missionTarget;
+}
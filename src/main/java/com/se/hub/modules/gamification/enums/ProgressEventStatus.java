@@ -0,0 +1,7 @@
+package com.se.hub.modules.gamification.enums;
+
+public enum ProgressEventStatus {
+    PENDING,
+    PROCESSED,
+    FAILED
+}
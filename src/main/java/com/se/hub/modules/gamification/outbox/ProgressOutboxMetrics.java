@@ -0,0 +1,63 @@
+package com.se.hub.modules.gamification.outbox;
+
+import com.se.hub.modules.gamification.constant.progressoutbox.ProgressOutboxConstants;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free counters of the progress pipeline on this node, plus processed events per second
+ * over the last THROUGHPUT_WINDOW_SECONDS (one slot per second, reused as the window moves)
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProgressOutboxMetrics {
+    private static final int WINDOW = ProgressOutboxConstants.THROUGHPUT_WINDOW_SECONDS;
+
+    @Getter
+    LongAdder appended = new LongAdder();
+    @Getter
+    LongAdder processed = new LongAdder();
+    @Getter
+    LongAdder skipped = new LongAdder();
+    @Getter
+    LongAdder failedAttempts = new LongAdder();
+    @Getter
+    LongAdder deadLettered = new LongAdder();
+    LongAdder processingMillis = new LongAdder();
+    AtomicLongArray slotSecond = new AtomicLongArray(WINDOW);
+    AtomicLongArray slotCount = new AtomicLongArray(WINDOW);
+
+    public void recordProcessed(long millis) {
+        processed.increment();
+        processingMillis.add(millis);
+
+        long second = System.currentTimeMillis() / 1000;
+        int slot = (int) (second % WINDOW);
+        long slotStart = slotSecond.get(slot);
+        if (slotStart != second && slotSecond.compareAndSet(slot, slotStart, second)) {
+            slotCount.set(slot, 0);
+        }
+        slotCount.incrementAndGet(slot);
+    }
+
+    public double processedPerSecond() {
+        long now = System.currentTimeMillis() / 1000;
+        long count = 0;
+        for (int slot = 0; slot < WINDOW; slot++) {
+            if (now - slotSecond.get(slot) < WINDOW) {
+                count += slotCount.get(slot);
+            }
+        }
+        return (double) count / WINDOW;
+    }
+
+    public double meanProcessingMillis() {
+        long count = processed.sum();
+        return count == 0 ? 0 : (double) processingMillis.sum() / count;
+    }
+}
@@ -1,11 +1,35 @@
 package com.se.hub.modules.gamification.repository;
 
 import com.se.hub.modules.gamification.entity.GamificationEventLog;
+import com.se.hub.modules.gamification.repository.projection.SeasonXpEventProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
+
 @Repository
 public interface GamificationEventLogRepository extends JpaRepository<GamificationEventLog, String> {
-}
-
 
+    /**
+     * XP-earning events in [from, to) after the (afterDate, afterId) cursor, in cursor order
+     * Served by idx_gamification_event_log_xp_create_date_id (add_season_leaderboard_indexes.sql)
+     */
+    @Query("""
+        SELECT e.id AS id, e.createDate AS createDate,
+               e.gamificationProfile.id AS gamificationProfileId, e.xpDelta AS xpDelta
+        FROM GamificationEventLog e
+        WHERE e.xpDelta > 0
+          AND e.createDate >= :from AND e.createDate < :to
+          AND (e.createDate > :afterDate OR (e.createDate = :afterDate AND e.id > :afterId))
+        ORDER BY e.createDate, e.id
+        """)
+    List<SeasonXpEventProjection> findSeasonXpEventsAfter(@Param("from") Instant from,
+                                                         @Param("to") Instant to,
+                                                         @Param("afterDate") Instant afterDate,
+                                                         @Param("afterId") String afterId,
+                                                         Limit limit);
+}
@@ -0,0 +1,76 @@
+package com.se.hub.modules.gamification.repository;
+
+import com.se.hub.modules.gamification.entity.ProgressOutboxEvent;
+import com.se.hub.modules.gamification.enums.ProgressEventStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProgressOutboxRepository extends JpaRepository<ProgressOutboxEvent, Long> {
+
+    /**
+     * Due pending events of a partition in append order
+     * An event waits while an earlier event of the same user is waiting for a retry, so a user's events apply in order
+     */
+    @Query("""
+        SELECT e FROM ProgressOutboxEvent e
+        WHERE e.partitionNo = :partitionNo
+          AND e.status = com.se.hub.modules.gamification.enums.ProgressEventStatus.PENDING
+          AND e.nextAttemptAt <= :now
+          AND NOT EXISTS (
+              SELECT 1 FROM ProgressOutboxEvent earlier
+              WHERE earlier.userId = e.userId
+                AND earlier.status = com.se.hub.modules.gamification.enums.ProgressEventStatus.PENDING
+                AND earlier.id < e.id
+                AND earlier.nextAttemptAt > :now)
+        ORDER BY e.id
+        """)
+    List<ProgressOutboxEvent> findDue(@Param("partitionNo") int partitionNo, @Param("now") Instant now, Limit limit);
+
+    /**
+     * Claim a pending event as processed; 0 if it was already processed (the event is then skipped)
+     */
+    @Modifying
+    @Query("""
+        UPDATE ProgressOutboxEvent e
+        SET e.status = com.se.hub.modules.gamification.enums.ProgressEventStatus.PROCESSED,
+            e.processedAt = :now, e.attempts = e.attempts + 1
+        WHERE e.id = :id
+          AND e.status = com.se.hub.modules.gamification.enums.ProgressEventStatus.PENDING
+        """)
+    int markProcessed(@Param("id") Long id, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+        UPDATE ProgressOutboxEvent e
+        SET e.status = :status, e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError
+        WHERE e.id = :id
+        """)
+    int markFailedAttempt(@Param("id") Long id,
+                          @Param("status") ProgressEventStatus status,
+                          @Param("attempts") int attempts,
+                          @Param("nextAttemptAt") Instant nextAttemptAt,
+                          @Param("lastError") String lastError);
+
+    long countByStatus(ProgressEventStatus status);
+
+    Optional<ProgressOutboxEvent> findFirstByStatusOrderByIdAsc(ProgressEventStatus status);
+
+    @Modifying
+    @Query(value = """
+        DELETE FROM progress_outbox
+        WHERE id IN (
+            SELECT id FROM progress_outbox
+            WHERE status = 'PROCESSED' AND processed_at < :before
+            LIMIT :limit)
+        """, nativeQuery = true)
+    int deleteProcessedBefore(@Param("before") Instant before, @Param("limit") int limit);
+}
@@ -1,11 +1,57 @@
 package com.se.hub.modules.gamification.repository;
 
 import com.se.hub.modules.gamification.entity.SeasonLeaderBoard;
+import com.se.hub.modules.gamification.repository.projection.SeasonStandingProjection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+
 @Repository
 public interface SeasonLeaderBoardRepository extends JpaRepository<SeasonLeaderBoard, String> {
-}
 
+    /**
+     * Freeze a season's standings: sum the XP of the events in [from, to) per profile and rank them
+     * (competition ranks, ties share a rank) in one statement, without loading events into the application
+     * Re-running it overwrites the previous snapshot rows, reward status is kept
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO season_leaderboard (id, season_id, gamification_profile_id, season_xp, final_rank,
+                                        reward_status, create_date, updated_date)
+        SELECT gen_random_uuid()::text, :seasonId, totals.gamification_profile_id, totals.season_xp,
+               RANK() OVER (ORDER BY totals.season_xp DESC), 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+        FROM (
+            SELECT e.gamification_profile_id, SUM(e.xp_delta) AS season_xp
+            FROM gamification_event_log e
+            WHERE e.xp_delta > 0
+              AND e.create_date >= :from AND e.create_date < :to
+            GROUP BY e.gamification_profile_id
+        ) totals
+        ON CONFLICT (season_id, gamification_profile_id)
+        DO UPDATE SET
+            season_xp = EXCLUDED.season_xp,
+            final_rank = EXCLUDED.final_rank,
+            updated_date = CURRENT_TIMESTAMP
+        """, nativeQuery = true)
+    int snapshotSeason(@Param("seasonId") String seasonId,
+                       @Param("from") Instant from,
+                       @Param("to") Instant to);
 
+    @Query(value = """
+        SELECT s.finalRank AS finalRank, s.seasonXp AS seasonXp, s.rewardStatus AS rewardStatus,
+               p.id AS profileId, p.fullName AS fullName, p.avtUrl AS avtUrl
+        FROM SeasonLeaderBoard s
+        JOIN s.gamificationProfile g
+        JOIN g.profile p
+        WHERE s.season.id = :seasonId
+        ORDER BY s.finalRank, p.id
+        """,
+            countQuery = "SELECT COUNT(s) FROM SeasonLeaderBoard s WHERE s.season.id = :seasonId")
+    Page<SeasonStandingProjection> findStandingsBySeasonId(@Param("seasonId") String seasonId, Pageable pageable);
+}
@@ -1,11 +1,18 @@
 package com.se.hub.modules.gamification.repository;
 
 import com.se.hub.modules.gamification.entity.Season;
+import com.se.hub.modules.gamification.enums.SeasonStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface SeasonRepository extends JpaRepository<Season, String> {
-}
 
+    List<Season> findByStatusAndStartAtLessThanEqual(SeasonStatus status, LocalDate date);
 
+    List<Season> findByStatusInAndEndAtBefore(Collection<SeasonStatus> statuses, LocalDate date);
+}
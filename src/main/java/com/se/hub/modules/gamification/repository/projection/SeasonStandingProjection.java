@@ -0,0 +1,15 @@
+package com.se.hub.modules.gamification.repository.projection;
+
+import com.se.hub.modules.gamification.enums.RewardStatus;
+
+/**
+ * One row of a finalized season leaderboard with the profile card fields
+ */
+public interface SeasonStandingProjection {
+    int getFinalRank();
+    Long getSeasonXp();
+    RewardStatus getRewardStatus();
+    String getProfileId();
+    String getFullName();
+    String getAvtUrl();
+}
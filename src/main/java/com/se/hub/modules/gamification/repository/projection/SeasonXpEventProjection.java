@@ -0,0 +1,13 @@
+package com.se.hub.modules.gamification.repository.projection;
+
+import java.time.Instant;
+
+/**
+ * One XP-earning event, read in (createDate, id) order when a live season leaderboard is aggregated
+ */
+public interface SeasonXpEventProjection {
+    String getId();
+    Instant getCreateDate();
+    String getGamificationProfileId();
+    long getXpDelta();
+}
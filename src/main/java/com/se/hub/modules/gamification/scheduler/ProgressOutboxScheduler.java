@@ -0,0 +1,45 @@
+package com.se.hub.modules.gamification.scheduler;
+
+import com.se.hub.modules.gamification.service.ProgressOutboxService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler that drains the progress outbox and purges processed events
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProgressOutboxScheduler {
+    ProgressOutboxService progressOutboxService;
+
+    /**
+     * Polls every 500 ms by default; the next poll starts after the current drain finishes
+     */
+    @Scheduled(fixedDelayString = "${gamification.progress.poll-delay-ms:500}")
+    public void drain() {
+        try {
+            progressOutboxService.drain();
+        } catch (Exception e) {
+            log.error("ProgressOutboxScheduler_drain_Drain failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs hourly by default
+     */
+    @Scheduled(cron = "${gamification.progress.cleanup-cron:0 30 * * * ?}")
+    public void purgeProcessed() {
+        try {
+            int deleted = progressOutboxService.purgeProcessed();
+            log.debug("ProgressOutboxScheduler_purgeProcessed_Deleted {} processed events", deleted);
+        } catch (Exception e) {
+            log.error("ProgressOutboxScheduler_purgeProcessed_Purge failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.se.hub.modules.gamification.scheduler;
+
+import com.se.hub.modules.gamification.service.SeasonLeaderBoardService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler that keeps live season leaderboards up to date and freezes them when seasons end
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SeasonLeaderBoardScheduler {
+    SeasonLeaderBoardService seasonLeaderBoardService;
+
+    /**
+     * Runs every minute by default
+     */
+    @Scheduled(cron = "${season.leaderboard.aggregate-cron:0 * * * * ?}")
+    public void aggregateActiveSeasons() {
+        try {
+            seasonLeaderBoardService.aggregateActiveSeasons();
+        } catch (Exception e) {
+            log.error("SeasonLeaderBoardScheduler_aggregateActiveSeasons_Aggregation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs hourly by default, so a season is finalized within an hour of its last day
+     */
+    @Scheduled(cron = "${season.leaderboard.finalize-cron:0 5 * * * ?}")
+    public void finalizeEndedSeasons() {
+        try {
+            seasonLeaderBoardService.finalizeEndedSeasons();
+        } catch (Exception e) {
+            log.error("SeasonLeaderBoardScheduler_finalizeEndedSeasons_Finalization failed: {}", e.getMessage(), e);
+        }
+    }
+}
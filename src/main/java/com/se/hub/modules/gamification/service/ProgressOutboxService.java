@@ -0,0 +1,30 @@
+package com.se.hub.modules.gamification.service;
+
+import com.se.hub.modules.gamification.dto.response.ProgressOutboxMetricsResponse;
+import com.se.hub.modules.gamification.enums.ProgressAction;
+
+public interface ProgressOutboxService {
+    /**
+     * Append a progress event in the caller's transaction (one insert); it is applied after commit
+     * @param userId User whose stats, level and achievements advance
+     * @param profileId Profile (= gamification profile) whose missions advance
+     * @param action Domain action
+     */
+    void append(String userId, String profileId, ProgressAction action);
+
+    /**
+     * Apply due events of every partition this node can lock, one consumer per partition
+     */
+    void drain();
+
+    /**
+     * Delete processed events older than the retention
+     * @return number of deleted events
+     */
+    int purgeProcessed();
+
+    /**
+     * Backlog, lag and throughput of the pipeline (Admin only)
+     */
+    ProgressOutboxMetricsResponse getMetrics();
+}
@@ -0,0 +1,26 @@
+package com.se.hub.modules.gamification.service;
+
+import com.se.hub.common.dto.request.PagingRequest;
+import com.se.hub.common.dto.response.PagingResponse;
+import com.se.hub.modules.gamification.dto.response.SeasonStandingResponse;
+
+public interface SeasonLeaderBoardService {
+    /**
+     * Get paged standings of a season
+     * Finalized seasons are read from the frozen snapshot, other seasons from the live leaderboard
+     * @param seasonId Season ID
+     * @param request Paging request
+     * @return PagingResponse with standings in rank order
+     */
+    PagingResponse<SeasonStandingResponse> getStandings(String seasonId, PagingRequest request);
+
+    /**
+     * Fold new XP events of every active season into its live leaderboard (bounded work per call)
+     */
+    void aggregateActiveSeasons();
+
+    /**
+     * Write the final snapshot of every season whose end date has passed and mark it finalized
+     */
+    void finalizeEndedSeasons();
+}
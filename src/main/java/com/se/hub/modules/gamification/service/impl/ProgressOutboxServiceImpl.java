@@ -0,0 +1,265 @@
+package com.se.hub.modules.gamification.service.impl;
+
+import com.se.hub.common.enums.ErrorCode;
+import com.se.hub.common.exception.AppException;
+import com.se.hub.modules.gamification.constant.progressoutbox.ProgressOutboxConstants;
+import com.se.hub.modules.gamification.dto.response.ProgressOutboxMetricsResponse;
+import com.se.hub.modules.gamification.entity.ProgressOutboxEvent;
+import com.se.hub.modules.gamification.enums.ProgressAction;
+import com.se.hub.modules.gamification.enums.ProgressEventStatus;
+import com.se.hub.modules.gamification.outbox.ProgressOutboxMetrics;
+import com.se.hub.modules.gamification.repository.ProgressOutboxRepository;
+import com.se.hub.modules.gamification.service.MissionProgressService;
+import com.se.hub.modules.gamification.service.ProgressOutboxService;
+import com.se.hub.modules.profile.service.api.ProfileProgressService;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Progress Outbox Service Implementation
+ *
+ * - Domain actions append a ProgressOutboxEvent in their own transaction, so the request pays one insert
+ *   and an event exists if and only if the action committed
+ * - drain() runs one virtual thread per partition; a Redis lock per partition keeps a single consumer
+ *   across nodes, so a user's events (same partition) are applied in append order
+ * - Each event is applied in its own transaction together with its PENDING -> PROCESSED claim: a crash
+ *   leaves it pending, a second delivery finds it processed and is skipped
+ * - A failed event is retried with exponential backoff and dead-lettered (FAILED) after MAX_ATTEMPTS;
+ *   later events of the same user wait for it
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProgressOutboxServiceImpl implements ProgressOutboxService {
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    ProgressOutboxRepository progressOutboxRepository;
+    ProgressOutboxMetrics progressOutboxMetrics;
+    ProfileProgressService profileProgressService;
+    MissionProgressService missionProgressService;
+    StringRedisTemplate stringRedisTemplate;
+    PlatformTransactionManager transactionManager;
+    ExecutorService consumerExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PreDestroy
+    public void shutdown() {
+        consumerExecutor.shutdownNow();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String userId, String profileId, ProgressAction action) {
+        Instant now = Instant.now();
+        progressOutboxRepository.save(ProgressOutboxEvent.builder()
+                .userId(userId)
+                .profileId(profileId)
+                .action(action)
+                .partitionNo(Math.floorMod(userId.hashCode(), ProgressOutboxConstants.PARTITIONS))
+                .status(ProgressEventStatus.PENDING)
+                .attempts(0)
+                .createDate(now)
+                .nextAttemptAt(now)
+                .build());
+        progressOutboxMetrics.getAppended().increment();
+    }
+
+    @Override
+    public void drain() {
+        List<CompletableFuture<Void>> consumers = new ArrayList<>(ProgressOutboxConstants.PARTITIONS);
+        for (int partition = 0; partition < ProgressOutboxConstants.PARTITIONS; partition++) {
+            int partitionNo = partition;
+            consumers.add(CompletableFuture.runAsync(() -> drainPartition(partitionNo), consumerExecutor));
+        }
+        CompletableFuture.allOf(consumers.toArray(CompletableFuture[]::new)).join();
+    }
+
+    @Override
+    public int purgeProcessed() {
+        Instant before = Instant.now().minus(Duration.ofHours(ProgressOutboxConstants.RETENTION_HOURS));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int total = 0;
+        int deleted;
+        do {
+            Integer rows = transactionTemplate.execute(status -> progressOutboxRepository.deleteProcessedBefore(
+                    before, ProgressOutboxConstants.CLEANUP_BATCH_SIZE));
+            deleted = rows == null ? 0 : rows;
+            total += deleted;
+        } while (deleted == ProgressOutboxConstants.CLEANUP_BATCH_SIZE);
+        return total;
+    }
+
+    @Override
+    public ProgressOutboxMetricsResponse getMetrics() {
+        if (!isAdmin()) {
+            log.error("ProgressOutboxService_getMetrics_Current user is not admin");
+            throw new AppException(ErrorCode.AUTHZ_UNAUTHORIZED);
+        }
+
+        long lagSeconds = progressOutboxRepository.findFirstByStatusOrderByIdAsc(ProgressEventStatus.PENDING)
+                .map(oldest -> Math.max(0, Duration.between(oldest.getCreateDate(), Instant.now()).toSeconds()))
+                .orElse(0L);
+
+        return ProgressOutboxMetricsResponse.builder()
+                .pendingEvents(progressOutboxRepository.countByStatus(ProgressEventStatus.PENDING))
+                .failedEvents(progressOutboxRepository.countByStatus(ProgressEventStatus.FAILED))
+                .lagSeconds(lagSeconds)
+                .appended(progressOutboxMetrics.getAppended().sum())
+                .processed(progressOutboxMetrics.getProcessed().sum())
+                .skipped(progressOutboxMetrics.getSkipped().sum())
+                .failedAttempts(progressOutboxMetrics.getFailedAttempts().sum())
+                .deadLettered(progressOutboxMetrics.getDeadLettered().sum())
+                .processedPerSecond(progressOutboxMetrics.processedPerSecond())
+                .meanProcessingMillis(progressOutboxMetrics.meanProcessingMillis())
+                .build();
+    }
+
+    /* ========================  HELPERS  ======================== */
+
+    /**
+     * Apply due batches of one partition until it is drained or half the lock TTL has passed
+     */
+    private void drainPartition(int partitionNo) {
+        String lockKey = ProgressOutboxConstants.REDIS_KEY_PARTITION_LOCK_PREFIX + partitionNo;
+        String token = UUID.randomUUID().toString();
+        Duration lockTtl = Duration.ofSeconds(ProgressOutboxConstants.PARTITION_LOCK_TTL_SECONDS);
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl))) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("ProgressOutboxService_drainPartition_Failed to lock partition {}: {}", partitionNo, e.getMessage());
+            return;
+        }
+
+        try {
+            Instant stopAt = Instant.now().plus(lockTtl.dividedBy(2));
+            List<ProgressOutboxEvent> batch;
+            do {
+                batch = progressOutboxRepository.findDue(partitionNo, Instant.now(),
+                        Limit.of(ProgressOutboxConstants.BATCH_SIZE));
+                // A user whose event failed waits for its retry; skip the rest of their events in this batch
+                Set<String> blockedUsers = new HashSet<>();
+                for (ProgressOutboxEvent event : batch) {
+                    if (blockedUsers.contains(event.getUserId()) || !process(event)) {
+                        blockedUsers.add(event.getUserId());
+                    }
+                }
+            } while (batch.size() == ProgressOutboxConstants.BATCH_SIZE && Instant.now().isBefore(stopAt));
+        } catch (Exception e) {
+            log.error("ProgressOutboxService_drainPartition_Partition {} failed: {}", partitionNo, e.getMessage(), e);
+        } finally {
+            try {
+                stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), token);
+            } catch (Exception e) {
+                // The lock expires on its own
+                log.warn("ProgressOutboxService_drainPartition_Failed to unlock partition {}: {}", partitionNo, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Claim and apply one event in a single transaction
+     * @return false if it failed (it is scheduled for a retry or dead-lettered)
+     */
+    private boolean process(ProgressOutboxEvent event) {
+        long start = System.nanoTime();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            Boolean applied = transactionTemplate.execute(status -> {
+                if (progressOutboxRepository.markProcessed(event.getId(), Instant.now()) == 0) {
+                    return false;
+                }
+                profileProgressService.applyAction(event.getUserId(), event.getAction());
+                if (event.getAction().getMissionTarget() != null) {
+                    missionProgressService.updateCurrentValue(event.getProfileId(), event.getAction().getMissionTarget());
+                }
+                return true;
+            });
+            if (Boolean.TRUE.equals(applied)) {
+                progressOutboxMetrics.recordProcessed(Duration.ofNanos(System.nanoTime() - start).toMillis());
+            } else {
+                progressOutboxMetrics.getSkipped().increment();
+            }
+            return true;
+        } catch (Exception e) {
+            recordFailure(event, e);
+            return false;
+        }
+    }
+
+    private void recordFailure(ProgressOutboxEvent event, Exception cause) {
+        int attempts = event.getAttempts() + 1;
+        boolean deadLetter = attempts >= ProgressOutboxConstants.MAX_ATTEMPTS;
+        long delaySeconds = Math.min(ProgressOutboxConstants.RETRY_MAX_DELAY_SECONDS,
+                ProgressOutboxConstants.RETRY_BASE_DELAY_SECONDS << Math.min(attempts - 1, 20));
+        String error = String.valueOf(cause.getMessage());
+        if (error.length() > ProgressOutboxConstants.LAST_ERROR_MAX) {
+            error = error.substring(0, ProgressOutboxConstants.LAST_ERROR_MAX);
+        }
+
+        String lastError = error;
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    progressOutboxRepository.markFailedAttempt(event.getId(),
+                            deadLetter ? ProgressEventStatus.FAILED : ProgressEventStatus.PENDING,
+                            attempts, Instant.now().plusSeconds(delaySeconds), lastError));
+        } catch (Exception e) {
+            // Still pending and due: retried on the next drain
+            log.error("ProgressOutboxService_recordFailure_Failed to record failure of event {}: {}",
+                    event.getId(), e.getMessage());
+        }
+
+        progressOutboxMetrics.getFailedAttempts().increment();
+        if (deadLetter) {
+            progressOutboxMetrics.getDeadLettered().increment();
+            log.error("ProgressOutboxService_recordFailure_Event {} ({} for user {}) dead-lettered after {} attempts: {}",
+                    event.getId(), event.getAction(), event.getUserId(), attempts, lastError);
+        } else {
+            log.warn("ProgressOutboxService_recordFailure_Event {} failed (attempt {}), retry in {}s: {}",
+                    event.getId(), attempts, delaySeconds, lastError);
+        }
+    }
+
+    private boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(authority -> authority.equals("ROLE_ADMIN"));
+    }
+}
@@ -0,0 +1,275 @@
+package com.se.hub.modules.gamification.service.impl;
+
+import com.se.hub.common.constant.GlobalVariable;
+import com.se.hub.common.dto.request.PagingRequest;
+import com.se.hub.common.dto.response.PagingResponse;
+import com.se.hub.modules.gamification.constant.seasonleaderboard.SeasonLeaderBoardConstants;
+import com.se.hub.modules.gamification.dto.response.SeasonStandingResponse;
+import com.se.hub.modules.gamification.entity.Season;
+import com.se.hub.modules.gamification.enums.SeasonStatus;
+import com.se.hub.modules.gamification.exception.GamificationErrorCode;
+import com.se.hub.modules.gamification.repository.GamificationEventLogRepository;
+import com.se.hub.modules.gamification.repository.SeasonLeaderBoardRepository;
+import com.se.hub.modules.gamification.repository.SeasonRepository;
+import com.se.hub.modules.gamification.repository.projection.SeasonStandingProjection;
+import com.se.hub.modules.gamification.repository.projection.SeasonXpEventProjection;
+import com.se.hub.modules.gamification.service.SeasonLeaderBoardService;
+import com.se.hub.modules.profile.constant.activity.ActivityConstants;
+import com.se.hub.modules.profile.entity.Profile;
+import com.se.hub.modules.profile.repository.ProfileRepository;
+import com.se.hub.modules.ranking.board.LeaderboardEntry;
+import com.se.hub.modules.ranking.board.LeaderboardWindow;
+import com.se.hub.modules.ranking.board.RedisLeaderboard;
+import com.se.hub.modules.ranking.constant.RankingConstants;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Season Leaderboard Service Implementation
+ *
+ * - While a season is active its live leaderboard is a Redis sorted set (RedisLeaderboard) of
+ *   gamificationProfileId -> XP, fed from gamification_event_log in keyset chunks; each chunk is
+ *   applied together with the cursor it ends at, so runs resume where the last one stopped and a
+ *   chunk read by two nodes is counted once
+ * - Events younger than AGGREGATE_LAG_SECONDS are left for the next run, live ranks are approximate
+ * - At rollover the snapshot is recomputed exactly in one set-based statement into season_leaderboard,
+ *   the season is marked FINALIZED and the live board dropped; finalized standings are served from it
+ * - A season covers [startAt, endAt] as whole days in ActivityConstants.DEFAULT_TIMEZONE
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SeasonLeaderBoardServiceImpl implements SeasonLeaderBoardService {
+    private static final ZoneId SEASON_ZONE = ZoneId.of(ActivityConstants.DEFAULT_TIMEZONE);
+
+    SeasonRepository seasonRepository;
+    SeasonLeaderBoardRepository seasonLeaderBoardRepository;
+    GamificationEventLogRepository gamificationEventLogRepository;
+    ProfileRepository profileRepository;
+    RedisLeaderboard redisLeaderboard;
+    PlatformTransactionManager transactionManager;
+
+    @Override
+    public PagingResponse<SeasonStandingResponse> getStandings(String seasonId, PagingRequest request) {
+        Season season = seasonRepository.findById(seasonId)
+                .orElseThrow(GamificationErrorCode.SEASON_NOT_FOUND::toException);
+
+        if (season.getStatus() == SeasonStatus.FINALIZED) {
+            return getSnapshotStandings(seasonId, request);
+        }
+        return getLiveStandings(seasonId, request);
+    }
+
+    @Override
+    public void aggregateActiveSeasons() {
+        Instant horizon = Instant.now().minusSeconds(SeasonLeaderBoardConstants.AGGREGATE_LAG_SECONDS);
+        List<Season> seasons = seasonRepository.findByStatusAndStartAtLessThanEqual(
+                SeasonStatus.ACTIVE, LocalDate.now(SEASON_ZONE));
+        for (Season season : seasons) {
+            try {
+                aggregate(season, horizon);
+            } catch (Exception e) {
+                log.warn("SeasonLeaderBoardService_aggregateActiveSeasons_Failed to aggregate season {}: {}",
+                        season.getId(), e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void finalizeEndedSeasons() {
+        List<Season> seasons = seasonRepository.findByStatusInAndEndAtBefore(
+                List.of(SeasonStatus.ACTIVE, SeasonStatus.ENDED), LocalDate.now(SEASON_ZONE));
+        for (Season season : seasons) {
+            try {
+                finalizeSeason(season.getId());
+            } catch (Exception e) {
+                log.error("SeasonLeaderBoardService_finalizeEndedSeasons_Failed to finalize season {}: {}",
+                        season.getId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /* ========================  HELPERS  ======================== */
+
+    /**
+     * Fold up to AGGREGATE_MAX_BATCHES_PER_RUN chunks of the season's events older than horizon
+     */
+    private void aggregate(Season season, Instant horizon) {
+        String board = boardKey(season.getId());
+        Instant from = startOfDay(season.getStartAt());
+        Instant end = startOfDay(season.getEndAt().plusDays(1));
+        Instant to = end.isBefore(horizon) ? end : horizon;
+        if (!to.isAfter(from)) {
+            return;
+        }
+
+        String cursor = redisLeaderboard.cursor(board);
+        long events = 0;
+        for (int batch = 0; batch < SeasonLeaderBoardConstants.AGGREGATE_MAX_BATCHES_PER_RUN; batch++) {
+            Instant afterDate = from;
+            String afterId = RankingConstants.FIRST_ID;
+            if (!cursor.isEmpty()) {
+                int separator = cursor.indexOf(SeasonLeaderBoardConstants.CURSOR_SEPARATOR);
+                afterDate = Instant.parse(cursor.substring(0, separator));
+                afterId = cursor.substring(separator + 1);
+            }
+
+            List<SeasonXpEventProjection> chunk = gamificationEventLogRepository.findSeasonXpEventsAfter(
+                    from, to, afterDate, afterId, Limit.of(SeasonLeaderBoardConstants.AGGREGATE_BATCH_SIZE));
+            if (chunk.isEmpty()) {
+                if (cursor.isEmpty()) {
+                    // No XP yet: materialize the empty board so standings read it instead of nothing
+                    redisLeaderboard.applyChunk(board, cursor, cursor, Map.of());
+                }
+                break;
+            }
+
+            Map<String, Double> deltas = new HashMap<>();
+            for (SeasonXpEventProjection event : chunk) {
+                deltas.merge(event.getGamificationProfileId(), (double) event.getXpDelta(), Double::sum);
+            }
+            SeasonXpEventProjection last = chunk.getLast();
+            String next = last.getCreateDate() + SeasonLeaderBoardConstants.CURSOR_SEPARATOR + last.getId();
+            if (!redisLeaderboard.applyChunk(board, cursor, next, deltas)) {
+                log.debug("SeasonLeaderBoardService_aggregate_Season {} advanced by another node", season.getId());
+                break;
+            }
+            cursor = next;
+            events += chunk.size();
+            if (chunk.size() < SeasonLeaderBoardConstants.AGGREGATE_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        if (events > 0) {
+            log.debug("SeasonLeaderBoardService_aggregate_Folded {} events into season {}", events, season.getId());
+        }
+    }
+
+    /**
+     * Snapshot and status change commit together; the live board is dropped afterwards
+     */
+    private void finalizeSeason(String seasonId) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Integer ranked = transactionTemplate.execute(status -> {
+            Season season = seasonRepository.findById(seasonId).orElse(null);
+            if (season == null || season.getStatus() == SeasonStatus.FINALIZED) {
+                return null;
+            }
+            int rows = seasonLeaderBoardRepository.snapshotSeason(seasonId,
+                    startOfDay(season.getStartAt()), startOfDay(season.getEndAt().plusDays(1)));
+            season.setStatus(SeasonStatus.FINALIZED);
+            seasonRepository.save(season);
+            return rows;
+        });
+        if (ranked == null) {
+            return;
+        }
+        log.info("SeasonLeaderBoardService_finalizeSeason_Finalized season {}, {} profiles ranked", seasonId, ranked);
+
+        try {
+            redisLeaderboard.delete(boardKey(seasonId));
+        } catch (Exception e) {
+            // Finalized standings no longer read the live board
+            log.warn("SeasonLeaderBoardService_finalizeSeason_Failed to drop live board of {}: {}",
+                    seasonId, e.getMessage());
+        }
+    }
+
+    private PagingResponse<SeasonStandingResponse> getSnapshotStandings(String seasonId, PagingRequest request) {
+        Page<SeasonStandingProjection> standingPages = seasonLeaderBoardRepository.findStandingsBySeasonId(
+                seasonId, PageRequest.of(request.getPage() - GlobalVariable.PAGE_SIZE_INDEX, request.getPageSize()));
+
+        return PagingResponse.<SeasonStandingResponse>builder()
+                .currentPage(request.getPage())
+                .pageSize(request.getPageSize())
+                .totalPages(standingPages.getTotalPages())
+                .totalElement(standingPages.getTotalElements())
+                .data(standingPages.getContent().stream()
+                        .map(standing -> SeasonStandingResponse.builder()
+                                .rank((long) standing.getFinalRank())
+                                .seasonXp(standing.getSeasonXp())
+                                .rewardStatus(standing.getRewardStatus())
+                                .profileId(standing.getProfileId())
+                                .fullName(standing.getFullName())
+                                .avtUrl(standing.getAvtUrl())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Live ranks of an unfinished season; empty until the first aggregation run materializes the board
+     */
+    private PagingResponse<SeasonStandingResponse> getLiveStandings(String seasonId, PagingRequest request) {
+        long offset = (long) (request.getPage() - GlobalVariable.PAGE_SIZE_INDEX) * request.getPageSize();
+        Optional<LeaderboardWindow> window = redisLeaderboard.range(boardKey(seasonId), offset, request.getPageSize());
+        long total = window.map(LeaderboardWindow::getTotal).orElse(0L);
+        List<LeaderboardEntry> entries = window.map(LeaderboardWindow::getEntries).orElse(List.of());
+
+        return PagingResponse.<SeasonStandingResponse>builder()
+                .currentPage(request.getPage())
+                .pageSize(request.getPageSize())
+                .totalPages((int) ((total + request.getPageSize() - 1) / request.getPageSize()))
+                .totalElement(total)
+                .data(hydrate(entries))
+                .build();
+    }
+
+    /**
+     * Standings of the live entries, in order, with one profile query for the page
+     */
+    private List<SeasonStandingResponse> hydrate(List<LeaderboardEntry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Profile> profilesById = profileRepository.findAllById(
+                        entries.stream().map(LeaderboardEntry::getMember).toList())
+                .stream()
+                .collect(Collectors.toMap(Profile::getId, Function.identity()));
+
+        List<SeasonStandingResponse> responses = new ArrayList<>(entries.size());
+        for (LeaderboardEntry entry : entries) {
+            Profile profile = profilesById.get(entry.getMember());
+            if (profile == null) {
+                continue;
+            }
+            responses.add(SeasonStandingResponse.builder()
+                    .rank(entry.getRank())
+                    .seasonXp((long) entry.getScore())
+                    .profileId(profile.getId())
+                    .fullName(profile.getFullName())
+                    .avtUrl(profile.getAvtUrl())
+                    .build());
+        }
+        return responses;
+    }
+
+    private static Instant startOfDay(LocalDate date) {
+        return date.atStartOfDay(SEASON_ZONE).toInstant();
+    }
+
+    private static String boardKey(String seasonId) {
+        return SeasonLeaderBoardConstants.REDIS_KEY_SEASON_BOARD_PREFIX + seasonId;
+    }
+}
@@ -0,0 +1,38 @@
+package com.se.hub.modules.interaction.constant;
+
+/**
+ * Reaction Counter Constants
+ * Redis keys and defaults for the Redis-backed reaction counters
+ */
+public class ReactionCounterConstants {
+    //===== REDIS KEY PATTERNS ======
+    // reaction:count:TARGET_TYPE:targetId -> HASH {LIKE, DISLIKE, v}
+    public static final String REDIS_KEY_COUNT_PREFIX = "reaction:count:";
+    // reaction:state:TARGET_TYPE:targetId -> HASH userId -> LIKE | DISLIKE | NONE
+    public static final String REDIS_KEY_STATE_PREFIX = "reaction:state:";
+    // SET of TARGET_TYPE:targetId with reaction changes not yet written to DB
+    public static final String REDIS_KEY_DIRTY_TARGETS = "reaction:dirty";
+    // reaction:dirty:TARGET_TYPE:targetId -> SET of userIds whose state changed
+    public static final String REDIS_KEY_DIRTY_USERS_PREFIX = "reaction:dirty:";
+    public static final String REDIS_KEY_RECONCILE_LOCK = "reaction:reconcile:lock";
+
+    //===== RESOURCE VERSIONS ======
+    // reactions:TARGET_TYPE:userId - bumped on every toggle by the user (validator of the viewer's reaction state)
+    public static final String VERSION_USER_REACTIONS_PREFIX = "reactions:";
+
+    //===== HASH FIELDS ======
+    // Incremented on every toggle; lets the reconciler detect concurrent changes
+    public static final String FIELD_VERSION = "v";
+    // State value for a user known to have no reaction
+    public static final String STATE_NONE = "NONE";
+
+    public static final String KEY_SEPARATOR = ":";
+
+    //===== DEFAULTS ======
+    public static final long KEY_TTL_SECONDS = 7 * 24 * 3600L; // 7 days, refreshed on every toggle
+    public static final int RECONCILE_BATCH_SIZE = 200;
+    public static final int DRIFT_SCAN_BATCH_SIZE = 500;
+    public static final long RECONCILE_LOCK_TTL_SECONDS = 120;
+
+    private ReactionCounterConstants() {}
+}
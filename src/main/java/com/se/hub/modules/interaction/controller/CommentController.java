@@ -17,7 +17,6 @@ import com.se.hub.modules.interaction.dto.response.CommentResponse;
 import com.se.hub.modules.interaction.service.api.CommentService;
 import com.se.hub.modules.profile.dto.response.ProfileResponse;
 import com.se.hub.modules.profile.service.api.FollowService;
-import com.se.hub.modules.profile.service.api.ProfileProgressService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -50,7 +49,6 @@ import java.util.List;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 @Validated
 public class CommentController extends BaseController {
-    ProfileProgressService profileProgressService;
     CommentService commentService;
     FollowService followService;
 
@@ -65,9 +63,6 @@ public class CommentController extends BaseController {
     public ResponseEntity<GenericResponse<CommentResponse>> createComment(
             @Valid @RequestBody CreateCommentRequest request) {
         CommentResponse response = commentService.createComment(request);
-
-        profileProgressService.updateCmtCount();
-
         return success(response, MessageCodeConstant.M002_CREATED, MessageConstant.CREATED);
     }
 
@@ -25,6 +25,14 @@ public interface ReactionRepository extends JpaRepository<Reaction, String> {
             String targetId,
             Profile user);
 
+    /**
+     * Find reaction by target and the user ID of the reacting profile
+     */
+    Optional<Reaction> findByTargetTypeAndTargetIdAndUser_User_Id(
+            TargetType targetType,
+            String targetId,
+            String userId);
+
     /**
      * Count reactions by target and reaction type
      */
@@ -0,0 +1,50 @@
+package com.se.hub.modules.interaction.scheduler;
+
+import com.se.hub.modules.interaction.service.api.ReactionCounterService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler that syncs Redis reaction counters back to the database
+ * Runs periodic jobs to:
+ * - Write changed reactions to the reaction table, blogs.reactionCount, user_stats and activity
+ * - Repair drift between Redis counts and the reaction table
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReactionReconcileScheduler {
+    ReactionCounterService reactionCounterService;
+
+    /**
+     * Reconcile targets changed since the last run
+     * Runs every reconcile interval (default 5 seconds)
+     */
+    @Scheduled(fixedDelayString = "${reaction.counter.reconcile-interval-ms:5000}")
+    public void reconcile() {
+        try {
+            reactionCounterService.reconcile();
+        } catch (Exception e) {
+            // Dirty targets stay in Redis and are retried on the next run
+            log.error("ReactionReconcileScheduler_reconcile_Reconcile failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Repair drift for all tracked targets
+     * Runs hourly by default
+     */
+    @Scheduled(cron = "${reaction.counter.drift-repair-cron:0 15 * * * ?}")
+    public void repairDrift() {
+        try {
+            reactionCounterService.repairDrift();
+        } catch (Exception e) {
+            log.error("ReactionReconcileScheduler_repairDrift_Drift repair failed: {}", e.getMessage(), e);
+        }
+    }
+}
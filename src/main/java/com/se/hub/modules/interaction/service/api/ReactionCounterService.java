@@ -0,0 +1,56 @@
+package com.se.hub.modules.interaction.service.api;
+
+import com.se.hub.modules.interaction.dto.response.ReactionInfo;
+import com.se.hub.modules.interaction.dto.response.ReactionToggleResult;
+import com.se.hub.modules.interaction.enums.ReactionType;
+import com.se.hub.modules.interaction.enums.TargetType;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Redis-backed reaction counters.
+ * Per-target like/dislike counts and per-user reaction state live in Redis and are
+ * updated by atomic scripts; the reconciler writes them back to the database.
+ */
+public interface ReactionCounterService {
+    /**
+     * Toggle a user's reaction in Redis (no database write)
+     * @param targetType target type
+     * @param targetId target ID
+     * @param userId reacting user ID
+     * @param reactionType reaction type
+     * @return isAdded flag and the count of the given reaction type after the toggle
+     */
+    ReactionToggleResult toggle(TargetType targetType, String targetId, String userId, ReactionType reactionType);
+
+    /**
+     * Count of one reaction type for a target
+     * @return count, or null if the target is not tracked in Redis
+     */
+    Long getCount(TargetType targetType, String targetId, ReactionType reactionType);
+
+    /**
+     * Net reaction counts (likes - dislikes) for multiple targets (single round trip)
+     * @return map of targetId -> net count; targets not tracked in Redis are omitted
+     */
+    Map<String, Long> getNetCounts(TargetType targetType, Collection<String> targetIds);
+
+    /**
+     * Reaction state of a user for multiple targets (single round trip)
+     * @return map of targetId -> ReactionInfo; targets whose state for this user is not in Redis are omitted
+     */
+    Map<String, ReactionInfo> getUserReactions(TargetType targetType, Collection<String> targetIds, String userId);
+
+    /**
+     * Write changed reactions to the database and repair the Redis counts of the affected targets
+     * @return number of targets reconciled
+     */
+    int reconcile();
+
+    /**
+     * Compare every tracked target's Redis counts with the reaction table and repair drift
+     * @return number of targets repaired
+     */
+    int repairDrift();
+}
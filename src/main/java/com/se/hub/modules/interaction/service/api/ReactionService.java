@@ -46,6 +46,14 @@ public interface ReactionService {
      */
     long getReactionCount(TargetType targetType, String targetId, ReactionType reactionType);
 
+    /**
+     * Net reaction counts (likes - dislikes) of targets whose counters are live in Redis
+     * @param targetType The target type (BLOG, COMMENT, etc.)
+     * @param targetIds List of target IDs
+     * @return Map of targetId to net count; targets without live counters are omitted
+     */
+    Map<String, Long> getNetReactionCounts(TargetType targetType, List<String> targetIds);
+
     /**
      * Get reaction count using string target type (converts to enum internally)
      * @param targetTypeString String representation of target type
@@ -69,6 +77,15 @@ public interface ReactionService {
      */
     Map<String, ReactionInfo> getReactionsForTargets(TargetType targetType, List<String> targetIds, String userId);
 
+    /**
+     * Version stamp of a user's reactions on a target type; changes on every toggle by the user.
+     * Used in conditional GET validators of responses that render the user's reaction state.
+     * @param targetType The target type
+     * @param userId User ID (can be null for anonymous users)
+     * @return epoch millis (0 for anonymous users), or null when unavailable
+     */
+    Long getUserReactionsVersion(TargetType targetType, String userId);
+
     /**
      * Get all reactions with pagination
      * @param request Paging request with page, pageSize, and sort information
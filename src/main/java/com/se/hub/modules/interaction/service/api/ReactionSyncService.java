@@ -0,0 +1,31 @@
+package com.se.hub.modules.interaction.service.api;
+
+import com.se.hub.modules.interaction.enums.ReactionType;
+import com.se.hub.modules.interaction.enums.TargetType;
+
+import java.util.Map;
+
+/**
+ * Writes reaction state buffered in Redis to the database.
+ * Called by the reaction reconciler; each call runs in its own transaction.
+ */
+public interface ReactionSyncService {
+    /**
+     * Apply the latest reaction state of the given users to the reaction table,
+     * update comment owner points and reactor activity for each transition,
+     * then sync the target's denormalized count.
+     * @param targetType target type
+     * @param targetId target ID
+     * @param userStates map of userId -> LIKE | DISLIKE | NONE
+     * @return reaction counts of the target after the sync
+     */
+    Map<ReactionType, Long> syncTarget(TargetType targetType, String targetId, Map<String, String> userStates);
+
+    /**
+     * Recompute the target's counts from the reaction table and sync its denormalized count
+     * @param targetType target type
+     * @param targetId target ID
+     * @return reaction counts of the target
+     */
+    Map<ReactionType, Long> syncCounts(TargetType targetType, String targetId);
+}
@@ -1,5 +1,8 @@
 package com.se.hub.modules.interaction.service.impl;
 
+import com.se.hub.common.batch.RequestBatchLoader;
+import com.se.hub.common.cache.CacheInvalidationService;
+import com.se.hub.common.constant.BatchLoaderConstants;
 import com.se.hub.common.constant.GlobalVariable;
 import com.se.hub.common.dto.request.PagingRequest;
 import com.se.hub.common.dto.response.PagingResponse;
@@ -8,6 +11,8 @@ import com.se.hub.common.exception.AppException;
 import com.se.hub.common.utils.PagingUtil;
 import com.se.hub.modules.blog.constant.BlogCacheConstants;
 import com.se.hub.modules.blog.repository.BlogRepository;
+import com.se.hub.modules.gamification.enums.ProgressAction;
+import com.se.hub.modules.gamification.service.ProgressOutboxService;
 import com.se.hub.modules.auth.utils.AuthUtils;
 import com.se.hub.modules.interaction.dto.request.CreateCommentRequest;
 import com.se.hub.modules.interaction.dto.request.UpdateCommentRequest;
@@ -25,19 +30,22 @@ import com.se.hub.modules.profile.entity.Profile;
 import com.se.hub.modules.profile.repository.ProfileRepository;
 import com.se.hub.modules.profile.service.api.ActivityService;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.cache.annotation.CacheEvict;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Comment Service Implementation
@@ -59,8 +67,11 @@ public class CommentServiceImpl implements CommentService {
     BlogRepository blogRepository;
     ProfileRepository profileRepository;
     ActivityService activityService;
+    ProgressOutboxService progressOutboxService;
     ReactionService reactionService;
     ApplicationEventPublisher eventPublisher;
+    CacheInvalidationService cacheInvalidationService;
+    RequestBatchLoader requestBatchLoader;
 
     /**
      * Create a new comment.
@@ -69,14 +80,6 @@ public class CommentServiceImpl implements CommentService {
      */
     @Override
     @Transactional
-    @CacheEvict(value = {
-            BlogCacheConstants.CACHE_BLOG,
-            BlogCacheConstants.CACHE_BLOGS,
-            BlogCacheConstants.CACHE_BLOGS_BY_AUTHOR,
-            BlogCacheConstants.CACHE_POPULAR_BLOGS,
-            BlogCacheConstants.CACHE_LIKED_BLOGS,
-            BlogCacheConstants.CACHE_LATEST_BLOGS
-    }, allEntries = true)
     public CommentResponse createComment(CreateCommentRequest request) {
         log.debug("CommentServiceImpl_createComment_Creating new comment for user: {}", AuthUtils.getCurrentUserId());
         
@@ -112,10 +115,14 @@ public class CommentServiceImpl implements CommentService {
         // Sync blog comment count when commenting on BLOG target
         if (savedComment.getTargetType() == TargetType.BLOG) {
             blogRepository.incrementCommentCount(savedComment.getTargetId(), 1);
+            cacheInvalidationService.evictByTags(BlogCacheConstants.TAG_BLOG_PREFIX + savedComment.getTargetId());
         }
         
         // Increment activity count for author (applies to both BLOG and EXAM comments)
         activityService.incrementActivity(author.getId());
+
+        // Stats, missions and achievements are applied asynchronously
+        progressOutboxService.append(userId, author.getId(), ProgressAction.COMMENT_CREATED);
         
         // Create notifications for mentioned users
         if (request.getMentions() != null && !request.getMentions().isEmpty()) {
@@ -310,6 +317,7 @@ public class CommentServiceImpl implements CommentService {
             int totalComments = countCommentWithReplies(comment);
             if (totalComments > 0) {
                 blogRepository.incrementCommentCount(comment.getTargetId(), -totalComments);
+                cacheInvalidationService.evictByTags(BlogCacheConstants.TAG_BLOG_PREFIX + comment.getTargetId());
             }
         }
 
@@ -328,10 +336,10 @@ public class CommentServiceImpl implements CommentService {
         List<Comment> commentList = comments.getContent();
         String currentUserId = AuthUtils.getCurrentUserId();
         
-        // Batch check reactions for all comments
+        // Batch check reactions and authors for all comments (memoized for the rest of the request)
         List<String> commentIds = commentList.stream().map(Comment::getId).toList();
-        Map<String, ReactionInfo> reactionsMap = reactionService
-                .getReactionsForTargets(TargetType.COMMENT, commentIds, currentUserId);
+        preloadAuthors(commentList);
+        Map<String, ReactionInfo> reactionsMap = loadReactionStates(commentIds, currentUserId);
 
         return PagingResponse.<CommentResponse>builder()
                 .currentPage(comments.getNumber())
@@ -351,8 +359,7 @@ public class CommentServiceImpl implements CommentService {
      */
     private CommentResponse toCommentResponseWithReaction(Comment comment) {
         String currentUserId = AuthUtils.getCurrentUserId();
-        Map<String, ReactionInfo> reactionsMap = reactionService
-                .getReactionsForTargets(TargetType.COMMENT, List.of(comment.getId()), currentUserId);
+        Map<String, ReactionInfo> reactionsMap = loadReactionStates(List.of(comment.getId()), currentUserId);
         ReactionInfo reactionInfo = reactionsMap.getOrDefault(
                 comment.getId(),
                 ReactionInfo.builder().userReacted(false).type(null).build()
@@ -360,6 +367,30 @@ public class CommentServiceImpl implements CommentService {
         return toCommentResponseWithReaction(comment, reactionInfo);
     }
 
+    /**
+     * Load the viewer's reaction on each comment (batched, memoized per request)
+     */
+    private Map<String, ReactionInfo> loadReactionStates(List<String> commentIds, String userId) {
+        return requestBatchLoader.loadMany(
+                RequestBatchLoader.loaderName(BatchLoaderConstants.REACTION_STATE_PREFIX, TargetType.COMMENT, userId),
+                commentIds,
+                ids -> reactionService.getReactionsForTargets(TargetType.COMMENT, ids, userId));
+    }
+
+    /**
+     * Initialize the lazy author proxies of a page with one query instead of one select per comment
+     */
+    private void preloadAuthors(List<Comment> commentList) {
+        List<String> authorIds = commentList.stream()
+                .map(Comment::getAuthor)
+                .filter(author -> author != null && !Hibernate.isInitialized(author))
+                .map(Profile::getId)
+                .toList();
+        requestBatchLoader.loadMany(BatchLoaderConstants.AUTHOR_PROFILE, authorIds,
+                ids -> profileRepository.findAllWithStatsByIdIn(ids).stream()
+                        .collect(Collectors.toMap(Profile::getId, profile -> profile)));
+    }
+
     /**
      * Convert Comment to CommentResponse with provided reaction info.
      */
@@ -381,6 +412,7 @@ public class CommentServiceImpl implements CommentService {
      */
     private void createMentionNotifications(Comment comment, String mentionerUserId, Map<String, String> mentions) {
         log.debug("CommentServiceImpl_createMentionNotifications_Creating notifications for {} mentions", mentions.size());
+        Set<String> existingUserIds = new HashSet<>(profileRepository.findExistingUserIds(mentions.keySet()));
         
         for (Map.Entry<String, String> mention : mentions.entrySet()) {
             String mentionedUserId = mention.getKey();
@@ -392,7 +424,7 @@ public class CommentServiceImpl implements CommentService {
             }
             
             // Validate mentioned user exists
-            if (!profileRepository.existsByUserId(mentionedUserId)) {
+            if (!existingUserIds.contains(mentionedUserId)) {
                 log.warn("CommentServiceImpl_createMentionNotifications_Mentioned user not found: {}", mentionedUserId);
                 continue;
             }
@@ -0,0 +1,435 @@
+package com.se.hub.modules.interaction.service.impl;
+
+import com.se.hub.common.cache.CacheInvalidationService;
+import com.se.hub.modules.blog.constant.BlogCacheConstants;
+import com.se.hub.modules.interaction.constant.ReactionCounterConstants;
+import com.se.hub.modules.interaction.dto.response.ReactionInfo;
+import com.se.hub.modules.interaction.dto.response.ReactionToggleResult;
+import com.se.hub.modules.interaction.entity.Reaction;
+import com.se.hub.modules.interaction.enums.ReactionType;
+import com.se.hub.modules.interaction.enums.TargetType;
+import com.se.hub.modules.interaction.repository.ReactionRepository;
+import com.se.hub.modules.interaction.service.api.ReactionCounterService;
+import com.se.hub.modules.interaction.service.api.ReactionSyncService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Reaction Counter Service Implementation
+ *
+ * Redis layout (see ReactionCounterConstants):
+ * - count hash per target: one field per ReactionType plus a version field
+ * - state hash per target: userId -> reaction type (or NONE)
+ * - dirty sets recording which targets/users changed since the last reconcile
+ *
+ * Toggle path: one script call; on a cold target the script asks for a seed,
+ * which is read from the database and passed to a second call that seeds atomically.
+ *
+ * Reconcile path: for each dirty target, persist changed user states, recompute counts
+ * from the reaction table and overwrite the Redis counts unless a toggle happened meanwhile
+ * (version check), in which case the target stays dirty and is repaired next run.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReactionCounterServiceImpl implements ReactionCounterService {
+    /**
+     * KEYS[1] = count hash, KEYS[2] = state hash, KEYS[3] = dirty targets set, KEYS[4] = dirty users set
+     * ARGV[1] = userId, ARGV[2] = reaction type, ARGV[3] = dirty target member, ARGV[4] = key TTL (seconds),
+     * ARGV[5] = seeded user state ('' when not seeding), ARGV[6..] = seeded type/count pairs
+     * Returns {added (1/0, or -1 when a seed is needed), count of ARGV[2]}
+     */
+    private static final RedisScript<List> TOGGLE_SCRIPT = new DefaultRedisScript<>("""
+            if ARGV[5] ~= '' then
+                if redis.call('EXISTS', KEYS[1]) == 0 then
+                    redis.call('HSET', KEYS[1], 'v', '0')
+                    for i = 6, #ARGV, 2 do
+                        redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+                    end
+                end
+                redis.call('HSETNX', KEYS[2], ARGV[1], ARGV[5])
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {-1, 0}
+            end
+            local old = redis.call('HGET', KEYS[2], ARGV[1])
+            if not old then
+                return {-1, 0}
+            end
+            local new = ARGV[2]
+            if old == new then
+                new = 'NONE'
+            end
+            if old ~= 'NONE' then
+                redis.call('HINCRBY', KEYS[1], old, -1)
+            end
+            if new ~= 'NONE' then
+                redis.call('HINCRBY', KEYS[1], new, 1)
+            end
+            redis.call('HSET', KEYS[2], ARGV[1], new)
+            redis.call('HINCRBY', KEYS[1], 'v', 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            redis.call('SADD', KEYS[4], ARGV[1])
+            redis.call('SADD', KEYS[3], ARGV[3])
+            local added = 0
+            if new ~= 'NONE' then
+                added = 1
+            end
+            return {added, tonumber(redis.call('HGET', KEYS[1], ARGV[2]) or '0')}
+            """, List.class);
+
+    /**
+     * KEYS[1] = count hash; ARGV[1] = expected version, ARGV[2..] = type/count pairs
+     * Overwrites the counts only if no toggle happened since the version was read
+     */
+    private static final RedisScript<Long> REPAIR_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            if (redis.call('HGET', KEYS[1], 'v') or '0') ~= ARGV[1] then
+                return 0
+            end
+            for i = 2, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1] = dirty users set, KEYS[2] = dirty targets set; ARGV[1] = target member
+     * Clears the target's dirty flag once no user changes are left
+     */
+    private static final RedisScript<Long> CLEAR_DIRTY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SCARD', KEYS[1]) == 0 then
+                return redis.call('SREM', KEYS[2], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    StringRedisTemplate stringRedisTemplate;
+    ReactionRepository reactionRepository;
+    ReactionSyncService reactionSyncService;
+    CacheInvalidationService cacheInvalidationService;
+
+    @Override
+    public ReactionToggleResult toggle(TargetType targetType, String targetId, String userId, ReactionType reactionType) {
+        String member = toMember(targetType, targetId);
+        List<String> keys = List.of(
+                ReactionCounterConstants.REDIS_KEY_COUNT_PREFIX + member,
+                ReactionCounterConstants.REDIS_KEY_STATE_PREFIX + member,
+                ReactionCounterConstants.REDIS_KEY_DIRTY_TARGETS,
+                ReactionCounterConstants.REDIS_KEY_DIRTY_USERS_PREFIX + member);
+        String ttl = String.valueOf(ReactionCounterConstants.KEY_TTL_SECONDS);
+
+        List<?> result = stringRedisTemplate.execute(TOGGLE_SCRIPT, keys,
+                userId, reactionType.name(), member, ttl, "");
+        if (toLong(result.get(0)) < 0) {
+            // Cold target or user: seed from the database, then toggle in the same script call
+            List<String> args = new ArrayList<>(List.of(userId, reactionType.name(), member, ttl,
+                    loadUserState(targetType, targetId, userId)));
+            loadCounts(targetType, targetId).forEach((type, count) -> {
+                args.add(type.name());
+                args.add(String.valueOf(count));
+            });
+            result = stringRedisTemplate.execute(TOGGLE_SCRIPT, keys, args.toArray());
+        }
+
+        return ReactionToggleResult.builder()
+                .isAdded(toLong(result.get(0)) == 1)
+                .count(toLong(result.get(1)))
+                .build();
+    }
+
+    @Override
+    public Long getCount(TargetType targetType, String targetId, ReactionType reactionType) {
+        List<Object> values = stringRedisTemplate.opsForHash().multiGet(
+                ReactionCounterConstants.REDIS_KEY_COUNT_PREFIX + toMember(targetType, targetId),
+                List.of(ReactionCounterConstants.FIELD_VERSION, reactionType.name()));
+        if (values.get(0) == null) {
+            return null;
+        }
+        return values.get(1) == null ? 0L : Long.parseLong(values.get(1).toString());
+    }
+
+    @Override
+    public Map<String, Long> getNetCounts(TargetType targetType, Collection<String> targetIds) {
+        Map<String, Long> result = new HashMap<>();
+        if (targetIds == null || targetIds.isEmpty()) {
+            return result;
+        }
+
+        List<String> ids = new ArrayList<>(targetIds);
+        byte[][] fields = {
+                bytes(ReactionCounterConstants.FIELD_VERSION),
+                bytes(ReactionType.LIKE.name()),
+                bytes(ReactionType.DISLIKE.name())};
+        try {
+            List<Object> rows = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String id : ids) {
+                    connection.hashCommands().hMGet(
+                            bytes(ReactionCounterConstants.REDIS_KEY_COUNT_PREFIX + toMember(targetType, id)), fields);
+                }
+                return null;
+            });
+            for (int i = 0; i < ids.size(); i++) {
+                List<?> values = (List<?>) rows.get(i);
+                if (values == null || values.get(0) == null) {
+                    continue;
+                }
+                result.put(ids.get(i), toLong(values.get(1)) - toLong(values.get(2)));
+            }
+        } catch (Exception e) {
+            log.warn("ReactionCounterService_getNetCounts_Failed to read counts: {}", e.getMessage());
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, ReactionInfo> getUserReactions(TargetType targetType, Collection<String> targetIds, String userId) {
+        Map<String, ReactionInfo> result = new HashMap<>();
+        if (targetIds == null || targetIds.isEmpty() || userId == null) {
+            return result;
+        }
+
+        List<String> ids = new ArrayList<>(targetIds);
+        try {
+            List<Object> states = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String id : ids) {
+                    connection.hashCommands().hGet(
+                            bytes(ReactionCounterConstants.REDIS_KEY_STATE_PREFIX + toMember(targetType, id)), bytes(userId));
+                }
+                return null;
+            });
+            for (int i = 0; i < ids.size(); i++) {
+                Object state = states.get(i);
+                if (state == null) {
+                    continue;
+                }
+                boolean reacted = !ReactionCounterConstants.STATE_NONE.equals(state.toString());
+                result.put(ids.get(i), ReactionInfo.builder()
+                        .userReacted(reacted)
+                        .type(reacted ? ReactionType.valueOf(state.toString()) : null)
+                        .build());
+            }
+        } catch (Exception e) {
+            log.warn("ReactionCounterService_getUserReactions_Failed to read reaction state: {}", e.getMessage());
+        }
+        return result;
+    }
+
+    @Override
+    public int reconcile() {
+        String lockToken = acquireLock();
+        if (lockToken == null) {
+            return 0;
+        }
+
+        try {
+            List<String> members = stringRedisTemplate.opsForSet().distinctRandomMembers(
+                    ReactionCounterConstants.REDIS_KEY_DIRTY_TARGETS, ReactionCounterConstants.RECONCILE_BATCH_SIZE)
+                    .stream().toList();
+            int reconciled = 0;
+            for (String member : members) {
+                if (reconcileTarget(member)) {
+                    reconciled++;
+                }
+            }
+            if (reconciled > 0) {
+                log.debug("ReactionCounterService_reconcile_Reconciled {} targets", reconciled);
+            }
+            return reconciled;
+        } finally {
+            releaseLock(lockToken);
+        }
+    }
+
+    @Override
+    public int repairDrift() {
+        String lockToken = acquireLock();
+        if (lockToken == null) {
+            return 0;
+        }
+
+        int repaired = 0;
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(ReactionCounterConstants.REDIS_KEY_COUNT_PREFIX + "*")
+                .count(ReactionCounterConstants.DRIFT_SCAN_BATCH_SIZE)
+                .build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String member = cursor.next().substring(ReactionCounterConstants.REDIS_KEY_COUNT_PREFIX.length());
+                // Dirty targets are repaired by reconcile()
+                if (Boolean.TRUE.equals(stringRedisTemplate.opsForSet()
+                        .isMember(ReactionCounterConstants.REDIS_KEY_DIRTY_TARGETS, member))) {
+                    continue;
+                }
+                try {
+                    String version = readVersion(member);
+                    Map<ReactionType, Long> counts = reactionSyncService.syncCounts(parseTargetType(member), parseTargetId(member));
+                    if (writeCounts(member, version, counts)) {
+                        repaired++;
+                    }
+                } catch (Exception e) {
+                    log.warn("ReactionCounterService_repairDrift_Failed to repair {}: {}", member, e.getMessage());
+                }
+            }
+        } finally {
+            releaseLock(lockToken);
+        }
+        log.info("ReactionCounterService_repairDrift_Checked counts, {} targets rewritten", repaired);
+        return repaired;
+    }
+
+    /* ========================  HELPERS  ======================== */
+
+    /**
+     * Persist one dirty target and repair its counts
+     * @return true if the target was written to the database
+     */
+    private boolean reconcileTarget(String member) {
+        TargetType targetType = parseTargetType(member);
+        String targetId = parseTargetId(member);
+        String dirtyUsersKey = ReactionCounterConstants.REDIS_KEY_DIRTY_USERS_PREFIX + member;
+
+        // Read the version before taking the users so any later toggle fails the repair check
+        String version = readVersion(member);
+        Set<String> users = stringRedisTemplate.opsForSet().members(dirtyUsersKey);
+        Map<ReactionType, Long> counts;
+        if (users == null || users.isEmpty()) {
+            counts = reactionSyncService.syncCounts(targetType, targetId);
+        } else {
+            stringRedisTemplate.opsForSet().remove(dirtyUsersKey, users.toArray());
+            List<String> userIds = new ArrayList<>(users);
+            List<Object> states = stringRedisTemplate.opsForHash().multiGet(
+                    ReactionCounterConstants.REDIS_KEY_STATE_PREFIX + member, new ArrayList<>(userIds));
+            Map<String, String> userStates = new LinkedHashMap<>();
+            for (int i = 0; i < userIds.size(); i++) {
+                if (states.get(i) != null) {
+                    userStates.put(userIds.get(i), states.get(i).toString());
+                }
+            }
+
+            try {
+                counts = reactionSyncService.syncTarget(targetType, targetId, userStates);
+            } catch (Exception e) {
+                // Put the users back so the next run retries them
+                stringRedisTemplate.opsForSet().add(dirtyUsersKey, users.toArray(new String[0]));
+                log.error("ReactionCounterService_reconcileTarget_Failed to sync {}: {}", member, e.getMessage(), e);
+                return false;
+            }
+        }
+
+        writeCounts(member, version, counts);
+        stringRedisTemplate.execute(CLEAR_DIRTY_SCRIPT,
+                List.of(dirtyUsersKey, ReactionCounterConstants.REDIS_KEY_DIRTY_TARGETS), member);
+        if (targetType == TargetType.BLOG) {
+            // blogs.reactionCount changed; drop cached entries rendering the old value
+            cacheInvalidationService.evictByTags(BlogCacheConstants.TAG_BLOG_PREFIX + targetId);
+        }
+        return true;
+    }
+
+    private boolean writeCounts(String member, String version, Map<ReactionType, Long> counts) {
+        List<String> args = new ArrayList<>();
+        args.add(version);
+        for (ReactionType type : ReactionType.values()) {
+            args.add(type.name());
+            args.add(String.valueOf(counts.getOrDefault(type, 0L)));
+        }
+        Long written = stringRedisTemplate.execute(REPAIR_SCRIPT,
+                List.of(ReactionCounterConstants.REDIS_KEY_COUNT_PREFIX + member), args.toArray());
+        return written != null && written == 1;
+    }
+
+    private String readVersion(String member) {
+        Object version = stringRedisTemplate.opsForHash().get(
+                ReactionCounterConstants.REDIS_KEY_COUNT_PREFIX + member, ReactionCounterConstants.FIELD_VERSION);
+        return version == null ? "0" : version.toString();
+    }
+
+    private String loadUserState(TargetType targetType, String targetId, String userId) {
+        return reactionRepository.findByTargetTypeAndTargetIdAndUser_User_Id(targetType, targetId, userId)
+                .map(Reaction::getReactionType)
+                .map(Enum::name)
+                .orElse(ReactionCounterConstants.STATE_NONE);
+    }
+
+    private Map<ReactionType, Long> loadCounts(TargetType targetType, String targetId) {
+        Map<ReactionType, Long> counts = new HashMap<>();
+        for (Object[] row : reactionRepository.countByTargetTypeAndTargetIdInGroupByReactionType(targetType, List.of(targetId))) {
+            counts.put((ReactionType) row[1], ((Number) row[2]).longValue());
+        }
+        return counts;
+    }
+
+    private String acquireLock() {
+        String lockToken = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(ReactionCounterConstants.REDIS_KEY_RECONCILE_LOCK,
+                lockToken, Duration.ofSeconds(ReactionCounterConstants.RECONCILE_LOCK_TTL_SECONDS));
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("ReactionCounterService_acquireLock_Reconcile already running on another node");
+            return null;
+        }
+        return lockToken;
+    }
+
+    private void releaseLock(String lockToken) {
+        stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT,
+                List.of(ReactionCounterConstants.REDIS_KEY_RECONCILE_LOCK), lockToken);
+    }
+
+    private String toMember(TargetType targetType, String targetId) {
+        return targetType.name() + ReactionCounterConstants.KEY_SEPARATOR + targetId;
+    }
+
+    private TargetType parseTargetType(String member) {
+        return TargetType.valueOf(member.substring(0, member.indexOf(ReactionCounterConstants.KEY_SEPARATOR)));
+    }
+
+    private String parseTargetId(String member) {
+        return member.substring(member.indexOf(ReactionCounterConstants.KEY_SEPARATOR) + 1);
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private long toLong(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return Long.parseLong(value.toString());
+    }
+}
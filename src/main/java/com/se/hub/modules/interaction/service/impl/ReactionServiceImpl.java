@@ -1,5 +1,7 @@
 package com.se.hub.modules.interaction.service.impl;
 
+import com.se.hub.common.cache.CacheInvalidationService;
+import com.se.hub.common.cache.ResourceVersionIndex;
 import com.se.hub.common.dto.request.PagingRequest;
 import com.se.hub.common.dto.response.PagingResponse;
 import com.se.hub.common.enums.ErrorCode;
@@ -8,37 +10,36 @@ import com.se.hub.common.utils.PagingUtil;
 import com.se.hub.modules.auth.utils.AuthUtils;
 import com.se.hub.modules.blog.constant.BlogCacheConstants;
 import com.se.hub.modules.blog.repository.BlogRepository;
+import com.se.hub.modules.course.repository.CourseRepository;
+import com.se.hub.modules.document.repository.DocumentRepository;
+import com.se.hub.modules.exam.repository.ExamRepository;
+import com.se.hub.modules.exam.repository.QuestionRepository;
+import com.se.hub.modules.interaction.constant.ReactionCounterConstants;
 import com.se.hub.modules.interaction.dto.response.ReactionDetailResponse;
 import com.se.hub.modules.interaction.dto.response.ReactionInfo;
 import com.se.hub.modules.interaction.dto.response.ReactionResponse;
 import com.se.hub.modules.interaction.dto.response.ReactionToggleResult;
-import com.se.hub.modules.interaction.entity.Comment;
 import com.se.hub.modules.interaction.entity.Reaction;
 import com.se.hub.modules.interaction.enums.ReactionType;
 import com.se.hub.modules.interaction.enums.TargetType;
 import com.se.hub.modules.interaction.mapper.ReactionMapper;
 import com.se.hub.modules.interaction.repository.CommentRepository;
 import com.se.hub.modules.interaction.repository.ReactionRepository;
+import com.se.hub.modules.interaction.service.api.ReactionCounterService;
 import com.se.hub.modules.interaction.service.api.ReactionService;
 import com.se.hub.modules.profile.entity.Profile;
 import com.se.hub.modules.profile.repository.ProfileRepository;
-import com.se.hub.modules.profile.repository.UserStatsRepository;
-import com.se.hub.modules.profile.service.api.ActivityService;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -57,173 +58,70 @@ import java.util.stream.Collectors;
 public class ReactionServiceImpl implements ReactionService {
 
     ReactionRepository reactionRepository;
-    CommentRepository commentRepository;
-    BlogRepository blogRepository;
     ProfileRepository profileRepository;
-    UserStatsRepository userStatsRepository;
-    ActivityService activityService;
     ReactionMapper reactionMapper;
+    CacheInvalidationService cacheInvalidationService;
+    ReactionCounterService reactionCounterService;
+    ResourceVersionIndex resourceVersionIndex;
+    BlogRepository blogRepository;
+    CommentRepository commentRepository;
+    CourseRepository courseRepository;
+    DocumentRepository documentRepository;
+    ExamRepository examRepository;
+    QuestionRepository questionRepository;
 
     /**
      * Toggle reaction (like/unlike) for a target.
-     * Virtual Thread Best Practice: Uses @Transactional with synchronous blocking I/O operations.
-     * Virtual threads yield during each database operation, enabling high concurrency.
-     * Race conditions are handled using unique constraint with exception handling.
+     * Returns true if reaction was added, false if removed.
      */
     @Override
-    @Transactional
     public boolean toggleReaction(TargetType targetType, String targetId, ReactionType reactionType) {
-
-        Profile currentUser = getCurrentUser();
-
-        Optional<Reaction> existing = reactionRepository
-                .findByTargetTypeAndTargetIdAndUser(targetType, targetId, currentUser);
-
-        return existing
-                .map(reaction -> handleExistingReaction(reaction, reactionType, targetType, targetId))
-                .orElseGet(() -> handleNewReaction(targetType, targetId, reactionType, currentUser));
-
-    }
-
-    /* ========================  HELPERS  ======================== */
-
-    private Profile getCurrentUser() {
-        String userId = AuthUtils.getCurrentUserId();
-        return profileRepository.findByUserId(userId)
-                .orElseThrow(() -> new AppException(ErrorCode.PROFILE_NOT_FOUND));
+        return toggleReactionWithCount(targetType, targetId, reactionType).isAdded();
     }
 
     /**
-     * Existing reaction → remove or update
+     * Toggle reaction and return both toggle result and count.
+     * The toggle is applied to the Redis counters only (no database write on the request path);
+     * ReactionReconcileScheduler writes reactions, counts, points and activity back to the database.
      */
-    private boolean handleExistingReaction(
-            Reaction reaction, ReactionType newType,
-            TargetType targetType, String targetId) {
-
-        ReactionType oldType = reaction.getReactionType();
-
-        if (oldType == newType) {
-            // Toggle off
-            adjustPoints(targetType, oldType, null, targetId);
-            reactionRepository.delete(reaction);
-            return false;
+    @Override
+    public ReactionToggleResult toggleReactionWithCount(TargetType targetType, String targetId, ReactionType reactionType) {
+        String userId = AuthUtils.getCurrentUserId();
+        // A user with reaction state on this target already passed validation when it was first toggled
+        if (reactionCounterService.getUserReactions(targetType, List.of(targetId), userId).isEmpty()) {
+            validateReactor(targetType, targetId, userId);
         }
-
-        // Update reaction
-        adjustPoints(targetType, oldType, newType, targetId);
-        reaction.setReactionType(newType);
-        reactionRepository.save(reaction);
-        return true;
+        ReactionToggleResult result = reactionCounterService.toggle(targetType, targetId, userId, reactionType);
+        // The user's reaction state changed: invalidate validators of lists rendering it
+        resourceVersionIndex.bump(List.of(userReactionsVersionName(targetType, userId)));
+        return result;
     }
 
     /**
-     * No existing reaction → create new
+     * Ensure the current user has a profile and the target exists before its counters are touched
      */
-    private boolean handleNewReaction(
-            TargetType targetType, String targetId, ReactionType reactionType, Profile user) {
-
-        Reaction newReaction = Reaction.builder()
-                .targetType(targetType)
-                .targetId(targetId)
-                .user(user)
-                .reactionType(reactionType)
-                .build();
-
-        try {
-            reactionRepository.save(newReaction);
-            adjustPoints(targetType, null, reactionType, targetId);
-            return true;
-
-        } catch (DataIntegrityViolationException e) {
-            // Race condition → fetch & delegate to existing handler
-            Reaction existing = reactionRepository
-                    .findByTargetTypeAndTargetIdAndUser(targetType, targetId, user)
-                    .orElseThrow(() -> new AppException(ErrorCode.DATA_INVALID));
-
-            return handleExistingReaction(existing, reactionType, targetType, targetId);
+    private void validateReactor(TargetType targetType, String targetId, String userId) {
+        if (!profileRepository.existsByUserId(userId)) {
+            log.error("ReactionServiceImpl_validateReactor_Profile not found for user: {}", userId);
+            throw new AppException(ErrorCode.PROFILE_NOT_FOUND);
         }
-    }
-
-    /**
-     * Unified point update logic
-     */
-    private void adjustPoints(TargetType targetType,
-                              ReactionType oldType, ReactionType newType,
-                              String targetId) {
-
-        // 1) Update blog reactionCount when reacting on BLOG
-        if (targetType == TargetType.BLOG) {
-            int delta = 0;
-
-            // Remove effect of old reaction
-            if (oldType == ReactionType.LIKE) {
-                delta -= 1;
-            } else if (oldType == ReactionType.DISLIKE) {
-                delta += 1;
-            }
-
-            // Apply effect of new reaction
-            if (newType == ReactionType.LIKE) {
-                delta += 1;
-            } else if (newType == ReactionType.DISLIKE) {
-                delta -= 1;
-            }
-
-            if (delta != 0) {
-                blogRepository.incrementReactionCount(targetId, delta);
-                log.debug("ReactionServiceImpl_adjustPoints_Updated blog reactionCount by {} for blogId {}", delta, targetId);
-            }
-        }
-
-        // 2) Update comment owner points when reacting on COMMENT
-        if (targetType == TargetType.COMMENT) {
-            // oldType = LIKE, newType = null   → remove like: -1
-            // oldType = null, newType = LIKE   → add like: +1
-            // oldType = LIKE, newType != LIKE  → unlike: -1
-            // oldType != LIKE, newType = LIKE  → relike: +1
-
-            int delta = 0;
-
-            if (oldType == ReactionType.LIKE && newType != ReactionType.LIKE) {
-                delta = -1;
-            } else if (oldType != ReactionType.LIKE && newType == ReactionType.LIKE) {
-                delta = 1;
-            }
-
-            if (delta != 0) {
-                updateCommentOwnerPoints(targetId, delta);
-            }
+        if (!targetExists(targetType, targetId)) {
+            log.error("ReactionServiceImpl_validateReactor_Target not found: {} {}", targetType, targetId);
+            throw new AppException(ErrorCode.DATA_NOT_FOUND);
         }
     }
 
-
-    /**
-     * Toggle reaction and return both toggle result and count.
-     * Virtual Thread Best Practice: Uses synchronous blocking I/O operations.
-     * Virtual threads yield during database queries, enabling high concurrency.
-     */
-    @Override
-    @Transactional
-    public ReactionToggleResult toggleReactionWithCount(TargetType targetType, String targetId, ReactionType reactionType) {
-        boolean isAdded = toggleReaction(targetType, targetId, reactionType);
-        // Blocking I/O - virtual thread yields here
-        long count = getReactionCount(targetType, targetId, reactionType);
-
-        // Increment activity count if reaction was added and target is COMMENT
-        if (isAdded && targetType == TargetType.COMMENT && reactionType == ReactionType.LIKE) {
-            try {
-                Profile currentUser = getCurrentUser();
-                activityService.incrementActivity(currentUser.getId());
-            } catch (Exception e) {
-                log.warn("ReactionServiceImpl_toggleReactionWithCount_Failed to increment activity for comment like: {}", e.getMessage());
-                // Don't throw exception, activity tracking is not critical
-            }
-        }
-
-        return ReactionToggleResult.builder()
-                .isAdded(isAdded)
-                .count(count)
-                .build();
+    private boolean targetExists(TargetType targetType, String targetId) {
+        return switch (targetType) {
+            case BLOG -> blogRepository.existsById(targetId);
+            case COMMENT -> commentRepository.existsById(targetId);
+            case COURSE -> courseRepository.existsById(targetId);
+            case DOCUMENT -> documentRepository.existsById(targetId);
+            case EXAM, PRACTICAL_EXAM -> examRepository.existsById(targetId);
+            case QUESTION -> questionRepository.existsById(targetId);
+            // Lessons have no entity of their own to react to
+            case LESSON -> false;
+        };
     }
 
     /**
@@ -233,10 +131,19 @@ public class ReactionServiceImpl implements ReactionService {
      */
     @Override
     public long getReactionCount(TargetType targetType, String targetId, ReactionType reactionType) {
+        Long count = reactionCounterService.getCount(targetType, targetId, reactionType);
+        if (count != null) {
+            return count;
+        }
         // Blocking I/O - virtual thread yields here
         return reactionRepository.countByTargetTypeAndTargetIdAndReactionType(targetType, targetId, reactionType);
     }
 
+    @Override
+    public Map<String, Long> getNetReactionCounts(TargetType targetType, List<String> targetIds) {
+        return reactionCounterService.getNetCounts(targetType, targetIds);
+    }
+
     /**
      * Check if current user has reacted to target.
      * Virtual Thread Best Practice: Uses synchronous blocking I/O operations.
@@ -247,6 +154,11 @@ public class ReactionServiceImpl implements ReactionService {
         try {
             // Blocking I/O - virtual thread yields here
             String userId = AuthUtils.getCurrentUserId();
+            ReactionInfo tracked = reactionCounterService
+                    .getUserReactions(targetType, List.of(targetId), userId).get(targetId);
+            if (tracked != null) {
+                return Boolean.TRUE.equals(tracked.getUserReacted());
+            }
             Profile currentUser = profileRepository.findByUserId(userId)
                     .orElseThrow(() -> new AppException(ErrorCode.PROFILE_NOT_FOUND));
             // Blocking I/O - virtual thread yields here
@@ -262,18 +174,13 @@ public class ReactionServiceImpl implements ReactionService {
      * Virtual Thread Best Practice: Uses synchronous blocking I/O operations.
      */
     @Override
-    @Transactional
-    @CacheEvict(value = {
-            BlogCacheConstants.CACHE_BLOG,
-            BlogCacheConstants.CACHE_BLOGS,
-            BlogCacheConstants.CACHE_BLOGS_BY_AUTHOR,
-            BlogCacheConstants.CACHE_POPULAR_BLOGS,
-            BlogCacheConstants.CACHE_LIKED_BLOGS,
-            BlogCacheConstants.CACHE_LATEST_BLOGS
-    }, allEntries = true, condition = "#targetTypeString != null && #targetTypeString.toUpperCase() == 'BLOG'")
     public ReactionResponse toggleReaction(String targetTypeString, String targetId, ReactionType reactionType) {
         TargetType targetType = parseTargetType(targetTypeString);
         ReactionToggleResult result = toggleReactionWithCount(targetType, targetId, reactionType);
+        if (targetType == TargetType.BLOG) {
+            // Only entries rendering this blog carry a stale reaction count
+            cacheInvalidationService.evictByTags(BlogCacheConstants.TAG_BLOG_PREFIX + targetId);
+        }
         
         return ReactionResponse.builder()
                 .isReacted(result.isAdded())
@@ -311,6 +218,20 @@ public class ReactionServiceImpl implements ReactionService {
         }
     }
 
+    @Override
+    public Long getUserReactionsVersion(TargetType targetType, String userId) {
+        if (userId == null) {
+            return 0L;
+        }
+        List<Long> stamps = resourceVersionIndex.current(List.of(userReactionsVersionName(targetType, userId)));
+        return stamps != null ? stamps.get(0) : null;
+    }
+
+    private static String userReactionsVersionName(TargetType targetType, String userId) {
+        return ReactionCounterConstants.VERSION_USER_REACTIONS_PREFIX
+                + targetType + ReactionCounterConstants.KEY_SEPARATOR + userId;
+    }
+
     /**
      * Get reactions info for multiple targets (batch check).
      * Virtual Thread Best Practice: Uses synchronous blocking I/O operations.
@@ -337,6 +258,15 @@ public class ReactionServiceImpl implements ReactionService {
                     ));
         }
 
+        // Reaction state recently touched is tracked in Redis and may not be in the database yet
+        Map<String, ReactionInfo> tracked = reactionCounterService.getUserReactions(targetType, targetIds, userId);
+        if (tracked.size() == targetIds.size()) {
+            return tracked;
+        }
+        List<String> untrackedIds = targetIds.stream()
+                .filter(id -> !tracked.containsKey(id))
+                .toList();
+
         try {
             // Blocking I/O - virtual thread yields here
             Profile user = profileRepository.findByUserId(userId)
@@ -356,13 +286,13 @@ public class ReactionServiceImpl implements ReactionService {
 
             // Blocking I/O - virtual thread yields here (batch query)
             List<Reaction> reactions = reactionRepository
-                    .findByTargetTypeAndTargetIdInAndUser(targetType, targetIds, user);
+                    .findByTargetTypeAndTargetIdInAndUser(targetType, untrackedIds, user);
 
             Map<String, Reaction> reactionMap = reactions.stream()
                     .collect(Collectors.toMap(Reaction::getTargetId, r -> r));
 
-            Map<String, ReactionInfo> result = new HashMap<>();
-            for (String targetId : targetIds) {
+            Map<String, ReactionInfo> result = new HashMap<>(tracked);
+            for (String targetId : untrackedIds) {
                 Reaction reaction = reactionMap.get(targetId);
                 if (reaction != null) {
                     log.info("ReactionServiceImpl_getReactionsForTargets_Reaction found: {}", reaction);
@@ -392,30 +322,6 @@ public class ReactionServiceImpl implements ReactionService {
         }
     }
 
-    /**
-     * Cập nhật points cho comment owner.
-     * Let exception propagate to ensure transaction rollback on failure.
-     * Virtual Thread Best Practice: Uses synchronous blocking I/O operations.
-     * Virtual threads yield during each database operation, enabling high concurrency.
-     */
-    private void updateCommentOwnerPoints(String commentId, int pointsChange) {
-        // Blocking I/O - virtual thread yields here
-        Optional<Comment> commentOpt = commentRepository.findById(commentId);
-        if (commentOpt.isPresent()) {
-            Comment comment = commentOpt.get();
-            String commentOwnerUserId = comment.getAuthor().getUser().getId();
-
-            // Blocking I/O - virtual thread yields here
-            if (pointsChange > 0) {
-                userStatsRepository.updateUserStats(commentOwnerUserId, pointsChange, 0, 0, 0, 0, 0);
-                log.debug("ReactionServiceImpl_updateCommentOwnerPoints_Increased {} points for comment owner: {}", pointsChange, commentOwnerUserId);
-            } else {
-                userStatsRepository.updateUserStats(commentOwnerUserId, pointsChange, 0, 0, 0, 0, 0);
-                log.debug("ReactionServiceImpl_updateCommentOwnerPoints_Decreased {} points for comment owner: {}", Math.abs(pointsChange), commentOwnerUserId);
-            }
-        }
-    }
-
     /**
      * Get all reactions with pagination.
      * Virtual Thread Best Practice: Uses synchronous blocking I/O operations.
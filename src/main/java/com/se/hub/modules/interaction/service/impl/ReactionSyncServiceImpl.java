@@ -0,0 +1,140 @@
+package com.se.hub.modules.interaction.service.impl;
+
+import com.se.hub.modules.blog.enums.BlogFeedType;
+import com.se.hub.modules.blog.repository.BlogRepository;
+import com.se.hub.modules.blog.service.api.BlogFeedService;
+import com.se.hub.modules.interaction.constant.ReactionCounterConstants;
+import com.se.hub.modules.interaction.entity.Reaction;
+import com.se.hub.modules.interaction.enums.ReactionType;
+import com.se.hub.modules.interaction.enums.TargetType;
+import com.se.hub.modules.interaction.repository.CommentRepository;
+import com.se.hub.modules.interaction.repository.ReactionRepository;
+import com.se.hub.modules.interaction.service.api.ReactionSyncService;
+import com.se.hub.modules.profile.entity.Profile;
+import com.se.hub.modules.profile.repository.ProfileRepository;
+import com.se.hub.modules.profile.service.api.ActivityService;
+import com.se.hub.modules.profile.service.api.ProfileProgressService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reaction Sync Service Implementation
+ * Database side of the reaction reconciler: applies buffered state transitions
+ * and keeps blogs.reactionCount / user_stats in line with the reaction table.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReactionSyncServiceImpl implements ReactionSyncService {
+    ReactionRepository reactionRepository;
+    CommentRepository commentRepository;
+    BlogRepository blogRepository;
+    BlogFeedService blogFeedService;
+    ProfileRepository profileRepository;
+    ProfileProgressService profileProgressService;
+    ActivityService activityService;
+
+    @Override
+    @Transactional
+    public Map<ReactionType, Long> syncTarget(TargetType targetType, String targetId, Map<String, String> userStates) {
+        for (Map.Entry<String, String> entry : userStates.entrySet()) {
+            applyUserState(targetType, targetId, entry.getKey(), entry.getValue());
+        }
+        return syncCounts(targetType, targetId);
+    }
+
+    @Override
+    @Transactional
+    public Map<ReactionType, Long> syncCounts(TargetType targetType, String targetId) {
+        Map<ReactionType, Long> counts = new EnumMap<>(ReactionType.class);
+        for (Object[] row : reactionRepository.countByTargetTypeAndTargetIdInGroupByReactionType(targetType, List.of(targetId))) {
+            counts.put((ReactionType) row[1], ((Number) row[2]).longValue());
+        }
+
+        if (targetType == TargetType.BLOG) {
+            long reactionCount = counts.getOrDefault(ReactionType.LIKE, 0L) - counts.getOrDefault(ReactionType.DISLIKE, 0L);
+            blogRepository.updateReactionCount(targetId, (int) reactionCount);
+            blogFeedService.refreshScores(BlogFeedType.LIKED, List.of(targetId));
+        }
+        return counts;
+    }
+
+    /**
+     * Bring the reaction row of one user in line with the Redis state
+     */
+    private void applyUserState(TargetType targetType, String targetId, String userId, String state) {
+        ReactionType newType = ReactionCounterConstants.STATE_NONE.equals(state) ? null : ReactionType.valueOf(state);
+
+        Optional<Profile> profileOpt = profileRepository.findByUserId(userId);
+        if (profileOpt.isEmpty()) {
+            log.warn("ReactionSyncService_applyUserState_Profile not found for user {}, dropping reaction on {} {}",
+                    userId, targetType, targetId);
+            return;
+        }
+        Profile profile = profileOpt.get();
+
+        Optional<Reaction> existing = reactionRepository.findByTargetTypeAndTargetIdAndUser(targetType, targetId, profile);
+        ReactionType oldType = existing.map(Reaction::getReactionType).orElse(null);
+        if (oldType == newType) {
+            return;
+        }
+
+        if (newType == null) {
+            reactionRepository.delete(existing.get());
+        } else if (existing.isPresent()) {
+            existing.get().setReactionType(newType);
+            reactionRepository.save(existing.get());
+        } else {
+            reactionRepository.save(Reaction.builder()
+                    .targetType(targetType)
+                    .targetId(targetId)
+                    .user(profile)
+                    .reactionType(newType)
+                    .build());
+        }
+
+        if (targetType == TargetType.COMMENT) {
+            adjustCommentOwnerPoints(targetId, oldType, newType);
+        }
+
+        // A new like counts as activity for the reacting user
+        if (newType == ReactionType.LIKE && (targetType == TargetType.BLOG || targetType == TargetType.COMMENT)) {
+            activityService.incrementActivity(profile.getId(), userId);
+        }
+    }
+
+    /**
+     * Comment owners earn one point per like:
+     * gaining a like → +1, losing a like → -1
+     */
+    private void adjustCommentOwnerPoints(String commentId, ReactionType oldType, ReactionType newType) {
+        int delta = 0;
+        if (oldType == ReactionType.LIKE && newType != ReactionType.LIKE) {
+            delta = -1;
+        } else if (oldType != ReactionType.LIKE && newType == ReactionType.LIKE) {
+            delta = 1;
+        }
+        if (delta == 0) {
+            return;
+        }
+
+        int pointsChange = delta;
+        commentRepository.findById(commentId).ifPresent(comment -> {
+            String commentOwnerUserId = comment.getAuthor().getUser().getId();
+            // Also moves the leaderboard, level and any achievement the new total crosses
+            profileProgressService.applyPoints(commentOwnerUserId, pointsChange);
+            log.debug("ReactionSyncService_adjustCommentOwnerPoints_Changed points by {} for comment owner: {}",
+                    pointsChange, commentOwnerUserId);
+        });
+    }
+}
@@ -0,0 +1,126 @@
+package com.se.hub.modules.profile.achievement;
+
+import com.se.hub.modules.profile.catalog.ProfileCatalogBus;
+import com.se.hub.modules.profile.entity.Achievement;
+import com.se.hub.modules.profile.entity.UserStats;
+import com.se.hub.modules.profile.enums.AchievementMetric;
+import com.se.hub.modules.profile.enums.ProfileCatalog;
+import com.se.hub.modules.profile.event.ProfileCatalogChangedEvent;
+import com.se.hub.modules.profile.repository.AchievementRepository;
+import com.se.hub.modules.profile.repository.projection.UserStatsMetricsProjection;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Achievement rules compiled into an AchievementRuleIndex, held in memory on every node.
+ *
+ * - Loaded at startup (or on first use) from the achievement table, seeded from AchievementMasterData
+ * - Admin edits publish ProfileCatalogChangedEvent; after commit the editing node reloads and tells
+ *   the other nodes over ProfileCatalogBus; ProfileCatalogScheduler reloads periodically as a backstop
+ * - The index is swapped as a whole, so readers never see a half-built catalog
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AchievementEngine {
+    final AchievementRepository achievementRepository;
+    final ProfileCatalogBus profileCatalogBus;
+    volatile AchievementRuleIndex index;
+
+    public AchievementEngine(AchievementRepository achievementRepository, ProfileCatalogBus profileCatalogBus) {
+        this.achievementRepository = achievementRepository;
+        this.profileCatalogBus = profileCatalogBus;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        profileCatalogBus.subscribe(ProfileCatalog.ACHIEVEMENT, this::reload);
+        reload();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(ProfileCatalogChangedEvent event) {
+        if (event.getCatalog() != ProfileCatalog.ACHIEVEMENT) {
+            return;
+        }
+        reload();
+        profileCatalogBus.publish(ProfileCatalog.ACHIEVEMENT);
+    }
+
+    /**
+     * Recompile the index from the achievement table
+     */
+    public synchronized void reload() {
+        List<Achievement> achievements = achievementRepository.findAll();
+        List<String> ids = new ArrayList<>(achievements.size());
+        List<int[]> thresholds = new ArrayList<>(achievements.size());
+        for (Achievement achievement : achievements) {
+            ids.add(achievement.getId());
+            thresholds.add(thresholdsOf(achievement));
+        }
+        index = AchievementRuleIndex.compile(ids, thresholds);
+        log.info("AchievementEngine_reload_Compiled {} achievement rules", ids.size());
+    }
+
+    /**
+     * Achievements unlocked by moving a user's stats from before to after
+     */
+    public List<String> unlocked(int[] before, int[] after) {
+        return current().unlocked(before, after);
+    }
+
+    /**
+     * All achievements the stats satisfy
+     */
+    public List<String> satisfiedBy(int[] stats) {
+        return current().satisfiedBy(stats);
+    }
+
+    /**
+     * Stat vector (by AchievementMetric ordinal) of a user's counters
+     */
+    public static int[] statsOf(UserStatsMetricsProjection stats) {
+        return vectorOf(stats.getPoints(), stats.getExamsDone(), stats.getCmtCount(),
+                stats.getDocsUploaded(), stats.getBlogsUploaded(), stats.getBlogsShared());
+    }
+
+    public static int[] statsOf(UserStats stats) {
+        return vectorOf(stats.getPoints(), stats.getExamsDone(), stats.getCmtCount(),
+                stats.getDocsUploaded(), stats.getBlogsUploaded(), stats.getBlogsShared());
+    }
+
+    private static int[] thresholdsOf(Achievement achievement) {
+        return vectorOf(achievement.getMinPoints(), achievement.getMinExamsDone(), achievement.getMinCmtCount(),
+                achievement.getMinDocsUploaded(), achievement.getMinBlogsUploaded(), achievement.getMinBlogShared());
+    }
+
+    private static int[] vectorOf(int points, int examsDone, int cmtCount,
+                                  int docsUploaded, int blogsUploaded, int blogsShared) {
+        int[] vector = new int[AchievementMetric.values().length];
+        vector[AchievementMetric.POINTS.ordinal()] = points;
+        vector[AchievementMetric.EXAMS_DONE.ordinal()] = examsDone;
+        vector[AchievementMetric.CMT_COUNT.ordinal()] = cmtCount;
+        vector[AchievementMetric.DOCS_UPLOADED.ordinal()] = docsUploaded;
+        vector[AchievementMetric.BLOGS_UPLOADED.ordinal()] = blogsUploaded;
+        vector[AchievementMetric.BLOGS_SHARED.ordinal()] = blogsShared;
+        return vector;
+    }
+
+    private AchievementRuleIndex current() {
+        AchievementRuleIndex current = index;
+        if (current == null) {
+            reload();
+            current = index;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,158 @@
+package com.se.hub.modules.profile.achievement;
+
+import com.se.hub.common.enums.ErrorCode;
+import com.se.hub.common.exception.AppException;
+import com.se.hub.modules.gamification.enums.ProgressAction;
+import com.se.hub.modules.profile.dto.response.AchievementEngineBenchmarkResponse;
+import com.se.hub.modules.profile.enums.AchievementMetric;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmarks the achievement rule index against a full scan of the catalog (admin only).
+ *
+ * For each catalog size, compiles a synthetic catalog (fixed seed, so runs are comparable) whose
+ * thresholds spread over a range that grows with the catalog, as tiered achievements do, and replays
+ * the same progress actions on random users through both evaluations. Indexed cost should stay flat
+ * as the catalog grows while the full scan grows linearly.
+ * Runs on the serving node and touches no database; keep sizes and actions small on production.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AchievementEngineBenchmarkService {
+    private static final int MAX_CATALOG_SIZE = 100_000;
+    private static final int MAX_ACTIONS = 100_000;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final long SEED = 20_261_018L;
+    // Threshold range per rule on a metric; with the catalog size it sets how many thresholds an action crosses
+    private static final int THRESHOLD_SPACING = 10;
+    private static final int MAX_METRICS_PER_RULE = 2;
+
+    public List<AchievementEngineBenchmarkResponse> benchmark(List<Integer> catalogSizes, int actions) {
+        if (!isAdmin()) {
+            log.error("AchievementEngineBenchmarkService_benchmark_Current user is not admin");
+            throw new AppException(ErrorCode.AUTHZ_UNAUTHORIZED);
+        }
+        int runs = Math.clamp(actions, 1, MAX_ACTIONS);
+
+        List<AchievementEngineBenchmarkResponse> results = new ArrayList<>(catalogSizes.size());
+        for (int catalogSize : catalogSizes) {
+            results.add(benchmarkCatalog(Math.clamp(catalogSize, 1, MAX_CATALOG_SIZE), runs));
+        }
+        return results;
+    }
+
+    private AchievementEngineBenchmarkResponse benchmarkCatalog(int catalogSize, int actions) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int range = catalogSize * THRESHOLD_SPACING;
+        AchievementRuleIndex index = syntheticCatalog(catalogSize, range, random);
+
+        ProgressAction[] progressActions = ProgressAction.values();
+        int[][] before = new int[actions][];
+        int[][] after = new int[actions][];
+        for (int i = 0; i < actions; i++) {
+            before[i] = new int[AchievementMetric.values().length];
+            for (int metric = 0; metric < before[i].length; metric++) {
+                before[i][metric] = random.nextInt(range);
+            }
+            after[i] = applied(before[i], progressActions[random.nextInt(progressActions.length)]);
+        }
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (int i = 0; i < actions; i++) {
+                index.unlocked(before[i], after[i]);
+                index.unlockedByScan(before[i], after[i]);
+            }
+        }
+
+        List<List<String>> indexed = new ArrayList<>(actions);
+        long start = System.nanoTime();
+        for (int i = 0; i < actions; i++) {
+            indexed.add(index.unlocked(before[i], after[i]));
+        }
+        long indexedNanos = System.nanoTime() - start;
+
+        List<List<String>> scanned = new ArrayList<>(actions);
+        start = System.nanoTime();
+        for (int i = 0; i < actions; i++) {
+            scanned.add(index.unlockedByScan(before[i], after[i]));
+        }
+        long fullScanNanos = System.nanoTime() - start;
+
+        long unlocked = 0;
+        boolean agrees = true;
+        for (int i = 0; i < actions; i++) {
+            unlocked += indexed.get(i).size();
+            agrees &= new HashSet<>(indexed.get(i)).equals(new HashSet<>(scanned.get(i)));
+        }
+
+        double indexedPerAction = (double) indexedNanos / actions;
+        double fullScanPerAction = (double) fullScanNanos / actions;
+        return AchievementEngineBenchmarkResponse.builder()
+                .catalogSize(catalogSize)
+                .actions(actions)
+                .indexedNanosPerAction(indexedPerAction)
+                .fullScanNanosPerAction(fullScanPerAction)
+                .speedup(indexedPerAction == 0 ? 0.0 : fullScanPerAction / indexedPerAction)
+                .unlocked(unlocked)
+                .agrees(agrees)
+                .build();
+    }
+
+    /**
+     * Rules requiring one or two random metrics, thresholds uniform in [1, range]
+     */
+    private static AchievementRuleIndex syntheticCatalog(int catalogSize, int range, SplittableRandom random) {
+        int metrics = AchievementMetric.values().length;
+        List<String> ids = new ArrayList<>(catalogSize);
+        List<int[]> thresholds = new ArrayList<>(catalogSize);
+        for (int rule = 0; rule < catalogSize; rule++) {
+            int[] required = new int[metrics];
+            int metricsRequired = 1 + random.nextInt(MAX_METRICS_PER_RULE);
+            for (int i = 0; i < metricsRequired; i++) {
+                required[random.nextInt(metrics)] = 1 + random.nextInt(range);
+            }
+            ids.add("rule-" + rule);
+            thresholds.add(required);
+        }
+        return AchievementRuleIndex.compile(ids, thresholds);
+    }
+
+    private static int[] applied(int[] before, ProgressAction action) {
+        int[] after = before.clone();
+        after[AchievementMetric.POINTS.ordinal()] += action.getPoints();
+        after[AchievementMetric.EXAMS_DONE.ordinal()] += action.getExamsDone();
+        after[AchievementMetric.CMT_COUNT.ordinal()] += action.getCmtCount();
+        after[AchievementMetric.DOCS_UPLOADED.ordinal()] += action.getDocsUploaded();
+        after[AchievementMetric.BLOGS_UPLOADED.ordinal()] += action.getBlogsUploaded();
+        after[AchievementMetric.BLOGS_SHARED.ordinal()] += action.getBlogsShared();
+        return after;
+    }
+
+    /**
+     * Check if current user is admin
+     */
+    private boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(authority -> authority.equals("ROLE_ADMIN"));
+    }
+}
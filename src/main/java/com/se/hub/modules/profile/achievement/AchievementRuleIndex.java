@@ -0,0 +1,165 @@
+package com.se.hub.modules.profile.achievement;
+
+import com.se.hub.modules.profile.enums.AchievementMetric;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable index of achievement rules, keyed by the metrics they depend on.
+ *
+ * A rule unlocks when every metric reaches its minimum. Stats only grow, so a rule can only become
+ * satisfied by an action that moves at least one metric across the rule's threshold on it.
+ * For each metric the rules requiring more than zero are sorted by threshold; an action looks up,
+ * by binary search, the rules whose threshold lies in (before, after] on the metrics it changed
+ * and checks only those. Per-action cost depends on how many thresholds the delta crosses, not on
+ * the catalog size.
+ *
+ * Stat vectors are indexed by AchievementMetric ordinal.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AchievementRuleIndex {
+    private static final int METRICS = AchievementMetric.values().length;
+
+    String[] ids;
+    // thresholds[rule][metric]
+    int[][] thresholds;
+    // Per metric: thresholds above zero in ascending order, and the rule each belongs to
+    int[][] sortedThresholds;
+    int[][] sortedRules;
+
+    private AchievementRuleIndex(String[] ids, int[][] thresholds) {
+        this.ids = ids;
+        this.thresholds = thresholds;
+        this.sortedThresholds = new int[METRICS][];
+        this.sortedRules = new int[METRICS][];
+
+        for (int metric = 0; metric < METRICS; metric++) {
+            List<Integer> rules = new ArrayList<>();
+            for (int rule = 0; rule < ids.length; rule++) {
+                if (thresholds[rule][metric] > 0) {
+                    rules.add(rule);
+                }
+            }
+            int m = metric;
+            rules.sort(Comparator.comparingInt(rule -> thresholds[rule][m]));
+
+            sortedThresholds[metric] = new int[rules.size()];
+            sortedRules[metric] = new int[rules.size()];
+            for (int i = 0; i < rules.size(); i++) {
+                sortedRules[metric][i] = rules.get(i);
+                sortedThresholds[metric][i] = thresholds[rules.get(i)][metric];
+            }
+        }
+    }
+
+    /**
+     * Compile rules (achievement ID -> minimum per metric, by AchievementMetric ordinal)
+     */
+    public static AchievementRuleIndex compile(List<String> ids, List<int[]> thresholds) {
+        if (ids.size() != thresholds.size()) {
+            throw new IllegalArgumentException("ids and thresholds differ in size");
+        }
+        int[][] copy = new int[thresholds.size()][];
+        for (int rule = 0; rule < copy.length; rule++) {
+            if (thresholds.get(rule).length != METRICS) {
+                throw new IllegalArgumentException("threshold vector must have one entry per metric");
+            }
+            copy[rule] = thresholds.get(rule).clone();
+        }
+        return new AchievementRuleIndex(ids.toArray(String[]::new), copy);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * IDs of the rules satisfied by after but not by before (after >= before on every metric)
+     * Each rule is reported once, on the first metric whose threshold the change crossed
+     */
+    public List<String> unlocked(int[] before, int[] after) {
+        List<String> unlocked = new ArrayList<>(0);
+        for (int metric = 0; metric < METRICS; metric++) {
+            if (after[metric] <= before[metric]) {
+                continue;
+            }
+            int[] sorted = sortedThresholds[metric];
+            int from = firstAbove(sorted, before[metric]);
+            int to = firstAbove(sorted, after[metric]);
+            for (int i = from; i < to; i++) {
+                int rule = sortedRules[metric][i];
+                if (satisfies(rule, after) && !crossedEarlier(rule, metric, before, after)) {
+                    unlocked.add(ids[rule]);
+                }
+            }
+        }
+        return unlocked;
+    }
+
+    /**
+     * IDs of all rules satisfied by the stats (full scan, for re-evaluating a whole profile)
+     */
+    public List<String> satisfiedBy(int[] stats) {
+        List<String> satisfied = new ArrayList<>();
+        for (int rule = 0; rule < ids.length; rule++) {
+            if (satisfies(rule, stats)) {
+                satisfied.add(ids[rule]);
+            }
+        }
+        return satisfied;
+    }
+
+    /**
+     * Same result as unlocked, by checking every rule; the baseline the index is measured against
+     */
+    public List<String> unlockedByScan(int[] before, int[] after) {
+        List<String> unlocked = new ArrayList<>(0);
+        for (int rule = 0; rule < ids.length; rule++) {
+            if (satisfies(rule, after) && !satisfies(rule, before)) {
+                unlocked.add(ids[rule]);
+            }
+        }
+        return unlocked;
+    }
+
+    private boolean satisfies(int rule, int[] stats) {
+        int[] required = thresholds[rule];
+        for (int metric = 0; metric < METRICS; metric++) {
+            if (stats[metric] < required[metric]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean crossedEarlier(int rule, int metric, int[] before, int[] after) {
+        int[] required = thresholds[rule];
+        for (int earlier = 0; earlier < metric; earlier++) {
+            if (before[earlier] < required[earlier] && required[earlier] <= after[earlier]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Index of the first threshold greater than value
+     */
+    private static int firstAbove(int[] sorted, int value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
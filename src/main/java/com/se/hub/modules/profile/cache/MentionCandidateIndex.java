@@ -0,0 +1,107 @@
+package com.se.hub.modules.profile.cache;
+
+import com.se.hub.modules.profile.dto.response.MentionSuggestionResponse;
+import com.se.hub.modules.search.utils.SearchTextUtil;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Cached mention candidates of one user (recent chat partners, then follows) with a prefix index.
+ *
+ * keys holds the folded username, the folded full name and each of its words, sorted; positions
+ * holds the candidate each key belongs to. Candidates whose keys start with the typed text are one
+ * binary search and a short scan away, and are returned in candidate (rank) order.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class MentionCandidateIndex {
+    List<MentionSuggestionResponse> candidates = new ArrayList<>();
+    List<String> keys = new ArrayList<>();
+    List<Integer> positions = new ArrayList<>();
+
+    /**
+     * Index candidates given in rank order
+     */
+    public static MentionCandidateIndex of(List<MentionSuggestionResponse> candidates) {
+        List<KeyPosition> entries = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            MentionSuggestionResponse candidate = candidates.get(i);
+            Set<String> candidateKeys = new LinkedHashSet<>();
+            candidateKeys.add(SearchTextUtil.fold(candidate.getUsername()).strip());
+            String fullName = SearchTextUtil.fold(candidate.getFullName()).strip();
+            candidateKeys.add(fullName);
+            candidateKeys.addAll(SearchTextUtil.tokenize(fullName));
+            candidateKeys.remove("");
+            for (String key : candidateKeys) {
+                entries.add(new KeyPosition(key, i));
+            }
+        }
+        entries.sort(Comparator.comparing(KeyPosition::getKey).thenComparingInt(KeyPosition::getPosition));
+
+        List<String> keys = new ArrayList<>(entries.size());
+        List<Integer> positions = new ArrayList<>(entries.size());
+        for (KeyPosition entry : entries) {
+            keys.add(entry.getKey());
+            positions.add(entry.getPosition());
+        }
+        return new MentionCandidateIndex(new ArrayList<>(candidates), keys, positions);
+    }
+
+    /**
+     * Best candidates for folded typed text, in rank order; every candidate when nothing is typed
+     */
+    public List<MentionSuggestionResponse> match(String foldedPrefix, int limit) {
+        if (foldedPrefix.isEmpty()) {
+            return candidates.subList(0, Math.min(limit, candidates.size()));
+        }
+        BitSet matched = new BitSet(candidates.size());
+        for (int i = lowerBound(foldedPrefix); i < keys.size() && keys.get(i).startsWith(foldedPrefix); i++) {
+            matched.set(positions.get(i));
+        }
+
+        List<MentionSuggestionResponse> matches = new ArrayList<>(Math.min(limit, matched.cardinality()));
+        for (int i = matched.nextSetBit(0); i >= 0 && matches.size() < limit; i = matched.nextSetBit(i + 1)) {
+            matches.add(candidates.get(i));
+        }
+        return matches;
+    }
+
+    /**
+     * First key not before the prefix (keys repeat, so a plain binary search could land mid-run)
+     */
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = keys.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys.get(mid).compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static class KeyPosition {
+        String key;
+        int position;
+    }
+}
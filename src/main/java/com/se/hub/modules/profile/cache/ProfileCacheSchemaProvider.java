@@ -0,0 +1,26 @@
+package com.se.hub.modules.profile.cache;
+
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.se.hub.common.cache.CacheValueSchema;
+import com.se.hub.common.cache.CacheValueSchemaProvider;
+import com.se.hub.modules.profile.constant.mention.MentionConstants;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Value types of the profile caches for the compact cache codec:
+ * - mention candidates: MentionCandidateIndex
+ */
+@Component
+public class ProfileCacheSchemaProvider implements CacheValueSchemaProvider {
+
+    @Override
+    public List<CacheValueSchema> getSchemas(TypeFactory typeFactory) {
+        return List.of(
+                new CacheValueSchema(MentionConstants.CACHE_MENTION_CANDIDATES,
+                        MentionConstants.SCHEMA_MENTION_CANDIDATES, MentionConstants.SCHEMA_VERSION,
+                        typeFactory.constructType(MentionCandidateIndex.class))
+        );
+    }
+}
@@ -0,0 +1,71 @@
+package com.se.hub.modules.profile.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.se.hub.modules.profile.constant.catalog.ProfileCatalogConstants;
+import com.se.hub.modules.profile.enums.ProfileCatalog;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Cross-node reload of in-memory profile catalogs over Redis Pub/Sub.
+ *
+ * The node that changes a catalog reloads it locally and then broadcasts the change so the
+ * other nodes reload it too. Messages from this node are ignored.
+ * Delivery is best-effort: each catalog's periodic reload bounds staleness if a message is lost.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProfileCatalogBus {
+    StringRedisTemplate stringRedisTemplate;
+    RedisMessageListenerContainer redisMessageListenerContainer;
+    ObjectMapper objectMapper;
+    String nodeId = UUID.randomUUID().toString();
+
+    public ProfileCatalogBus(StringRedisTemplate stringRedisTemplate,
+                             RedisMessageListenerContainer redisMessageListenerContainer,
+                             ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+    }
+
+    public void publish(ProfileCatalog catalog) {
+        ProfileCatalogMessage message = ProfileCatalogMessage.builder()
+                .origin(nodeId)
+                .catalog(catalog)
+                .build();
+        try {
+            stringRedisTemplate.convertAndSend(ProfileCatalogConstants.RELOAD_CHANNEL,
+                    objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("ProfileCatalogBus_publish_Error publishing reload of {}", catalog, e);
+        }
+    }
+
+    /**
+     * Register a handler for changes of one catalog published by other nodes
+     */
+    public void subscribe(ProfileCatalog catalog, Runnable handler) {
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                ProfileCatalogMessage change = objectMapper.readValue(message.getBody(), ProfileCatalogMessage.class);
+                if (!nodeId.equals(change.getOrigin()) && change.getCatalog() == catalog) {
+                    handler.run();
+                }
+            } catch (Exception e) {
+                log.error("ProfileCatalogBus_subscribe_Error processing reload message", e);
+            }
+        }, new ChannelTopic(ProfileCatalogConstants.RELOAD_CHANNEL));
+
+        log.info("ProfileCatalogBus_subscribe_Subscribed to {} changes on Redis channel: {}",
+                catalog, ProfileCatalogConstants.RELOAD_CHANNEL);
+    }
+}
@@ -0,0 +1,25 @@
+package com.se.hub.modules.profile.catalog;
+
+import com.se.hub.modules.profile.enums.ProfileCatalog;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Notice that a catalog changed; receivers reload it from the database
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProfileCatalogMessage {
+    // Node that changed the catalog (already reloaded)
+    String origin;
+    ProfileCatalog catalog;
+}
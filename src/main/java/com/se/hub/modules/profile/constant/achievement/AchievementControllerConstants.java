@@ -26,6 +26,12 @@ public class AchievementControllerConstants {
     // ===== DELETE BY TYPE OPERATION =====
     public static final String DELETE_BY_TYPE_SUCCESS_RESPONSE = "Achievement deleted successfully";
     
+    // ===== ENGINE BENCHMARK OPERATION =====
+    public static final String ENGINE_BENCHMARK_SUCCESS_RESPONSE = "Achievement engine benchmark completed";
+    
+    // ===== BACKFILL OPERATION =====
+    public static final String BACKFILL_SUCCESS_RESPONSE = "Achievements backfilled successfully";
+    
     // ===== COMMON RESPONSES =====
     public static final String BAD_REQUEST_RESPONSE = "Bad request";
     public static final String UNAUTHORIZED_RESPONSE = "Unauthorized access";
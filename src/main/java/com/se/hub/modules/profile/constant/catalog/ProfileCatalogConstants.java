@@ -0,0 +1,11 @@
+package com.se.hub.modules.profile.constant.catalog;
+
+public class ProfileCatalogConstants {
+    //===== PUB/SUB ======
+    // Reload notices of admin-edited catalogs (ProfileCatalogBus)
+    public static final String RELOAD_CHANNEL = "profile:catalog:reload";
+
+    private ProfileCatalogConstants() {
+        // Prevent instantiation
+    }
+}
@@ -0,0 +1,21 @@
+package com.se.hub.modules.profile.constant.mention;
+
+public class MentionConstants {
+    //===== CACHE ======
+    // Per-user mention candidates (MentionCandidateIndex), evicted on follow/unfollow
+    public static final String CACHE_MENTION_CANDIDATES = "mentionCandidates";
+    // Compact codec schema of the candidate index; bump on incompatible changes
+    public static final String SCHEMA_MENTION_CANDIDATES = "profile.mentionCandidates";
+    public static final int SCHEMA_VERSION = 1;
+
+    //===== CANDIDATES ======
+    public static final int MAX_FOLLOWING_CANDIDATES = 1_000;
+    public static final int RECENT_CONVERSATION_LIMIT = 50;
+
+    //===== SUGGESTIONS ======
+    public static final String MENTION_PREFIX = "@";
+    public static final int DEFAULT_LIMIT = 8;
+    public static final int MAX_LIMIT = 20;
+
+    private MentionConstants() {}
+}
@@ -47,5 +47,13 @@ public class ProfileConstants {
     public static final String FULL_NAME_PATTERN = "^[a-zA-ZÀ-ỹ\\s]{2,50}$";
     public static final String DEFAULT_AVT_URL = "Avatar url";
 
+    //===== SEARCH ======
+    // Minimum pg_trgm word similarity of a fuzzy name match (profile.search.min-similarity)
+    public static final String SEARCH_DEFAULT_MIN_SIMILARITY = "0.4";
+    // Leading mention marker stripped from the keyword ("@alice" searches for "alice")
+    public static final String MENTION_PREFIX = "@";
+    // Separator of an email keyword's local part and domain (both non-empty)
+    public static final char EMAIL_SEPARATOR = '@';
+
     private ProfileConstants() {}
 }
@@ -12,12 +12,14 @@ public class ProfileControllerConstants {
     public static final String GET_BY_USER_ID_OPERATION_SUMMARY = "Get profile by user ID";
     public static final String GET_BY_PROFILE_ID_OPERATION_SUMMARY = "Get profile by profile ID";
     public static final String GET_ALL_OPERATION_SUMMARY = "Get all profiles with pagination";
+    public static final String SEARCH_OPERATION_SUMMARY = "Search profiles";
     public static final String GET_MY_PROFILE_OPERATION_SUMMARY = "Get current user's profile";
     public static final String FOLLOW_USER_OPERATION_SUMMARY = "Follow a user";
     public static final String UNFOLLOW_USER_OPERATION_SUMMARY = "Unfollow a user";
     public static final String CHECK_FOLLOW_OPERATION_SUMMARY = "Check if following a user";
     public static final String GET_FOLLOWING_OPERATION_SUMMARY = "Get following list";
     public static final String GET_FOLLOWERS_OPERATION_SUMMARY = "Get followers list";
+    public static final String MENTION_SUGGEST_OPERATION_SUMMARY = "Suggest users to mention";
     
     // Operation descriptions
     public static final String CREATE_DEFAULT_OPERATION_DESCRIPTION = "Create a default profile for a user";
@@ -25,12 +27,14 @@ public class ProfileControllerConstants {
     public static final String GET_BY_USER_ID_OPERATION_DESCRIPTION = "Retrieve profile by user ID";
     public static final String GET_BY_PROFILE_ID_OPERATION_DESCRIPTION = "Retrieve profile by profile ID";
     public static final String GET_ALL_OPERATION_DESCRIPTION = "Retrieve all profiles with pagination support";
+    public static final String SEARCH_OPERATION_DESCRIPTION = "Fuzzy search by full name or username, tolerant of typos and missing diacritics, best match first; an email address is matched exactly";
     public static final String GET_MY_PROFILE_OPERATION_DESCRIPTION = "Retrieve current user's profile";
     public static final String FOLLOW_USER_OPERATION_DESCRIPTION = "Follow another user";
     public static final String UNFOLLOW_USER_OPERATION_DESCRIPTION = "Unfollow a user";
     public static final String CHECK_FOLLOW_OPERATION_DESCRIPTION = "Check if current user is following a specific user";
     public static final String GET_FOLLOWING_OPERATION_DESCRIPTION = "Get list of users that current user is following";
     public static final String GET_FOLLOWERS_OPERATION_DESCRIPTION = "Get list of users that follow current user";
+    public static final String MENTION_SUGGEST_OPERATION_DESCRIPTION = "Autocomplete for @mentions: recent chat partners and followed users first, then other users by username prefix";
     
     // Response descriptions
     public static final String CREATE_DEFAULT_SUCCESS_RESPONSE = "Default profile created successfully";
@@ -38,12 +42,14 @@ public class ProfileControllerConstants {
     public static final String GET_BY_USER_ID_SUCCESS_RESPONSE = "Profile retrieved successfully";
     public static final String GET_BY_PROFILE_ID_SUCCESS_RESPONSE = "Profile retrieved successfully";
     public static final String GET_ALL_SUCCESS_RESPONSE = "Profiles retrieved successfully";
+    public static final String SEARCH_SUCCESS_RESPONSE = "Profiles retrieved successfully";
     public static final String GET_MY_PROFILE_SUCCESS_RESPONSE = "Current user's profile retrieved successfully";
     public static final String FOLLOW_USER_SUCCESS_RESPONSE = "User followed successfully";
     public static final String UNFOLLOW_USER_SUCCESS_RESPONSE = "User unfollowed successfully";
     public static final String CHECK_FOLLOW_SUCCESS_RESPONSE = "Follow status retrieved successfully";
     public static final String GET_FOLLOWING_SUCCESS_RESPONSE = "Following list retrieved successfully";
     public static final String GET_FOLLOWERS_SUCCESS_RESPONSE = "Followers list retrieved successfully";
+    public static final String MENTION_SUGGEST_SUCCESS_RESPONSE = "Mention suggestions retrieved successfully";
     public static final String BAD_REQUEST_RESPONSE = "Invalid request data";
     public static final String NOT_FOUND_RESPONSE = "Profile not found";
     public static final String INTERNAL_ERROR_RESPONSE = "Internal server error";
@@ -51,6 +57,9 @@ public class ProfileControllerConstants {
     // Parameter descriptions
     public static final String USER_ID_PARAM_DESCRIPTION = "Unique identifier of the user";
     public static final String PROFILE_ID_PARAM_DESCRIPTION = "Unique identifier of the profile";
+    public static final String KEYWORD_PARAM_DESCRIPTION = "Name, username (optionally prefixed with @) or email";
+    public static final String MENTION_PREFIX_PARAM_DESCRIPTION = "Text typed after @ (may be empty)";
+    public static final String MENTION_LIMIT_PARAM_DESCRIPTION = "Maximum number of suggestions";
     
     private ProfileControllerConstants() {
         // Utility class
@@ -10,9 +10,11 @@ import com.se.hub.common.dto.request.PagingRequest;
 import com.se.hub.common.dto.request.SortRequest;
 import com.se.hub.common.dto.response.GenericResponse;
 import com.se.hub.common.dto.response.PagingResponse;
+import com.se.hub.modules.profile.achievement.AchievementEngineBenchmarkService;
 import com.se.hub.modules.profile.constant.achievement.AchievementControllerConstants;
 import com.se.hub.modules.profile.dto.request.CreateAchievementRequest;
 import com.se.hub.modules.profile.dto.request.UpdateAchievementRequest;
+import com.se.hub.modules.profile.dto.response.AchievementEngineBenchmarkResponse;
 import com.se.hub.modules.profile.dto.response.AchievementResponse;
 import com.se.hub.modules.profile.enums.AchievementEnums;
 import com.se.hub.modules.profile.service.api.AchievementService;
@@ -36,6 +38,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Tag(name = "Achievement Management",
         description = "Achievement management API")
 @RequestMapping("/achievements")
@@ -45,6 +49,7 @@ import org.springframework.web.bind.annotation.RestController;
 @Validated
 public class AchievementController extends BaseController {
     AchievementService achievementService;
+    AchievementEngineBenchmarkService achievementEngineBenchmarkService;
 
     @PostMapping
     @Operation(summary = "Create new achievement",
@@ -108,6 +113,34 @@ public class AchievementController extends BaseController {
         return success(achievementService.getMyAchievements(request), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
     }
 
+    @PostMapping("/backfill")
+    @Operation(summary = "Backfill achievements (Admin only)",
+            description = "Grant every achievement to the users whose current stats already satisfy it; returns the number of grants")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200, description = AchievementControllerConstants.BACKFILL_SUCCESS_RESPONSE),
+            @ApiResponse(responseCode = "401", description = AchievementControllerConstants.UNAUTHORIZED_RESPONSE),
+            @ApiResponse(responseCode = "403", description = AchievementControllerConstants.FORBIDDEN_RESPONSE),
+            @ApiResponse(responseCode = ResponseCode.INTERNAL_ERROR_500, description = AchievementControllerConstants.INTERNAL_ERROR_RESPONSE)
+    })
+    public ResponseEntity<GenericResponse<Integer>> backfillAchievements() {
+        return success(achievementService.backfillAll(), MessageCodeConstant.M003_UPDATED, MessageConstant.UPDATED);
+    }
+
+    @GetMapping("/engine/benchmark")
+    @Operation(summary = "Benchmark achievement engine (Admin only)",
+            description = "Compare per-action cost of the indexed rule evaluation and a full catalog scan on synthetic catalogs of the given sizes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200, description = AchievementControllerConstants.ENGINE_BENCHMARK_SUCCESS_RESPONSE),
+            @ApiResponse(responseCode = "401", description = AchievementControllerConstants.UNAUTHORIZED_RESPONSE),
+            @ApiResponse(responseCode = "403", description = AchievementControllerConstants.FORBIDDEN_RESPONSE),
+            @ApiResponse(responseCode = ResponseCode.INTERNAL_ERROR_500, description = AchievementControllerConstants.INTERNAL_ERROR_RESPONSE)
+    })
+    public ResponseEntity<GenericResponse<List<AchievementEngineBenchmarkResponse>>> benchmarkEngine(
+            @RequestParam(defaultValue = "10,100,1000,10000") List<Integer> catalogSizes,
+            @RequestParam(defaultValue = "10000") int actions) {
+        return success(achievementEngineBenchmarkService.benchmark(catalogSizes, actions), MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+    }
+
     @GetMapping("/{achievementId}")
     @Operation(summary = "Get achievement by ID",
             description = "Get achievement details by ID")
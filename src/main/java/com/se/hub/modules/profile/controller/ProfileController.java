@@ -19,9 +19,11 @@ import com.se.hub.modules.profile.dto.response.ActivityResponse;
 import com.se.hub.modules.profile.dto.response.CombinedSettingsResponse;
 import com.se.hub.modules.profile.dto.response.ContributionGraphResponse;
 import com.se.hub.modules.profile.dto.response.FollowCountResponse;
+import com.se.hub.modules.profile.dto.response.MentionSuggestionResponse;
 import com.se.hub.modules.profile.dto.response.ProfileResponse;
 import com.se.hub.modules.profile.service.api.ActivityService;
 import com.se.hub.modules.profile.service.api.FollowService;
+import com.se.hub.modules.profile.service.api.MentionService;
 import com.se.hub.modules.profile.service.api.ProfileProgressService;
 import com.se.hub.modules.profile.service.api.ProfileService;
 import com.se.hub.modules.profile.service.api.SettingsService;
@@ -39,6 +41,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @Tag(name = ProfileControllerConstants.TAG_NAME, description = ProfileControllerConstants.TAG_DESCRIPTION)
 @RequestMapping("/profile")
@@ -50,6 +55,7 @@ import org.springframework.web.bind.annotation.*;
 public class ProfileController extends BaseController {
     ProfileService profileService;
     FollowService followService;
+    MentionService mentionService;
     ActivityService activityService;
     SettingsService settingsService;
     ProfileProgressService profileProgressService;
@@ -109,6 +115,46 @@ public class ProfileController extends BaseController {
         return success(data, MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
     }
 
+    @GetMapping("/search")
+    @Operation(summary = ProfileControllerConstants.SEARCH_OPERATION_SUMMARY, description = ProfileControllerConstants.SEARCH_OPERATION_DESCRIPTION)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200, description = ProfileControllerConstants.SEARCH_SUCCESS_RESPONSE),
+            @ApiResponse(responseCode = ResponseCode.BAD_REQUEST_400, description = ProfileControllerConstants.BAD_REQUEST_RESPONSE),
+            @ApiResponse(responseCode = ResponseCode.INTERNAL_ERROR_500, description = ProfileControllerConstants.INTERNAL_ERROR_RESPONSE)
+    })
+    public ResponseEntity<GenericResponse<PagingResponse<ProfileResponse>>> searchProfiles(
+            @Parameter(description = ProfileControllerConstants.KEYWORD_PARAM_DESCRIPTION, required = true)
+            @RequestParam @NotBlank(message = "Keyword cannot be blank") String keyword,
+            @RequestParam(value = PaginationConstants.PARAM_PAGE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE) int page,
+            @RequestParam(value = PaginationConstants.PARAM_SIZE, required = false, defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE) int size
+    ) {
+        log.debug("Searching profiles: keyword={}, page={}, size={}", keyword, page, size);
+
+        PagingRequest request = PagingRequest.builder()
+                .page(page)
+                .pageSize(size)
+                .build();
+
+        PagingResponse<ProfileResponse> data = profileService.searchProfiles(keyword, request);
+        return success(data, MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+    }
+
+    @GetMapping("/mentions")
+    @Operation(summary = ProfileControllerConstants.MENTION_SUGGEST_OPERATION_SUMMARY, description = ProfileControllerConstants.MENTION_SUGGEST_OPERATION_DESCRIPTION)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200, description = ProfileControllerConstants.MENTION_SUGGEST_SUCCESS_RESPONSE),
+            @ApiResponse(responseCode = ResponseCode.INTERNAL_ERROR_500, description = ProfileControllerConstants.INTERNAL_ERROR_RESPONSE)
+    })
+    public ResponseEntity<GenericResponse<List<MentionSuggestionResponse>>> suggestMentions(
+            @Parameter(description = ProfileControllerConstants.MENTION_PREFIX_PARAM_DESCRIPTION)
+            @RequestParam(required = false) String q,
+            @Parameter(description = ProfileControllerConstants.MENTION_LIMIT_PARAM_DESCRIPTION)
+            @RequestParam(required = false) Integer limit
+    ) {
+        List<MentionSuggestionResponse> data = mentionService.suggest(q, limit);
+        return success(data, MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+    }
+
     @GetMapping("/my-profile")
     @Operation(summary = ProfileControllerConstants.GET_MY_PROFILE_OPERATION_SUMMARY, description = ProfileControllerConstants.GET_MY_PROFILE_OPERATION_DESCRIPTION)
     @ApiResponses(value = {
@@ -131,10 +177,12 @@ public class ProfileController extends BaseController {
     })
     public ResponseEntity<GenericResponse<ProfileResponse>> getDetailProfileByProfileId(
             @Parameter(description = ProfileControllerConstants.PROFILE_ID_PARAM_DESCRIPTION, required = true)
-            @PathVariable @NotBlank(message = "Profile ID cannot be blank") String profileId) {
+            @PathVariable @NotBlank(message = "Profile ID cannot be blank") String profileId,
+            WebRequest webRequest) {
         log.debug("Getting profile by profileId: {}", profileId);
-        ProfileResponse data = profileService.getDetailProfileByProfileId(profileId);
-        return success(data, MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+        return conditional(webRequest, profileService.getProfileVersion(profileId),
+                () -> profileService.getDetailProfileByProfileId(profileId),
+                MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
     }
 
     @GetMapping("/user/{userId}")
@@ -146,10 +194,12 @@ public class ProfileController extends BaseController {
     })
     public ResponseEntity<GenericResponse<ProfileResponse>> getDetailProfileByUserId(
             @Parameter(description = ProfileControllerConstants.USER_ID_PARAM_DESCRIPTION, required = true)
-            @PathVariable @NotBlank(message = "User ID cannot be blank") String userId) {
+            @PathVariable @NotBlank(message = "User ID cannot be blank") String userId,
+            WebRequest webRequest) {
         log.debug("Getting profile by userId: {}", userId);
-        ProfileResponse data = profileService.getDetailProfileByUserId(userId);
-        return success(data, MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
+        return conditional(webRequest, profileService.getProfileVersionByUserId(userId),
+                () -> profileService.getDetailProfileByUserId(userId),
+                MessageCodeConstant.M005_RETRIEVED, MessageConstant.RETRIEVED);
     }
 
     @PostMapping("/follow/{userId}")
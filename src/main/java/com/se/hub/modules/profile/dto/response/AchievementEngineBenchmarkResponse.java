@@ -0,0 +1,32 @@
+package com.se.hub.modules.profile.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Indexed vs full-scan achievement evaluation on one synthetic catalog size
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AchievementEngineBenchmarkResponse {
+    int catalogSize;
+    int actions;
+    // Average time per action in nanoseconds
+    double indexedNanosPerAction;
+    double fullScanNanosPerAction;
+    // fullScanNanosPerAction / indexedNanosPerAction
+    double speedup;
+    // Achievements unlocked over all actions (same for both when they agree)
+    long unlocked;
+    // Both evaluations unlocked the same achievements on every action
+    boolean agrees;
+}
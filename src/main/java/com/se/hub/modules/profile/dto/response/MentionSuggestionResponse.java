@@ -0,0 +1,25 @@
+package com.se.hub.modules.profile.dto.response;
+
+import com.se.hub.modules.profile.enums.MentionSource;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class MentionSuggestionResponse {
+    String userId;      // Key of the comment mentions map
+    String profileId;
+    String username;
+    String fullName;
+    String avtUrl;
+    MentionSource source;
+}
@@ -7,9 +7,12 @@ import com.se.hub.modules.profile.constant.profile.ProfileErrorCodeConstants;
 import com.se.hub.modules.profile.enums.GenderEnums;
 import com.se.hub.modules.gamification.entity.GamificationProfile;
 import com.se.hub.modules.user.entity.User;
+import com.se.hub.modules.profile.listener.ProfileEntityListener;
+import com.se.hub.modules.search.listener.SearchIndexEntityListener;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -39,6 +42,7 @@ import java.util.Set;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Table(name = ProfileConstants.TABLE_PROFILE)
 @Entity
+@EntityListeners({ProfileEntityListener.class, SearchIndexEntityListener.class})
 public class Profile extends BaseEntity {
 
     @Column(name = ProfileConstants.FULL_NAME,
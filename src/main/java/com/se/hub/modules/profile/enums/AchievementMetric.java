@@ -0,0 +1,14 @@
+package com.se.hub.modules.profile.enums;
+
+/**
+ * User stats an achievement rule can require a minimum of; the ordinal is the metric's slot
+ * in the stat and threshold vectors of the achievement engine
+ */
+public enum AchievementMetric {
+    POINTS,
+    EXAMS_DONE,
+    CMT_COUNT,
+    DOCS_UPLOADED,
+    BLOGS_UPLOADED,
+    BLOGS_SHARED
+}
@@ -0,0 +1,10 @@
+package com.se.hub.modules.profile.enums;
+
+/**
+ * Why a user is suggested for a mention, in ranking order
+ */
+public enum MentionSource {
+    RECENT_CHAT,
+    FOLLOWING,
+    GLOBAL
+}
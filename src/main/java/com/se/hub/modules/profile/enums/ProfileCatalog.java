@@ -0,0 +1,9 @@
+package com.se.hub.modules.profile.enums;
+
+/**
+ * Admin-edited catalogs that every node keeps compiled in memory
+ */
+public enum ProfileCatalog {
+    ACHIEVEMENT,
+    LEVEL
+}
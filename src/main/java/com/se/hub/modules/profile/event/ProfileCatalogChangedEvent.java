@@ -0,0 +1,21 @@
+package com.se.hub.modules.profile.event;
+
+import com.se.hub.modules.profile.enums.ProfileCatalog;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event emitted when an admin edits a catalog kept in memory (achievements, levels)
+ * The catalog is reloaded on every node after commit
+ */
+@Getter
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE, makeFinal = true)
+public class ProfileCatalogChangedEvent extends ApplicationEvent {
+    ProfileCatalog catalog;
+
+    public ProfileCatalogChangedEvent(Object source, ProfileCatalog catalog) {
+        super(source);
+        this.catalog = catalog;
+    }
+}
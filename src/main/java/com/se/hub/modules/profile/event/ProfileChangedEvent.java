@@ -0,0 +1,26 @@
+package com.se.hub.modules.profile.event;
+
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event emitted when a profile row is updated
+ * Carries the public fields other modules denormalize (e.g. blog card author snapshot)
+ */
+@Getter
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE, makeFinal = true)
+public class ProfileChangedEvent extends ApplicationEvent {
+    String profileId;
+    String username;
+    String fullName;
+    String avtUrl;
+
+    public ProfileChangedEvent(Object source, String profileId, String username, String fullName, String avtUrl) {
+        super(source);
+        this.profileId = profileId;
+        this.username = username;
+        this.fullName = fullName;
+        this.avtUrl = avtUrl;
+    }
+}
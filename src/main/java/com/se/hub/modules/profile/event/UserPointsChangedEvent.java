@@ -0,0 +1,24 @@
+package com.se.hub.modules.profile.event;
+
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event emitted when a user's points (user_stats.points) change
+ * Either a relative change (delta) or a new total (absolute, e.g. stats created or reset)
+ */
+@Getter
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE, makeFinal = true)
+public class UserPointsChangedEvent extends ApplicationEvent {
+    String userId;
+    int points;
+    boolean absolute;
+
+    public UserPointsChangedEvent(Object source, String userId, int points, boolean absolute) {
+        super(source);
+        this.userId = userId;
+        this.points = points;
+        this.absolute = absolute;
+    }
+}
@@ -0,0 +1,84 @@
+package com.se.hub.modules.profile.level;
+
+import com.se.hub.modules.profile.catalog.ProfileCatalogBus;
+import com.se.hub.modules.profile.entity.UserLevel;
+import com.se.hub.modules.profile.enums.ProfileCatalog;
+import com.se.hub.modules.profile.event.ProfileCatalogChangedEvent;
+import com.se.hub.modules.profile.repository.UserLevelRepository;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Resolves points to a level from a LevelTable held in memory on every node.
+ *
+ * - Loaded at startup from the user_level table, seeded by LevelInitializer
+ * - Admin edits publish ProfileCatalogChangedEvent; after commit the editing node reloads and tells
+ *   the other nodes over ProfileCatalogBus; ProfileCatalogScheduler reloads periodically as a backstop
+ * - Until the table is loaded, resolution falls back to the database query
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class LevelResolver {
+    final UserLevelRepository userLevelRepository;
+    final ProfileCatalogBus profileCatalogBus;
+    volatile LevelTable table;
+
+    public LevelResolver(UserLevelRepository userLevelRepository, ProfileCatalogBus profileCatalogBus) {
+        this.userLevelRepository = userLevelRepository;
+        this.profileCatalogBus = profileCatalogBus;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        profileCatalogBus.subscribe(ProfileCatalog.LEVEL, this::reload);
+        reload();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(ProfileCatalogChangedEvent event) {
+        if (event.getCatalog() != ProfileCatalog.LEVEL) {
+            return;
+        }
+        reload();
+        profileCatalogBus.publish(ProfileCatalog.LEVEL);
+    }
+
+    /**
+     * Rebuild the threshold table from the user_level table
+     */
+    public synchronized void reload() {
+        List<UserLevel> levels = userLevelRepository.findAll();
+        List<String> ids = new ArrayList<>(levels.size());
+        List<Integer> mins = new ArrayList<>(levels.size());
+        List<Integer> maxes = new ArrayList<>(levels.size());
+        for (UserLevel level : levels) {
+            ids.add(level.getId());
+            mins.add(level.getMinPoints());
+            maxes.add(level.getMaxPoints());
+        }
+        table = LevelTable.compile(ids, mins, maxes);
+        log.info("LevelResolver_reload_Loaded {} levels", ids.size());
+    }
+
+    /**
+     * ID of the level covering the points
+     */
+    public Optional<String> resolveLevelId(int points) {
+        LevelTable current = table;
+        if (current == null) {
+            return userLevelRepository.findLevelByPoints(points).map(UserLevel::getId);
+        }
+        return current.resolve(points);
+    }
+}
@@ -0,0 +1,76 @@
+package com.se.hub.modules.profile.level;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable level thresholds sorted by minimum points.
+ * A level covers [minPoints, maxPoints); points resolve to the level with the greatest minimum
+ * not above them, by binary search, when they are also below its maximum.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class LevelTable {
+    int[] minPoints;
+    int[] maxPoints;
+    String[] levelIds;
+
+    private LevelTable(int[] minPoints, int[] maxPoints, String[] levelIds) {
+        this.minPoints = minPoints;
+        this.maxPoints = maxPoints;
+        this.levelIds = levelIds;
+    }
+
+    /**
+     * Compile levels given as parallel lists (level ID, minimum and maximum points), in any order
+     */
+    public static LevelTable compile(List<String> ids, List<Integer> mins, List<Integer> maxes) {
+        if (ids.size() != mins.size() || ids.size() != maxes.size()) {
+            throw new IllegalArgumentException("ids, mins and maxes differ in size");
+        }
+        List<Integer> order = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingInt(mins::get));
+
+        int[] minPoints = new int[order.size()];
+        int[] maxPoints = new int[order.size()];
+        String[] levelIds = new String[order.size()];
+        for (int i = 0; i < order.size(); i++) {
+            minPoints[i] = mins.get(order.get(i));
+            maxPoints[i] = maxes.get(order.get(i));
+            levelIds[i] = ids.get(order.get(i));
+        }
+        return new LevelTable(minPoints, maxPoints, levelIds);
+    }
+
+    public int size() {
+        return levelIds.length;
+    }
+
+    /**
+     * ID of the level covering the points, empty in a gap or outside the table
+     */
+    public Optional<String> resolve(int points) {
+        int low = 0;
+        int high = minPoints.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (minPoints[mid] <= points) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int level = low - 1;
+        if (level < 0 || points >= maxPoints[level]) {
+            return Optional.empty();
+        }
+        return Optional.of(levelIds[level]);
+    }
+}
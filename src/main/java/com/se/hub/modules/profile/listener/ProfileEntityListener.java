@@ -0,0 +1,27 @@
+package com.se.hub.modules.profile.listener;
+
+import com.se.hub.modules.profile.entity.Profile;
+import com.se.hub.modules.profile.event.ProfileChangedEvent;
+import jakarta.persistence.PostUpdate;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener publishing ProfileChangedEvent for every profile update, whichever service saved it.
+ * Resolved as a Spring bean by Hibernate's bean container.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProfileEntityListener {
+    ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    public void onPostUpdate(Profile profile) {
+        eventPublisher.publishEvent(new ProfileChangedEvent(
+                this, profile.getId(), profile.getUsername(), profile.getFullName(), profile.getAvtUrl()));
+    }
+}
@@ -3,8 +3,12 @@ package com.se.hub.modules.profile.repository;
 import com.se.hub.modules.profile.entity.Achievement;
 import com.se.hub.modules.profile.enums.AchievementEnums;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +16,45 @@ public interface AchievementRepository extends JpaRepository<Achievement,String>
     boolean existsByAchievementType(AchievementEnums achievementType);
     void deleteByAchievementType(AchievementEnums achievementType);
     Optional<Achievement> findByAchievementType(AchievementEnums achievementType);
+
+    /**
+     * Grant achievements to a profile, inserting only the join rows it does not have yet
+     * IDs no longer in the catalog (deleted since the rule index was loaded) are skipped
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO profile_achievements (profile_id, achievements_id)
+        SELECT :profileId, a.id
+        FROM achievement a
+        WHERE a.id IN (:achievementIds)
+          AND NOT EXISTS (
+              SELECT 1 FROM profile_achievements pa
+              WHERE pa.profile_id = :profileId AND pa.achievements_id = a.id)
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int grantAchievements(@Param("profileId") String profileId,
+                          @Param("achievementIds") Collection<String> achievementIds);
+
+    /**
+     * Grant one achievement to every profile whose stats already satisfy it (after a catalog edit)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO profile_achievements (profile_id, achievements_id)
+        SELECT us.profile_id, a.id
+        FROM achievement a
+        JOIN user_stats us
+          ON us.points >= a.min_points
+         AND us.exams_done >= a.min_exams_done
+         AND us.cmt_count >= a.min_cmt_count
+         AND us.docs_uploaded >= a.min_docs_uploaded
+         AND us.blogs_uploaded >= a.min_blogs_uploaded
+         AND us.blogs_shared >= a.min_blog_shared
+        WHERE a.id = :achievementId
+          AND NOT EXISTS (
+              SELECT 1 FROM profile_achievements pa
+              WHERE pa.profile_id = us.profile_id AND pa.achievements_id = a.id)
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int backfillAchievement(@Param("achievementId") String achievementId);
 }
@@ -1,13 +1,21 @@
 package com.se.hub.modules.profile.repository;
 
 import com.se.hub.modules.profile.entity.Profile;
+import com.se.hub.modules.profile.entity.UserLevel;
+import com.se.hub.modules.profile.repository.projection.MentionCandidateProjection;
+import com.se.hub.modules.profile.repository.projection.ProfileSearchHitProjection;
+import com.se.hub.modules.profile.repository.projection.ProfileSearchProjection;
+import com.se.hub.modules.profile.repository.projection.ProfileVersionProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,20 +32,181 @@ public interface ProfileRepository extends JpaRepository<Profile, String> {
     @Query("SELECT p FROM Profile p WHERE p.user.id IN :userIds")
     List<Profile> findAllByUserIds(@Param("userIds") List<String> userIds);
 
+    /**
+     * Leaderboard page hydration: profiles of the given users with level, stats and
+     * gamification profile (and its streak) fetched in the same query
+     */
+    @Query("""
+            SELECT DISTINCT p FROM Profile p
+            JOIN FETCH p.user u
+            LEFT JOIN FETCH p.level
+            LEFT JOIN FETCH p.userStats
+            LEFT JOIN FETCH p.gamificationProfile g
+            LEFT JOIN FETCH g.streak
+            WHERE u.id IN :userIds
+            """)
+    List<Profile> findRankingProfilesByUserIdIn(@Param("userIds") Collection<String> userIds);
+
+    /**
+     * User IDs among the given ones that have a profile (one query for a whole mention list)
+     */
+    @Query("SELECT p.user.id FROM Profile p WHERE p.user.id IN :userIds")
+    List<String> findExistingUserIds(@Param("userIds") Collection<String> userIds);
+
+    /**
+     * Find profiles by IDs with their one-to-one stats fetched in the same query
+     * Used to hydrate author snippets for a whole page at once
+     * @param ids list of profile IDs
+     * @return list of profiles
+     */
+    @Query("""
+            SELECT DISTINCT p FROM Profile p
+            LEFT JOIN FETCH p.userStats
+            LEFT JOIN FETCH p.gamificationProfile
+            WHERE p.id IN :ids
+            """)
+    List<Profile> findAllWithStatsByIdIn(@Param("ids") List<String> ids);
+
+    /**
+     * Fuzzy people search over the normalized name + username (pg_trgm, see migration/add_profile_trigram_search.sql).
+     * Matches profiles containing a word similar to the keyword (word similarity at least
+     * pg_trgm.word_similarity_threshold, see setWordSimilarityThreshold), best match first;
+     * ties go to the closest whole name.
+     */
     @Query(value = """
+            SELECT p.id AS id, word_similarity(search_normalize(:keyword), p.search_name) AS score
+            FROM profile p
+            WHERE search_normalize(:keyword) <% p.search_name
+            ORDER BY score DESC, similarity(search_normalize(:keyword), p.search_name) DESC, p.id
+            LIMIT :limit OFFSET :offset
+            """,
+            nativeQuery = true)
+    List<ProfileSearchHitProjection> searchProfileHits(@Param("keyword") String keyword,
+                                                       @Param("limit") int limit,
+                                                       @Param("offset") long offset);
+
+    @Query(value = "SELECT COUNT(*) FROM profile p WHERE search_normalize(:keyword) <% p.search_name",
+            nativeQuery = true)
+    long countProfileHits(@Param("keyword") String keyword);
+
+    /**
+     * Minimum word similarity for searchProfileHits, for the current transaction only
+     */
+    @Query(value = "SELECT set_config('pg_trgm.word_similarity_threshold', :threshold, true)",
+            nativeQuery = true)
+    String setWordSimilarityThreshold(@Param("threshold") String threshold);
+
+    /**
+     * Find profiles by IDs with user and role fetched (search result hydration)
+     */
+    @Query("""
             SELECT DISTINCT p FROM Profile p
             LEFT JOIN FETCH p.user u
             LEFT JOIN FETCH u.role r
-            WHERE LOWER(COALESCE(p.fullName, '')) LIKE LOWER(CONCAT('%', :keyword, '%'))
-               OR LOWER(COALESCE(p.username, '')) LIKE LOWER(CONCAT('%', :keyword, '%'))
-               OR LOWER(COALESCE(p.email, '')) LIKE LOWER(CONCAT('%', :keyword, '%'))
-            """,
-            countQuery = """
-            SELECT COUNT(DISTINCT p.id) FROM Profile p
-            LEFT JOIN p.user u
-            WHERE LOWER(COALESCE(p.fullName, '')) LIKE LOWER(CONCAT('%', :keyword, '%'))
-               OR LOWER(COALESCE(p.username, '')) LIKE LOWER(CONCAT('%', :keyword, '%'))
-               OR LOWER(COALESCE(p.email, '')) LIKE LOWER(CONCAT('%', :keyword, '%'))
+            WHERE p.id IN :ids
             """)
-    Page<Profile> searchProfiles(@Param("keyword") String keyword, Pageable pageable);
+    List<Profile> findAllWithUserByIdIn(@Param("ids") List<String> ids);
+
+    @Query("""
+            SELECT p FROM Profile p
+            LEFT JOIN FETCH p.user u
+            LEFT JOIN FETCH u.role r
+            WHERE LOWER(p.email) = LOWER(:email)
+            """)
+    Optional<Profile> findWithUserByEmailIgnoreCase(@Param("email") String email);
+
+    String SEARCH_SELECT = """
+            SELECT p.id AS id, p.user.id AS userId, p.fullName AS fullName, p.username AS username, p.major AS major,
+                   p.bio AS bio, p.avtUrl AS avtUrl, p.updatedDate AS updatedDate,
+                   (SELECT COUNT(f) FROM Follow f WHERE f.following = p.user) AS followerCount
+            FROM Profile p
+            """;
+
+    /**
+     * Search index: one searchable (not blocked) profile
+     */
+    @Query(SEARCH_SELECT + "WHERE p.id = :id AND p.isBlocked = false")
+    Optional<ProfileSearchProjection> findSearchDocumentById(@Param("id") String id);
+
+    /**
+     * Search index batch: searchable profiles with ID after afterId, in ID order
+     */
+    @Query(SEARCH_SELECT + "WHERE p.id > :afterId AND p.isBlocked = false ORDER BY p.id")
+    List<ProfileSearchProjection> findSearchDocumentsAfter(@Param("afterId") String afterId, Limit limit);
+
+    String PROFILE_VERSION_SELECT = """
+            SELECT p.id AS profileId, u.id AS userId,
+                   p.updatedDate AS profileUpdatedDate, u.updatedDate AS userUpdatedDate,
+                   s.updatedDate AS statsUpdatedDate, g.updatedDate AS gamificationUpdatedDate,
+                   ps.updatedDate AS privacyUpdatedDate, l.id AS levelId, r.name AS roleName,
+                   CAST(u.status AS String) AS userStatus, SIZE(p.achievements) AS achievementCount
+            FROM Profile p
+            JOIN p.user u
+            LEFT JOIN u.role r
+            LEFT JOIN p.level l
+            LEFT JOIN p.userStats s
+            LEFT JOIN p.gamificationProfile g
+            LEFT JOIN PrivacySetting ps ON ps.user = p
+            """;
+
+    /**
+     * Change markers of a profile page, read without loading the profile graph
+     * @param profileId profile ID
+     * @return projection, empty when the profile does not exist
+     */
+    @Query(PROFILE_VERSION_SELECT + "WHERE p.id = :profileId")
+    Optional<ProfileVersionProjection> findVersionById(@Param("profileId") String profileId);
+
+    /**
+     * Change markers of a profile page by user ID
+     * @param userId user ID
+     * @return projection, empty when the profile does not exist
+     */
+    @Query(PROFILE_VERSION_SELECT + "WHERE u.id = :userId")
+    Optional<ProfileVersionProjection> findVersionByUserId(@Param("userId") String userId);
+
+    String MENTION_SELECT = """
+            SELECT p.user.id AS userId, p.id AS profileId, p.username AS username,
+                   p.fullName AS fullName, p.avtUrl AS avtUrl
+            FROM Profile p
+            """;
+
+    /**
+     * Mention candidates: profiles a user follows, most recently followed first
+     */
+    @Query(MENTION_SELECT + """
+            JOIN Follow f ON f.following = p.user
+            WHERE f.follower.id = :userId AND p.isBlocked = false
+            ORDER BY f.createDate DESC
+            """)
+    List<MentionCandidateProjection> findFollowingMentionCandidates(@Param("userId") String userId, Limit limit);
+
+    /**
+     * Mention candidates by user ID (not blocked)
+     */
+    @Query(MENTION_SELECT + "WHERE p.user.id IN :userIds AND p.isBlocked = false")
+    List<MentionCandidateProjection> findMentionCandidatesByUserIdIn(@Param("userIds") List<String> userIds);
+
+    /**
+     * Set a profile's level without loading it (level recomputation after a points change)
+     */
+    @Modifying
+    @Query("UPDATE Profile p SET p.level = :level, p.updatedDate = CURRENT_TIMESTAMP WHERE p.id = :profileId")
+    void updateLevel(@Param("profileId") String profileId, @Param("level") UserLevel level);
+
+    /**
+     * Move every profile whose stored level does not cover its points to the level that does
+     * (after the level catalog changes); profiles whose points fall in no level are left as they are
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE profile p
+            SET user_level_id = ul.id, updated_date = now()
+            FROM user_stats us, user_level ul
+            WHERE us.profile_id = p.id
+              AND us.points >= ul.min_points AND us.points < ul.max_points
+              AND p.user_level_id IS DISTINCT FROM ul.id
+            """,
+            nativeQuery = true)
+    int relevelAll();
 }
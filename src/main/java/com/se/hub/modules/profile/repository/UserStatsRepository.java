@@ -1,12 +1,16 @@
 package com.se.hub.modules.profile.repository;
 
 import com.se.hub.modules.profile.entity.UserStats;
+import com.se.hub.modules.profile.repository.projection.UserPointsProjection;
+import com.se.hub.modules.profile.repository.projection.UserStatsMetricsProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,6 +18,39 @@ public interface UserStatsRepository extends JpaRepository<UserStats, String> {
     Optional<UserStats> findByProfileId(String id);
     boolean existsByProfileId(String id);
 
+    /**
+     * Leaderboard rebuild batch: points of the stats rows with ID after afterId, in ID order
+     */
+    @Query("""
+        SELECT us.id AS id, u.id AS userId, us.points AS points
+        FROM UserStats us
+        JOIN us.profile p
+        JOIN p.user u
+        WHERE us.id > :afterId
+        ORDER BY us.id
+        """)
+    List<UserPointsProjection> findPointsAfter(@Param("afterId") String afterId, Limit limit);
+
+    /**
+     * Number of users with more points (rank - 1), used while the leaderboard is not materialized
+     */
+    long countByPointsGreaterThan(int points);
+
+    Optional<UserStats> findByProfileUserId(String userId);
+
+    /**
+     * Current counters and stored level of a user; a scalar query, so it sees updateUserStats changes made earlier in the transaction
+     */
+    @Query("""
+        SELECT p.id AS profileId, l.id AS levelId, us.points AS points, us.examsDone AS examsDone, us.cmtCount AS cmtCount,
+               us.docsUploaded AS docsUploaded, us.blogsUploaded AS blogsUploaded, us.blogsShared AS blogsShared
+        FROM UserStats us
+        JOIN us.profile p
+        LEFT JOIN p.level l
+        WHERE p.user.id = :userId
+        """)
+    Optional<UserStatsMetricsProjection> findMetricsByUserId(@Param("userId") String userId);
+
     @Modifying
     @Query("""
         UPDATE UserStats us
@@ -0,0 +1,12 @@
+package com.se.hub.modules.profile.repository.projection;
+
+/**
+ * Profile fields rendered in a mention suggestion
+ */
+public interface MentionCandidateProjection {
+    String getUserId();
+    String getProfileId();
+    String getUsername();
+    String getFullName();
+    String getAvtUrl();
+}
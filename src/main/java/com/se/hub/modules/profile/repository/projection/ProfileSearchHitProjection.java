@@ -0,0 +1,9 @@
+package com.se.hub.modules.profile.repository.projection;
+
+/**
+ * Fuzzy people search hit: profile ID and its word similarity to the keyword
+ */
+public interface ProfileSearchHitProjection {
+    String getId();
+    Float getScore();
+}
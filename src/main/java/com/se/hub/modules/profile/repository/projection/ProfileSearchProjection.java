@@ -0,0 +1,19 @@
+package com.se.hub.modules.profile.repository.projection;
+
+import java.time.Instant;
+
+/**
+ * Searchable profile fields for the search index (no one-to-one stats, no user join),
+ * with the follower count that ranks username suggestions
+ */
+public interface ProfileSearchProjection {
+    String getId();
+    String getUserId();
+    String getFullName();
+    String getUsername();
+    String getMajor();
+    String getBio();
+    String getAvtUrl();
+    Instant getUpdatedDate();
+    long getFollowerCount();
+}
@@ -0,0 +1,22 @@
+package com.se.hub.modules.profile.repository.projection;
+
+import java.time.Instant;
+
+/**
+ * Change markers of everything a profile page renders (conditional GET validator):
+ * the profile, its user, stats, gamification profile and privacy settings, plus the
+ * level, role, status and achievement count
+ */
+public interface ProfileVersionProjection {
+    String getProfileId();
+    String getUserId();
+    Instant getProfileUpdatedDate();
+    Instant getUserUpdatedDate();
+    Instant getStatsUpdatedDate();
+    Instant getGamificationUpdatedDate();
+    Instant getPrivacyUpdatedDate();
+    String getLevelId();
+    String getRoleName();
+    String getUserStatus();
+    int getAchievementCount();
+}
@@ -0,0 +1,10 @@
+package com.se.hub.modules.profile.repository.projection;
+
+/**
+ * Points of one user, read in ID order when the global leaderboard is rebuilt
+ */
+public interface UserPointsProjection {
+    String getId();
+    String getUserId();
+    int getPoints();
+}
@@ -0,0 +1,16 @@
+package com.se.hub.modules.profile.repository.projection;
+
+/**
+ * Current stat counters of one user, read straight from user_stats (never a cached entity)
+ */
+public interface UserStatsMetricsProjection {
+    String getProfileId();
+    // Level currently stored on the profile
+    String getLevelId();
+    int getPoints();
+    int getExamsDone();
+    int getCmtCount();
+    int getDocsUploaded();
+    int getBlogsUploaded();
+    int getBlogsShared();
+}
@@ -0,0 +1,40 @@
+package com.se.hub.modules.profile.scheduler;
+
+import com.se.hub.modules.profile.achievement.AchievementEngine;
+import com.se.hub.modules.profile.level.LevelResolver;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler that reloads the in-memory profile catalogs from the database
+ * Bounds staleness when a reload message was lost (Redis unavailable, edits made in SQL)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProfileCatalogScheduler {
+    AchievementEngine achievementEngine;
+    LevelResolver levelResolver;
+
+    /**
+     * Runs every 10 minutes by default
+     */
+    @Scheduled(cron = "${profile.catalog.reload-cron:0 */10 * * * ?}")
+    public void reloadCatalogs() {
+        try {
+            achievementEngine.reload();
+        } catch (Exception e) {
+            log.error("ProfileCatalogScheduler_reloadCatalogs_Achievement reload failed: {}", e.getMessage(), e);
+        }
+        try {
+            levelResolver.reload();
+        } catch (Exception e) {
+            log.error("ProfileCatalogScheduler_reloadCatalogs_Level reload failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.se.hub.modules.profile.search;
+
+import com.se.hub.modules.profile.entity.Profile;
+import com.se.hub.modules.profile.repository.ProfileRepository;
+import com.se.hub.modules.profile.repository.projection.ProfileSearchProjection;
+import com.se.hub.modules.search.enums.SearchTarget;
+import com.se.hub.modules.search.index.SearchDocument;
+import com.se.hub.modules.search.index.SearchDocumentProvider;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Profiles (USER target) for the search index: full name, username and major as keywords, bio as body.
+ * Blocked profiles are not searchable; email is not indexed. The username is the suggestion,
+ * ranked by follower count.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProfileSearchDocumentProvider implements SearchDocumentProvider {
+    private static final String USERNAME_PREFIX = "@";
+
+    ProfileRepository profileRepository;
+
+    @Override
+    public SearchTarget getTarget() {
+        return SearchTarget.USER;
+    }
+
+    @Override
+    public Class<?> getEntityType() {
+        return Profile.class;
+    }
+
+    @Override
+    public Optional<SearchDocument> load(String id) {
+        return profileRepository.findSearchDocumentById(id).map(this::toDocument);
+    }
+
+    @Override
+    public List<SearchDocument> loadBatch(String afterId, int batchSize) {
+        return profileRepository.findSearchDocumentsAfter(afterId, Limit.of(batchSize)).stream()
+                .map(this::toDocument)
+                .toList();
+    }
+
+    private SearchDocument toDocument(ProfileSearchProjection profile) {
+        String title = profile.getFullName() != null && !profile.getFullName().isBlank()
+                ? profile.getFullName()
+                : profile.getUsername();
+        return SearchDocument.builder()
+                .target(SearchTarget.USER)
+                .id(profile.getId())
+                .ownerId(profile.getUserId())
+                .title(title)
+                .keywords(String.join(" ",
+                        profile.getUsername() != null ? profile.getUsername() : "",
+                        profile.getMajor() != null ? profile.getMajor() : ""))
+                .body(profile.getBio())
+                .summary(profile.getUsername() != null ? USERNAME_PREFIX + profile.getUsername() : null)
+                .imageUrl(profile.getAvtUrl())
+                .updatedDate(profile.getUpdatedDate())
+                .suggestion(profile.getUsername())
+                .popularity(profile.getFollowerCount())
+                .build();
+    }
+}
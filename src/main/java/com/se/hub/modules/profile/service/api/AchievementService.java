@@ -85,4 +85,11 @@ public interface AchievementService {
      * @since 9/16/2025
      */
     AchievementResponse getAchievementById(String id);
+
+    /**
+     * Grant every achievement to the users whose stats already satisfy it (admin only)
+     * Repairs grants missed before progress evaluated every stats change
+     * @return number of achievements granted
+     */
+    int backfillAll();
 }
@@ -15,6 +15,15 @@ public interface ActivityService {
      */
     void incrementActivity(String profileId);
 
+    /**
+     * Increment activity count for a profile on current date, recording the given user as updater.
+     * Used by background jobs that run without an authenticated user.
+     *
+     * @param profileId Profile ID to increment activity for
+     * @param actorUserId User ID recorded in audit fields
+     */
+    void incrementActivity(String profileId, String actorUserId);
+
     /**
      * Get activity count for a profile on a specific date.
      * Returns 0 if no activity found for that date.
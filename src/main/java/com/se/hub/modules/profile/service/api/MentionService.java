@@ -0,0 +1,21 @@
+package com.se.hub.modules.profile.service.api;
+
+import com.se.hub.modules.profile.dto.response.MentionSuggestionResponse;
+
+import java.util.List;
+
+public interface MentionService {
+
+    /**
+     * Users to mention for text typed after "@": the current user's recent chat partners and
+     * follows first, then other users by username prefix
+     * @param prefix text typed so far (leading @ optional); blank returns the current user's top candidates
+     * @param limit maximum suggestions (default DEFAULT_LIMIT, capped at MAX_LIMIT)
+     */
+    List<MentionSuggestionResponse> suggest(String prefix, Integer limit);
+
+    /**
+     * Drop a user's cached candidates (after their follows change); applied after commit
+     */
+    void evictCandidates(String userId);
+}
@@ -1,6 +1,19 @@
 package com.se.hub.modules.profile.service.api;
 
+import com.se.hub.modules.gamification.enums.ProgressAction;
+
 public interface ProfileProgressService {
+    /**
+     * Apply an action's stats, level and achievements for the given user (no security context needed)
+     * Called by the progress pipeline consumer
+     */
+    void applyAction(String userId, ProgressAction action);
+
+    /**
+     * Add a points delta for the given user (e.g. comment likes), updating level and achievements
+     */
+    void applyPoints(String userId, int pointDelta);
+
     void updatePoints(int pointDelta);
     void updateExamsDone();
     void updateCmtCount();
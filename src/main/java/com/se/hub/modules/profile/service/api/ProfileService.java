@@ -1,5 +1,6 @@
 package com.se.hub.modules.profile.service.api;
 
+import com.se.hub.common.dto.ResourceVersion;
 import com.se.hub.common.dto.request.PagingRequest;
 import com.se.hub.common.dto.response.PagingResponse;
 import com.se.hub.modules.profile.dto.request.CreateDefaultProfileRequest;
@@ -44,6 +45,20 @@ public interface ProfileService {
         return getProfileById(profileId);
     }
 
+    /**
+     * Validators of the profile detail page for the current viewer, without loading the profile
+     * @param profileId profile ID
+     * @return ResourceVersion, or null when the profile does not exist (the full request reports it)
+     */
+    ResourceVersion getProfileVersion(String profileId);
+
+    /**
+     * Validators of the profile detail page by user ID for the current viewer
+     * @param userId user ID
+     * @return ResourceVersion, or null when the profile does not exist
+     */
+    ResourceVersion getProfileVersionByUserId(String userId);
+
     /**
      * Get all profiles with pagination
      * @author catsocute
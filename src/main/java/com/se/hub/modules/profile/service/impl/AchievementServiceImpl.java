@@ -6,12 +6,15 @@ import com.se.hub.common.dto.response.PagingResponse;
 import com.se.hub.common.enums.ErrorCode;
 import com.se.hub.common.exception.AppException;
 import com.se.hub.common.utils.PagingUtil;
+import com.se.hub.modules.profile.achievement.AchievementEngine;
 import com.se.hub.modules.profile.dto.request.CreateAchievementRequest;
 import com.se.hub.modules.profile.dto.request.UpdateAchievementRequest;
 import com.se.hub.modules.profile.dto.response.AchievementResponse;
 import com.se.hub.modules.profile.entity.Achievement;
 import com.se.hub.modules.profile.entity.UserStats;
 import com.se.hub.modules.profile.enums.AchievementEnums;
+import com.se.hub.modules.profile.enums.ProfileCatalog;
+import com.se.hub.modules.profile.event.ProfileCatalogChangedEvent;
 import com.se.hub.modules.profile.mapper.AchievementMapper;
 import com.se.hub.modules.profile.repository.AchievementRepository;
 import com.se.hub.modules.profile.service.api.AchievementService;
@@ -19,9 +22,13 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,6 +41,8 @@ import java.util.List;
 public class AchievementServiceImpl implements AchievementService {
     AchievementRepository achievementRepository;
     AchievementMapper achievementMapper;
+    AchievementEngine achievementEngine;
+    ApplicationEventPublisher eventPublisher;
 
     /**
      * Create a new achievement.
@@ -51,7 +60,7 @@ public class AchievementServiceImpl implements AchievementService {
             throw new AppException(ErrorCode.ACHIEVEMENT_TYPE_EXISTED);
         }
         Achievement achievement = achievementMapper.toAchievement(request);
-        AchievementResponse response = achievementMapper.toAchievementResponse(achievementRepository.save(achievement));
+        AchievementResponse response = achievementMapper.toAchievementResponse(saveAndBackfill(achievement));
         log.debug("AchievementServiceImpl_createAchievement_Achievement created successfully with id: {}", response.getId());
         return response;
     }
@@ -73,13 +82,11 @@ public class AchievementServiceImpl implements AchievementService {
             log.error("userStats is null");
             throw new AppException(ErrorCode.NOT_NULL);
         }
-        List<Achievement> achievements = achievementRepository.findAll();
-        return achievements.stream()
-                .filter(achievement -> matchesRule(achievement, userStats))
-                .toList();
+        return achievementRepository.findAllById(achievementEngine.satisfiedBy(AchievementEngine.statsOf(userStats)));
     }
 
     @Override
+    @Transactional
     public AchievementResponse updateById(String achievementId, UpdateAchievementRequest request) {
         // check for achievement existed
         Achievement existingAchievement = getExistingAchievementById(achievementId);
@@ -90,10 +97,11 @@ public class AchievementServiceImpl implements AchievementService {
             throw new AppException(ErrorCode.DATA_EXISTED);
         }
         achievementMapper.updateAchievementFromRequest(request, existingAchievement);
-        return achievementMapper.toAchievementResponse(achievementRepository.save(existingAchievement));
+        return achievementMapper.toAchievementResponse(saveAndBackfill(existingAchievement));
     }
 
     @Override
+    @Transactional
     public AchievementResponse updateByAchievementType(AchievementEnums achievementType, UpdateAchievementRequest request) {
         Achievement existingAchievement = getExistingAchievementByType(achievementType);
 
@@ -103,17 +111,21 @@ public class AchievementServiceImpl implements AchievementService {
         }
 
         achievementMapper.updateAchievementFromRequest(request, existingAchievement);
-        return achievementMapper.toAchievementResponse(achievementRepository.save(existingAchievement));
+        return achievementMapper.toAchievementResponse(saveAndBackfill(existingAchievement));
     }
 
     @Override
+    @Transactional
     public void deleteById(String achievementId) {
         achievementRepository.deleteById(achievementId);
+        eventPublisher.publishEvent(new ProfileCatalogChangedEvent(this, ProfileCatalog.ACHIEVEMENT));
     }
 
     @Override
+    @Transactional
     public void deleteByAchievementType(AchievementEnums achievementType) {
         achievementRepository.deleteByAchievementType(achievementType);
+        eventPublisher.publishEvent(new ProfileCatalogChangedEvent(this, ProfileCatalog.ACHIEVEMENT));
     }
 
     @Override
@@ -136,6 +148,21 @@ public class AchievementServiceImpl implements AchievementService {
                 .build();
     }
 
+    @Override
+    @Transactional
+    public int backfillAll() {
+        if (!isAdmin()) {
+            log.error("AchievementServiceImpl_backfillAll_Current user is not admin");
+            throw new AppException(ErrorCode.AUTHZ_UNAUTHORIZED);
+        }
+        int granted = 0;
+        for (Achievement achievement : achievementRepository.findAll()) {
+            granted += achievementRepository.backfillAchievement(achievement.getId());
+        }
+        log.info("AchievementServiceImpl_backfillAll_Granted {} achievements", granted);
+        return granted;
+    }
+
     @Override
     public AchievementResponse getAchievementById(String id) {
         Achievement achievement = getExistingAchievementById(id);
@@ -155,17 +182,34 @@ public class AchievementServiceImpl implements AchievementService {
                 .orElseThrow(() -> new AppException(ErrorCode.DATA_NOT_FOUND));
     }
 
-    private boolean matchesRule(Achievement achievement, UserStats stats) {
-        return (stats.getPoints() >= achievement.getMinPoints()) &&
-                (stats.getExamsDone() >= achievement.getMinExamsDone()) &&
-                (stats.getCmtCount() >= achievement.getMinCmtCount()) &&
-                (stats.getDocsUploaded() >= achievement.getMinDocsUploaded()) &&
-                (stats.getBlogsUploaded() >= achievement.getMinBlogsUploaded()) &&
-                (stats.getBlogsShared() >= achievement.getMinBlogShared());
+    /**
+     * Save a created or edited rule, grant it to users who already satisfy it
+     * (progress only checks rules an action crosses) and reload the rule index on every node after commit
+     */
+    private Achievement saveAndBackfill(Achievement achievement) {
+        Achievement saved = achievementRepository.saveAndFlush(achievement);
+        int granted = achievementRepository.backfillAchievement(saved.getId());
+        log.debug("AchievementServiceImpl_saveAndBackfill_Granted {} to {} users", saved.getAchievementType(), granted);
+        eventPublisher.publishEvent(new ProfileCatalogChangedEvent(this, ProfileCatalog.ACHIEVEMENT));
+        return saved;
     }
 
     private boolean isNewAchievementTypeExisted(Achievement existingAchievement, AchievementEnums achievementType) {
         return !existingAchievement.getAchievementType().equals(achievementType)
                 && achievementRepository.existsByAchievementType(achievementType);
     }
+
+    /**
+     * Check if current user is admin
+     */
+    private boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(authority -> authority.equals("ROLE_ADMIN"));
+    }
 }
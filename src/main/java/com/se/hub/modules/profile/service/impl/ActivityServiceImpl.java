@@ -48,6 +48,17 @@ public class ActivityServiceImpl implements ActivityService {
     @Override
     @Transactional
     public void incrementActivity(String profileId) {
+        // Get current user ID for audit fields
+        incrementActivity(profileId, AuthUtils.getCurrentUserId());
+    }
+
+    /**
+     * Increment activity count for a profile on current date with an explicit audit user.
+     * Virtual Thread Best Practice: Uses @Transactional with synchronous blocking I/O operations.
+     */
+    @Override
+    @Transactional
+    public void incrementActivity(String profileId, String userId) {
         log.debug("ActivityService_incrementActivity_Incrementing activity for profile: {}", profileId);
         
         // Validate profile exists
@@ -59,9 +70,6 @@ public class ActivityServiceImpl implements ActivityService {
         // Get current date in Vietnam timezone to avoid timezone issues
         LocalDate today = LocalDate.now(ZoneId.of(ActivityConstants.DEFAULT_TIMEZONE));
         
-        // Get current user ID for audit fields
-        String userId = AuthUtils.getCurrentUserId();
-        
         // Blocking I/O - virtual thread yields here
         // Use upsert to increment count (creates new record if doesn't exist, increments if exists)
         activityRepository.incrementActivityCount(profileId, today, userId);
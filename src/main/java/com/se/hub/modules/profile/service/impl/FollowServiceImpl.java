@@ -13,6 +13,7 @@ import com.se.hub.modules.profile.mapper.ProfileMapper;
 import com.se.hub.modules.profile.repository.FollowRepository;
 import com.se.hub.modules.profile.repository.ProfileRepository;
 import com.se.hub.modules.profile.service.api.FollowService;
+import com.se.hub.modules.profile.service.api.MentionService;
 import com.se.hub.modules.user.entity.User;
 import com.se.hub.modules.user.repository.UserRepository;
 import lombok.AccessLevel;
@@ -38,6 +39,7 @@ public class FollowServiceImpl implements FollowService {
     UserRepository userRepository;
     ProfileRepository profileRepository;
     ProfileMapper profileMapper;
+    MentionService mentionService;
     
     @Override
     @Transactional
@@ -77,6 +79,7 @@ public class FollowServiceImpl implements FollowService {
                 .build();
         
         followRepository.save(follow);
+        mentionService.evictCandidates(currentUserId);
         log.info("User {} followed user {}", currentUserId, followingUserId);
     }
     
@@ -107,6 +110,7 @@ public class FollowServiceImpl implements FollowService {
                 });
         
         followRepository.delete(follow);
+        mentionService.evictCandidates(currentUserId);
         log.info("User {} unfollowed user {}", currentUserId, followingUserId);
     }
     
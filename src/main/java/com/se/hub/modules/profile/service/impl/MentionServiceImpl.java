@@ -0,0 +1,155 @@
+package com.se.hub.modules.profile.service.impl;
+
+import com.se.hub.common.cache.TwoLevelCacheManager;
+import com.se.hub.modules.auth.utils.AuthUtils;
+import com.se.hub.modules.chat.service.api.ConversationService;
+import com.se.hub.modules.profile.cache.MentionCandidateIndex;
+import com.se.hub.modules.profile.constant.mention.MentionConstants;
+import com.se.hub.modules.profile.dto.response.MentionSuggestionResponse;
+import com.se.hub.modules.profile.enums.MentionSource;
+import com.se.hub.modules.profile.repository.ProfileRepository;
+import com.se.hub.modules.profile.repository.projection.MentionCandidateProjection;
+import com.se.hub.modules.profile.service.api.MentionService;
+import com.se.hub.modules.search.constant.SearchIndexConstants;
+import com.se.hub.modules.search.dto.response.SearchSuggestionResponse;
+import com.se.hub.modules.search.enums.SearchTarget;
+import com.se.hub.modules.search.service.SearchIndexService;
+import com.se.hub.modules.search.utils.SearchTextUtil;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Mention autocomplete.
+ *
+ * Each user's candidates (recent direct-chat partners, then follows) are built once into a
+ * MentionCandidateIndex and kept in the two-level cache, so typing "@" is served from memory;
+ * follow/unfollow evicts the entry on every node after commit and chat partners refresh with the
+ * cache TTL. Remaining slots are filled with other users from the in-memory username suggestions.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class MentionServiceImpl implements MentionService {
+
+    ProfileRepository profileRepository;
+    ConversationService conversationService;
+    SearchIndexService searchIndexService;
+    TwoLevelCacheManager cacheManager;
+
+    @Override
+    public List<MentionSuggestionResponse> suggest(String prefix, Integer limit) {
+        String currentUserId = AuthUtils.getCurrentUserId();
+        int size = limit == null
+                ? MentionConstants.DEFAULT_LIMIT
+                : Math.clamp(limit, 1, MentionConstants.MAX_LIMIT);
+        String typed = prefix == null ? "" : prefix.strip();
+        if (typed.startsWith(MentionConstants.MENTION_PREFIX)) {
+            typed = typed.substring(MentionConstants.MENTION_PREFIX.length());
+        }
+        String folded = SearchTextUtil.fold(typed).strip();
+
+        List<MentionSuggestionResponse> suggestions = new ArrayList<>(getCandidates(currentUserId).match(folded, size));
+        if (suggestions.size() < size && folded.length() >= SearchIndexConstants.SUGGEST_MIN_PREFIX_LENGTH) {
+            suggestions.addAll(globalSuggestions(typed, currentUserId, suggestions, size - suggestions.size()));
+        }
+        log.debug("MentionService_suggest_{} suggestions for '{}'", suggestions.size(), folded);
+        return suggestions;
+    }
+
+    @Override
+    public void evictCandidates(String userId) {
+        Cache cache = cacheManager.getCache(MentionConstants.CACHE_MENTION_CANDIDATES);
+        if (cache != null) {
+            cache.evict(userId);
+        }
+    }
+
+    private MentionCandidateIndex getCandidates(String userId) {
+        Cache cache = cacheManager.getCache(MentionConstants.CACHE_MENTION_CANDIDATES);
+        return cache == null
+                ? loadCandidates(userId)
+                : cache.get(userId, () -> loadCandidates(userId));
+    }
+
+    /**
+     * Recent direct-chat partners (most recent first), then follows (most recently followed first)
+     */
+    private MentionCandidateIndex loadCandidates(String userId) {
+        Map<String, MentionSuggestionResponse> candidates = new LinkedHashMap<>();
+
+        List<String> partnerIds = conversationService.getRecentDirectPartnerIds(userId,
+                MentionConstants.RECENT_CONVERSATION_LIMIT);
+        if (!partnerIds.isEmpty()) {
+            Map<String, MentionCandidateProjection> partners = profileRepository.findMentionCandidatesByUserIdIn(partnerIds)
+                    .stream()
+                    .collect(Collectors.toMap(MentionCandidateProjection::getUserId, Function.identity(), (a, b) -> a));
+            partnerIds.stream()
+                    .map(partners::get)
+                    .filter(Objects::nonNull)
+                    .forEach(partner -> candidates.put(partner.getUserId(), toResponse(partner, MentionSource.RECENT_CHAT)));
+        }
+
+        profileRepository.findFollowingMentionCandidates(userId, Limit.of(MentionConstants.MAX_FOLLOWING_CANDIDATES))
+                .forEach(followed -> candidates.putIfAbsent(followed.getUserId(), toResponse(followed, MentionSource.FOLLOWING)));
+
+        log.debug("MentionService_loadCandidates_Loaded {} candidates for user {}", candidates.size(), userId);
+        return MentionCandidateIndex.of(new ArrayList<>(candidates.values()));
+    }
+
+    /**
+     * Other users whose username starts with the typed text, by follower count.
+     * Built from the suggestion payload (username, display name, avatar), so no query per keystroke.
+     */
+    private List<MentionSuggestionResponse> globalSuggestions(String typed, String currentUserId,
+                                                              List<MentionSuggestionResponse> personal, int slots) {
+        Set<String> excludedProfileIds = new HashSet<>();
+        personal.forEach(candidate -> excludedProfileIds.add(candidate.getProfileId()));
+
+        // Ask for extra hits: some are already suggested or are the current user
+        return searchIndexService.suggest(typed, Set.of(SearchTarget.USER), slots + personal.size() + 1)
+                .stream()
+                .filter(suggestion -> !excludedProfileIds.contains(suggestion.getId()))
+                .filter(suggestion -> suggestion.getOwnerId() != null && !suggestion.getOwnerId().equals(currentUserId))
+                .limit(slots)
+                .map(this::toResponse)
+                .toList();
+    }
+
+    private MentionSuggestionResponse toResponse(SearchSuggestionResponse suggestion) {
+        return MentionSuggestionResponse.builder()
+                .userId(suggestion.getOwnerId())
+                .profileId(suggestion.getId())
+                .username(suggestion.getText())
+                .fullName(suggestion.getTitle())
+                .avtUrl(suggestion.getImageUrl())
+                .source(MentionSource.GLOBAL)
+                .build();
+    }
+
+    private MentionSuggestionResponse toResponse(MentionCandidateProjection profile, MentionSource source) {
+        return MentionSuggestionResponse.builder()
+                .userId(profile.getUserId())
+                .profileId(profile.getProfileId())
+                .username(profile.getUsername())
+                .fullName(profile.getFullName())
+                .avtUrl(profile.getAvtUrl())
+                .source(source)
+                .build();
+    }
+}
@@ -3,116 +3,181 @@ package com.se.hub.modules.profile.service.impl;
 import com.se.hub.common.enums.ErrorCode;
 import com.se.hub.common.exception.AppException;
 import com.se.hub.modules.auth.utils.AuthUtils;
-import com.se.hub.modules.profile.entity.Achievement;
-import com.se.hub.modules.profile.entity.Profile;
+import com.se.hub.modules.gamification.enums.ProgressAction;
+import com.se.hub.modules.profile.achievement.AchievementEngine;
+import com.se.hub.modules.profile.entity.UserLevel;
+import com.se.hub.modules.profile.enums.AchievementMetric;
+import com.se.hub.modules.profile.event.UserPointsChangedEvent;
+import com.se.hub.modules.profile.level.LevelResolver;
+import com.se.hub.modules.profile.repository.AchievementRepository;
 import com.se.hub.modules.profile.repository.ProfileRepository;
+import com.se.hub.modules.profile.repository.UserLevelRepository;
 import com.se.hub.modules.profile.repository.UserStatsRepository;
-import com.se.hub.modules.profile.service.api.AchievementService;
+import com.se.hub.modules.profile.repository.projection.UserStatsMetricsProjection;
 import com.se.hub.modules.profile.service.api.ProfileProgressService;
-import com.se.hub.modules.profile.service.api.UserLevelService;
-import com.se.hub.modules.profile.service.api.UserStatsService;
 import jakarta.transaction.Transactional;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 @Slf4j
 public class ProfileProgressServiceImpl implements ProfileProgressService {
-    UserLevelService userLevelService;
-    UserStatsService userStatsService;
-    AchievementService achievementService;
+    LevelResolver levelResolver;
+    AchievementEngine achievementEngine;
+    AchievementRepository achievementRepository;
+    UserLevelRepository userLevelRepository;
     UserStatsRepository userStatsRepository;
     ProfileRepository profileRepository;
+    ApplicationEventPublisher eventPublisher;
 
+    @Override
+    @Transactional
+    public void applyAction(String userId, ProgressAction action) {
+        int[] delta = new int[AchievementMetric.values().length];
+        delta[AchievementMetric.POINTS.ordinal()] = action.getPoints();
+        delta[AchievementMetric.EXAMS_DONE.ordinal()] = action.getExamsDone();
+        delta[AchievementMetric.CMT_COUNT.ordinal()] = action.getCmtCount();
+        delta[AchievementMetric.DOCS_UPLOADED.ordinal()] = action.getDocsUploaded();
+        delta[AchievementMetric.BLOGS_UPLOADED.ordinal()] = action.getBlogsUploaded();
+        delta[AchievementMetric.BLOGS_SHARED.ordinal()] = action.getBlogsShared();
+        applyDelta(userId, delta);
+    }
+
+    @Override
+    @Transactional
+    public void applyPoints(String userId, int pointDelta) {
+        int[] delta = new int[AchievementMetric.values().length];
+        delta[AchievementMetric.POINTS.ordinal()] = pointDelta;
+        applyDelta(userId, delta);
+    }
 
     @Override
     @Transactional
     public void updatePoints(int pointDelta) {
         String userId =  getCurrentUserId();
-        userStatsRepository.updateUserStats(userId, pointDelta, 0, 0, 0, 0, 0);
+        applyPoints(userId, pointDelta);
         log.info("update points for user {} ", userId);
-        updateLevel(userId);
     }
 
     @Override
     @Transactional
     public void updateExamsDone() {
-        String userId =  getCurrentUserId();
-        userStatsRepository.updateUserStats(userId, 10, 1, 0, 0, 0, 0);
-        updateLevel(userId);
-        updateAchievements(userId);
+        applyAction(getCurrentUserId(), ProgressAction.EXAM_SUBMITTED);
     }
 
     @Override
     @Transactional
     public void updateCmtCount() {
-        String userId =  getCurrentUserId();
-        userStatsRepository.updateUserStats(userId, 5, 0, 1, 0, 0, 0);
-        updateLevel(userId);
-        updateAchievements(userId);
+        applyAction(getCurrentUserId(), ProgressAction.COMMENT_CREATED);
     }
 
     @Override
     @Transactional
     public void updateDocsUploaded() {
-        String userId =  getCurrentUserId();
-        userStatsRepository.updateUserStats(userId, 100, 0, 0, 1, 0, 0);
-        updateLevel(userId);
-        updateAchievements(userId);
+        applyAction(getCurrentUserId(), ProgressAction.DOCUMENT_UPLOADED);
     }
 
     @Override
     @Transactional
     public void updatePostsUploaded() {
-        String userId =  getCurrentUserId();
-        userStatsRepository.updateUserStats(userId, 15, 0, 0, 0, 1, 0);
-        updateLevel(userId);
-        updateAchievements(userId);
+        applyAction(getCurrentUserId(), ProgressAction.BLOG_PUBLISHED);
     }
 
     @Override
     @Transactional
     public void updatePostShared() {
-        String userId =  getCurrentUserId();
-        userStatsRepository.updateUserStats(userId, 5, 0, 0, 0, 0, 1);
-        updateLevel(userId);
-        updateAchievements(userId);
+        applyAction(getCurrentUserId(), ProgressAction.BLOG_SHARED);
     }
 
     @Override
     @Transactional
     public void updateLevel(String userId) {
-        Profile profile = getProfileByUserId(userId);
-        int points = userStatsService.getUserStatsByProfileId(profile.getId()).getPoints();
-        profile.setLevel(userLevelService.getUserLevelByPoints(points));
-        profileRepository.save(profile);
+        applyLevel(getStatsByUserId(userId));
     }
 
     @Override
     @Transactional
     public void updateAchievements(String userId) {
-        Profile profile = getProfileByUserId(userId);
-        List<Achievement> achievements = achievementService.getAchievementsByUserStats(profile.getUserStats());
-        Set<Achievement> achievementSet = new HashSet<>(achievements);
-        profile.setAchievements(achievementSet);
-        profileRepository.save(profile);
+        UserStatsMetricsProjection stats = getStatsByUserId(userId);
+        List<String> satisfied = achievementEngine.satisfiedBy(AchievementEngine.statsOf(stats));
+        if (!satisfied.isEmpty()) {
+            achievementRepository.grantAchievements(stats.getProfileId(), satisfied);
+        }
     }
 
-    private String getCurrentUserId() {
-        return AuthUtils.getCurrentUserId();
+    /**
+     * Add a stat delta (by AchievementMetric ordinal), then update level and achievements from it.
+     * Every user_stats writer goes through here, so the rules each change crosses are always evaluated
+     */
+    private void applyDelta(String userId, int[] delta) {
+        userStatsRepository.updateUserStats(userId,
+                delta[AchievementMetric.POINTS.ordinal()],
+                delta[AchievementMetric.EXAMS_DONE.ordinal()],
+                delta[AchievementMetric.CMT_COUNT.ordinal()],
+                delta[AchievementMetric.DOCS_UPLOADED.ordinal()],
+                delta[AchievementMetric.BLOGS_UPLOADED.ordinal()],
+                delta[AchievementMetric.BLOGS_SHARED.ordinal()]);
+        if (delta[AchievementMetric.POINTS.ordinal()] != 0) {
+            eventPublisher.publishEvent(new UserPointsChangedEvent(
+                    this, userId, delta[AchievementMetric.POINTS.ordinal()], false));
+        }
+
+        // One read of the new counters; level and achievements are resolved in memory and written only on change
+        UserStatsMetricsProjection stats = getStatsByUserId(userId);
+        int[] after = AchievementEngine.statsOf(stats);
+        int[] before = new int[after.length];
+        for (int metric = 0; metric < after.length; metric++) {
+            before[metric] = after[metric] - delta[metric];
+        }
+        applyLevel(stats);
+
+        // Only rules whose thresholds this change crossed are checked
+        List<String> unlocked = achievementEngine.unlocked(before, after);
+        if (!unlocked.isEmpty()) {
+            int granted = achievementRepository.grantAchievements(stats.getProfileId(), unlocked);
+            log.debug("ProfileProgressService_applyDelta_Granted {} achievements to user {}", granted, userId);
+        }
+    }
+
+    /**
+     * Move the profile to the level covering its points when the stored level differs
+     * (also repairs levels left stale by catalog edits)
+     */
+    private void applyLevel(UserStatsMetricsProjection stats) {
+        Optional<String> levelId = levelResolver.resolveLevelId(stats.getPoints());
+        if (levelId.isPresent() && levelId.get().equals(stats.getLevelId())) {
+            return;
+        }
+        profileRepository.updateLevel(stats.getProfileId(), getLevelByPoints(stats.getPoints()));
     }
 
-    private Profile getProfileByUserId(String userId) {
-        return profileRepository.findByUserId(userId)
+    /**
+     * Reference to the level covering the points (no query when the level table is loaded)
+     */
+    private UserLevel getLevelByPoints(int points) {
+        String levelId = levelResolver.resolveLevelId(points)
+                .orElseThrow(() -> {
+                    log.error("ProfileProgressService_getLevelByPoints_Cannot find level by points: {}", points);
+                    return new AppException(ErrorCode.DATA_NOT_FOUND);
+                });
+        return userLevelRepository.getReferenceById(levelId);
+    }
+
+    private UserStatsMetricsProjection getStatsByUserId(String userId) {
+        return userStatsRepository.findMetricsByUserId(userId)
                 .orElseThrow(() -> new AppException(ErrorCode.DATA_NOT_FOUND));
     }
+
+    private String getCurrentUserId() {
+        return AuthUtils.getCurrentUserId();
+    }
 }
@@ -1,6 +1,7 @@
 package com.se.hub.modules.profile.service.impl;
 
 import com.se.hub.common.constant.GlobalVariable;
+import com.se.hub.common.dto.ResourceVersion;
 import com.se.hub.common.dto.request.PagingRequest;
 import com.se.hub.common.dto.response.PagingResponse;
 import com.se.hub.common.enums.ErrorCode;
@@ -25,6 +26,8 @@ import com.se.hub.modules.profile.mapper.ProfileMapper;
 import com.se.hub.modules.profile.repository.PrivacySettingRepository;
 import com.se.hub.modules.profile.repository.ProfileRepository;
 import com.se.hub.modules.profile.repository.UserLevelRepository;
+import com.se.hub.modules.profile.repository.projection.ProfileSearchHitProjection;
+import com.se.hub.modules.profile.repository.projection.ProfileVersionProjection;
 import com.se.hub.modules.profile.dto.response.FtesProfileResponse;
 import com.se.hub.modules.profile.dto.response.FtesUserInfoResponse;
 import com.se.hub.modules.profile.service.FtesProfileService;
@@ -32,22 +35,33 @@ import com.se.hub.modules.profile.service.api.ActivityService;
 import com.se.hub.modules.profile.service.api.PrivacyHelperService;
 import com.se.hub.modules.profile.service.api.ProfileService;
 import com.se.hub.modules.profile.service.api.UserStatsService;
+import com.se.hub.modules.search.cache.SearchHitPage;
+import com.se.hub.modules.search.enums.SearchTarget;
+import com.se.hub.modules.search.service.SearchResultCacheService;
+import com.se.hub.modules.search.utils.SearchTextUtil;
 import com.se.hub.modules.user.entity.User;
 import com.se.hub.modules.user.repository.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -65,6 +79,11 @@ public class ProfileServiceImpl implements ProfileService {
     PrivacySettingRepository privacySettingRepository;
     GamificationProfileService gamificationProfileService;
     WalletService walletService;
+    SearchResultCacheService searchResultCacheService;
+
+    @NonFinal
+    @Value("${profile.search.min-similarity:" + ProfileConstants.SEARCH_DEFAULT_MIN_SIMILARITY + "}")
+    String minSearchSimilarity;
 
     @Override
     @Transactional
@@ -214,6 +233,35 @@ public class ProfileServiceImpl implements ProfileService {
         return privacyHelperService.applyPrivacySettings(response, privacySetting, isOwner);
     }
 
+    @Override
+    public ResourceVersion getProfileVersion(String profileId) {
+        return profileRepository.findVersionById(profileId)
+                .map(this::toResourceVersion)
+                .orElse(null);
+    }
+
+    @Override
+    public ResourceVersion getProfileVersionByUserId(String userId) {
+        return profileRepository.findVersionByUserId(userId)
+                .map(this::toResourceVersion)
+                .orElse(null);
+    }
+
+    /**
+     * Validator over every change marker of the profile page; privacy filtering depends on the viewer
+     */
+    private ResourceVersion toResourceVersion(ProfileVersionProjection version) {
+        return ResourceVersion.of(
+                ResourceVersion.latest(version.getProfileUpdatedDate(), version.getUserUpdatedDate(),
+                        version.getStatsUpdatedDate(), version.getGamificationUpdatedDate(),
+                        version.getPrivacyUpdatedDate()),
+                version.getProfileId(), version.getUserId(),
+                version.getProfileUpdatedDate(), version.getUserUpdatedDate(), version.getStatsUpdatedDate(),
+                version.getGamificationUpdatedDate(), version.getPrivacyUpdatedDate(),
+                version.getLevelId(), version.getRoleName(), version.getUserStatus(), version.getAchievementCount(),
+                AuthUtils.getCurrentUserIdOrNull());
+    }
+
     @Override
     public PagingResponse<ProfileResponse> getAllProfiles(PagingRequest pagingRequest) {
         Pageable pageable = PageRequest.of(
@@ -238,29 +286,77 @@ public class ProfileServiceImpl implements ProfileService {
     @Transactional(readOnly = true)
     public PagingResponse<ProfileResponse> searchProfiles(String keyword, PagingRequest pagingRequest) {
         String sanitizedKeyword = keyword == null ? "" : keyword.trim();
+        if (sanitizedKeyword.startsWith(ProfileConstants.MENTION_PREFIX)) {
+            sanitizedKeyword = sanitizedKeyword.substring(ProfileConstants.MENTION_PREFIX.length()).trim();
+        }
         if (sanitizedKeyword.isBlank()) {
             log.error("ProfileService_searchProfiles_Keyword is required");
             throw new AppException(ErrorCode.DATA_INVALID);
         }
 
-        Pageable pageable = PageRequest.of(
-                pagingRequest.getPage() - GlobalVariable.PAGE_SIZE_INDEX,
-                pagingRequest.getPageSize(),
-                PagingUtil.createSort(pagingRequest));
+        // Results are ordered by similarity; the requested sort does not apply to search
+        Pageable pageable = PagingUtil.createPageable(pagingRequest);
+        SearchHitPage hitPage;
+        if (isEmailKeyword(sanitizedKeyword)) {
+            // Email addresses are matched exactly, never fuzzily (case-insensitive, accents kept)
+            String email = SearchTextUtil.normalizeQuery(sanitizedKeyword);
+            hitPage = searchResultCacheService.get(SearchTarget.USER, email, pagingRequest, false, () -> {
+                List<String> match = profileRepository.findWithUserByEmailIgnoreCase(email).stream()
+                        .map(Profile::getId)
+                        .toList();
+                return toSearchHitPage(pageable.getOffset() == 0 ? match : List.of(), match.size(), pagingRequest);
+            });
+        } else {
+            // search_normalize() lower-cases and strips accents, so the folded keyword finds the same profiles
+            String query = SearchTextUtil.fold(SearchTextUtil.normalizeQuery(sanitizedKeyword));
+            hitPage = searchResultCacheService.get(SearchTarget.USER, query, pagingRequest, false, () -> {
+                profileRepository.setWordSimilarityThreshold(minSearchSimilarity);
+                List<ProfileSearchHitProjection> hits = profileRepository.searchProfileHits(
+                        query, pageable.getPageSize(), pageable.getOffset());
+                long total = PageableExecutionUtils.getPage(hits, pageable, () -> profileRepository.countProfileHits(query))
+                        .getTotalElements();
+                return toSearchHitPage(hits.stream().map(ProfileSearchHitProjection::getId).toList(), total, pagingRequest);
+            });
+        }
 
-        Page<Profile> profilePage = profileRepository.searchProfiles(sanitizedKeyword, pageable);
+        return hitPage.toPagingResponse(loadInOrder(hitPage.getIds()).stream()
+                .map(profileMapper::toProfileResponse)
+                .toList());
+    }
 
-        return PagingResponse.<ProfileResponse>builder()
+    /**
+     * An email keyword has text on both sides of the separator (a bare mention marker is not one)
+     */
+    private static boolean isEmailKeyword(String keyword) {
+        int separator = keyword.indexOf(ProfileConstants.EMAIL_SEPARATOR);
+        return separator > 0 && separator < keyword.length() - 1;
+    }
+
+    private SearchHitPage toSearchHitPage(List<String> profileIds, long total, PagingRequest pagingRequest) {
+        return SearchHitPage.builder()
+                .ids(profileIds)
                 .currentPage(pagingRequest.getPage())
                 .pageSize(pagingRequest.getPageSize())
-                .totalPages(profilePage.getTotalPages())
-                .totalElement(profilePage.getTotalElements())
-                .data(profilePage.getContent().stream()
-                        .map(profileMapper::toProfileResponse)
-                        .toList())
+                .totalPages((int) ((total + pagingRequest.getPageSize() - 1) / pagingRequest.getPageSize()))
+                .totalElement(total)
                 .build();
     }
 
+    /**
+     * Load profiles (with user and role) and restore the order of the given IDs
+     */
+    private List<Profile> loadInOrder(List<String> profileIds) {
+        if (profileIds.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Profile> profileMap = profileRepository.findAllWithUserByIdIn(profileIds).stream()
+                .collect(Collectors.toMap(Profile::getId, profile -> profile));
+        return profileIds.stream()
+                .map(profileMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @Override
     @Transactional
     public ProfileResponse getMyProfile() {
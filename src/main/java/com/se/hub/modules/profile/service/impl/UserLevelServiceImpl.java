@@ -9,17 +9,22 @@ import com.se.hub.common.utils.PagingUtil;
 import com.se.hub.modules.profile.dto.request.CreateUserLevelRequest;
 import com.se.hub.modules.profile.dto.response.UserLevelResponse;
 import com.se.hub.modules.profile.entity.UserLevel;
+import com.se.hub.modules.profile.enums.ProfileCatalog;
+import com.se.hub.modules.profile.event.ProfileCatalogChangedEvent;
 import com.se.hub.modules.profile.mapper.UserLevelMapper;
+import com.se.hub.modules.profile.repository.ProfileRepository;
 import com.se.hub.modules.profile.repository.UserLevelRepository;
 import com.se.hub.modules.profile.service.api.UserLevelService;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -27,7 +32,9 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class UserLevelServiceImpl implements UserLevelService {
     UserLevelRepository userLevelRepository;
+    ProfileRepository profileRepository;
     UserLevelMapper userLevelMapper;
+    ApplicationEventPublisher eventPublisher;
 
     /**
      * create level
@@ -37,6 +44,7 @@ public class UserLevelServiceImpl implements UserLevelService {
      * @return UserLevel
      */
     @Override
+    @Transactional
     public UserLevel createUserLevel(CreateUserLevelRequest request) {
         //validate level existed
         if (userLevelRepository.existsByLevel(request.getLevel())) {
@@ -45,7 +53,11 @@ public class UserLevelServiceImpl implements UserLevelService {
         }
 
         UserLevel userLevel = userLevelMapper.toUserLevel(request);
-        return userLevelRepository.save(userLevel);
+        UserLevel saved = userLevelRepository.saveAndFlush(userLevel);
+        int relevelled = profileRepository.relevelAll();
+        log.info("UserLevelServiceImpl_createUserLevel_Moved {} profiles to their new level", relevelled);
+        eventPublisher.publishEvent(new ProfileCatalogChangedEvent(this, ProfileCatalog.LEVEL));
+        return saved;
     }
 
     /**
@@ -72,6 +84,7 @@ public class UserLevelServiceImpl implements UserLevelService {
     @Override
     public void deleteById(String id) {
         userLevelRepository.deleteById(id);
+        eventPublisher.publishEvent(new ProfileCatalogChangedEvent(this, ProfileCatalog.LEVEL));
     }
 
     @Override
@@ -6,6 +6,7 @@ import com.se.hub.modules.profile.constant.userstats.UserStatsConstants;
 import com.se.hub.modules.profile.dto.request.CreateUserStatsRequest;
 import com.se.hub.modules.profile.entity.Profile;
 import com.se.hub.modules.profile.entity.UserStats;
+import com.se.hub.modules.profile.event.UserPointsChangedEvent;
 import com.se.hub.modules.profile.repository.ProfileRepository;
 import com.se.hub.modules.profile.repository.UserStatsRepository;
 import com.se.hub.modules.profile.service.api.UserStatsService;
@@ -13,6 +14,7 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -22,6 +24,7 @@ import org.springframework.stereotype.Service;
 public class UserStatsServiceImpl implements UserStatsService {
     UserStatsRepository userStatsRepository;
     ProfileRepository profileRepository;
+    ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserStats createUserStats(CreateUserStatsRequest request) {
@@ -46,7 +49,9 @@ public class UserStatsServiceImpl implements UserStatsService {
                 .build();
 
         //save user stats
-        return userStatsRepository.save(userStats);
+        UserStats savedUserStats = userStatsRepository.save(userStats);
+        publishPointsReset(profile);
+        return savedUserStats;
     }
 
     @Override
@@ -88,7 +93,19 @@ public class UserStatsServiceImpl implements UserStatsService {
         // reset user stats to default values
         buildDefaultUserStats(existingUserStats);
 
-        return userStatsRepository.save(existingUserStats);
+        UserStats savedUserStats = userStatsRepository.save(existingUserStats);
+        publishPointsReset(existingUserStats.getProfile());
+        return savedUserStats;
+    }
+
+    /**
+     * Leaderboard position of a user whose points were set to the default
+     */
+    private void publishPointsReset(Profile profile) {
+        if (profile.getUser() != null) {
+            eventPublisher.publishEvent(new UserPointsChangedEvent(
+                    this, profile.getUser().getId(), UserStatsConstants.DEFAULT_POINTS, true));
+        }
     }
 
     private void buildDefaultUserStats(UserStats userStats) {
@@ -0,0 +1,19 @@
+package com.se.hub.modules.ranking.board;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * One ranked member of a leaderboard
+ * Ranks are competition ranks: equal scores share a rank and the next score skips ahead (1, 2, 2, 4)
+ */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class LeaderboardEntry {
+    String member;
+    double score;
+    long rank;
+}
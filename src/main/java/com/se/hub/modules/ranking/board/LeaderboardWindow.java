@@ -0,0 +1,22 @@
+package com.se.hub.modules.ranking.board;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+/**
+ * Consecutive ranks of a leaderboard, read atomically with the board size
+ */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class LeaderboardWindow {
+    // Number of ranked members
+    long total;
+    // Zero-based position of the first entry
+    long start;
+    List<LeaderboardEntry> entries;
+}
@@ -0,0 +1,331 @@
+package com.se.hub.modules.ranking.board;
+
+import com.se.hub.modules.ranking.constant.RankingConstants;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Leaderboards kept as Redis sorted sets (member -> score, highest first).
+ *
+ * - Pages, a member's rank and its neighbours are one script call each: O(log n + page size)
+ * - A board is only updated once materialized ({board}:ready); until then readers fall back
+ *   to their database query and the first rebuild fills it
+ * - A rebuild streams the source into {board}:staging in chunks and swaps it in atomically;
+ *   updates that arrive meanwhile are applied to both keys, so the swap does not lose them
+ * - An aggregated board instead folds its source in chunks, each applied together with the
+ *   {board}:cursor it ends at, so a chunk is counted once even if it is read again
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class RedisLeaderboard {
+    private static final String OP_INCREMENT = "incr";
+    private static final String OP_SET = "set";
+    private static final String OP_REMOVE = "rem";
+
+    /**
+     * KEYS[1] = board, KEYS[2] = ready, KEYS[3] = staging, KEYS[4] = rebuild lock
+     * ARGV[1] = incr | set | rem, ARGV[2] = score, ARGV[3] = member
+     * Applies to the board when materialized and to the staging key while a rebuild runs
+     */
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+            local function apply(key)
+                if ARGV[1] == 'incr' then
+                    redis.call('ZINCRBY', key, ARGV[2], ARGV[3])
+                elseif ARGV[1] == 'set' then
+                    redis.call('ZADD', key, ARGV[2], ARGV[3])
+                else
+                    redis.call('ZREM', key, ARGV[3])
+                end
+            end
+            local applied = 0
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                apply(KEYS[1])
+                applied = 1
+            end
+            if redis.call('EXISTS', KEYS[4]) == 1 then
+                apply(KEYS[3])
+            end
+            return applied
+            """, Long.class);
+
+    /**
+     * KEYS[1] = board; ARGV[1] = start, ARGV[2] = stop, ARGV[3] = member or ''
+     * With a member, start and stop are offsets from the member's position.
+     * Returns {total, start, rank of the first entry, {member, score, ...}}; start is -1 for an unranked member
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local total = redis.call('ZCARD', KEYS[1])
+            local start = tonumber(ARGV[1])
+            local stop = tonumber(ARGV[2])
+            if ARGV[3] ~= '' then
+                local index = redis.call('ZREVRANK', KEYS[1], ARGV[3])
+                if not index then
+                    return {total, -1, 0, {}}
+                end
+                start = math.max(0, index + start)
+                stop = index + stop
+            end
+            local entries = redis.call('ZREVRANGE', KEYS[1], start, stop, 'WITHSCORES')
+            local firstRank = 0
+            if #entries > 0 then
+                firstRank = redis.call('ZCOUNT', KEYS[1], '(' .. entries[2], '+inf') + 1
+            end
+            return {total, start, firstRank, entries}
+            """, List.class);
+
+    /**
+     * KEYS[1] = board, KEYS[2] = ready, KEYS[3] = staging, KEYS[4] = rebuild lock; ARGV[1] = lock token
+     * Swaps the staging key in and marks the board materialized, if the lock is still ours
+     */
+    private static final RedisScript<Long> FINISH_REBUILD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[4]) ~= ARGV[1] then
+                return 0
+            end
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+                redis.call('RENAME', KEYS[3], KEYS[1])
+            else
+                redis.call('DEL', KEYS[1])
+            end
+            redis.call('SET', KEYS[2], '1')
+            redis.call('DEL', KEYS[4])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1] = board, KEYS[2] = ready, KEYS[3] = cursor
+     * ARGV[1] = expected cursor ('' before the first chunk), ARGV[2] = new cursor, ARGV[3..] = member, delta, ...
+     * Adds the chunk and moves the cursor only if nobody applied it first; marks the board materialized
+     */
+    private static final RedisScript<Long> APPLY_CHUNK_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[3]) or ''
+            if current ~= ARGV[1] then
+                return 0
+            end
+            for i = 3, #ARGV, 2 do
+                redis.call('ZINCRBY', KEYS[1], ARGV[i + 1], ARGV[i])
+            end
+            redis.call('SET', KEYS[3], ARGV[2])
+            redis.call('SET', KEYS[2], '1')
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    StringRedisTemplate stringRedisTemplate;
+
+    public boolean isReady(String board) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(board + RankingConstants.READY_SUFFIX));
+        } catch (Exception e) {
+            log.warn("RedisLeaderboard_isReady_Failed to read {}: {}", board, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Add delta to the member's score (creates the member)
+     */
+    public void increment(String board, String member, double delta) {
+        update(board, OP_INCREMENT, delta, member);
+    }
+
+    /**
+     * Set the member's score
+     */
+    public void set(String board, String member, double score) {
+        update(board, OP_SET, score, member);
+    }
+
+    public void remove(String board, String member) {
+        update(board, OP_REMOVE, 0, member);
+    }
+
+    /**
+     * Ranks offset + 1 .. offset + count
+     * @return the window, or empty if the board is not materialized or unavailable
+     */
+    public Optional<LeaderboardWindow> range(String board, long offset, int count) {
+        return window(board, offset, offset + count - 1, "");
+    }
+
+    /**
+     * The member with up to radius members above and below it
+     * @return the window (start -1 and no entries if the member is not ranked),
+     *         or empty if the board is not materialized or unavailable
+     */
+    public Optional<LeaderboardWindow> around(String board, String member, int radius) {
+        return window(board, -radius, radius, member);
+    }
+
+    /**
+     * Take the board's rebuild lock and clear leftovers of an aborted rebuild
+     * @return lock token, or null if another rebuild is running
+     */
+    public String beginRebuild(String board) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(board + RankingConstants.REBUILD_LOCK_SUFFIX,
+                token, Duration.ofSeconds(RankingConstants.REBUILD_LOCK_TTL_SECONDS));
+        if (!Boolean.TRUE.equals(locked)) {
+            return null;
+        }
+        stringRedisTemplate.delete(board + RankingConstants.STAGING_SUFFIX);
+        return token;
+    }
+
+    /**
+     * Write one chunk of absolute scores to the staging key (one pipelined round trip)
+     */
+    public void stage(String board, Map<String, Double> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        byte[] stagingKey = (board + RankingConstants.STAGING_SUFFIX).getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<String, Double> score : scores.entrySet()) {
+                connection.zSetCommands().zAdd(stagingKey, score.getValue(),
+                        score.getKey().getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Swap the staged board in
+     * @return false if the lock expired meanwhile (the staged board is discarded)
+     */
+    public boolean finishRebuild(String board, String token) {
+        Long finished = stringRedisTemplate.execute(FINISH_REBUILD_SCRIPT, keys(board), token);
+        if (finished == null || finished == 0) {
+            stringRedisTemplate.delete(board + RankingConstants.STAGING_SUFFIX);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Discard the staged board and release the lock
+     */
+    public void abortRebuild(String board, String token) {
+        try {
+            stringRedisTemplate.delete(board + RankingConstants.STAGING_SUFFIX);
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(board + RankingConstants.REBUILD_LOCK_SUFFIX), token);
+        } catch (Exception e) {
+            // The lock expires on its own
+            log.warn("RedisLeaderboard_abortRebuild_Failed to release {} rebuild: {}", board, e.getMessage());
+        }
+    }
+
+    /**
+     * Position up to which an aggregated board has folded its source
+     * @return the cursor, or FIRST_ID if nothing was folded yet (or the board was lost)
+     */
+    public String cursor(String board) {
+        String cursor = stringRedisTemplate.opsForValue().get(board + RankingConstants.CURSOR_SUFFIX);
+        return cursor == null ? RankingConstants.FIRST_ID : cursor;
+    }
+
+    /**
+     * Add one chunk of score deltas and move the cursor from fromCursor to toCursor, atomically
+     * @return false if the cursor is no longer fromCursor (another node applied the chunk; nothing changed)
+     */
+    public boolean applyChunk(String board, String fromCursor, String toCursor, Map<String, Double> deltas) {
+        List<String> args = new ArrayList<>(2 + deltas.size() * 2);
+        args.add(fromCursor);
+        args.add(toCursor);
+        for (Map.Entry<String, Double> delta : deltas.entrySet()) {
+            args.add(delta.getKey());
+            args.add(String.valueOf(delta.getValue()));
+        }
+        Long applied = stringRedisTemplate.execute(APPLY_CHUNK_SCRIPT,
+                List.of(board, board + RankingConstants.READY_SUFFIX, board + RankingConstants.CURSOR_SUFFIX),
+                args.toArray());
+        return applied != null && applied == 1;
+    }
+
+    /**
+     * Drop the board and its companion keys
+     */
+    public void delete(String board) {
+        stringRedisTemplate.delete(List.of(board,
+                board + RankingConstants.READY_SUFFIX,
+                board + RankingConstants.STAGING_SUFFIX,
+                board + RankingConstants.CURSOR_SUFFIX));
+    }
+
+    /* ========================  HELPERS  ======================== */
+
+    private void update(String board, String op, double score, String member) {
+        try {
+            stringRedisTemplate.execute(UPDATE_SCRIPT, keys(board), op, String.valueOf(score), member);
+        } catch (Exception e) {
+            // The periodic rebuild repairs missed updates
+            log.warn("RedisLeaderboard_update_Failed to {} {} on {}: {}", op, member, board, e.getMessage());
+        }
+    }
+
+    private Optional<LeaderboardWindow> window(String board, long start, long stop, String member) {
+        if (!isReady(board)) {
+            return Optional.empty();
+        }
+        try {
+            List<?> result = stringRedisTemplate.execute(WINDOW_SCRIPT, List.of(board),
+                    String.valueOf(start), String.valueOf(stop), member);
+            if (result == null || result.size() < 4) {
+                return Optional.empty();
+            }
+            long total = ((Number) result.get(0)).longValue();
+            long windowStart = ((Number) result.get(1)).longValue();
+            long firstRank = ((Number) result.get(2)).longValue();
+            List<?> flat = (List<?>) result.get(3);
+
+            // Competition ranks: a score equal to the previous one shares its rank,
+            // any other score is preceded only by higher scores, so its rank is its position
+            List<LeaderboardEntry> entries = new ArrayList<>(flat.size() / 2);
+            for (int i = 0; i + 1 < flat.size(); i += 2) {
+                double score = Double.parseDouble((String) flat.get(i + 1));
+                long rank;
+                if (entries.isEmpty()) {
+                    rank = firstRank;
+                } else {
+                    LeaderboardEntry previous = entries.getLast();
+                    rank = previous.getScore() == score ? previous.getRank() : windowStart + entries.size() + 1;
+                }
+                entries.add(new LeaderboardEntry((String) flat.get(i), score, rank));
+            }
+            return Optional.of(new LeaderboardWindow(total, windowStart, entries));
+        } catch (Exception e) {
+            log.warn("RedisLeaderboard_window_Failed to read {}: {}", board, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static List<String> keys(String board) {
+        return List.of(board,
+                board + RankingConstants.READY_SUFFIX,
+                board + RankingConstants.STAGING_SUFFIX,
+                board + RankingConstants.REBUILD_LOCK_SUFFIX);
+    }
+}
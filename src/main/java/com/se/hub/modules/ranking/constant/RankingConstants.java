@@ -0,0 +1,35 @@
+package com.se.hub.modules.ranking.constant;
+
+/**
+ * Ranking Constants
+ * Redis keys and defaults of the leaderboards kept as Redis sorted sets (RedisLeaderboard)
+ */
+public final class RankingConstants {
+    //===== REDIS KEY PATTERNS ======
+    // ZSET userId -> user_stats.points of every user with stats
+    public static final String REDIS_KEY_POINTS_BOARD = "ranking:points";
+    // Companion keys of a board: {board}:ready marks it as materialized (updates are skipped
+    // while absent), {board}:staging is filled by a rebuild and swapped in, {board}:rebuild:lock
+    // allows one rebuild at a time across nodes
+    public static final String READY_SUFFIX = ":ready";
+    public static final String STAGING_SUFFIX = ":staging";
+    public static final String REBUILD_LOCK_SUFFIX = ":rebuild:lock";
+    // Position of the source already folded into an incrementally aggregated board
+    public static final String CURSOR_SUFFIX = ":cursor";
+
+    //===== DEFAULTS ======
+    public static final int REBUILD_BATCH_SIZE = 1000;
+    // Long enough for a few million users; a rebuild that outlives its lock is discarded
+    public static final long REBUILD_LOCK_TTL_SECONDS = 600;
+    // Users shown above and below the current user
+    public static final int DEFAULT_NEIGHBOURS = 5;
+    public static final int MAX_NEIGHBOURS = 50;
+    // Sort of the database fallback while the board is not materialized
+    public static final String SORT_FIELD_POINTS = "userStats.points";
+    // Rebuild cursor start, before any ID; also the cursor of a board that has folded nothing yet
+    public static final String FIRST_ID = "";
+
+    private RankingConstants() {
+        // Prevent instantiation
+    }
+}
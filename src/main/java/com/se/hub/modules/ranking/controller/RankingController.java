@@ -7,6 +7,7 @@ import com.se.hub.common.dto.MessageDTO;
 import com.se.hub.common.dto.request.PagingRequest;
 import com.se.hub.common.dto.response.GenericResponse;
 import com.se.hub.common.dto.response.PagingResponse;
+import com.se.hub.modules.ranking.dto.response.MyRankingResponse;
 import com.se.hub.modules.ranking.dto.response.ProfileRankingResponse;
 import com.se.hub.modules.ranking.service.api.RankingService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -60,4 +61,27 @@ public class RankingController {
 
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/me")
+    @Operation(summary = "Get my ranking",
+            description = "Get the current user's rank, points and the users ranked around them")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Get successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "500", description = "Server Internal Error")
+    })
+    public ResponseEntity<GenericResponse<MyRankingResponse>> getMyRanking(
+            @RequestParam(value = "neighbours", required = false) Integer neighbours
+    ) {
+        GenericResponse<MyRankingResponse> response = GenericResponse.<MyRankingResponse>builder()
+                .isSuccess(ApiConstant.SUCCESS)
+                .message(MessageDTO.builder()
+                        .messageCode(MessageCodeConstant.M005_RETRIEVED)
+                        .messageDetail(MessageConstant.RETRIEVED)
+                        .build())
+                .data(rankingService.getMyRanking(neighbours))
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
 }
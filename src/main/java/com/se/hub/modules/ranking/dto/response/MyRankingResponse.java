@@ -0,0 +1,31 @@
+package com.se.hub.modules.ranking.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Current user's position on the leaderboard
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class MyRankingResponse {
+    // Null when the user has no stats yet
+    Long rank;
+    Integer points;
+    long totalRanked;
+    // Users around the current one in rank order, the current user included
+    @Builder.Default
+    List<ProfileRankingResponse> neighbours = new ArrayList<>();
+}
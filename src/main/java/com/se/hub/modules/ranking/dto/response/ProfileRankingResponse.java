@@ -22,4 +22,8 @@ public class ProfileRankingResponse {
     String avtUrl;
     UserLevelResponse level;
 
+    //ranking information
+    // Competition rank: equal points share a rank
+    Long rank;
+    Integer points;
 }
@@ -3,8 +3,11 @@ package com.se.hub.modules.ranking.mapper;
 import com.se.hub.modules.profile.entity.Profile;
 import com.se.hub.modules.ranking.dto.response.ProfileRankingResponse;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface RankingMapper {
+    @Mapping(target = "rank", ignore = true)
+    @Mapping(target = "points", ignore = true)
     ProfileRankingResponse toProfileRankingResponse(Profile profile);
 }
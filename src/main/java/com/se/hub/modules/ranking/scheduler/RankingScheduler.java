@@ -0,0 +1,33 @@
+package com.se.hub.modules.ranking.scheduler;
+
+import com.se.hub.modules.ranking.service.api.RankingService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler that rebuilds the points leaderboard from the database
+ * Corrects drift from missed updates (Redis unavailable after a commit, bulk SQL changes)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class RankingScheduler {
+    RankingService rankingService;
+
+    /**
+     * Runs hourly by default
+     */
+    @Scheduled(cron = "${ranking.rebuild-cron:0 0 * * * ?}")
+    public void rebuildLeaderboard() {
+        try {
+            rankingService.rebuild();
+        } catch (Exception e) {
+            log.error("RankingScheduler_rebuildLeaderboard_Rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.se.hub.modules.ranking.service.api;
 
 import com.se.hub.common.dto.request.PagingRequest;
 import com.se.hub.common.dto.response.PagingResponse;
+import com.se.hub.modules.ranking.dto.response.MyRankingResponse;
 import com.se.hub.modules.ranking.dto.response.ProfileRankingResponse;
 
 public interface RankingService {
@@ -11,4 +12,17 @@ public interface RankingService {
      * @author catsocute
      */
     PagingResponse<ProfileRankingResponse>  getRankingProfiles(PagingRequest request);
+
+    /**
+     * Get the current user's rank and the users ranked around them
+     * @param neighbours users shown above and below (default 5, max 50)
+     * @return rank, points and neighbours
+     */
+    MyRankingResponse getMyRanking(Integer neighbours);
+
+    /**
+     * Rebuild the points leaderboard from user_stats, in chunks
+     * No-op while another node is rebuilding
+     */
+    void rebuild();
 }
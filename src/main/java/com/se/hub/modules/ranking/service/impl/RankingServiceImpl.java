@@ -3,8 +3,18 @@ package com.se.hub.modules.ranking.service.impl;
 import com.se.hub.common.constant.GlobalVariable;
 import com.se.hub.common.dto.request.PagingRequest;
 import com.se.hub.common.dto.response.PagingResponse;
+import com.se.hub.modules.auth.utils.AuthUtils;
 import com.se.hub.modules.profile.entity.Profile;
+import com.se.hub.modules.profile.entity.UserStats;
+import com.se.hub.modules.profile.event.UserPointsChangedEvent;
 import com.se.hub.modules.profile.repository.ProfileRepository;
+import com.se.hub.modules.profile.repository.UserStatsRepository;
+import com.se.hub.modules.profile.repository.projection.UserPointsProjection;
+import com.se.hub.modules.ranking.board.LeaderboardEntry;
+import com.se.hub.modules.ranking.board.LeaderboardWindow;
+import com.se.hub.modules.ranking.board.RedisLeaderboard;
+import com.se.hub.modules.ranking.constant.RankingConstants;
+import com.se.hub.modules.ranking.dto.response.MyRankingResponse;
 import com.se.hub.modules.ranking.dto.response.ProfileRankingResponse;
 import com.se.hub.modules.ranking.mapper.RankingMapper;
 import com.se.hub.modules.ranking.service.api.RankingService;
@@ -12,41 +22,252 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranking Service Implementation
+ *
+ * - The points leaderboard is a Redis sorted set of userId -> user_stats.points
+ * - Point changes arrive as UserPointsChangedEvent and are applied after commit; relative
+ *   changes are increments, which commute, so concurrent commits cannot leave an older total behind
+ * - A page or the current user's neighbourhood is one Redis call plus one batched profile load
+ * - Until the board is materialized (cold start) reads use the database and a rebuild is started;
+ *   RankingScheduler rebuilds it periodically to correct drift from missed updates
+ */
 @Service
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 @Slf4j
 public class RankingServiceImpl implements RankingService {
     ProfileRepository profileRepository;
+    UserStatsRepository userStatsRepository;
     RankingMapper rankingMapper;
+    RedisLeaderboard redisLeaderboard;
+    AtomicBoolean rebuildStarted = new AtomicBoolean();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!redisLeaderboard.isReady(RankingConstants.REDIS_KEY_POINTS_BOARD)) {
+            rebuildInBackground();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPointsChanged(UserPointsChangedEvent event) {
+        if (event.isAbsolute()) {
+            redisLeaderboard.set(RankingConstants.REDIS_KEY_POINTS_BOARD, event.getUserId(), event.getPoints());
+        } else {
+            redisLeaderboard.increment(RankingConstants.REDIS_KEY_POINTS_BOARD, event.getUserId(), event.getPoints());
+        }
+    }
 
     @Override
     public PagingResponse<ProfileRankingResponse> getRankingProfiles(PagingRequest request) {
-        Sort.Direction direction = Sort.Direction.DESC;
+        long offset = (long) (request.getPage() - GlobalVariable.PAGE_SIZE_INDEX) * request.getPageSize();
+        Optional<LeaderboardWindow> window = redisLeaderboard.range(
+                RankingConstants.REDIS_KEY_POINTS_BOARD, offset, request.getPageSize());
+        if (window.isEmpty()) {
+            rebuildInBackground();
+            return getRankingProfilesFromDatabase(request);
+        }
+
+        long total = window.get().getTotal();
+        return PagingResponse.<ProfileRankingResponse>builder()
+                .currentPage(request.getPage())
+                .pageSize(request.getPageSize())
+                .totalPages((int) ((total + request.getPageSize() - 1) / request.getPageSize()))
+                .totalElement(total)
+                .data(hydrate(window.get().getEntries()))
+                .build();
+    }
+
+    @Override
+    public MyRankingResponse getMyRanking(Integer neighbours) {
+        String userId = AuthUtils.getCurrentUserId();
+        int radius = neighbours == null
+                ? RankingConstants.DEFAULT_NEIGHBOURS
+                : Math.clamp(neighbours, 0, RankingConstants.MAX_NEIGHBOURS);
+
+        Optional<LeaderboardWindow> window = redisLeaderboard.around(
+                RankingConstants.REDIS_KEY_POINTS_BOARD, userId, radius);
+        if (window.isEmpty()) {
+            rebuildInBackground();
+            return getMyRankingFromDatabase(userId);
+        }
+
+        Optional<LeaderboardEntry> me = window.get().getEntries().stream()
+                .filter(entry -> entry.getMember().equals(userId))
+                .findFirst();
+        if (me.isEmpty()) {
+            return MyRankingResponse.builder()
+                    .totalRanked(window.get().getTotal())
+                    .build();
+        }
+
+        return MyRankingResponse.builder()
+                .rank(me.get().getRank())
+                .points((int) me.get().getScore())
+                .totalRanked(window.get().getTotal())
+                .neighbours(hydrate(window.get().getEntries()))
+                .build();
+    }
+
+    @Override
+    public void rebuild() {
+        String board = RankingConstants.REDIS_KEY_POINTS_BOARD;
+        String token = redisLeaderboard.beginRebuild(board);
+        if (token == null) {
+            log.debug("RankingService_rebuild_Rebuild already running");
+            return;
+        }
 
+        try {
+            long users = 0;
+            String afterId = RankingConstants.FIRST_ID;
+            List<UserPointsProjection> batch;
+            do {
+                batch = userStatsRepository.findPointsAfter(afterId, Limit.of(RankingConstants.REBUILD_BATCH_SIZE));
+                Map<String, Double> scores = new HashMap<>(batch.size());
+                for (UserPointsProjection points : batch) {
+                    scores.put(points.getUserId(), (double) points.getPoints());
+                }
+                redisLeaderboard.stage(board, scores);
+                users += batch.size();
+                if (!batch.isEmpty()) {
+                    afterId = batch.getLast().getId();
+                }
+            } while (batch.size() == RankingConstants.REBUILD_BATCH_SIZE);
+
+            if (redisLeaderboard.finishRebuild(board, token)) {
+                log.info("RankingService_rebuild_Rebuilt points leaderboard, {} users", users);
+            } else {
+                log.warn("RankingService_rebuild_Rebuild lock expired after {} users, result discarded", users);
+            }
+        } catch (RuntimeException e) {
+            redisLeaderboard.abortRebuild(board, token);
+            throw e;
+        }
+    }
+
+    /* ========================  HELPERS  ======================== */
+
+    /**
+     * Ranking responses of the entries, in order, with one profile query for the whole list
+     * Users removed since the last rebuild are skipped
+     */
+    private List<ProfileRankingResponse> hydrate(List<LeaderboardEntry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Profile> profilesByUserId = profileRepository.findRankingProfilesByUserIdIn(
+                        entries.stream().map(LeaderboardEntry::getMember).toList())
+                .stream()
+                .collect(Collectors.toMap(profile -> profile.getUser().getId(), Function.identity()));
+
+        List<ProfileRankingResponse> responses = new ArrayList<>(entries.size());
+        for (LeaderboardEntry entry : entries) {
+            Profile profile = profilesByUserId.get(entry.getMember());
+            if (profile == null) {
+                continue;
+            }
+            ProfileRankingResponse response = rankingMapper.toProfileRankingResponse(profile);
+            response.setRank(entry.getRank());
+            response.setPoints((int) entry.getScore());
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    /**
+     * Previous query, used while the board is not materialized
+     */
+    private PagingResponse<ProfileRankingResponse> getRankingProfilesFromDatabase(PagingRequest request) {
         Pageable pageable = PageRequest.of(
                 request.getPage() - GlobalVariable.PAGE_SIZE_INDEX,
                 request.getPageSize(),
-                Sort.by(direction, "userStats.points")
+                Sort.by(Sort.Direction.DESC, RankingConstants.SORT_FIELD_POINTS)
         );
 
         Page<Profile> profilePages = profileRepository.findAll(pageable);
 
+        // Same competition ranks as the board: the first one counts higher scores, the rest follow
+        List<ProfileRankingResponse> data = new ArrayList<>(profilePages.getNumberOfElements());
+        for (Profile profile : profilePages.getContent()) {
+            ProfileRankingResponse response = rankingMapper.toProfileRankingResponse(profile);
+            int points = profile.getUserStats() == null ? 0 : profile.getUserStats().getPoints();
+            response.setPoints(points);
+            if (data.isEmpty()) {
+                response.setRank(userStatsRepository.countByPointsGreaterThan(points) + 1);
+            } else {
+                ProfileRankingResponse previous = data.getLast();
+                response.setRank(previous.getPoints() == points
+                        ? previous.getRank()
+                        : pageable.getOffset() + data.size() + 1);
+            }
+            data.add(response);
+        }
+
         return PagingResponse.<ProfileRankingResponse>builder()
                 .currentPage(request.getPage())
                 .pageSize(request.getPageSize())
                 .totalPages(profilePages.getTotalPages())
                 .totalElement(profilePages.getTotalElements())
-                .data(profilePages.getContent().stream()
-                        .map(rankingMapper::toProfileRankingResponse)
-                        .toList()
-                )
+                .data(data)
+                .build();
+    }
+
+    /**
+     * Own rank only (no neighbours), used while the board is not materialized
+     */
+    private MyRankingResponse getMyRankingFromDatabase(String userId) {
+        long total = userStatsRepository.count();
+        Optional<UserStats> stats = userStatsRepository.findByProfileUserId(userId);
+        if (stats.isEmpty()) {
+            return MyRankingResponse.builder()
+                    .totalRanked(total)
+                    .build();
+        }
+
+        return MyRankingResponse.builder()
+                .rank(userStatsRepository.countByPointsGreaterThan(stats.get().getPoints()) + 1)
+                .points(stats.get().getPoints())
+                .totalRanked(total)
                 .build();
     }
+
+    /**
+     * Start a rebuild on a virtual thread, at most one per node at a time
+     */
+    private void rebuildInBackground() {
+        if (!rebuildStarted.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("ranking-rebuild").start(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.error("RankingService_rebuildInBackground_Rebuild failed: {}", e.getMessage(), e);
+            } finally {
+                rebuildStarted.set(false);
+            }
+        });
+    }
 }
@@ -0,0 +1,54 @@
+package com.se.hub.modules.search.budget;
+
+import com.se.hub.modules.search.constant.SearchBudgetConstants;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Deadline of the global search source running on the current thread.
+ *
+ * While a source runs, every statement it prepares is preceded by a statement_timeout equal to the
+ * time left (see SourceDeadlineDataSourcePostProcessor), so the whole source, not each of its
+ * statements, is bounded by its budget. A statement prepared after the deadline fails at once.
+ */
+public final class SourceStatementDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private SourceStatementDeadline() {}
+
+    /**
+     * Run a source with statements bounded by the given deadline (System.nanoTime based)
+     */
+    public static <T> T run(long deadlineNanos, Supplier<T> source) {
+        DEADLINE_NANOS.set(deadlineNanos);
+        try {
+            return source.get();
+        } finally {
+            DEADLINE_NANOS.remove();
+        }
+    }
+
+    /**
+     * Set statement_timeout to the time left before the next statement on this connection.
+     * No-op outside a source or outside a transaction (is_local settings need one).
+     */
+    static void apply(Connection connection) throws SQLException {
+        Long deadlineNanos = DEADLINE_NANOS.get();
+        if (deadlineNanos == null || connection.getAutoCommit()) {
+            return;
+        }
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        if (remainingMillis <= 0) {
+            throw new SQLException("Search source deadline passed", SearchBudgetConstants.SQL_STATE_QUERY_CANCELED);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(SearchBudgetConstants.SET_STATEMENT_TIMEOUT_PREFIX + remainingMillis
+                    + SearchBudgetConstants.SET_STATEMENT_TIMEOUT_SUFFIX);
+        }
+    }
+}
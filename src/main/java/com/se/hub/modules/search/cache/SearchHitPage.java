@@ -0,0 +1,56 @@
+package com.se.hub.modules.search.cache;
+
+import com.se.hub.common.dto.response.PagingResponse;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cached page of search hits: ranked IDs and paging metadata only.
+ *
+ * Nothing viewer-specific is cached (reaction state, live counts); the owning service
+ * hydrates the IDs into responses on every request.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SearchHitPage {
+    @Builder.Default
+    List<String> ids = new ArrayList<>();
+    // Highlighted snippet per ID, for searches that render one
+    @Builder.Default
+    Map<String, String> highlights = new HashMap<>();
+    int currentPage;
+    int pageSize;
+    int totalPages;
+    long totalElement;
+    String nextCursor;
+    Boolean hasNext;
+
+    /**
+     * Paging response with this page's metadata and the hydrated data
+     */
+    public <T> PagingResponse<T> toPagingResponse(List<T> data) {
+        return PagingResponse.<T>builder()
+                .currentPage(currentPage)
+                .pageSize(pageSize)
+                .totalPages(totalPages)
+                .totalElement(totalElement)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .data(data)
+                .build();
+    }
+}
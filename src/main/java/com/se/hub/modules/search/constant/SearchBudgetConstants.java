@@ -0,0 +1,34 @@
+package com.se.hub.modules.search.constant;
+
+import java.util.List;
+
+/**
+ * Search Budget Constants
+ *
+ * Deadline and per-source time budgets of the global search (SearchService), and the buckets of
+ * its per-source latency histograms.
+ */
+public final class SearchBudgetConstants {
+
+    //===== DEFAULTS ======
+    public static final String DEFAULT_DEADLINE = "2s";
+    public static final String DEFAULT_SOURCE_BUDGET = "1500ms";
+
+    //===== STATEMENT TIMEOUT ======
+    // Set to the source's time left before each of its statements (is_local = true), so pooled
+    // connections keep the server default
+    public static final String SET_STATEMENT_TIMEOUT_PREFIX = "SELECT set_config('statement_timeout', '";
+    public static final String SET_STATEMENT_TIMEOUT_SUFFIX = "', true)";
+    // Backend of the source transaction, cancelled if the source outlives its budget or the deadline
+    public static final String BACKEND_PID_SQL = "SELECT pg_backend_pid()";
+    public static final String CANCEL_BACKEND_SQL = "SELECT pg_cancel_backend(:pid)";
+    public static final String PARAM_PID = "pid";
+    // SQLSTATE query_canceled, raised by PostgreSQL when statement_timeout fires or a backend is cancelled
+    public static final String SQL_STATE_QUERY_CANCELED = "57014";
+
+    //===== LATENCY HISTOGRAM ======
+    // Bucket upper bounds in milliseconds (inclusive); slower calls fall into the overflow bucket
+    public static final List<Long> LATENCY_BUCKET_BOUNDS_MILLIS = List.of(5L, 10L, 25L, 50L, 100L, 250L, 500L, 1000L, 2500L, 5000L);
+
+    private SearchBudgetConstants() {}
+}
@@ -0,0 +1,38 @@
+package com.se.hub.modules.search.constant;
+
+import java.time.Duration;
+
+/**
+ * Search Result Cache Constants
+ *
+ * Cache names and keys of the search result cache (SearchResultCacheService) in front of the
+ * blog, exam and people search queries.
+ */
+public final class SearchCacheConstants {
+
+    //===== CACHE NAMES ======
+    public static final String CACHE_SEARCH_BLOGS = "searchBlogs";
+    public static final String CACHE_SEARCH_EXAMS = "searchExams";
+    public static final String CACHE_SEARCH_USERS = "searchUsers";
+
+    //===== VERSIONS ======
+    // ResourceVersionIndex name per target: search:{TARGET}, bumped after any write to the target's entity
+    public static final String VERSION_PREFIX = "search:";
+
+    //===== KEYS ======
+    // {version}|{normalized query}|{paging variant}
+    public static final String KEY_SEPARATOR = "|";
+    public static final String PART_SEPARATOR = "_";
+    public static final String CURSOR_MARKER = "c";
+    public static final String OFFSET_MARKER = "o";
+    // Relevance-ordered searches ignore the requested sort, so it is left out of their keys
+    public static final String RELEVANCE_SORT = "rel";
+
+    //===== HOT QUERIES ======
+    public static final long HOT_QUERY_MAX_SIZE = 2_000;
+    public static final Duration HOT_QUERY_EXPIRY = Duration.ofHours(1);
+    public static final int HOT_QUERY_DEFAULT_LIMIT = 20;
+    public static final int HOT_QUERY_MAX_LIMIT = 200;
+
+    private SearchCacheConstants() {}
+}
@@ -6,6 +6,15 @@ public final class SearchConstants {
     public static final String PARAM_TARGETS = "targets";
     public static final String PARAM_SORT_FIELD = "sortField";
     public static final String PARAM_SORT_DIRECTION = "sortDirection";
+    public static final String PARAM_PREFIX = "prefix";
+    public static final String PARAM_LIMIT = "limit";
+
+    public static final String UNIFIED_PATH = "/unified";
+    public static final String SUGGEST_PATH = "/suggest";
+    public static final String INDEX_STATUS_PATH = "/index/status";
+    public static final String INDEX_REBUILD_PATH = "/index/rebuild";
+    public static final String CACHE_STATS_PATH = "/cache/stats";
+    public static final String LATENCY_STATS_PATH = "/latency/stats";
 
     private SearchConstants() {}
 }
@@ -0,0 +1,50 @@
+package com.se.hub.modules.search.constant;
+
+/**
+ * Search Index Constants
+ *
+ * Settings of the in-process inverted index behind the unified search (SearchIndexService).
+ */
+public final class SearchIndexConstants {
+
+    //===== RANKING (BM25) ======
+    public static final double BM25_K1 = 1.2;
+    public static final double BM25_B = 0.75;
+    // Term weight per field: a title match counts three body matches
+    public static final float WEIGHT_TITLE = 3.0f;
+    public static final float WEIGHT_KEYWORDS = 2.0f;
+    public static final float WEIGHT_BODY = 1.0f;
+    // Postings of pruned (common) terms are sampled up to this many keys for facets and total
+    public static final int FACET_SAMPLE_SIZE = 1000;
+
+    //===== ANALYSIS ======
+    // Latin tokens shorter than this are dropped (digits are always kept)
+    public static final int MIN_TOKEN_LENGTH = 2;
+    public static final int MAX_QUERY_TERMS = 16;
+
+    //===== PAGING ======
+    // Deepest result reachable through page/size
+    public static final int MAX_RESULT_WINDOW = 1000;
+
+    //===== SUGGESTIONS ======
+    // Shorter (folded) prefixes return nothing: one letter matches too much to be useful
+    public static final int SUGGEST_MIN_PREFIX_LENGTH = 2;
+    // Prefixes up to this length are served from popularity-ordered entries instead of a range scan
+    public static final int SUGGEST_SHORT_PREFIX_LENGTH = 3;
+    public static final int SUGGEST_DEFAULT_LIMIT = 8;
+    public static final int SUGGEST_MAX_LIMIT = 20;
+    // Added to log(1 + popularity) when the whole suggestion starts with the typed text
+    public static final double SUGGEST_LEADING_MATCH_BOOST = 3.0;
+
+    //===== DOCUMENT KEYS ======
+    public static final char KEY_SEPARATOR = ':';
+
+    //===== PUB/SUB ======
+    public static final String INDEX_CHANNEL = "search:index";
+
+    //===== DEFAULTS ======
+    public static final int DEFAULT_REBUILD_BATCH_SIZE = 500;
+    public static final int DEFAULT_MAX_BODY_CHARS = 10_000;
+
+    private SearchIndexConstants() {}
+}
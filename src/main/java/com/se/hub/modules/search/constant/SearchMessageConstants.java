@@ -2,6 +2,12 @@ package com.se.hub.modules.search.constant;
 
 public final class SearchMessageConstants {
     public static final String API_SEARCH_SUCCESS = "Search results retrieved successfully";
+    public static final String API_UNIFIED_SEARCH_SUCCESS = "Unified search results retrieved successfully";
+    public static final String API_SUGGEST_SUCCESS = "Search suggestions retrieved successfully";
+    public static final String API_INDEX_STATUS_SUCCESS = "Search index status retrieved successfully";
+    public static final String API_INDEX_REBUILD_STARTED = "Search index rebuild started";
+    public static final String API_CACHE_STATS_SUCCESS = "Search cache statistics retrieved successfully";
+    public static final String API_LATENCY_STATS_SUCCESS = "Search latency statistics retrieved successfully";
     public static final String SEARCH_KEYWORD_REQUIRED_MESSAGE = "Search keyword is required";
     public static final String SEARCH_TARGET_REQUIRED_MESSAGE = "At least one search target must be provided";
     public static final String SEARCH_TARGET_INVALID_MESSAGE = "Unsupported search target";
@@ -12,8 +12,15 @@ import com.se.hub.common.constant.ResponseCode;
 import com.se.hub.modules.search.constant.SearchConstants;
 import com.se.hub.modules.search.constant.SearchMessageConstants;
 import com.se.hub.modules.search.dto.request.SearchRequest;
+import com.se.hub.modules.search.dto.response.SearchCacheStatsResponse;
+import com.se.hub.modules.search.dto.response.SearchIndexStatusResponse;
 import com.se.hub.modules.search.dto.response.SearchResponse;
+import com.se.hub.modules.search.dto.response.SearchSourceLatencyResponse;
+import com.se.hub.modules.search.dto.response.SearchSuggestionResponse;
+import com.se.hub.modules.search.dto.response.UnifiedSearchResponse;
 import com.se.hub.modules.search.enums.SearchTarget;
+import com.se.hub.modules.search.service.SearchIndexService;
+import com.se.hub.modules.search.service.SearchResultCacheService;
 import com.se.hub.modules.search.service.SearchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -27,10 +34,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
 import java.util.Set;
 
 @Slf4j
@@ -39,14 +48,19 @@ import java.util.Set;
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 @RequestMapping(SearchConstants.SEARCH_BASE_PATH)
-@Tag(name = "Global Search", description = "Search across exams, blogs and users")
+@Tag(name = "Global Search", description = "Search across exams, blogs, users, documents and courses")
 public class SearchController extends BaseController {
 
     SearchService searchService;
+    SearchIndexService searchIndexService;
+    SearchResultCacheService searchResultCacheService;
 
     @GetMapping
     @Operation(summary = "Search across modules",
-            description = "Search exams, blogs và users theo keyword, hỗ trợ pagination & sorting")
+            description = "Search exams, blogs và users theo keyword, hỗ trợ pagination & sorting. "
+                    + "Blogs are full-text ranked by relevance with a highlighted snippet; pass cursor "
+                    + "(empty for the first page) for cursor paging over blog results. "
+                    + "Sources that miss their time budget are left out: partial is true and timedOut lists them")
     @ApiResponses(value = {
             @ApiResponse(responseCode = ResponseCode.OK_200,
                     description = SearchMessageConstants.API_SEARCH_SUCCESS,
@@ -68,7 +82,9 @@ public class SearchController extends BaseController {
             @RequestParam(name = SearchConstants.PARAM_SORT_DIRECTION,
                     required = false,
                     defaultValue = PaginationConstants.DESC) String sortDirection,
-            @RequestParam(name = SearchConstants.PARAM_TARGETS, required = false) Set<SearchTarget> targets
+            @RequestParam(name = SearchConstants.PARAM_TARGETS, required = false) Set<SearchTarget> targets,
+            @RequestParam(name = PaginationConstants.PARAM_CURSOR, required = false) String cursor,
+            @RequestParam(name = PaginationConstants.PARAM_INCLUDE_TOTAL, required = false) Boolean includeTotal
     ) {
         log.info("SearchController_search_Received request - keyword: {} page: {} size: {} sort: {} {}", keyword, page, size, sortDirection, sortField);
         PagingRequest pagingRequest = PagingRequest.builder()
@@ -78,6 +94,8 @@ public class SearchController extends BaseController {
                         .direction(sortDirection)
                         .field(sortField)
                         .build())
+                .cursor(cursor)
+                .includeTotal(includeTotal)
                 .build();
 
         SearchRequest searchRequest = SearchRequest.builder()
@@ -89,5 +107,99 @@ public class SearchController extends BaseController {
         SearchResponse response = searchService.search(searchRequest);
         return success(response, MessageCodeConstant.M005_RETRIEVED, SearchMessageConstants.API_SEARCH_SUCCESS);
     }
-}
 
+    @GetMapping(SearchConstants.UNIFIED_PATH)
+    @Operation(summary = "Unified ranked search",
+            description = "Search blogs, exams, users, documents and courses in one relevance-ranked list with per-type facets, "
+                    + "served from the in-process search index (no database query per search). "
+                    + "For very common terms, totals and facets are estimates (approximate = true)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200,
+                    description = SearchMessageConstants.API_UNIFIED_SEARCH_SUCCESS,
+                    useReturnTypeSchema = true),
+            @ApiResponse(responseCode = ResponseCode.BAD_REQUEST_400,
+                    description = MessageConstant.VALIDATION_ERROR)
+    })
+    public ResponseEntity<GenericResponse<UnifiedSearchResponse>> searchUnified(
+            @RequestParam(name = SearchConstants.PARAM_KEYWORD) @NotBlank String keyword,
+            @RequestParam(name = PaginationConstants.PARAM_PAGE,
+                    required = false,
+                    defaultValue = PaginationConstants.DEFAULT_PAGE) int page,
+            @RequestParam(name = PaginationConstants.PARAM_SIZE,
+                    required = false,
+                    defaultValue = PaginationConstants.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(name = SearchConstants.PARAM_TARGETS, required = false) Set<SearchTarget> targets
+    ) {
+        log.info("SearchController_searchUnified_Received request - keyword: {} page: {} size: {} targets: {}", keyword, page, size, targets);
+        UnifiedSearchResponse response = searchIndexService.search(keyword, targets, page, size);
+        return success(response, MessageCodeConstant.M005_RETRIEVED, SearchMessageConstants.API_UNIFIED_SEARCH_SUCCESS);
+    }
+
+    @GetMapping(SearchConstants.SUGGEST_PATH)
+    @Operation(summary = "Search-as-you-type suggestions",
+            description = "Blog headlines, exam titles, course names and usernames whose words start with the typed text, "
+                    + "ranked by popularity and served from memory (no database query per keystroke)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200,
+                    description = SearchMessageConstants.API_SUGGEST_SUCCESS,
+                    useReturnTypeSchema = true)
+    })
+    public ResponseEntity<GenericResponse<List<SearchSuggestionResponse>>> suggest(
+            @RequestParam(name = SearchConstants.PARAM_PREFIX) String prefix,
+            @RequestParam(name = SearchConstants.PARAM_TARGETS, required = false) Set<SearchTarget> targets,
+            @RequestParam(name = SearchConstants.PARAM_LIMIT, required = false) Integer limit
+    ) {
+        log.debug("SearchController_suggest_Received request - prefix: {} targets: {} limit: {}", prefix, targets, limit);
+        List<SearchSuggestionResponse> response = searchIndexService.suggest(prefix, targets, limit);
+        return success(response, MessageCodeConstant.M005_RETRIEVED, SearchMessageConstants.API_SUGGEST_SUCCESS);
+    }
+
+    @GetMapping(SearchConstants.INDEX_STATUS_PATH)
+    @Operation(summary = "Get search index status (Admin only)",
+            description = "Document count and rebuild state of the search index on the serving node")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200, description = SearchMessageConstants.API_INDEX_STATUS_SUCCESS),
+            @ApiResponse(responseCode = ResponseCode.FORBIDDEN_403, description = MessageConstant.FORBIDDEN)
+    })
+    public ResponseEntity<GenericResponse<SearchIndexStatusResponse>> getIndexStatus() {
+        return success(searchIndexService.getStatus(), MessageCodeConstant.M005_RETRIEVED, SearchMessageConstants.API_INDEX_STATUS_SUCCESS);
+    }
+
+    @PostMapping(SearchConstants.INDEX_REBUILD_PATH)
+    @Operation(summary = "Rebuild search index (Admin only)",
+            description = "Rebuild the search index of the serving node from the database in the background; "
+                    + "the current index keeps serving until the rebuild completes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200, description = SearchMessageConstants.API_INDEX_REBUILD_STARTED),
+            @ApiResponse(responseCode = ResponseCode.FORBIDDEN_403, description = MessageConstant.FORBIDDEN)
+    })
+    public ResponseEntity<GenericResponse<SearchIndexStatusResponse>> rebuildIndex() {
+        return success(searchIndexService.requestRebuild(), MessageCodeConstant.M001_SUCCESS, SearchMessageConstants.API_INDEX_REBUILD_STARTED);
+    }
+
+    @GetMapping(SearchConstants.CACHE_STATS_PATH)
+    @Operation(summary = "Get search result cache statistics (Admin only)",
+            description = "Hit ratio of the blog, exam and user search caches and the most looked-up normalized queries "
+                    + "on the serving node")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200, description = SearchMessageConstants.API_CACHE_STATS_SUCCESS),
+            @ApiResponse(responseCode = ResponseCode.FORBIDDEN_403, description = MessageConstant.FORBIDDEN)
+    })
+    public ResponseEntity<GenericResponse<SearchCacheStatsResponse>> getCacheStatistics(
+            @RequestParam(name = SearchConstants.PARAM_LIMIT, required = false) Integer limit
+    ) {
+        return success(searchResultCacheService.getStatistics(limit), MessageCodeConstant.M005_RETRIEVED, SearchMessageConstants.API_CACHE_STATS_SUCCESS);
+    }
+
+    @GetMapping(SearchConstants.LATENCY_STATS_PATH)
+    @Operation(summary = "Get global search latency statistics (Admin only)",
+            description = "Latency histogram, percentiles and timeout counts of the blog, exam and user sources "
+                    + "of the global search on the serving node")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = ResponseCode.OK_200, description = SearchMessageConstants.API_LATENCY_STATS_SUCCESS),
+            @ApiResponse(responseCode = ResponseCode.FORBIDDEN_403, description = MessageConstant.FORBIDDEN)
+    })
+    public ResponseEntity<GenericResponse<List<SearchSourceLatencyResponse>>> getLatencyStatistics() {
+        return success(searchService.getLatencyStatistics(), MessageCodeConstant.M005_RETRIEVED, SearchMessageConstants.API_LATENCY_STATS_SUCCESS);
+    }
+}
@@ -0,0 +1,27 @@
+package com.se.hub.modules.search.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+/**
+ * Search result cache statistics of the serving node
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SearchCacheStatsResponse {
+    boolean enabled;
+    List<SearchCacheTargetStatsResponse> targets;
+    // Most looked-up normalized queries, most frequent first
+    List<SearchHotQueryResponse> hotQueries;
+}
@@ -0,0 +1,27 @@
+package com.se.hub.modules.search.dto.response;
+
+import com.se.hub.modules.search.enums.SearchTarget;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SearchCacheTargetStatsResponse {
+    SearchTarget target;
+    String cacheName;
+    long lookups;
+    long hits;
+    long misses;
+    // Searches run without the cache because the version stamp could not be read (Redis down)
+    long bypassed;
+    double hitRatio;
+}
@@ -0,0 +1,28 @@
+package com.se.hub.modules.search.dto.response;
+
+import com.se.hub.modules.search.enums.SearchTarget;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SearchHitResponse {
+    SearchTarget type;
+    String id;          // Blog/exam/document ID, profile ID for USER
+    String title;
+    String summary;
+    String imageUrl;
+    double score;
+    Instant updatedDate;
+}
@@ -0,0 +1,24 @@
+package com.se.hub.modules.search.dto.response;
+
+import com.se.hub.modules.search.enums.SearchTarget;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SearchHotQueryResponse {
+    SearchTarget target;
+    String query;       // Normalized query (all pages and paging variants together)
+    long lookups;
+    long hits;
+    double hitRatio;
+}
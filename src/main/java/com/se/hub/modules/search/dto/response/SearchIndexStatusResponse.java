@@ -0,0 +1,27 @@
+package com.se.hub.modules.search.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SearchIndexStatusResponse {
+    boolean enabled;
+    boolean ready;
+    boolean rebuilding;
+    int documentCount;
+    int suggestionCount;
+    Instant lastRebuildAt;
+    long lastRebuildMillis;
+}
@@ -0,0 +1,20 @@
+package com.se.hub.modules.search.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SearchLatencyBucketResponse {
+    Long upperBoundMillis;  // Inclusive; null for the overflow bucket
+    long count;
+}
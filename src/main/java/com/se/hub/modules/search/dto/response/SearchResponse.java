@@ -3,6 +3,7 @@ package com.se.hub.modules.search.dto.response;
 import com.se.hub.common.dto.response.PagingResponse;
 import com.se.hub.modules.blog.dto.response.BlogResponse;
 import com.se.hub.modules.exam.dto.response.ExamResponse;
+import com.se.hub.modules.search.enums.SearchTarget;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,6 +12,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.FieldDefaults;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Setter
 @Builder
@@ -21,7 +25,10 @@ public class SearchResponse {
     PagingResponse<BlogResponse> blogs;
     PagingResponse<ExamResponse> exams;
     PagingResponse<SearchUserResponse> users;
-}
-
-
 
+    // True when at least one requested source is missing because it ran out of time
+    boolean partial;
+    // Sources cut off by their budget or the request deadline; their results are null
+    @Builder.Default
+    List<SearchTarget> timedOut = new ArrayList<>();
+}
@@ -0,0 +1,38 @@
+package com.se.hub.modules.search.dto.response;
+
+import com.se.hub.modules.search.enums.SearchTarget;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+/**
+ * Latency histogram of one global search source on the serving node
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SearchSourceLatencyResponse {
+    SearchTarget source;
+    long count;
+    long completed;
+    // Cancelled at the source budget (statement_timeout or pg_cancel_backend)
+    long timedOut;
+    long failed;
+    // Responses sent without this source because the request deadline passed first
+    long deadlineMisses;
+    double meanMillis;
+    // Estimated from the buckets (upper bound of the bucket holding the rank); null when empty or in the overflow bucket
+    Long p50Millis;
+    Long p95Millis;
+    Long p99Millis;
+    List<SearchLatencyBucketResponse> buckets;
+}
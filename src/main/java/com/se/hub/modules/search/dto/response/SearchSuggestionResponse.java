@@ -0,0 +1,25 @@
+package com.se.hub.modules.search.dto.response;
+
+import com.se.hub.modules.search.enums.SearchTarget;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SearchSuggestionResponse {
+    SearchTarget type;
+    String id;          // Blog/exam/course ID, profile ID for USER
+    String ownerId;     // User ID for USER (mention key), null otherwise
+    String text;        // Suggested text (username for USER)
+    String title;       // Display title (full name for USER)
+    String imageUrl;
+}
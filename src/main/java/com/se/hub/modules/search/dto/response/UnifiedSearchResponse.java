@@ -0,0 +1,30 @@
+package com.se.hub.modules.search.dto.response;
+
+import com.se.hub.common.dto.response.PagingResponse;
+import com.se.hub.modules.search.enums.SearchTarget;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class UnifiedSearchResponse {
+    // One list across all requested targets, best match first
+    PagingResponse<SearchHitResponse> hits;
+    // Match count per target, regardless of the targets filter
+    Map<SearchTarget, Long> facets;
+    // true when hits.totalElement and facets are estimated from a sample instead of counted
+    boolean approximate;
+    // false until the first full build of the index has completed on this node
+    boolean indexReady;
+}
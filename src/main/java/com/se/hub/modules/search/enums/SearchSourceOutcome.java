@@ -0,0 +1,11 @@
+package com.se.hub.modules.search.enums;
+
+/**
+ * How one source of the global search ended
+ */
+public enum SearchSourceOutcome {
+    COMPLETED,
+    // PostgreSQL cancelled a statement at the source's budget (statement_timeout or pg_cancel_backend)
+    TIMED_OUT,
+    FAILED
+}
@@ -6,12 +6,12 @@ import java.util.Set;
 public enum SearchTarget {
     BLOG,
     EXAM,
-    USER;
+    USER,
+    // Unified (indexed) search only
+    DOCUMENT,
+    COURSE;
 
     public static Set<SearchTarget> defaultTargets() {
         return EnumSet.allOf(SearchTarget.class);
     }
 }
-
-
-
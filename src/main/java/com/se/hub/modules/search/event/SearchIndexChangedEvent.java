@@ -0,0 +1,22 @@
+package com.se.hub.modules.search.event;
+
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event emitted when a searchable entity is inserted, updated or deleted.
+ * Carries only the entity type and ID; the index reloads the current state after commit.
+ */
+@Getter
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE, makeFinal = true)
+public class SearchIndexChangedEvent extends ApplicationEvent {
+    Class<?> entityType;
+    String entityId;
+
+    public SearchIndexChangedEvent(Object source, Class<?> entityType, String entityId) {
+        super(source);
+        this.entityType = entityType;
+        this.entityId = entityId;
+    }
+}
@@ -0,0 +1,307 @@
+package com.se.hub.modules.search.index;
+
+import com.se.hub.modules.search.constant.SearchIndexConstants;
+import com.se.hub.modules.search.enums.SearchTarget;
+import com.se.hub.modules.search.utils.SearchTextUtil;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index with BM25 ranking over weighted fields.
+ *
+ * Postings map each term to the weighted term frequency per document key (TARGET:id).
+ * Searches keep only the best offset + limit documents and stop collecting new matches once
+ * the terms left cannot lift one into that window (max-score pruning).
+ * Writers (upsert/remove) take the write lock; searches share the read lock.
+ * Documents are analyzed before the lock is taken, so a write only holds it for the map updates.
+ */
+public class InvertedIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IndexedDocument> documents = new HashMap<>();
+    private final Map<String, Map<String, Float>> postings = new HashMap<>();
+    private final int maxBodyChars;
+    private double totalLength;
+
+    public InvertedIndex(int maxBodyChars) {
+        this.maxBodyChars = maxBodyChars;
+    }
+
+    /**
+     * Add or replace a document
+     */
+    public void upsert(SearchDocument document) {
+        Map<String, Float> terms = new HashMap<>();
+        float length = addField(terms, document.getTitle(), SearchIndexConstants.WEIGHT_TITLE)
+                + addField(terms, document.getKeywords(), SearchIndexConstants.WEIGHT_KEYWORDS)
+                + addField(terms, truncate(document.getBody()), SearchIndexConstants.WEIGHT_BODY);
+        IndexedDocument indexed = new IndexedDocument(document, terms, length);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.getKey());
+            documents.put(document.getKey(), indexed);
+            totalLength += length;
+            terms.forEach((term, weight) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(document.getKey(), weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a document
+     * @return true if it was indexed
+     */
+    public boolean remove(String key) {
+        lock.writeLock().lock();
+        try {
+            return removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rank documents matching any query term (BM25, summed over terms)
+     * Terms are scored rarest first. Once the offset + limit best partial scores beat the most the
+     * remaining terms can add, documents not matched yet cannot enter the window: the remaining terms
+     * only complete the scores of matched documents, and their other documents are estimated into
+     * facets and total from a sample of each posting instead of being counted one by one.
+     * @param targets targets to return; facets still count every target
+     */
+    public SearchIndexResult search(List<String> terms, Set<SearchTarget> targets, int offset, int limit) {
+        Map<String, Double> scores = new HashMap<>();
+        Map<SearchTarget, Long> facets = new EnumMap<>(SearchTarget.class);
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0 || terms.isEmpty()) {
+                return new SearchIndexResult(List.of(), facets, 0, false);
+            }
+            double averageLength = totalLength / documentCount;
+            List<QueryTerm> queryTerms = queryTerms(terms, documentCount);
+            // remaining[i]: highest score terms i.. can add to a document
+            double[] remaining = new double[queryTerms.size() + 1];
+            for (int i = queryTerms.size() - 1; i >= 0; i--) {
+                remaining[i] = remaining[i + 1] + queryTerms.get(i).getMaxScore();
+            }
+            int window = offset + limit;
+
+            int pruned = queryTerms.size();
+            for (int i = 0; i < queryTerms.size(); i++) {
+                if (i > 0 && threshold(scores, targets, window) > remaining[i]) {
+                    pruned = i;
+                    break;
+                }
+                QueryTerm term = queryTerms.get(i);
+                term.getPosting().forEach((key, frequency) ->
+                        scores.merge(key, score(term, key, frequency, averageLength), Double::sum));
+            }
+            for (QueryTerm term : queryTerms.subList(pruned, queryTerms.size())) {
+                if (term.getPosting().size() < scores.size()) {
+                    term.getPosting().forEach((key, frequency) -> scores.computeIfPresent(key,
+                            (k, partial) -> partial + score(term, key, frequency, averageLength)));
+                } else {
+                    scores.replaceAll((key, partial) -> {
+                        Float frequency = term.getPosting().get(key);
+                        return frequency != null ? partial + score(term, key, frequency, averageLength) : partial;
+                    });
+                }
+            }
+
+            // Min-heap of the best offset + limit matches
+            Comparator<Map.Entry<String, Double>> ranking = Map.Entry.<String, Double>comparingByValue()
+                    .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder()));
+            PriorityQueue<Map.Entry<String, Double>> top = new PriorityQueue<>(ranking);
+            long total = 0;
+            for (Map.Entry<String, Double> entry : scores.entrySet()) {
+                SearchTarget target = targetOf(entry.getKey());
+                facets.merge(target, 1L, Long::sum);
+                if (!targets.contains(target)) {
+                    continue;
+                }
+                total++;
+                top.offer(entry);
+                if (top.size() > window) {
+                    top.poll();
+                }
+            }
+            // Counts are sampled only for pruned postings longer than the sample
+            boolean approximate = queryTerms.subList(pruned, queryTerms.size()).stream()
+                    .anyMatch(term -> term.getPosting().size() > SearchIndexConstants.FACET_SAMPLE_SIZE);
+            if (pruned < queryTerms.size()) {
+                total += estimateUnscored(queryTerms.subList(pruned, queryTerms.size()), scores, targets, facets);
+            }
+
+            List<SearchIndexHit> hits = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                Map.Entry<String, Double> entry = top.poll();
+                hits.add(new SearchIndexHit(documents.get(entry.getKey()).getDocument(), entry.getValue()));
+            }
+            Collections.reverse(hits);
+            List<SearchIndexHit> page = offset < hits.size() ? hits.subList(offset, hits.size()) : List.of();
+            return new SearchIndexResult(List.copyOf(page), facets, total, approximate);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexed query terms, highest possible score (rarest) first
+     */
+    private List<QueryTerm> queryTerms(List<String> terms, int documentCount) {
+        List<QueryTerm> queryTerms = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<String, Float> posting = postings.get(term);
+            if (posting != null) {
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                queryTerms.add(new QueryTerm(posting, idf, idf * (SearchIndexConstants.BM25_K1 + 1)));
+            }
+        }
+        queryTerms.sort(Comparator.comparingDouble(QueryTerm::getMaxScore).reversed());
+        return queryTerms;
+    }
+
+    private double score(QueryTerm term, String key, float frequency, double averageLength) {
+        double norm = SearchIndexConstants.BM25_K1 * (1 - SearchIndexConstants.BM25_B
+                + SearchIndexConstants.BM25_B * documents.get(key).getLength() / averageLength);
+        return term.getIdf() * frequency * (SearchIndexConstants.BM25_K1 + 1) / (frequency + norm);
+    }
+
+    /**
+     * Lowest partial score in the current top window of the selected targets (0 while the window is not full)
+     */
+    private double threshold(Map<String, Double> scores, Set<SearchTarget> targets, int window) {
+        if (scores.size() < window) {
+            return 0;
+        }
+        PriorityQueue<Double> top = new PriorityQueue<>(window + 1);
+        for (Map.Entry<String, Double> entry : scores.entrySet()) {
+            if (targets.contains(targetOf(entry.getKey()))) {
+                top.offer(entry.getValue());
+                if (top.size() > window) {
+                    top.poll();
+                }
+            }
+        }
+        return top.size() < window ? 0 : top.peek();
+    }
+
+    /**
+     * Add the documents matched only by pruned terms to the facets, estimated from the first
+     * FACET_SAMPLE_SIZE keys of each posting (exact for shorter postings). A document is attributed
+     * to the first pruned term matching it.
+     * @return estimated number of those documents in the selected targets
+     */
+    private long estimateUnscored(List<QueryTerm> prunedTerms, Map<String, Double> scores,
+                                  Set<SearchTarget> targets, Map<SearchTarget, Long> facets) {
+        long total = 0;
+        for (int i = 0; i < prunedTerms.size(); i++) {
+            Map<String, Float> posting = prunedTerms.get(i).getPosting();
+            Map<SearchTarget, Long> sampled = new EnumMap<>(SearchTarget.class);
+            int sampleSize = 0;
+            for (String key : posting.keySet()) {
+                if (sampleSize == SearchIndexConstants.FACET_SAMPLE_SIZE) {
+                    break;
+                }
+                sampleSize++;
+                if (!scores.containsKey(key) && !matchedBefore(prunedTerms, i, key)) {
+                    sampled.merge(targetOf(key), 1L, Long::sum);
+                }
+            }
+            double scale = (double) posting.size() / sampleSize;
+            for (Map.Entry<SearchTarget, Long> entry : sampled.entrySet()) {
+                long estimate = Math.round(entry.getValue() * scale);
+                facets.merge(entry.getKey(), estimate, Long::sum);
+                if (targets.contains(entry.getKey())) {
+                    total += estimate;
+                }
+            }
+        }
+        return total;
+    }
+
+    private boolean matchedBefore(List<QueryTerm> terms, int index, String key) {
+        for (int i = 0; i < index; i++) {
+            if (terms.get(i).getPosting().containsKey(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private SearchTarget targetOf(String key) {
+        return documents.get(key).getDocument().getTarget();
+    }
+
+    private boolean removeLocked(String key) {
+        IndexedDocument previous = documents.remove(key);
+        if (previous == null) {
+            return false;
+        }
+        totalLength -= previous.getLength();
+        for (String term : previous.getTerms().keySet()) {
+            Map<String, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        return true;
+    }
+
+    private float addField(Map<String, Float> terms, String text, float weight) {
+        Collection<String> tokens = SearchTextUtil.tokenize(text);
+        tokens.forEach(token -> terms.merge(token, weight, Float::sum));
+        return tokens.size() * weight;
+    }
+
+    private String truncate(String body) {
+        return body != null && body.length() > maxBodyChars ? body.substring(0, maxBodyChars) : body;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static class IndexedDocument {
+        SearchDocument document;
+        Map<String, Float> terms;
+        float length;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static class QueryTerm {
+        Map<String, Float> posting;
+        double idf;
+        double maxScore;    // BM25 bound of the term: idf * (k1 + 1)
+    }
+}
@@ -0,0 +1,51 @@
+package com.se.hub.modules.search.index;
+
+import com.se.hub.modules.search.constant.SearchIndexConstants;
+import com.se.hub.modules.search.enums.SearchTarget;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+
+/**
+ * One searchable item as handed to the index by a SearchDocumentProvider.
+ *
+ * title, keywords and body are analyzed with decreasing weight; body is only indexed, never
+ * returned. title, summary and imageUrl are stored and rendered as the hit, so serving results
+ * needs no database access.
+ *
+ * suggestion is the short text offered while typing (null when the document is not suggested)
+ * and popularity the raw signal (views, attempts, followers, ...) suggestions are ranked by.
+ * ownerId is the account behind the document (user ID for USER, null otherwise), returned with
+ * suggestions so mention autocomplete needs no database access either.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SearchDocument {
+    SearchTarget target;
+    String id;
+    String ownerId;
+    String title;
+    String keywords;
+    String body;
+    String summary;
+    String imageUrl;
+    Instant updatedDate;
+    String suggestion;
+    double popularity;
+
+    public String getKey() {
+        return SearchDocument.key(target, id);
+    }
+
+    public static String key(SearchTarget target, String id) {
+        return target.name() + SearchIndexConstants.KEY_SEPARATOR + id;
+    }
+}
@@ -0,0 +1,34 @@
+package com.se.hub.modules.search.index;
+
+import com.se.hub.modules.search.enums.SearchTarget;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Source of searchable documents for one target, implemented by the owning module.
+ *
+ * The index never reads module tables itself: on a change event it asks the provider for the
+ * current document, and a full rebuild pages through loadBatch in ID order.
+ */
+public interface SearchDocumentProvider {
+
+    SearchTarget getTarget();
+
+    /**
+     * Entity class whose writes (SearchIndexEntityListener) refresh this target
+     */
+    Class<?> getEntityType();
+
+    /**
+     * Current document for an ID
+     * @return empty when the entity is gone or must not be searchable (e.g. an unapproved blog)
+     */
+    Optional<SearchDocument> load(String id);
+
+    /**
+     * Next batch of searchable documents with ID greater than afterId, in ID order
+     * @param afterId last ID of the previous batch, or "" for the first batch
+     */
+    List<SearchDocument> loadBatch(String afterId, int batchSize);
+}
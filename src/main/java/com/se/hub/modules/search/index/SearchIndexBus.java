@@ -0,0 +1,72 @@
+package com.se.hub.modules.search.index;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.se.hub.modules.search.constant.SearchIndexConstants;
+import com.se.hub.modules.search.enums.SearchTarget;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Cross-node search index updates over Redis Pub/Sub.
+ *
+ * Each node keeps its own index; a write is applied locally and then broadcast so the other
+ * nodes reload the same document. Messages from this node are ignored.
+ * Delivery is best-effort: the scheduled full rebuild repairs documents whose message was lost.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SearchIndexBus {
+    StringRedisTemplate stringRedisTemplate;
+    RedisMessageListenerContainer redisMessageListenerContainer;
+    ObjectMapper objectMapper;
+    String nodeId = UUID.randomUUID().toString();
+
+    public SearchIndexBus(StringRedisTemplate stringRedisTemplate,
+                          RedisMessageListenerContainer redisMessageListenerContainer,
+                          ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+    }
+
+    public void publish(SearchTarget target, String id) {
+        SearchIndexMessage message = SearchIndexMessage.builder()
+                .origin(nodeId)
+                .target(target)
+                .id(id)
+                .build();
+        try {
+            stringRedisTemplate.convertAndSend(SearchIndexConstants.INDEX_CHANNEL,
+                    objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("SearchIndexBus_publish_Error publishing index change for {} {}", target, id, e);
+        }
+    }
+
+    /**
+     * Register a handler for index changes published by other nodes
+     */
+    public void subscribe(Consumer<SearchIndexMessage> handler) {
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                SearchIndexMessage change = objectMapper.readValue(message.getBody(), SearchIndexMessage.class);
+                if (!nodeId.equals(change.getOrigin())) {
+                    handler.accept(change);
+                }
+            } catch (Exception e) {
+                log.error("SearchIndexBus_subscribe_Error processing index message", e);
+            }
+        }, new ChannelTopic(SearchIndexConstants.INDEX_CHANNEL));
+
+        log.info("SearchIndexBus_subscribe_Subscribed to Redis channel: {}", SearchIndexConstants.INDEX_CHANNEL);
+    }
+}
@@ -0,0 +1,14 @@
+package com.se.hub.modules.search.index;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SearchIndexHit {
+    SearchDocument document;
+    double score;
+}
@@ -0,0 +1,26 @@
+package com.se.hub.modules.search.index;
+
+import com.se.hub.modules.search.enums.SearchTarget;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Message broadcast over Redis Pub/Sub so that every node refreshes a document
+ * that was written on another node
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SearchIndexMessage {
+    String origin;
+    SearchTarget target;
+    String id;
+}
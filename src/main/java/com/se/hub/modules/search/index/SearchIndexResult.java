@@ -0,0 +1,26 @@
+package com.se.hub.modules.search.index;
+
+import com.se.hub.modules.search.enums.SearchTarget;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of index hits in relevance order.
+ * facets counts matches per target regardless of the target filter; total counts the filtered matches.
+ * Both are estimates (approximate = true) when common query terms were pruned and their
+ * postings sampled (see InvertedIndex.search).
+ */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SearchIndexResult {
+    List<SearchIndexHit> hits;
+    Map<SearchTarget, Long> facets;
+    long total;
+    boolean approximate;
+}
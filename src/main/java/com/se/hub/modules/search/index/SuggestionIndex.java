@@ -0,0 +1,314 @@
+package com.se.hub.modules.search.index;
+
+import com.se.hub.modules.search.constant.SearchIndexConstants;
+import com.se.hub.modules.search.enums.SearchTarget;
+import com.se.hub.modules.search.utils.SearchTextUtil;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory prefix index behind search-as-you-type.
+ *
+ * Every word of a suggestion, and the whole folded suggestion, is a key of a sorted map, so the
+ * entries whose words start with the typed text are one range scan away. A match needs every typed
+ * word to start some word of the suggestion (the last one usually half-typed), or the whole
+ * suggestion to start with the typed text; matches are ranked by log(1 + popularity), with a boost
+ * for the latter. Short prefixes match too many words for a range scan, so entries are also kept
+ * per target and short word prefix in popularity order: those lookups walk the best entries first
+ * and stop once no remaining entry can enter the top list. Locking follows InvertedIndex.
+ */
+public class SuggestionIndex {
+
+    private static final Comparator<Suggestion> RANKING = Comparator.comparingDouble(Suggestion::getScore)
+            .thenComparing(suggestion -> -suggestion.getEntry().getFolded().length())
+            .thenComparing(suggestion -> suggestion.getEntry().getDocument().getKey(), Comparator.reverseOrder());
+    private static final Comparator<Entry> BY_WEIGHT = Comparator.comparingDouble(Entry::getWeight).reversed()
+            .thenComparing(entry -> entry.getDocument().getKey());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final NavigableMap<String, Set<String>> keysByWord = new TreeMap<>();
+    private final Map<SearchTarget, Map<String, NavigableSet<Entry>>> entriesByShortPrefix =
+            new EnumMap<>(SearchTarget.class);
+
+    /**
+     * Add or replace the suggestion of a document; documents without one are removed
+     */
+    public void upsert(SearchDocument document) {
+        String folded = SearchTextUtil.fold(document.getSuggestion()).strip();
+        if (folded.isEmpty()) {
+            remove(document.getKey());
+            return;
+        }
+        Set<String> words = new LinkedHashSet<>(SearchTextUtil.tokenize(folded));
+        words.add(folded);
+        Entry entry = new Entry(document, folded, words, Math.log1p(Math.max(0, document.getPopularity())));
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.getKey());
+            entries.put(document.getKey(), entry);
+            words.forEach(word -> keysByWord.computeIfAbsent(word, w -> new HashSet<>()).add(document.getKey()));
+            Map<String, NavigableSet<Entry>> byPrefix = entriesByShortPrefix
+                    .computeIfAbsent(document.getTarget(), target -> new HashMap<>());
+            shortPrefixes(words).forEach(prefix ->
+                    byPrefix.computeIfAbsent(prefix, p -> new TreeSet<>(BY_WEIGHT)).add(entry));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove the suggestion of a document
+     */
+    public void remove(String key) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Best suggestions for typed text, most relevant first
+     */
+    public List<SearchDocument> suggest(String prefix, Set<SearchTarget> targets, int limit) {
+        String folded = SearchTextUtil.fold(prefix).strip();
+        if (folded.length() < SearchIndexConstants.SUGGEST_MIN_PREFIX_LENGTH || limit <= 0) {
+            return List.of();
+        }
+        List<String> typedWords = new ArrayList<>(SearchTextUtil.tokenize(folded));
+        // A half-typed last word shorter than MIN_TOKEN_LENGTH is dropped by tokenize but still has to match
+        String lastWord = lastWord(folded);
+        if (!lastWord.isEmpty() && lastWord.length() < SearchIndexConstants.MIN_TOKEN_LENGTH) {
+            typedWords.add(lastWord);
+        }
+        // Every match has a word starting with each typed word, so the longest one bounds the scan
+        String anchor = typedWords.stream().max(Comparator.comparingInt(String::length)).orElse(folded);
+
+        PriorityQueue<Suggestion> top = new PriorityQueue<>(RANKING);
+        lock.readLock().lock();
+        try {
+            if (anchor.length() >= SearchIndexConstants.SUGGEST_MIN_PREFIX_LENGTH
+                    && anchor.length() <= SearchIndexConstants.SUGGEST_SHORT_PREFIX_LENGTH) {
+                suggestByPopularity(folded, anchor, typedWords, targets, limit, top);
+                return toDocuments(top);
+            }
+            Set<String> candidates = new HashSet<>();
+            collect(folded, candidates);
+            if (!anchor.equals(folded)) {
+                collect(anchor, candidates);
+            }
+            for (String key : candidates) {
+                offer(entries.get(key), folded, typedWords, targets, limit, top);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return toDocuments(top);
+    }
+
+    /**
+     * Short typed text: every match has a word starting with the anchor, or a whole suggestion starting with
+     * the typed text, so the popularity-ordered entries of those two prefixes are merged best first
+     */
+    private void suggestByPopularity(String folded, String anchor, List<String> typedWords,
+                                     Set<SearchTarget> targets, int limit, PriorityQueue<Suggestion> top) {
+        String leadingPrefix = folded.substring(0, Math.min(folded.length(), SearchIndexConstants.SUGGEST_SHORT_PREFIX_LENGTH));
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>(Comparator.comparing(Cursor::getHead, BY_WEIGHT));
+        for (SearchTarget target : targets) {
+            Map<String, NavigableSet<Entry>> byPrefix = entriesByShortPrefix.getOrDefault(target, Map.of());
+            addCursor(cursors, byPrefix.get(anchor));
+            if (!leadingPrefix.equals(anchor)) {
+                addCursor(cursors, byPrefix.get(leadingPrefix));
+            }
+        }
+
+        Set<String> seen = new HashSet<>();
+        while (!cursors.isEmpty()) {
+            Cursor cursor = cursors.poll();
+            Entry entry = cursor.getHead();
+            // Entries left weigh at most this one: none of them can beat a full top list
+            if (top.size() == limit
+                    && entry.getWeight() + SearchIndexConstants.SUGGEST_LEADING_MATCH_BOOST < top.peek().getScore()) {
+                return;
+            }
+            if (seen.add(entry.getDocument().getKey())) {
+                offer(entry, folded, typedWords, targets, limit, top);
+            }
+            if (cursor.advance()) {
+                cursors.offer(cursor);
+            }
+        }
+    }
+
+    private void addCursor(PriorityQueue<Cursor> cursors, NavigableSet<Entry> ranked) {
+        if (ranked != null && !ranked.isEmpty()) {
+            Cursor cursor = new Cursor(ranked.iterator());
+            cursor.advance();
+            cursors.offer(cursor);
+        }
+    }
+
+    private void offer(Entry entry, String folded, List<String> typedWords, Set<SearchTarget> targets,
+                       int limit, PriorityQueue<Suggestion> top) {
+        if (!targets.contains(entry.getDocument().getTarget())) {
+            return;
+        }
+        boolean leading = entry.getFolded().startsWith(folded);
+        if (!leading && (typedWords.isEmpty() || !startsEveryWord(entry, typedWords))) {
+            return;
+        }
+        double score = entry.getWeight() + (leading ? SearchIndexConstants.SUGGEST_LEADING_MATCH_BOOST : 0);
+        top.offer(new Suggestion(entry, score));
+        if (top.size() > limit) {
+            top.poll();
+        }
+    }
+
+    private List<SearchDocument> toDocuments(PriorityQueue<Suggestion> top) {
+        List<SearchDocument> suggestions = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            suggestions.addFirst(top.poll().getEntry().getDocument());
+        }
+        return suggestions;
+    }
+
+    /**
+     * Prefixes of the words of a suggestion kept in popularity order (SUGGEST_MIN_PREFIX_LENGTH..SUGGEST_SHORT_PREFIX_LENGTH)
+     */
+    private Set<String> shortPrefixes(Set<String> words) {
+        Set<String> prefixes = new HashSet<>();
+        for (String word : words) {
+            for (int length = SearchIndexConstants.SUGGEST_MIN_PREFIX_LENGTH;
+                 length <= Math.min(word.length(), SearchIndexConstants.SUGGEST_SHORT_PREFIX_LENGTH); length++) {
+                prefixes.add(word.substring(0, length));
+            }
+        }
+        return prefixes;
+    }
+
+    private void collect(String prefix, Set<String> candidates) {
+        keysByWord.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .values()
+                .forEach(candidates::addAll);
+    }
+
+    private boolean startsEveryWord(Entry entry, List<String> typedWords) {
+        for (String typed : typedWords) {
+            if (entry.getWords().stream().noneMatch(word -> word.startsWith(typed))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String lastWord(String folded) {
+        int end = folded.length();
+        int start = end;
+        while (start > 0) {
+            int codePoint = folded.codePointBefore(start);
+            if (!Character.isLetterOrDigit(codePoint)) {
+                break;
+            }
+            start -= Character.charCount(codePoint);
+        }
+        return folded.substring(start, end);
+    }
+
+    private void removeLocked(String key) {
+        Entry previous = entries.remove(key);
+        if (previous == null) {
+            return;
+        }
+        for (String word : previous.getWords()) {
+            Set<String> keys = keysByWord.get(word);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysByWord.remove(word);
+                }
+            }
+        }
+        Map<String, NavigableSet<Entry>> byPrefix = entriesByShortPrefix.get(previous.getDocument().getTarget());
+        if (byPrefix != null) {
+            for (String prefix : shortPrefixes(previous.getWords())) {
+                NavigableSet<Entry> ranked = byPrefix.get(prefix);
+                if (ranked != null) {
+                    ranked.remove(previous);
+                    if (ranked.isEmpty()) {
+                        byPrefix.remove(prefix);
+                    }
+                }
+            }
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static class Entry {
+        SearchDocument document;
+        String folded;
+        Set<String> words;
+        double weight;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static class Suggestion {
+        Entry entry;
+        double score;
+    }
+
+    /**
+     * Position in one popularity-ordered prefix set
+     */
+    @Getter
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private static class Cursor {
+        final Iterator<Entry> iterator;
+        Entry head;
+
+        Cursor(Iterator<Entry> iterator) {
+            this.iterator = iterator;
+        }
+
+        boolean advance() {
+            head = iterator.hasNext() ? iterator.next() : null;
+            return head != null;
+        }
+    }
+}
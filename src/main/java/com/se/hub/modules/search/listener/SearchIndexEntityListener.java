@@ -0,0 +1,32 @@
+package com.se.hub.modules.search.listener;
+
+import com.se.hub.common.entity.BaseEntity;
+import com.se.hub.modules.search.event.SearchIndexChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener publishing SearchIndexChangedEvent for every write of a searchable entity,
+ * whichever service saved it. Resolved as a Spring bean by Hibernate's bean container.
+ * Bulk JPQL updates bypass it; the scheduled full rebuild picks those up.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SearchIndexEntityListener {
+    ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(BaseEntity entity) {
+        eventPublisher.publishEvent(new SearchIndexChangedEvent(this, Hibernate.getClass(entity), entity.getId()));
+    }
+}
@@ -0,0 +1,111 @@
+package com.se.hub.modules.search.metrics;
+
+import com.se.hub.modules.search.constant.SearchBudgetConstants;
+import com.se.hub.modules.search.dto.response.SearchLatencyBucketResponse;
+import com.se.hub.modules.search.dto.response.SearchSourceLatencyResponse;
+import com.se.hub.modules.search.enums.SearchSourceOutcome;
+import com.se.hub.modules.search.enums.SearchTarget;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram of one global search source, with fixed millisecond buckets
+ * (SearchBudgetConstants.LATENCY_BUCKET_BOUNDS_MILLIS plus an overflow bucket).
+ * Counts only grow; rates and percentiles over a window are left to whoever polls the snapshot.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SearchLatencyHistogram {
+
+    private static final List<Long> BOUNDS = SearchBudgetConstants.LATENCY_BUCKET_BOUNDS_MILLIS;
+
+    LongAdder[] buckets = new LongAdder[BOUNDS.size() + 1];
+    LongAdder totalMillis = new LongAdder();
+    Map<SearchSourceOutcome, LongAdder> outcomes = new EnumMap<>(SearchSourceOutcome.class);
+    LongAdder deadlineMisses = new LongAdder();
+
+    public SearchLatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+        for (SearchSourceOutcome outcome : SearchSourceOutcome.values()) {
+            outcomes.put(outcome, new LongAdder());
+        }
+    }
+
+    /**
+     * Record a finished source call (also when it finished after the response was sent)
+     */
+    public void record(long millis, SearchSourceOutcome outcome) {
+        buckets[bucketOf(millis)].increment();
+        totalMillis.add(millis);
+        outcomes.get(outcome).increment();
+    }
+
+    /**
+     * Record a response sent without this source because the request deadline passed
+     */
+    public void recordDeadlineMiss() {
+        deadlineMisses.increment();
+    }
+
+    public SearchSourceLatencyResponse snapshot(SearchTarget source) {
+        long[] counts = new long[buckets.length];
+        long count = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+
+        List<SearchLatencyBucketResponse> bucketResponses = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            bucketResponses.add(SearchLatencyBucketResponse.builder()
+                    .upperBoundMillis(i < BOUNDS.size() ? BOUNDS.get(i) : null)
+                    .count(counts[i])
+                    .build());
+        }
+
+        return SearchSourceLatencyResponse.builder()
+                .source(source)
+                .count(count)
+                .completed(outcomes.get(SearchSourceOutcome.COMPLETED).sum())
+                .timedOut(outcomes.get(SearchSourceOutcome.TIMED_OUT).sum())
+                .failed(outcomes.get(SearchSourceOutcome.FAILED).sum())
+                .deadlineMisses(deadlineMisses.sum())
+                .meanMillis(count == 0 ? 0 : (double) totalMillis.sum() / count)
+                .p50Millis(percentile(counts, count, 0.50))
+                .p95Millis(percentile(counts, count, 0.95))
+                .p99Millis(percentile(counts, count, 0.99))
+                .buckets(bucketResponses)
+                .build();
+    }
+
+    private static int bucketOf(long millis) {
+        for (int i = 0; i < BOUNDS.size(); i++) {
+            if (millis <= BOUNDS.get(i)) {
+                return i;
+            }
+        }
+        return BOUNDS.size();
+    }
+
+    private static Long percentile(long[] counts, long count, double quantile) {
+        if (count == 0) {
+            return null;
+        }
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i < BOUNDS.size() ? BOUNDS.get(i) : null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.se.hub.modules.search.scheduler;
+
+import com.se.hub.modules.search.service.SearchIndexService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler that rebuilds the search index from the database
+ * Repairs documents missed by change events (bulk updates, lost Pub/Sub messages)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SearchIndexScheduler {
+    SearchIndexService searchIndexService;
+
+    /**
+     * Runs nightly at 03:30 by default
+     */
+    @Scheduled(cron = "${search.index.rebuild-cron:0 30 3 * * ?}")
+    public void rebuildIndex() {
+        try {
+            searchIndexService.rebuild();
+        } catch (Exception e) {
+            log.error("SearchIndexScheduler_rebuildIndex_Rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.se.hub.modules.search.service;
+
+import com.se.hub.modules.search.dto.response.SearchIndexStatusResponse;
+import com.se.hub.modules.search.dto.response.SearchSuggestionResponse;
+import com.se.hub.modules.search.dto.response.UnifiedSearchResponse;
+import com.se.hub.modules.search.enums.SearchTarget;
+
+import java.util.List;
+import java.util.Set;
+
+public interface SearchIndexService {
+
+    /**
+     * Ranked search across every indexed target, served from the in-process index
+     * @param targets targets to return (all when empty); facets cover every target
+     */
+    UnifiedSearchResponse search(String keyword, Set<SearchTarget> targets, int page, int pageSize);
+
+    /**
+     * Search-as-you-type suggestions (blog headlines, exam titles, course names, usernames)
+     * ranked by popularity, served from memory
+     * @param prefix text typed so far; blank or very short text returns no suggestions
+     * @param limit maximum suggestions (default SUGGEST_DEFAULT_LIMIT, capped at SUGGEST_MAX_LIMIT)
+     */
+    List<SearchSuggestionResponse> suggest(String prefix, Set<SearchTarget> targets, Integer limit);
+
+    /**
+     * Rebuild the whole index from the database, replacing the live index when done
+     * @return false if a rebuild is already running or the index is disabled
+     */
+    boolean rebuild();
+
+    /**
+     * Start a rebuild in the background (admin only)
+     */
+    SearchIndexStatusResponse requestRebuild();
+
+    /**
+     * Index size and rebuild state on the serving node (admin only)
+     */
+    SearchIndexStatusResponse getStatus();
+}
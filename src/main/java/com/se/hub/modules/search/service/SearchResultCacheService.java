@@ -0,0 +1,28 @@
+package com.se.hub.modules.search.service;
+
+import com.se.hub.common.dto.request.PagingRequest;
+import com.se.hub.modules.search.cache.SearchHitPage;
+import com.se.hub.modules.search.dto.response.SearchCacheStatsResponse;
+import com.se.hub.modules.search.enums.SearchTarget;
+
+import java.util.function.Supplier;
+
+public interface SearchResultCacheService {
+
+    /**
+     * Hit page of a search, served from the cache of the target or loaded on a miss.
+     * Entries are keyed by the target's version, so any write to the target makes them unreachable.
+     * @param query normalized query (SearchTextUtil.normalizeQuery, or fold for accent-insensitive searches);
+     *              the loader must search with this same text
+     * @param sorted whether the requested sort changes the results (false for relevance-ordered searches)
+     * @param loader runs the search; must not depend on the viewer
+     */
+    SearchHitPage get(SearchTarget target, String query, PagingRequest request, boolean sorted,
+                      Supplier<SearchHitPage> loader);
+
+    /**
+     * Hit ratio per target and the hottest queries on the serving node (admin only)
+     * @param limit number of hot queries (default HOT_QUERY_DEFAULT_LIMIT, capped at HOT_QUERY_MAX_LIMIT)
+     */
+    SearchCacheStatsResponse getStatistics(Integer limit);
+}
@@ -2,9 +2,21 @@ package com.se.hub.modules.search.service;
 
 import com.se.hub.modules.search.dto.request.SearchRequest;
 import com.se.hub.modules.search.dto.response.SearchResponse;
+import com.se.hub.modules.search.dto.response.SearchSourceLatencyResponse;
+
+import java.util.List;
 
 public interface SearchService {
+    /**
+     * Search blogs, exams and users concurrently within the request deadline
+     * @return every source that finished in time; sources cut off by their budget or the deadline are listed in timedOut
+     */
     SearchResponse search(SearchRequest request);
+
+    /**
+     * Latency histogram per source on the serving node (admin only)
+     */
+    List<SearchSourceLatencyResponse> getLatencyStatistics();
 }
 
 
@@ -0,0 +1,344 @@
+package com.se.hub.modules.search.service.impl;
+
+import com.se.hub.common.constant.PaginationConstants;
+import com.se.hub.common.dto.response.PagingResponse;
+import com.se.hub.common.enums.ErrorCode;
+import com.se.hub.common.exception.AppException;
+import com.se.hub.modules.search.constant.SearchIndexConstants;
+import com.se.hub.modules.search.dto.response.SearchHitResponse;
+import com.se.hub.modules.search.dto.response.SearchIndexStatusResponse;
+import com.se.hub.modules.search.dto.response.SearchSuggestionResponse;
+import com.se.hub.modules.search.dto.response.UnifiedSearchResponse;
+import com.se.hub.modules.search.enums.SearchTarget;
+import com.se.hub.modules.search.event.SearchIndexChangedEvent;
+import com.se.hub.modules.search.exception.SearchErrorCode;
+import com.se.hub.modules.search.index.InvertedIndex;
+import com.se.hub.modules.search.index.SearchDocument;
+import com.se.hub.modules.search.index.SearchDocumentProvider;
+import com.se.hub.modules.search.index.SearchIndexBus;
+import com.se.hub.modules.search.index.SearchIndexHit;
+import com.se.hub.modules.search.index.SearchIndexMessage;
+import com.se.hub.modules.search.index.SearchIndexResult;
+import com.se.hub.modules.search.index.SuggestionIndex;
+import com.se.hub.modules.search.service.SearchIndexService;
+import com.se.hub.modules.search.utils.SearchTextUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Unified search over an in-process inverted index of blogs, exams, users, documents and courses,
+ * plus the prefix index (SuggestionIndex) behind search-as-you-type, fed by the same documents.
+ *
+ * The index is built from the database at startup and on a schedule, and kept current by
+ * SearchIndexChangedEvent: after commit the written document is reloaded through its provider,
+ * locally and (via SearchIndexBus) on every other node. Reloads run one at a time on a single
+ * writer thread, so two writes to the same document are applied in commit order.
+ *
+ * A rebuild fills a fresh index while the live one keeps serving; documents changed meanwhile
+ * are reloaded again once the fresh index is swapped in.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SearchIndexServiceImpl implements SearchIndexService {
+    Map<SearchTarget, SearchDocumentProvider> providersByTarget = new EnumMap<>(SearchTarget.class);
+    Map<Class<?>, SearchDocumentProvider> providersByEntity = new HashMap<>();
+    SearchIndexBus searchIndexBus;
+    boolean enabled;
+    int rebuildBatchSize;
+    int maxBodyChars;
+    ExecutorService indexWriter = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("search-index-writer").factory());
+    AtomicBoolean rebuilding = new AtomicBoolean();
+    Set<String> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    @NonFinal
+    volatile InvertedIndex index;
+    @NonFinal
+    volatile SuggestionIndex suggestions = new SuggestionIndex();
+    @NonFinal
+    volatile boolean ready;
+    @NonFinal
+    volatile Instant lastRebuildAt;
+    @NonFinal
+    volatile long lastRebuildMillis;
+
+    public SearchIndexServiceImpl(List<SearchDocumentProvider> providers,
+                                  SearchIndexBus searchIndexBus,
+                                  @Value("${search.index.enabled:true}") boolean enabled,
+                                  @Value("${search.index.rebuild-batch-size:" + SearchIndexConstants.DEFAULT_REBUILD_BATCH_SIZE + "}") int rebuildBatchSize,
+                                  @Value("${search.index.max-body-chars:" + SearchIndexConstants.DEFAULT_MAX_BODY_CHARS + "}") int maxBodyChars) {
+        for (SearchDocumentProvider provider : providers) {
+            providersByTarget.put(provider.getTarget(), provider);
+            providersByEntity.put(provider.getEntityType(), provider);
+        }
+        this.searchIndexBus = searchIndexBus;
+        this.enabled = enabled;
+        this.rebuildBatchSize = Math.max(1, rebuildBatchSize);
+        this.maxBodyChars = maxBodyChars;
+        this.index = new InvertedIndex(maxBodyChars);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            log.info("SearchIndexService_onApplicationReady_Search index is disabled");
+            return;
+        }
+        searchIndexBus.subscribe(this::onRemoteChange);
+        Thread.ofVirtual().name("search-index-rebuild").start(this::rebuild);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexWriter.shutdownNow();
+    }
+
+    /**
+     * Reload the written document after commit and tell the other nodes to do the same
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIndexChanged(SearchIndexChangedEvent event) {
+        SearchDocumentProvider provider = providersByEntity.get(event.getEntityType());
+        if (!enabled || provider == null || event.getEntityId() == null) {
+            return;
+        }
+        enqueueRefresh(provider.getTarget(), event.getEntityId());
+        searchIndexBus.publish(provider.getTarget(), event.getEntityId());
+    }
+
+    @Override
+    public UnifiedSearchResponse search(String keyword, Set<SearchTarget> targets, int page, int pageSize) {
+        String sanitized = keyword == null ? "" : keyword.trim();
+        if (sanitized.isBlank()) {
+            log.error("SearchIndexService_search_Keyword is required");
+            throw SearchErrorCode.KEYWORD_REQUIRED.toException();
+        }
+        if (page < PaginationConstants.MIN_PAGE_NUMBER) {
+            throw new AppException(ErrorCode.PAGE_NUMBER_INVALID);
+        }
+        if (pageSize < PaginationConstants.MIN_PAGE_SIZE) {
+            throw new AppException(ErrorCode.PAGE_SIZE_INVALID);
+        }
+        Set<SearchTarget> selected = targets == null || targets.isEmpty()
+                ? SearchTarget.defaultTargets()
+                : EnumSet.copyOf(targets);
+
+        // Pages past MAX_RESULT_WINDOW come back empty; for common terms, totals and facets are
+        // estimated from a sample of each posting (flagged as approximate)
+        int offset = (int) Math.min((long) (page - 1) * pageSize, SearchIndexConstants.MAX_RESULT_WINDOW);
+        int limit = Math.min(pageSize, SearchIndexConstants.MAX_RESULT_WINDOW - offset);
+        SearchIndexResult result = index.search(SearchTextUtil.queryTerms(sanitized), selected, offset, limit);
+
+        List<SearchHitResponse> hits = result.getHits().stream()
+                .map(this::toHitResponse)
+                .toList();
+        PagingResponse<SearchHitResponse> paging = PagingResponse.<SearchHitResponse>builder()
+                .currentPage(page)
+                .pageSize(pageSize)
+                .totalElement(result.getTotal())
+                .totalPages((int) ((result.getTotal() + pageSize - 1) / pageSize))
+                .data(hits)
+                .build();
+        return UnifiedSearchResponse.builder()
+                .hits(paging)
+                .facets(result.getFacets())
+                .approximate(result.isApproximate())
+                .indexReady(ready)
+                .build();
+    }
+
+    @Override
+    public List<SearchSuggestionResponse> suggest(String prefix, Set<SearchTarget> targets, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        Set<SearchTarget> selected = targets == null || targets.isEmpty()
+                ? SearchTarget.defaultTargets()
+                : EnumSet.copyOf(targets);
+        int size = limit == null
+                ? SearchIndexConstants.SUGGEST_DEFAULT_LIMIT
+                : Math.clamp(limit, 1, SearchIndexConstants.SUGGEST_MAX_LIMIT);
+        return suggestions.suggest(prefix.trim(), selected, size).stream()
+                .map(this::toSuggestionResponse)
+                .toList();
+    }
+
+    @Override
+    public boolean rebuild() {
+        if (!enabled || !rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        long start = System.currentTimeMillis();
+        InvertedIndex fresh = new InvertedIndex(maxBodyChars);
+        SuggestionIndex freshSuggestions = new SuggestionIndex();
+        try {
+            for (SearchDocumentProvider provider : providersByTarget.values()) {
+                int count = loadAll(provider, fresh, freshSuggestions);
+                log.info("SearchIndexService_rebuild_Indexed {} {} documents", count, provider.getTarget());
+            }
+            index = fresh;
+            suggestions = freshSuggestions;
+            ready = true;
+            lastRebuildAt = Instant.now();
+            lastRebuildMillis = System.currentTimeMillis() - start;
+            log.info("SearchIndexService_rebuild_Index rebuilt with {} documents and {} suggestions in {} ms",
+                    fresh.size(), freshSuggestions.size(), lastRebuildMillis);
+            return true;
+        } catch (Exception e) {
+            log.error("SearchIndexService_rebuild_Rebuild failed, keeping the current index", e);
+            return false;
+        } finally {
+            rebuilding.set(false);
+            // Changes seen during the rebuild may be missing from the fresh index
+            List<String> changed = new ArrayList<>(changedDuringRebuild);
+            changedDuringRebuild.removeAll(changed);
+            changed.forEach(this::enqueueRefresh);
+        }
+    }
+
+    @Override
+    public SearchIndexStatusResponse requestRebuild() {
+        requireAdmin("requestRebuild");
+        if (enabled && !rebuilding.get()) {
+            Thread.ofVirtual().name("search-index-rebuild").start(this::rebuild);
+        }
+        return buildStatus(enabled);
+    }
+
+    @Override
+    public SearchIndexStatusResponse getStatus() {
+        requireAdmin("getStatus");
+        return buildStatus(rebuilding.get());
+    }
+
+    private int loadAll(SearchDocumentProvider provider, InvertedIndex target, SuggestionIndex targetSuggestions) {
+        int count = 0;
+        String afterId = "";
+        while (true) {
+            List<SearchDocument> batch = provider.loadBatch(afterId, rebuildBatchSize);
+            for (SearchDocument document : batch) {
+                target.upsert(document);
+                targetSuggestions.upsert(document);
+            }
+            count += batch.size();
+            if (batch.size() < rebuildBatchSize) {
+                return count;
+            }
+            afterId = batch.getLast().getId();
+        }
+    }
+
+    private void onRemoteChange(SearchIndexMessage message) {
+        if (message.getTarget() != null && message.getId() != null) {
+            enqueueRefresh(message.getTarget(), message.getId());
+        }
+    }
+
+    private void enqueueRefresh(String key) {
+        int separator = key.indexOf(SearchIndexConstants.KEY_SEPARATOR);
+        enqueueRefresh(SearchTarget.valueOf(key.substring(0, separator)), key.substring(separator + 1));
+    }
+
+    private void enqueueRefresh(SearchTarget target, String id) {
+        try {
+            indexWriter.execute(() -> refresh(target, id));
+        } catch (Exception e) {
+            log.warn("SearchIndexService_enqueueRefresh_Index writer unavailable for {} {}", target, id);
+        }
+    }
+
+    private void refresh(SearchTarget target, String id) {
+        SearchDocumentProvider provider = providersByTarget.get(target);
+        if (provider == null) {
+            return;
+        }
+        String key = SearchDocument.key(target, id);
+        if (rebuilding.get()) {
+            changedDuringRebuild.add(key);
+        }
+        try {
+            provider.load(id).ifPresentOrElse(document -> {
+                index.upsert(document);
+                suggestions.upsert(document);
+            }, () -> {
+                index.remove(key);
+                suggestions.remove(key);
+            });
+        } catch (Exception e) {
+            log.error("SearchIndexService_refresh_Error refreshing {} in the search index", key, e);
+        }
+    }
+
+    private SearchHitResponse toHitResponse(SearchIndexHit hit) {
+        SearchDocument document = hit.getDocument();
+        return SearchHitResponse.builder()
+                .type(document.getTarget())
+                .id(document.getId())
+                .title(document.getTitle())
+                .summary(document.getSummary())
+                .imageUrl(document.getImageUrl())
+                .score(hit.getScore())
+                .updatedDate(document.getUpdatedDate())
+                .build();
+    }
+
+    private SearchSuggestionResponse toSuggestionResponse(SearchDocument document) {
+        return SearchSuggestionResponse.builder()
+                .type(document.getTarget())
+                .id(document.getId())
+                .ownerId(document.getOwnerId())
+                .text(document.getSuggestion())
+                .title(document.getTitle())
+                .imageUrl(document.getImageUrl())
+                .build();
+    }
+
+    private SearchIndexStatusResponse buildStatus(boolean rebuildingNow) {
+        return SearchIndexStatusResponse.builder()
+                .enabled(enabled)
+                .ready(ready)
+                .rebuilding(rebuildingNow)
+                .documentCount(index.size())
+                .suggestionCount(suggestions.size())
+                .lastRebuildAt(lastRebuildAt)
+                .lastRebuildMillis(lastRebuildMillis)
+                .build();
+    }
+
+    private void requireAdmin(String operation) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean admin = authentication != null && authentication.isAuthenticated()
+                && authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(authority -> authority.equals("ROLE_ADMIN"));
+        if (!admin) {
+            log.error("SearchIndexService_{}_Current user is not admin", operation);
+            throw new AppException(ErrorCode.AUTHZ_UNAUTHORIZED);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.se.hub.modules.search.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.se.hub.common.cache.ResourceVersionIndex;
+import com.se.hub.common.cache.TwoLevelCache;
+import com.se.hub.common.cache.TwoLevelCacheManager;
+import com.se.hub.common.dto.request.PagingRequest;
+import com.se.hub.common.dto.request.SortRequest;
+import com.se.hub.common.enums.ErrorCode;
+import com.se.hub.common.exception.AppException;
+import com.se.hub.modules.search.cache.SearchHitPage;
+import com.se.hub.modules.search.constant.SearchCacheConstants;
+import com.se.hub.modules.search.dto.response.SearchCacheStatsResponse;
+import com.se.hub.modules.search.dto.response.SearchCacheTargetStatsResponse;
+import com.se.hub.modules.search.dto.response.SearchHotQueryResponse;
+import com.se.hub.modules.search.enums.SearchTarget;
+import com.se.hub.modules.search.event.SearchIndexChangedEvent;
+import com.se.hub.modules.search.index.SearchDocumentProvider;
+import com.se.hub.modules.search.service.SearchResultCacheService;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache.ValueRetrievalException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Search result cache in front of the blog, exam and people search queries.
+ *
+ * Each target has its own two-level cache (searchBlogs, searchExams, searchUsers) holding hit
+ * pages: ranked IDs and paging metadata, never viewer-specific data. Keys start with the target's
+ * version stamp from ResourceVersionIndex (search:{TARGET}); any committed write to the target's
+ * entity bumps the stamp, so older entries become unreachable and expire on their own instead of
+ * being found by a KEYS scan. Reading the stamp is one Redis round trip per search; when Redis is
+ * unavailable the search runs uncached.
+ *
+ * Loads are single-flight per key, so a burst of the same popular query runs it once. Hit/miss
+ * counters per target and per normalized query (bounded, most recent queries) are kept per node.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SearchResultCacheServiceImpl implements SearchResultCacheService {
+
+    private static final Map<SearchTarget, String> CACHE_NAMES = new EnumMap<>(Map.of(
+            SearchTarget.BLOG, SearchCacheConstants.CACHE_SEARCH_BLOGS,
+            SearchTarget.EXAM, SearchCacheConstants.CACHE_SEARCH_EXAMS,
+            SearchTarget.USER, SearchCacheConstants.CACHE_SEARCH_USERS));
+
+    TwoLevelCacheManager cacheManager;
+    ResourceVersionIndex resourceVersionIndex;
+    Map<Class<?>, SearchTarget> targetsByEntity = new HashMap<>();
+    boolean enabled;
+    Map<SearchTarget, Counters> counters = new EnumMap<>(SearchTarget.class);
+    Cache<String, HotQuery> hotQueries = Caffeine.newBuilder()
+            .maximumSize(SearchCacheConstants.HOT_QUERY_MAX_SIZE)
+            .expireAfterAccess(SearchCacheConstants.HOT_QUERY_EXPIRY)
+            .build();
+
+    public SearchResultCacheServiceImpl(List<SearchDocumentProvider> providers,
+                                        TwoLevelCacheManager cacheManager,
+                                        ResourceVersionIndex resourceVersionIndex,
+                                        @Value("${search.cache.enabled:true}") boolean enabled) {
+        for (SearchDocumentProvider provider : providers) {
+            if (CACHE_NAMES.containsKey(provider.getTarget())) {
+                targetsByEntity.put(provider.getEntityType(), provider.getTarget());
+            }
+        }
+        CACHE_NAMES.keySet().forEach(target -> counters.put(target, new Counters()));
+        this.cacheManager = cacheManager;
+        this.resourceVersionIndex = resourceVersionIndex;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Make every cached page of the written entity's target unreachable
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIndexChanged(SearchIndexChangedEvent event) {
+        SearchTarget target = targetsByEntity.get(event.getEntityType());
+        if (!enabled || target == null) {
+            return;
+        }
+        resourceVersionIndex.bump(List.of(versionName(target)));
+    }
+
+    @Override
+    public SearchHitPage get(SearchTarget target, String query, PagingRequest request, boolean sorted,
+                             Supplier<SearchHitPage> loader) {
+        String cacheName = CACHE_NAMES.get(target);
+        TwoLevelCache cache = enabled && cacheName != null ? cacheManager.getTwoLevelCache(cacheName) : null;
+        if (cache == null) {
+            return loader.get();
+        }
+
+        List<Long> versions = resourceVersionIndex.current(List.of(versionName(target)));
+        if (versions == null) {
+            // Without the stamp a write could not be told apart from an old entry
+            counters.get(target).bypassed.increment();
+            return loader.get();
+        }
+        String key = versions.getFirst() + SearchCacheConstants.KEY_SEPARATOR + query
+                + SearchCacheConstants.KEY_SEPARATOR + pagingVariant(request, sorted);
+
+        // Loads for other callers (coalesced) run on their threads and do not count as a miss here
+        Thread caller = Thread.currentThread();
+        AtomicBoolean loaded = new AtomicBoolean();
+        SearchHitPage page;
+        try {
+            page = cache.get(key, () -> {
+                if (Thread.currentThread() == caller) {
+                    loaded.set(true);
+                }
+                return loader.get();
+            });
+        } catch (ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        record(target, query, !loaded.get());
+        return page;
+    }
+
+    @Override
+    public SearchCacheStatsResponse getStatistics(Integer limit) {
+        if (!isAdmin()) {
+            log.error("SearchResultCacheService_getStatistics_Current user is not admin");
+            throw new AppException(ErrorCode.AUTHZ_UNAUTHORIZED);
+        }
+        int hotLimit = limit == null
+                ? SearchCacheConstants.HOT_QUERY_DEFAULT_LIMIT
+                : Math.clamp(limit, 1, SearchCacheConstants.HOT_QUERY_MAX_LIMIT);
+
+        List<SearchCacheTargetStatsResponse> targets = counters.entrySet().stream()
+                .map(entry -> {
+                    long hits = entry.getValue().hits.sum();
+                    long misses = entry.getValue().misses.sum();
+                    return SearchCacheTargetStatsResponse.builder()
+                            .target(entry.getKey())
+                            .cacheName(CACHE_NAMES.get(entry.getKey()))
+                            .lookups(hits + misses)
+                            .hits(hits)
+                            .misses(misses)
+                            .bypassed(entry.getValue().bypassed.sum())
+                            .hitRatio(ratio(hits, hits + misses))
+                            .build();
+                })
+                .toList();
+
+        List<SearchHotQueryResponse> hot = hotQueries.asMap().values().stream()
+                .map(hotQuery -> {
+                    long lookups = hotQuery.lookups.sum();
+                    long hits = hotQuery.hits.sum();
+                    return SearchHotQueryResponse.builder()
+                            .target(hotQuery.getTarget())
+                            .query(hotQuery.getQuery())
+                            .lookups(lookups)
+                            .hits(hits)
+                            .hitRatio(ratio(hits, lookups))
+                            .build();
+                })
+                .sorted(Comparator.comparingLong(SearchHotQueryResponse::getLookups).reversed())
+                .limit(hotLimit)
+                .toList();
+
+        return SearchCacheStatsResponse.builder()
+                .enabled(enabled)
+                .targets(targets)
+                .hotQueries(hot)
+                .build();
+    }
+
+    private void record(SearchTarget target, String query, boolean hit) {
+        Counters targetCounters = counters.get(target);
+        (hit ? targetCounters.hits : targetCounters.misses).increment();
+
+        HotQuery hotQuery = hotQueries.get(target + SearchCacheConstants.KEY_SEPARATOR + query,
+                key -> new HotQuery(target, query, new LongAdder(), new LongAdder()));
+        hotQuery.lookups.increment();
+        if (hit) {
+            hotQuery.hits.increment();
+        }
+    }
+
+    /**
+     * Paging part of the key: offset page and size, or cursor and includeTotal; the sort only when it applies
+     */
+    private static String pagingVariant(PagingRequest request, boolean sorted) {
+        StringBuilder variant = new StringBuilder();
+        if (request.isCursorMode()) {
+            variant.append(SearchCacheConstants.CURSOR_MARKER).append(request.getCursor())
+                    .append(SearchCacheConstants.PART_SEPARATOR).append(Boolean.TRUE.equals(request.getIncludeTotal()));
+        } else {
+            variant.append(SearchCacheConstants.OFFSET_MARKER).append(request.getPage());
+        }
+        variant.append(SearchCacheConstants.PART_SEPARATOR).append(request.getPageSize())
+                .append(SearchCacheConstants.PART_SEPARATOR);
+        SortRequest sort = request.getSortRequest();
+        if (!sorted) {
+            variant.append(SearchCacheConstants.RELEVANCE_SORT);
+        } else if (sort != null) {
+            variant.append(lower(sort.getField())).append(SearchCacheConstants.PART_SEPARATOR).append(lower(sort.getDirection()));
+        }
+        return variant.toString();
+    }
+
+    private static String lower(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String versionName(SearchTarget target) {
+        return SearchCacheConstants.VERSION_PREFIX + target.name();
+    }
+
+    private static double ratio(long hits, long lookups) {
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * Check if current user is admin
+     */
+    private boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(authority -> authority.equals("ROLE_ADMIN"));
+    }
+
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static class Counters {
+        LongAdder hits = new LongAdder();
+        LongAdder misses = new LongAdder();
+        LongAdder bypassed = new LongAdder();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static class HotQuery {
+        SearchTarget target;
+        String query;
+        LongAdder lookups;
+        LongAdder hits;
+    }
+}
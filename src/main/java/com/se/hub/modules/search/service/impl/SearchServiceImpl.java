@@ -11,29 +11,67 @@ import com.se.hub.modules.exam.dto.response.ExamResponse;
 import com.se.hub.modules.exam.service.ExamService;
 import com.se.hub.modules.profile.dto.response.ProfileResponse;
 import com.se.hub.modules.profile.service.api.ProfileService;
+import com.se.hub.modules.search.budget.SourceStatementDeadline;
+import com.se.hub.modules.search.constant.SearchBudgetConstants;
 import com.se.hub.modules.search.dto.request.SearchRequest;
 import com.se.hub.modules.search.dto.response.SearchResponse;
+import com.se.hub.modules.search.dto.response.SearchSourceLatencyResponse;
 import com.se.hub.modules.search.dto.response.SearchUserResponse;
+import com.se.hub.modules.search.enums.SearchSourceOutcome;
 import com.se.hub.modules.search.enums.SearchTarget;
 import com.se.hub.modules.search.exception.SearchErrorCode;
+import com.se.hub.modules.search.metrics.SearchLatencyHistogram;
 import com.se.hub.modules.search.service.SearchService;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
+/**
+ * Global search fanned out over the blog, exam and people searches on virtual threads.
+ *
+ * The request has a deadline and every source a time budget (capped by the deadline). A source runs
+ * in its own read-only transaction; before each of its statements statement_timeout is set to the
+ * time left in its budget (SourceStatementDeadline), so the budget bounds the whole source rather than
+ * each statement. When the budget ends, or the request deadline passes first, the statement still
+ * running is cancelled with pg_cancel_backend, which aborts the source transaction and frees its
+ * connection. Such sources are left out of the response and listed in timedOut; the others are
+ * returned as a partial response. Latency per source is kept in histograms on each node.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -43,9 +81,38 @@ public class SearchServiceImpl implements SearchService {
     BlogService blogService;
     ExamService examService;
     ProfileService profileService;
+    PlatformTransactionManager transactionManager;
+    EntityManager entityManager;
+    ExecutorService sourceExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    ScheduledExecutorService budgetTimer = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().factory());
+    Map<SearchTarget, SearchLatencyHistogram> latencies = new EnumMap<>(Map.of(
+            SearchTarget.BLOG, new SearchLatencyHistogram(),
+            SearchTarget.EXAM, new SearchLatencyHistogram(),
+            SearchTarget.USER, new SearchLatencyHistogram()));
+
+    @NonFinal
+    @Value("${search.global.deadline:" + SearchBudgetConstants.DEFAULT_DEADLINE + "}")
+    Duration deadline;
+
+    @NonFinal
+    @Value("${search.global.budget.blog:" + SearchBudgetConstants.DEFAULT_SOURCE_BUDGET + "}")
+    Duration blogBudget;
+
+    @NonFinal
+    @Value("${search.global.budget.exam:" + SearchBudgetConstants.DEFAULT_SOURCE_BUDGET + "}")
+    Duration examBudget;
+
+    @NonFinal
+    @Value("${search.global.budget.user:" + SearchBudgetConstants.DEFAULT_SOURCE_BUDGET + "}")
+    Duration userBudget;
+
+    @PreDestroy
+    public void shutdown() {
+        budgetTimer.shutdownNow();
+        sourceExecutor.shutdownNow();
+    }
 
     @Override
-    @Transactional(readOnly = true)
     public SearchResponse search(SearchRequest request) {
         if (request == null) {
             throw SearchErrorCode.KEYWORD_REQUIRED.toException();
@@ -58,55 +125,154 @@ public class SearchServiceImpl implements SearchService {
 
         String keyword = sanitizeKeyword(request.getKeyword());
         Set<SearchTarget> targets = normalizeTargets(request.getTargets());
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
 
-        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
-            CompletableFuture<PagingResponse<BlogResponse>> blogFuture = null;
-            CompletableFuture<PagingResponse<ExamResponse>> examFuture = null;
-            CompletableFuture<PagingResponse<SearchUserResponse>> userFuture = null;
-            List<CompletableFuture<?>> futures = new ArrayList<>();
-
-            if (targets.contains(SearchTarget.BLOG)) {
-                PagingRequest blogPaging = clonePagingRequest(pagingRequest);
-                blogFuture = CompletableFuture.supplyAsync(
-                        () -> blogService.searchBlogs(keyword, blogPaging), executor);
-                futures.add(blogFuture);
-            }
+        SourceCall<PagingResponse<BlogResponse>> blogFuture = null;
+        SourceCall<PagingResponse<ExamResponse>> examFuture = null;
+        SourceCall<PagingResponse<SearchUserResponse>> userFuture = null;
 
-            if (targets.contains(SearchTarget.EXAM)) {
-                PagingRequest examPaging = clonePagingRequest(pagingRequest);
-                examFuture = CompletableFuture.supplyAsync(
-                        () -> examService.searchExams(keyword, examPaging), executor);
-                futures.add(examFuture);
-            }
+        if (targets.contains(SearchTarget.BLOG)) {
+            PagingRequest blogPaging = clonePagingRequest(pagingRequest);
+            blogFuture = submit(SearchTarget.BLOG, blogBudget,
+                    () -> blogService.searchBlogs(keyword, blogPaging));
+        }
 
-            if (targets.contains(SearchTarget.USER)) {
-                PagingRequest userPaging = clonePagingRequest(pagingRequest);
-                userFuture = CompletableFuture.supplyAsync(
-                        () -> mapToUserSearchResponse(profileService.searchProfiles(keyword, userPaging)), executor);
-                futures.add(userFuture);
-            }
+        if (targets.contains(SearchTarget.EXAM)) {
+            PagingRequest examPaging = clonePagingRequest(pagingRequest);
+            examFuture = submit(SearchTarget.EXAM, examBudget,
+                    () -> examService.searchExams(keyword, examPaging));
+        }
+
+        if (targets.contains(SearchTarget.USER)) {
+            PagingRequest userPaging = clonePagingRequest(pagingRequest);
+            userFuture = submit(SearchTarget.USER, userBudget,
+                    () -> mapToUserSearchResponse(profileService.searchProfiles(keyword, userPaging)));
+        }
+
+        if (blogFuture == null && examFuture == null && userFuture == null) {
+            throw SearchErrorCode.TARGET_REQUIRED.toException();
+        }
 
-            waitForAll(futures);
+        // Sources run concurrently, so waiting on them in turn still ends by the deadline
+        List<SearchTarget> timedOut = new ArrayList<>();
+        SearchResponse response = SearchResponse.builder()
+                .blogs(await(SearchTarget.BLOG, blogFuture, deadlineNanos, timedOut))
+                .exams(await(SearchTarget.EXAM, examFuture, deadlineNanos, timedOut))
+                .users(await(SearchTarget.USER, userFuture, deadlineNanos, timedOut))
+                .partial(!timedOut.isEmpty())
+                .timedOut(timedOut)
+                .build();
+        if (response.isPartial()) {
+            log.warn("SearchService_search_Partial response, timed out: {}", timedOut);
+        }
+        return response;
+    }
 
-            return SearchResponse.builder()
-                    .blogs(joinFuture(blogFuture))
-                    .exams(joinFuture(examFuture))
-                    .users(joinFuture(userFuture))
-                    .build();
+    @Override
+    public List<SearchSourceLatencyResponse> getLatencyStatistics() {
+        if (!isAdmin()) {
+            log.error("SearchService_getLatencyStatistics_Current user is not admin");
+            throw new AppException(ErrorCode.AUTHZ_UNAUTHORIZED);
         }
+        return latencies.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .toList();
     }
 
-    private void waitForAll(List<CompletableFuture<?>> futures) {
-        CompletableFuture<?>[] futureArray = futures.stream()
-                .filter(Objects::nonNull)
-                .toArray(CompletableFuture[]::new);
-        if (futureArray.length == 0) {
-            throw SearchErrorCode.TARGET_REQUIRED.toException();
+    private <T> SourceCall<T> submit(SearchTarget source, Duration budget, Supplier<T> search) {
+        long budgetMillis = Math.max(1, Math.min(budget.toMillis(), deadline.toMillis()));
+        SourceRun run = new SourceRun(source, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis));
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> runWithinBudget(run, budgetMillis, search),
+                sourceExecutor);
+        // Cancel whatever statement the source is still running when its budget ends
+        ScheduledFuture<?> timer = budgetTimer.schedule(() -> sourceExecutor.execute(() -> cancel(run)),
+                budgetMillis, TimeUnit.MILLISECONDS);
+        future.whenComplete((result, error) -> timer.cancel(false));
+        return new SourceCall<>(future, run);
+    }
+
+    /**
+     * Run one source in its own read-only transaction, every statement bounded by the time left in its budget
+     */
+    private <T> T runWithinBudget(SourceRun run, long budgetMillis, Supplier<T> search) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        long start = System.nanoTime();
+        try {
+            T result = transactionTemplate.execute(status -> SourceStatementDeadline.run(run.getDeadlineNanos(), () -> {
+                Number pid = (Number) entityManager.createNativeQuery(SearchBudgetConstants.BACKEND_PID_SQL)
+                        .getSingleResult();
+                run.attach(pid.intValue());
+                try {
+                    return search.get();
+                } finally {
+                    // Before commit: the connection must not be cancelled once it can go back to the pool
+                    run.detach();
+                }
+            }));
+            latencies.get(run.getSource()).record(elapsedMillis(start), SearchSourceOutcome.COMPLETED);
+            return result;
+        } catch (RuntimeException e) {
+            boolean timedOut = isStatementTimeout(e);
+            latencies.get(run.getSource()).record(elapsedMillis(start),
+                    timedOut ? SearchSourceOutcome.TIMED_OUT : SearchSourceOutcome.FAILED);
+            if (timedOut) {
+                log.warn("SearchService_runWithinBudget_{} search cancelled at its {} ms budget", run.getSource(), budgetMillis);
+            }
+            throw e;
         }
+    }
+
+    /**
+     * Cancel the statement a source is running, if it is still inside its transaction
+     */
+    private void cancel(SourceRun run) {
+        run.getLock().lock();
         try {
-            CompletableFuture.allOf(futureArray).join();
-        } catch (CompletionException ex) {
-            Throwable cause = ex.getCause();
+            if (run.getBackendPid() == null) {
+                return;
+            }
+            TransactionTemplate cancelTemplate = new TransactionTemplate(transactionManager);
+            cancelTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            cancelTemplate.execute(status -> entityManager.createNativeQuery(SearchBudgetConstants.CANCEL_BACKEND_SQL)
+                    .setParameter(SearchBudgetConstants.PARAM_PID, run.getBackendPid())
+                    .getSingleResult());
+            log.debug("SearchService_cancel_Cancelled {} search on backend {}", run.getSource(), run.getBackendPid());
+        } catch (RuntimeException e) {
+            log.warn("SearchService_cancel_Failed to cancel {} search: {}", run.getSource(), e.getMessage());
+        } finally {
+            run.getLock().unlock();
+        }
+    }
+
+    /**
+     * Result of a source, or null (and the source added to timedOut) when it ran out of time
+     */
+    private <T> T await(SearchTarget source, SourceCall<T> call, long deadlineNanos, List<SearchTarget> timedOut) {
+        if (call == null) {
+            return null;
+        }
+        try {
+            return call.getFuture().get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Stop the source now rather than at its budget: its statement is cancelled and its connection freed
+            call.getFuture().cancel(true);
+            sourceExecutor.execute(() -> cancel(call.getRun()));
+            latencies.get(source).recordDeadlineMiss();
+            timedOut.add(source);
+            return null;
+        } catch (CancellationException e) {
+            timedOut.add(source);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppException(ErrorCode.SERVER_UNCATEGORIZED_EXCEPTION);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (isStatementTimeout(cause)) {
+                timedOut.add(source);
+                return null;
+            }
             if (cause instanceof RuntimeException runtimeException) {
                 throw runtimeException;
             }
@@ -114,6 +280,29 @@ public class SearchServiceImpl implements SearchService {
         }
     }
 
+    /**
+     * Whether the failure is PostgreSQL cancelling a statement (statement_timeout, pg_cancel_backend or a passed deadline)
+     * (translated by Hibernate/Spring into a query timeout, or still a raw SQLException)
+     */
+    private static boolean isStatementTimeout(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof QueryTimeoutException
+                    || cause instanceof jakarta.persistence.QueryTimeoutException
+                    || cause instanceof org.hibernate.QueryTimeoutException) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException
+                    && SearchBudgetConstants.SQL_STATE_QUERY_CANCELED.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
     private String sanitizeKeyword(String keyword) {
         String sanitized = keyword == null ? "" : keyword.trim();
         if (sanitized.isBlank()) {
@@ -141,6 +330,8 @@ public class SearchServiceImpl implements SearchService {
                 .page(source.getPage())
                 .pageSize(source.getPageSize())
                 .sortRequest(clonedSort)
+                .cursor(source.getCursor())
+                .includeTotal(source.getIncludeTotal())
                 .build();
     }
 
@@ -180,10 +371,60 @@ public class SearchServiceImpl implements SearchService {
                 .build();
     }
 
-    private <T> T joinFuture(CompletableFuture<T> future) {
-        return future == null ? null : future.join();
+    @Getter
+    @AllArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static class SourceCall<T> {
+        CompletableFuture<T> future;
+        SourceRun run;
     }
-}
 
+    /**
+     * Backend of a running source; the lock keeps a cancel from reaching the connection once it is released
+     */
+    @Getter
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private static class SourceRun {
+        final SearchTarget source;
+        final long deadlineNanos;
+        final ReentrantLock lock = new ReentrantLock();
+        Integer backendPid;
+
+        SourceRun(SearchTarget source, long deadlineNanos) {
+            this.source = source;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        void attach(int pid) {
+            lock.lock();
+            try {
+                backendPid = pid;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void detach() {
+            lock.lock();
+            try {
+                backendPid = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
 
+    /**
+     * Check if current user is admin
+     */
+    private boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
 
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(authority -> authority.equals("ROLE_ADMIN"));
+    }
+}
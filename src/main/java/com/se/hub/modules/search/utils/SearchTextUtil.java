@@ -0,0 +1,128 @@
+package com.se.hub.modules.search.utils;
+
+import com.se.hub.modules.search.constant.SearchIndexConstants;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Text analysis shared by the search index and its queries.
+ *
+ * Text is lower-cased and Latin diacritics are folded ("Đặng Ngọc" -> "dang ngoc"), so users can
+ * search Vietnamese without accents. Letters and digits form words; Han, Kana and Hangul runs have
+ * no spaces between words and are split into overlapping character bigrams instead.
+ */
+public final class SearchTextUtil {
+
+    // Marks after code points below this are Latin diacritics; above it (e.g. Kana dakuten) they are kept
+    private static final int LATIN_MARK_LIMIT = 0x2000;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SearchTextUtil() {}
+
+    /**
+     * Lower-case and strip Latin diacritics
+     */
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        int base = 0;
+        for (int i = 0; i < decomposed.length(); ) {
+            int codePoint = decomposed.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.getType(codePoint) == Character.NON_SPACING_MARK && base < LATIN_MARK_LIMIT) {
+                continue;
+            }
+            base = codePoint;
+            // đ has no decomposition
+            folded.appendCodePoint(codePoint == 'đ' ? 'd' : codePoint);
+        }
+        return Normalizer.normalize(folded, Normalizer.Form.NFC);
+    }
+
+    /**
+     * Canonical form of a typed query for result caching: NFC, lower-cased, whitespace collapsed.
+     * Diacritics are kept; fold the result as well for searches that ignore accents.
+     */
+    public static String normalizeQuery(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return "";
+        }
+        String composed = Normalizer.normalize(keyword, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(composed).replaceAll(" ").trim();
+    }
+
+    /**
+     * Split text into index terms (duplicates kept, in order)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        String folded = fold(text);
+        StringBuilder word = new StringBuilder();
+        List<Integer> cjkRun = new ArrayList<>();
+        for (int i = 0; i < folded.length(); ) {
+            int codePoint = folded.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (isCjk(codePoint)) {
+                flushWord(word, tokens);
+                cjkRun.add(codePoint);
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                flushCjkRun(cjkRun, tokens);
+                word.appendCodePoint(codePoint);
+            } else {
+                flushWord(word, tokens);
+                flushCjkRun(cjkRun, tokens);
+            }
+        }
+        flushWord(word, tokens);
+        flushCjkRun(cjkRun, tokens);
+        return tokens;
+    }
+
+    /**
+     * Distinct query terms, capped at MAX_QUERY_TERMS
+     */
+    public static List<String> queryTerms(String keyword) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(keyword));
+        return terms.stream().limit(SearchIndexConstants.MAX_QUERY_TERMS).toList();
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+
+    private static void flushWord(StringBuilder word, List<String> tokens) {
+        if (word.isEmpty()) {
+            return;
+        }
+        if (word.length() >= SearchIndexConstants.MIN_TOKEN_LENGTH || Character.isDigit(word.charAt(0))) {
+            tokens.add(word.toString());
+        }
+        word.setLength(0);
+    }
+
+    private static void flushCjkRun(List<Integer> run, List<String> tokens) {
+        if (run.isEmpty()) {
+            return;
+        }
+        if (run.size() == 1) {
+            tokens.add(Character.toString(run.getFirst()));
+        }
+        for (int i = 1; i < run.size(); i++) {
+            tokens.add(new StringBuilder().appendCodePoint(run.get(i - 1)).appendCodePoint(run.get(i)).toString());
+        }
+        run.clear();
+    }
+}
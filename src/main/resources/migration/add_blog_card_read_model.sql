@@ -0,0 +1,31 @@
+-- Migration script to add the blog card read model columns
+-- Date: 2026-10-18
+
+-- Card fields served to list endpoints instead of content and the author graph
+ALTER TABLE blogs ADD COLUMN IF NOT EXISTS excerpt VARCHAR(310);
+ALTER TABLE blogs ADD COLUMN IF NOT EXISTS reading_time_minutes INTEGER NOT NULL DEFAULT 1;
+ALTER TABLE blogs ADD COLUMN IF NOT EXISTS author_user_id VARCHAR(255);
+ALTER TABLE blogs ADD COLUMN IF NOT EXISTS author_username VARCHAR(255);
+ALTER TABLE blogs ADD COLUMN IF NOT EXISTS author_name VARCHAR(255);
+ALTER TABLE blogs ADD COLUMN IF NOT EXISTS author_avatar_url VARCHAR(500);
+
+-- Backfill excerpt and reading time (approximation of BlogCardUtil; exact values are
+-- recomputed by the application on the next update of each blog)
+UPDATE blogs b
+SET excerpt = LEFT(t.plain, 300) || CASE WHEN LENGTH(t.plain) > 300 THEN '...' ELSE '' END,
+    reading_time_minutes = GREATEST(1, CEIL(COALESCE(ARRAY_LENGTH(REGEXP_SPLIT_TO_ARRAY(NULLIF(t.plain, ''), ' '), 1), 0) / 200.0))
+FROM (
+    SELECT id,
+           TRIM(REGEXP_REPLACE(REGEXP_REPLACE(REGEXP_REPLACE(content, '<[^>]+>', ' ', 'g'), '[#>*_`~|]+', ' ', 'g'), '\s+', ' ', 'g')) AS plain
+    FROM blogs
+) t
+WHERE b.id = t.id AND b.excerpt IS NULL;
+
+-- Backfill the author snapshot
+UPDATE blogs b
+SET author_user_id = p.user_id,
+    author_username = p.username,
+    author_name = p.full_name,
+    author_avatar_url = p.avt_url
+FROM profile p
+WHERE p.id = b.author_id AND b.author_user_id IS NULL;
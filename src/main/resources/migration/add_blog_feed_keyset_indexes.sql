@@ -0,0 +1,13 @@
+-- Migration script to add keyset pagination indexes for blog feeds
+-- Date: 2026-10-18
+
+-- Partial indexes matching the cursor queries in BlogRepository
+-- (approved blogs only, sort key DESC with id as tie-breaker)
+CREATE INDEX IF NOT EXISTS idx_blogs_approved_create_date_id
+    ON blogs (create_date DESC, id DESC) WHERE is_approved = true;
+
+CREATE INDEX IF NOT EXISTS idx_blogs_approved_view_count_id
+    ON blogs (view_count DESC, id DESC) WHERE is_approved = true;
+
+CREATE INDEX IF NOT EXISTS idx_blogs_approved_reaction_count_id
+    ON blogs (reaction_count DESC, id DESC) WHERE is_approved = true;
@@ -0,0 +1,18 @@
+-- Migration script to add full-text search to blogs
+-- Date: 2026-10-18
+
+-- Weighted search document kept in sync by PostgreSQL itself:
+-- A = excerpt (the lede, blogs have no title), B = content, C = author name.
+-- 'simple' config: no stemming or stop words, content is mixed Vietnamese/English.
+-- HTML tags are recognized by the parser and left out of the vector.
+ALTER TABLE blogs
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(excerpt, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(content, '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(author_name, '')), 'C')
+    ) STORED;
+
+-- GIN index used by BlogRepository full-text queries (search_vector @@ tsquery)
+CREATE INDEX IF NOT EXISTS idx_blogs_search_vector
+    ON blogs USING GIN (search_vector);
@@ -0,0 +1,44 @@
+-- Migration script to add indexed catalog search to documents and courses
+-- Date: 2026-10-18
+-- Requires add_profile_trigram_search.sql (search_normalize function)
+
+-- Weighted search document of a document, accent-free so "giai tich" finds "Giải tích":
+-- A = document name, B = description, C = semester and major.
+ALTER TABLE documents
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', search_normalize(coalesce(document_name, ''))), 'A')
+        || setweight(to_tsvector('simple', search_normalize(coalesce(descript, ''))), 'B')
+        || setweight(to_tsvector('simple', search_normalize(coalesce(semester, '') || ' ' || coalesce(major, ''))), 'C')
+    ) STORED;
+
+-- GIN index used by DocumentRepository catalog queries (search_vector @@ tsquery)
+CREATE INDEX IF NOT EXISTS idx_documents_search_vector
+    ON documents USING GIN (search_vector);
+
+-- Keyset indexes for browsing approved documents without a keyword (newest first),
+-- overall and filtered by course or uploader
+CREATE INDEX IF NOT EXISTS idx_documents_approved_create_date_id
+    ON documents (create_date DESC, id DESC)
+    WHERE is_approved = true;
+
+CREATE INDEX IF NOT EXISTS idx_documents_approved_course_create_date_id
+    ON documents (course_id, create_date DESC, id DESC)
+    WHERE is_approved = true;
+
+CREATE INDEX IF NOT EXISTS idx_documents_approved_uploader_create_date_id
+    ON documents (uploaded_by, create_date DESC, id DESC)
+    WHERE is_approved = true;
+
+-- Weighted search document of a course: A = name, B = short description, C = description
+ALTER TABLE course
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', search_normalize(coalesce(name, ''))), 'A')
+        || setweight(to_tsvector('simple', search_normalize(coalesce(short_description, ''))), 'B')
+        || setweight(to_tsvector('simple', search_normalize(coalesce(description, ''))), 'C')
+    ) STORED;
+
+-- GIN index used by CourseRepository catalog queries
+CREATE INDEX IF NOT EXISTS idx_course_search_vector
+    ON course USING GIN (search_vector);
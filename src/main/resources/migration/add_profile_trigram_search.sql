@@ -0,0 +1,31 @@
+-- Migration script to add fuzzy (trigram) people search on profiles
+-- Date: 2026-10-18
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- Lower-cased, accent-free text ("Đặng Thị Ngọc" -> "dang thi ngoc").
+-- unaccent() is only STABLE (its dictionary could change), the wrapper pins the dictionary
+-- so it can be used in a generated column and an index.
+CREATE OR REPLACE FUNCTION search_normalize(value TEXT)
+    RETURNS TEXT
+    LANGUAGE SQL
+    IMMUTABLE PARALLEL SAFE STRICT
+AS $$
+    SELECT lower(public.unaccent('public.unaccent'::regdictionary, value))
+$$;
+
+-- Normalized full name and username, matched by ProfileRepository.searchProfileHits
+ALTER TABLE profile
+    ADD COLUMN IF NOT EXISTS search_name TEXT
+    GENERATED ALWAYS AS (
+        search_normalize(coalesce(full_name, '') || ' ' || coalesce(username, ''))
+    ) STORED;
+
+-- Trigram index serving the word-similarity operator (<%) and similarity ranking
+CREATE INDEX IF NOT EXISTS idx_profile_search_name_trgm
+    ON profile USING GIN (search_name gin_trgm_ops);
+
+-- Exact (case-insensitive) email lookup when the keyword is an email address
+CREATE INDEX IF NOT EXISTS idx_profile_email_lower
+    ON profile (lower(email));
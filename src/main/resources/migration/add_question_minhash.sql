@@ -0,0 +1,17 @@
+-- Migration script to add MinHash / LSH near-duplicate detection columns to questions
+-- Date: 2026-10-18
+
+-- 64 x int4 MinHash signature of the normalized question + options text (256 bytes)
+ALTER TABLE question
+    ADD COLUMN IF NOT EXISTS minhash_signature BYTEA;
+
+-- 16 LSH band keys of the signature; a candidate lookup is one array-overlap (&&) probe
+ALTER TABLE question
+    ADD COLUMN IF NOT EXISTS minhash_bands BIGINT[];
+
+CREATE INDEX IF NOT EXISTS idx_question_minhash_bands
+    ON question USING GIN (minhash_bands);
+
+-- Existing questions are left NULL here: signatures need the option texts and are computed by the
+-- application: run POST /questions/duplicates/backfill (Admin) once after deploying, before
+-- GET /questions/duplicates, which only reports questions that already have a signature
@@ -0,0 +1,14 @@
+-- Migration script to add indexes for the season leaderboard pipeline
+-- Date: 2026-10-18
+
+-- Keyset scan of XP-earning events in (create_date, id) order, used by the live aggregation
+-- (GamificationEventLogRepository.findSeasonXpEventsAfter) and the range scan of the final snapshot;
+-- covering, so neither has to visit the heap
+CREATE INDEX IF NOT EXISTS idx_gamification_event_log_xp_create_date_id
+    ON gamification_event_log (create_date, id)
+    INCLUDE (gamification_profile_id, xp_delta)
+    WHERE xp_delta > 0;
+
+-- Paged standings of a finalized season in rank order
+CREATE INDEX IF NOT EXISTS idx_season_leaderboard_season_rank
+    ON season_leaderboard (season_id, final_rank, gamification_profile_id);
@@ -0,0 +1,80 @@
+-- Benchmark script comparing blog search with LIKE vs full-text search
+-- Date: 2026-10-18
+--
+-- Seeds 100k synthetic blogs into a TEMP table (session only, real data is untouched)
+-- with the same search_vector definition and GIN index as add_blog_search_vector.sql,
+-- then prints EXPLAIN ANALYZE of the old LIKE query and of the ranked full-text query.
+
+\timing on
+
+CREATE TEMP TABLE bench_blogs (
+    id VARCHAR(64) PRIMARY KEY,
+    content TEXT NOT NULL,
+    excerpt VARCHAR(310),
+    author_name VARCHAR(255),
+    is_approved BOOLEAN NOT NULL,
+    search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(excerpt, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(content, '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(author_name, '')), 'C')
+    ) STORED
+);
+
+-- 100k blogs of 150-250 words drawn from a small vocabulary; 'kubernetes' and 'graphql'
+-- are rare on purpose so both selective and broad queries are measured
+WITH vocab AS (
+    SELECT ARRAY[
+        'java', 'spring', 'boot', 'redis', 'cache', 'postgres', 'index', 'query', 'service', 'controller',
+        'entity', 'repository', 'transaction', 'thread', 'virtual', 'stream', 'lambda', 'record', 'interface', 'class',
+        'design', 'pattern', 'clean', 'code', 'review', 'test', 'deploy', 'docker', 'cloud', 'network',
+        'algorithm', 'graph', 'tree', 'array', 'hash', 'sort', 'search', 'binary', 'dynamic', 'programming',
+        'exam', 'course', 'student', 'lecture', 'project', 'team', 'agile', 'scrum', 'sprint', 'backlog',
+        'react', 'frontend', 'backend', 'api', 'rest', 'json', 'security', 'token', 'login', 'performance'
+    ] AS words
+)
+INSERT INTO bench_blogs (id, content, excerpt, author_name, is_approved)
+SELECT 'bench-' || i,
+       body.text || CASE WHEN i % 1000 = 0 THEN ' kubernetes' WHEN i % 97 = 0 THEN ' graphql' ELSE '' END,
+       left(body.text, 300),
+       'Author ' || (i % 500),
+       i % 10 <> 0
+FROM generate_series(1, 100000) AS i
+CROSS JOIN vocab
+CROSS JOIN LATERAL (
+    SELECT string_agg(vocab.words[1 + floor(random() * array_length(vocab.words, 1))::int], ' ') AS text
+    FROM generate_series(1, 150 + i % 100)
+) body;
+
+CREATE INDEX idx_bench_blogs_search_vector ON bench_blogs USING GIN (search_vector);
+ANALYZE bench_blogs;
+
+-- Old search: LIKE '%keyword%' over content and author name (sequential scan)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM bench_blogs
+WHERE is_approved = true
+  AND (LOWER(content) LIKE '%kubernetes%' OR LOWER(COALESCE(author_name, '')) LIKE '%kubernetes%')
+LIMIT 20;
+
+-- New search, selective keyword: GIN lookup, rank only the matches
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, ts_rank(search_vector, websearch_to_tsquery('simple', 'kubernetes')) AS rank
+FROM bench_blogs
+WHERE is_approved = true AND search_vector @@ websearch_to_tsquery('simple', 'kubernetes')
+ORDER BY rank DESC, id DESC
+LIMIT 20;
+
+-- Broad multi-word query on both paths
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM bench_blogs
+WHERE is_approved = true
+  AND (LOWER(content) LIKE '%graphql%' AND LOWER(content) LIKE '%redis%')
+LIMIT 20;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, ts_rank(search_vector, websearch_to_tsquery('simple', 'graphql redis')) AS rank
+FROM bench_blogs
+WHERE is_approved = true AND search_vector @@ websearch_to_tsquery('simple', 'graphql redis')
+ORDER BY rank DESC, id DESC
+LIMIT 20;
+
+DROP TABLE bench_blogs;
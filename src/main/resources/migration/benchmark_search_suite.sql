@@ -0,0 +1,540 @@
+-- Search benchmark and relevance regression suite
+-- Date: 2026-10-18
+-- Requires add_profile_trigram_search.sql (pg_trgm, unaccent, search_normalize)
+--
+-- Builds a synthetic Vietnamese/Japanese/English corpus in TEMP tables (session only, real data
+-- is untouched) with the same search columns and indexes as the migrations, then:
+--   1. replays a query log against every search path and prints p50/p95/p99 latency per path
+--   2. runs the judged queries and prints NDCG@10 per query and per path
+-- The corpus is generated from a fixed seed, so runs on the same PostgreSQL version produce the
+-- same data and the same rankings; only the latency depends on the machine.
+--
+-- Search paths and the repository queries they mirror:
+--   BLOG      BlogRepository.searchApprovedHits        full-text on search_vector (accents kept)
+--   EXAM      ExamRepository.searchByKeyword           LOWER(...) LIKE '%keyword%', newest first,
+--                                                      count query when the page is full
+--   USER      ProfileRepository.searchProfileHits      pg_trgm word similarity on search_name
+--   DOCUMENT  DocumentRepository.searchCatalogHits     accent-free full-text, no catalog filters
+--   GLOBAL    SearchServiceImpl.search (GET /search)   BLOG, EXAM and USER for one keyword; the service
+--                                                      runs them concurrently, each within its budget
+
+\set ON_ERROR_STOP on
+\timing off
+
+-- Corpus size per path
+\set blog_count 50000
+\set exam_count 20000
+\set profile_count 50000
+\set document_count 20000
+
+-- Same as search.global.deadline and search.global.budget.* (ms)
+\set global_deadline_ms 2000
+\set global_budget_ms 1500
+
+SELECT setseed(0.20261018);
+
+-- Same minimum as profile.search.min-similarity
+SET pg_trgm.word_similarity_threshold = 0.4;
+
+--===== VOCABULARY ======
+
+CREATE TEMP TABLE bench_vocab (
+    lang TEXT PRIMARY KEY,
+    words TEXT[] NOT NULL
+);
+
+-- Japanese words are separated by spaces: the 'simple' parser does not segment CJK text,
+-- so unsegmented Japanese queries are expected to miss (see the judged queries below)
+INSERT INTO bench_vocab (lang, words) VALUES
+    ('en', ARRAY[
+        'java', 'spring', 'redis', 'cache', 'postgres', 'index', 'query', 'service', 'thread', 'stream',
+        'algorithm', 'graph', 'tree', 'array', 'hash', 'sort', 'binary', 'dynamic', 'programming', 'exam',
+        'course', 'student', 'lecture', 'project', 'team', 'security', 'token', 'performance', 'network', 'docker',
+        'cloud', 'design', 'pattern', 'review', 'test', 'api', 'json', 'backend', 'frontend', 'database']),
+    ('vi', ARRAY[
+        'lập', 'trình', 'cơ', 'sở', 'dữ', 'liệu', 'thuật', 'toán', 'cấu', 'trúc',
+        'mạng', 'máy', 'tính', 'bài', 'giảng', 'đề', 'thi', 'ôn', 'tập', 'học',
+        'kỳ', 'sinh', 'viên', 'phần', 'mềm', 'kiểm', 'thử', 'bảo', 'mật', 'hệ',
+        'thống', 'phân', 'tích', 'thiết', 'kế', 'đồ', 'án', 'giải', 'đại', 'số']),
+    ('ja', ARRAY[
+        '日本語', '文法', '漢字', '単語', '読解', '聴解', '試験', '勉強', '練習', '問題',
+        '会話', '語彙', 'ひらがな', 'カタカナ', '敬語', '助詞', '動詞', '形容詞', '作文', '発音']);
+
+CREATE FUNCTION pg_temp.bench_pick(choices TEXT[]) RETURNS TEXT
+    LANGUAGE SQL VOLATILE
+AS $$
+    SELECT choices[1 + floor(random() * cardinality(choices))::int]
+$$;
+
+-- word_count random words of one language
+CREATE FUNCTION pg_temp.bench_text(lang_code TEXT, word_count INT) RETURNS TEXT
+    LANGUAGE SQL VOLATILE
+AS $$
+    SELECT string_agg(pg_temp.bench_pick(v.words), ' ')
+    FROM bench_vocab v
+    CROSS JOIN generate_series(1, word_count)
+    WHERE v.lang = lang_code
+$$;
+
+-- Half Vietnamese, 30% English, 20% Japanese
+CREATE FUNCTION pg_temp.bench_lang(i INT) RETURNS TEXT
+    LANGUAGE SQL IMMUTABLE
+AS $$
+    SELECT CASE WHEN i % 10 < 5 THEN 'vi' WHEN i % 10 < 8 THEN 'en' ELSE 'ja' END
+$$;
+
+--===== CORPUS ======
+
+CREATE TEMP TABLE bench_blogs (
+    id VARCHAR(64) PRIMARY KEY,
+    content TEXT NOT NULL,
+    excerpt VARCHAR(310),
+    author_name VARCHAR(255),
+    is_approved BOOLEAN NOT NULL,
+    search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(excerpt, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(content, '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(author_name, '')), 'C')
+    ) STORED
+);
+
+INSERT INTO bench_blogs (id, content, excerpt, author_name, is_approved)
+SELECT 'bench-blog-' || i, body.text, left(body.text, 300), 'Author ' || (i % 500), i % 10 <> 0
+FROM generate_series(1, :blog_count) AS i
+CROSS JOIN LATERAL (SELECT pg_temp.bench_text(pg_temp.bench_lang(i), 80 + i % 120) AS text) body;
+
+CREATE TEMP TABLE bench_exams (
+    id VARCHAR(64) PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    create_date TIMESTAMPTZ NOT NULL
+);
+
+INSERT INTO bench_exams (id, title, description, create_date)
+SELECT 'bench-exam-' || i,
+       pg_temp.bench_text(pg_temp.bench_lang(i), 4 + i % 5),
+       pg_temp.bench_text(pg_temp.bench_lang(i), 20 + i % 20),
+       TIMESTAMPTZ '2026-01-01' + i * INTERVAL '10 minutes'
+FROM generate_series(1, :exam_count) AS i;
+
+CREATE TEMP TABLE bench_profiles (
+    id VARCHAR(64) PRIMARY KEY,
+    full_name VARCHAR(255),
+    username VARCHAR(255),
+    search_name TEXT GENERATED ALWAYS AS (
+        search_normalize(coalesce(full_name, '') || ' ' || coalesce(username, ''))
+    ) STORED
+);
+
+INSERT INTO bench_profiles (id, full_name, username)
+SELECT 'bench-user-' || i, name.full_name,
+       replace(search_normalize(name.given || '.' || name.family), ' ', '') || i
+FROM generate_series(1, :profile_count) AS i
+CROSS JOIN LATERAL (
+    SELECT CASE pg_temp.bench_lang(i)
+               WHEN 'vi' THEN pg_temp.bench_pick(ARRAY['Nguyễn', 'Trần', 'Lê', 'Phạm', 'Hoàng', 'Huỳnh', 'Phan', 'Vũ', 'Võ', 'Đặng', 'Bùi', 'Đỗ'])
+               WHEN 'ja' THEN pg_temp.bench_pick(ARRAY['Sato', 'Suzuki', 'Takahashi', 'Tanaka', 'Watanabe', 'Ito', 'Yamamoto', 'Nakamura', 'Kobayashi', 'Kato'])
+               ELSE pg_temp.bench_pick(ARRAY['Smith', 'Johnson', 'Brown', 'Taylor', 'Miller', 'Wilson', 'Moore', 'Clark'])
+           END AS family,
+           CASE pg_temp.bench_lang(i)
+               WHEN 'vi' THEN pg_temp.bench_pick(ARRAY['Văn', 'Thị', 'Minh', 'Ngọc', 'Hữu', 'Thanh', 'Quốc', 'Gia'])
+                   || ' ' || pg_temp.bench_pick(ARRAY['An', 'Bình', 'Châu', 'Dũng', 'Giang', 'Hà', 'Hải', 'Hạnh', 'Hiếu', 'Hùng', 'Khánh', 'Lan',
+                                                     'Linh', 'Long', 'Mai', 'Nam', 'Phúc', 'Quân', 'Tâm', 'Thảo', 'Trang', 'Tuấn', 'Vy', 'Yến'])
+               WHEN 'ja' THEN pg_temp.bench_pick(ARRAY['Haruto', 'Yuto', 'Sota', 'Yui', 'Hina', 'Aoi', 'Riku', 'Mei', 'Ren', 'Sakura'])
+               ELSE pg_temp.bench_pick(ARRAY['James', 'Emma', 'Oliver', 'Olivia', 'Noah', 'Ava', 'Liam', 'Sophia'])
+           END AS given
+) parts
+-- Vietnamese names are family name first
+CROSS JOIN LATERAL (
+    SELECT CASE WHEN pg_temp.bench_lang(i) = 'vi' THEN parts.family || ' ' || parts.given
+                ELSE parts.given || ' ' || parts.family END AS full_name,
+           split_part(parts.given, ' ', -1) AS given,
+           parts.family AS family
+) name;
+
+CREATE TEMP TABLE bench_documents (
+    id VARCHAR(64) PRIMARY KEY,
+    document_name VARCHAR(255) NOT NULL,
+    descript TEXT,
+    semester VARCHAR(50),
+    major VARCHAR(100),
+    is_approved BOOLEAN NOT NULL,
+    create_date TIMESTAMPTZ NOT NULL,
+    search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', search_normalize(coalesce(document_name, ''))), 'A')
+        || setweight(to_tsvector('simple', search_normalize(coalesce(descript, ''))), 'B')
+        || setweight(to_tsvector('simple', search_normalize(coalesce(semester, '') || ' ' || coalesce(major, ''))), 'C')
+    ) STORED
+);
+
+INSERT INTO bench_documents (id, document_name, descript, semester, major, is_approved, create_date)
+SELECT 'bench-doc-' || i,
+       pg_temp.bench_text(pg_temp.bench_lang(i), 3 + i % 6),
+       pg_temp.bench_text(pg_temp.bench_lang(i), 15 + i % 30),
+       'HK' || (1 + i % 9),
+       pg_temp.bench_pick(ARRAY['Software Engineering', 'Information Systems', 'Computer Science', 'Japanese Language']),
+       i % 10 <> 0,
+       TIMESTAMPTZ '2026-01-01' + i * INTERVAL '15 minutes'
+FROM generate_series(1, :document_count) AS i;
+
+--===== JUDGED DOCUMENTS ======
+-- Hand-written documents with terms that the random corpus never produces, so only they can be
+-- relevant to the judged queries. Grades: 3 = exactly what was asked for, 2 = clearly relevant,
+-- 1 = partially relevant.
+
+INSERT INTO bench_blogs (id, content, excerpt, author_name, is_approved) VALUES
+    ('rel-blog-1', 'Hướng dẫn kubernetes deploy cho spring boot service từng bước', 'Kubernetes deploy từ A đến Z', 'Author 1', true),
+    ('rel-blog-2', 'Bài viết về docker, cuối bài có phần deploy lên kubernetes', 'Docker cho người mới bắt đầu', 'Author 2', true),
+    ('rel-blog-3', 'So sánh kubernetes và docker swarm', 'Kubernetes hay Swarm', 'Author 3', true),
+    ('rel-blog-4', 'Tổng hợp ngữ pháp N3 kèm ví dụ và bài tập', 'Tổng hợp ngữ pháp N3', 'Author 4', true),
+    ('rel-blog-5', 'Kinh nghiệm ôn thi JLPT: phần ngữ pháp N3 chiếm nhiều điểm nhất', 'Kinh nghiệm ôn thi JLPT', 'Author 5', true),
+    ('rel-blog-6', '助数詞 の 使い方 を まとめました', '助数詞 の 使い方', 'Author 6', true);
+
+-- rel-exam-2 is newer than rel-exam-1, so newest-first order ranks the weaker match first
+INSERT INTO bench_exams (id, title, description, create_date) VALUES
+    ('rel-exam-1', 'Kanji N3 mock test', 'Full kanji N3 mock test with answers', TIMESTAMPTZ '2025-06-01'),
+    ('rel-exam-2', 'Weekly quiz 12', 'Review of vocabulary and kanji N3 readings', TIMESTAMPTZ '2025-07-01'),
+    ('rel-exam-3', 'Đề thi cấu trúc dữ liệu giữa kỳ', 'Đề thi giữa kỳ môn cấu trúc dữ liệu và giải thuật', TIMESTAMPTZ '2025-05-01');
+
+INSERT INTO bench_profiles (id, full_name, username) VALUES
+    ('rel-user-1', 'Đặng Ngọc Quyên', 'quyen.dang'),
+    ('rel-user-2', 'Trần Quyên', 'tranquyen'),
+    ('rel-user-3', 'Takeshi Kaneshiro', 'takeshi.k'),
+    ('rel-user-4', 'Margaret Hamilton', 'mhamilton');
+
+INSERT INTO bench_documents (id, document_name, descript, semester, major, is_approved, create_date) VALUES
+    ('rel-doc-1', 'Giải tích 2 - Đề cương', 'Đề cương ôn tập giải tích 2', 'HK2', 'Computer Science', true, TIMESTAMPTZ '2025-03-01'),
+    ('rel-doc-2', 'Bài tập tích phân', 'Bài tập chương 3 giải tích 2 có lời giải', 'HK2', 'Computer Science', true, TIMESTAMPTZ '2025-03-02'),
+    ('rel-doc-3', 'JLPT N2 読解 問題集', 'JLPT N2 読解 練習', 'HK5', 'Japanese Language', true, TIMESTAMPTZ '2025-04-01'),
+    ('rel-doc-4', 'JLPT N2 単語 リスト', 'JLPT N2 vocabulary list', 'HK5', 'Japanese Language', true, TIMESTAMPTZ '2025-04-02');
+
+CREATE INDEX idx_bench_blogs_search_vector ON bench_blogs USING GIN (search_vector);
+CREATE INDEX idx_bench_profiles_search_name_trgm ON bench_profiles USING GIN (search_name gin_trgm_ops);
+CREATE INDEX idx_bench_documents_search_vector ON bench_documents USING GIN (search_vector);
+ANALYZE bench_blogs;
+ANALYZE bench_exams;
+ANALYZE bench_profiles;
+ANALYZE bench_documents;
+
+CREATE TEMP TABLE bench_judgements (
+    path TEXT NOT NULL,
+    query TEXT NOT NULL,
+    doc_id TEXT NOT NULL,
+    grade INT NOT NULL,
+    PRIMARY KEY (path, query, doc_id)
+);
+
+-- Unaccented and unsegmented variants are judged like the original query: a path that
+-- cannot match them scores 0, which is the baseline a search change should improve
+INSERT INTO bench_judgements (path, query, doc_id, grade) VALUES
+    ('BLOG', 'kubernetes deploy', 'rel-blog-1', 3),
+    ('BLOG', 'kubernetes deploy', 'rel-blog-2', 2),
+    ('BLOG', 'kubernetes deploy', 'rel-blog-3', 1),
+    ('BLOG', 'ngữ pháp N3', 'rel-blog-4', 3),
+    ('BLOG', 'ngữ pháp N3', 'rel-blog-5', 2),
+    ('BLOG', 'ngu phap N3', 'rel-blog-4', 3),
+    ('BLOG', 'ngu phap N3', 'rel-blog-5', 2),
+    ('BLOG', '助数詞', 'rel-blog-6', 3),
+    ('BLOG', '助数詞の使い方', 'rel-blog-6', 3),
+    ('EXAM', 'kanji n3', 'rel-exam-1', 3),
+    ('EXAM', 'kanji n3', 'rel-exam-2', 2),
+    ('EXAM', 'đề thi cấu trúc dữ liệu', 'rel-exam-3', 3),
+    ('EXAM', 'de thi cau truc du lieu', 'rel-exam-3', 3),
+    ('USER', 'dang ngoc quyen', 'rel-user-1', 3),
+    ('USER', 'dang ngoc quyen', 'rel-user-2', 1),
+    ('USER', 'quyên', 'rel-user-1', 3),
+    ('USER', 'quyên', 'rel-user-2', 3),
+    ('USER', 'takesi', 'rel-user-3', 3),
+    ('USER', 'hamilton', 'rel-user-4', 3),
+    ('DOCUMENT', 'giai tich 2', 'rel-doc-1', 3),
+    ('DOCUMENT', 'giai tich 2', 'rel-doc-2', 2),
+    ('DOCUMENT', 'JLPT N2 読解', 'rel-doc-3', 3),
+    ('DOCUMENT', 'JLPT N2 読解', 'rel-doc-4', 1);
+
+--===== SEARCH PATHS ======
+-- $1 = keyword (normalized the way the service does it), $2 = page size.
+-- Every query returns id in result order.
+
+CREATE TEMP TABLE bench_paths (
+    path TEXT PRIMARY KEY,
+    search_sql TEXT NOT NULL,
+    -- Run when the page is full, like Spring Data's Page count query
+    count_sql TEXT
+);
+
+INSERT INTO bench_paths (path, search_sql, count_sql) VALUES
+    ('BLOG', $sql$
+        SELECT p.id, p.rank,
+               ts_headline('simple', regexp_replace(b.content, '<[^>]+>', ' ', 'g'),
+                           websearch_to_tsquery('simple', $1),
+                           'StartSel=<mark>, StopSel=</mark>, MaxWords=35, MinWords=15, ShortWord=2, MaxFragments=2, FragmentDelimiter=" ... "') AS highlight
+        FROM (
+            SELECT b.id AS id, ts_rank(b.search_vector, websearch_to_tsquery('simple', $1)) AS rank
+            FROM bench_blogs b
+            WHERE b.is_approved = true AND b.search_vector @@ websearch_to_tsquery('simple', $1)
+            ORDER BY rank DESC, id DESC
+            LIMIT $2
+        ) p
+        JOIN bench_blogs b ON b.id = p.id
+        ORDER BY p.rank DESC, p.id DESC
+    $sql$, NULL),
+    ('EXAM', $sql$
+        SELECT e.id, e.title, e.description
+        FROM bench_exams e
+        WHERE lower(e.title) LIKE lower('%' || $1 || '%')
+           OR lower(coalesce(e.description, '')) LIKE lower('%' || $1 || '%')
+        ORDER BY e.create_date DESC
+        LIMIT $2
+    $sql$, $sql$
+        SELECT count(e.id)
+        FROM bench_exams e
+        WHERE lower(e.title) LIKE lower('%' || $1 || '%')
+           OR lower(coalesce(e.description, '')) LIKE lower('%' || $1 || '%')
+    $sql$),
+    ('USER', $sql$
+        SELECT p.id, word_similarity(search_normalize($1), p.search_name) AS score
+        FROM bench_profiles p
+        WHERE search_normalize($1) <% p.search_name
+        ORDER BY score DESC, similarity(search_normalize($1), p.search_name) DESC, p.id
+        LIMIT $2
+    $sql$, NULL),
+    ('DOCUMENT', $sql$
+        SELECT d.id, ts_rank(d.search_vector, websearch_to_tsquery('simple', search_normalize($1))) AS rank
+        FROM bench_documents d
+        WHERE d.is_approved = true
+          AND d.search_vector @@ websearch_to_tsquery('simple', search_normalize($1))
+        ORDER BY rank DESC, id DESC
+        LIMIT $2
+    $sql$, NULL);
+
+--===== QUERY LOG ======
+-- Head queries (common words, large match sets) repeat more than tail queries (rare words,
+-- typos, unaccented input). To replay a real log instead, replace this INSERT with
+--   \copy bench_query_log (path, query, repeat) FROM 'query_log.csv' CSV
+
+CREATE TEMP TABLE bench_query_log (
+    seq SERIAL PRIMARY KEY,
+    path TEXT NOT NULL,
+    query TEXT NOT NULL,
+    repeat INT NOT NULL
+);
+
+INSERT INTO bench_query_log (path, query, repeat) VALUES
+    ('BLOG', 'java', 30), ('BLOG', 'spring redis', 20), ('BLOG', 'cơ sở dữ liệu', 20), ('BLOG', 'thuật toán', 15),
+    ('BLOG', '日本語', 10), ('BLOG', 'kubernetes', 5), ('BLOG', 'ngữ pháp N3', 5), ('BLOG', 'co so du lieu', 5),
+    ('BLOG', 'java -spring', 5), ('BLOG', '"binary tree"', 5),
+    ('EXAM', 'java', 30), ('EXAM', 'đề thi', 20), ('EXAM', 'kanji n3', 10), ('EXAM', '文法', 10),
+    ('EXAM', 'cấu trúc dữ liệu', 10), ('EXAM', 'de thi', 5), ('EXAM', 'graphql', 5),
+    ('USER', 'nguyen', 30), ('USER', 'linh', 20), ('USER', 'tanaka', 15), ('USER', 'nguyễn thị lan', 10),
+    ('USER', 'smtih', 5), ('USER', 'dang ngoc quyen', 5), ('USER', 'takesi', 5), ('USER', 'hamilton', 5),
+    ('DOCUMENT', 'giai tich', 20), ('DOCUMENT', 'cơ sở dữ liệu', 20), ('DOCUMENT', 'database', 15),
+    ('DOCUMENT', '読解', 10), ('DOCUMENT', 'JLPT N2 読解', 5), ('DOCUMENT', 'HK2', 5),
+    ('GLOBAL', 'java', 30), ('GLOBAL', 'cơ sở dữ liệu', 20), ('GLOBAL', 'nguyen', 15), ('GLOBAL', 'kanji n3', 10),
+    ('GLOBAL', '日本語', 10), ('GLOBAL', 'de thi', 5), ('GLOBAL', 'hamilton', 5);
+
+--===== LATENCY ======
+
+CREATE TEMP TABLE bench_latency (
+    path TEXT NOT NULL,
+    query TEXT NOT NULL,
+    hits INT NOT NULL,
+    millis DOUBLE PRECISION NOT NULL
+);
+
+-- Each log entry runs once untimed to warm the cache, then "repeat" timed times; runs are
+-- interleaved across entries so one query does not keep its pages hot for itself.
+-- count(q.*) reads every selected column, so e.g. the blog headline is not optimized away.
+DO $$
+DECLARE
+    page_size CONSTANT INT := 20;
+    entry RECORD;
+    started TIMESTAMPTZ;
+    hits INT;
+    total BIGINT;
+BEGIN
+    FOR entry IN
+        SELECT l.path, l.query, p.search_sql, p.count_sql, run
+        FROM bench_query_log l
+        JOIN bench_paths p ON p.path = l.path
+        CROSS JOIN LATERAL generate_series(0, l.repeat) AS run
+        ORDER BY run, l.seq
+    LOOP
+        started := clock_timestamp();
+        EXECUTE 'SELECT count(q.*) FROM (' || entry.search_sql || ') q' INTO hits USING entry.query, page_size;
+        IF entry.count_sql IS NOT NULL AND hits = page_size THEN
+            EXECUTE entry.count_sql INTO total USING entry.query;
+        END IF;
+        IF entry.run > 0 THEN
+            INSERT INTO bench_latency (path, query, hits, millis)
+            VALUES (entry.path, entry.query, hits,
+                    extract(EPOCH FROM clock_timestamp() - started) * 1000);
+        END IF;
+    END LOOP;
+END
+$$;
+
+\echo 'Latency per search path (ms)'
+SELECT path,
+       count(*) AS runs,
+       round(avg(millis)::numeric, 2) AS mean,
+       round(percentile_cont(0.50) WITHIN GROUP (ORDER BY millis)::numeric, 2) AS p50,
+       round(percentile_cont(0.95) WITHIN GROUP (ORDER BY millis)::numeric, 2) AS p95,
+       round(percentile_cont(0.99) WITHIN GROUP (ORDER BY millis)::numeric, 2) AS p99,
+       round(max(millis)::numeric, 2) AS max
+FROM bench_latency
+GROUP BY path
+ORDER BY path;
+
+\echo 'Slowest queries (p95 ms)'
+SELECT path, query, max(hits) AS hits,
+       round(percentile_cont(0.95) WITHIN GROUP (ORDER BY millis)::numeric, 2) AS p95
+FROM bench_latency
+GROUP BY path, query
+ORDER BY p95 DESC
+LIMIT 10;
+
+--===== GLOBAL FAN-OUT ======
+-- GET /search runs the BLOG, EXAM and USER searches for one keyword on separate connections at
+-- once. A session cannot do that, so each source is timed on its own here: the request takes as
+-- long as its slowest source (capped by the deadline), and a source over its budget is cancelled
+-- and left out of a partial response. Serial time is what the same request cost before the fan-out.
+-- Only the search queries are timed; the services also load the hits' cards by ID.
+
+CREATE TEMP TABLE bench_fanout (
+    query TEXT NOT NULL,
+    run INT NOT NULL,
+    source TEXT NOT NULL,
+    millis DOUBLE PRECISION NOT NULL
+);
+
+DO $$
+DECLARE
+    page_size CONSTANT INT := 20;
+    entry RECORD;
+    searched RECORD;
+    started TIMESTAMPTZ;
+    hits INT;
+    total BIGINT;
+BEGIN
+    FOR entry IN
+        SELECT l.query, run
+        FROM bench_query_log l
+        CROSS JOIN LATERAL generate_series(0, l.repeat) AS run
+        WHERE l.path = 'GLOBAL'
+        ORDER BY run, l.seq
+    LOOP
+        FOR searched IN
+            SELECT p.path, p.search_sql, p.count_sql
+            FROM bench_paths p
+            WHERE p.path IN ('BLOG', 'EXAM', 'USER')
+        LOOP
+            started := clock_timestamp();
+            EXECUTE 'SELECT count(q.*) FROM (' || searched.search_sql || ') q' INTO hits USING entry.query, page_size;
+            IF searched.count_sql IS NOT NULL AND hits = page_size THEN
+                EXECUTE searched.count_sql INTO total USING entry.query;
+            END IF;
+            IF entry.run > 0 THEN
+                INSERT INTO bench_fanout (query, run, source, millis)
+                VALUES (entry.query, entry.run, searched.path,
+                        extract(EPOCH FROM clock_timestamp() - started) * 1000);
+            END IF;
+        END LOOP;
+    END LOOP;
+END
+$$;
+
+CREATE TEMP VIEW bench_fanout_requests AS
+SELECT query, run,
+       least(max(millis), :global_deadline_ms) AS fanout_millis,
+       sum(millis) AS serial_millis,
+       count(*) FILTER (WHERE millis > least(:global_budget_ms, :global_deadline_ms)) AS sources_timed_out
+FROM bench_fanout
+GROUP BY query, run;
+
+\echo 'Global search fan-out (ms): concurrent sources vs the same sources run one after another'
+SELECT count(*) AS requests,
+       round(percentile_cont(0.50) WITHIN GROUP (ORDER BY fanout_millis)::numeric, 2) AS fanout_p50,
+       round(percentile_cont(0.95) WITHIN GROUP (ORDER BY fanout_millis)::numeric, 2) AS fanout_p95,
+       round(percentile_cont(0.99) WITHIN GROUP (ORDER BY fanout_millis)::numeric, 2) AS fanout_p99,
+       round(percentile_cont(0.50) WITHIN GROUP (ORDER BY serial_millis)::numeric, 2) AS serial_p50,
+       round(percentile_cont(0.95) WITHIN GROUP (ORDER BY serial_millis)::numeric, 2) AS serial_p95,
+       round(100.0 * count(*) FILTER (WHERE sources_timed_out > 0) / count(*), 2) AS partial_pct
+FROM bench_fanout_requests;
+
+\echo 'Global search sources (p95 ms, runs over budget)'
+SELECT source,
+       round(percentile_cont(0.95) WITHIN GROUP (ORDER BY millis)::numeric, 2) AS p95,
+       count(*) FILTER (WHERE millis > least(:global_budget_ms, :global_deadline_ms)) AS over_budget
+FROM bench_fanout
+GROUP BY source
+ORDER BY source;
+
+--===== RELEVANCE ======
+
+CREATE TEMP TABLE bench_results (
+    path TEXT NOT NULL,
+    query TEXT NOT NULL,
+    rank_no INT NOT NULL,
+    doc_id TEXT NOT NULL
+);
+
+DO $$
+DECLARE
+    cutoff CONSTANT INT := 10;
+    judged RECORD;
+BEGIN
+    FOR judged IN
+        SELECT DISTINCT j.path, j.query, p.search_sql
+        FROM bench_judgements j
+        JOIN bench_paths p ON p.path = j.path
+    LOOP
+        EXECUTE 'INSERT INTO bench_results (path, query, rank_no, doc_id) '
+                || 'SELECT $3, $1, row_number() OVER (), q.id FROM (' || judged.search_sql || ') q'
+            USING judged.query, cutoff, judged.path;
+    END LOOP;
+END
+$$;
+
+-- NDCG@10 with gain 2^grade - 1; unjudged results count as grade 0
+CREATE TEMP VIEW bench_ndcg AS
+WITH ranked AS (
+    SELECT r.path, r.query, r.rank_no, coalesce(j.grade, 0) AS grade
+    FROM bench_results r
+    LEFT JOIN bench_judgements j ON j.path = r.path AND j.query = r.query AND j.doc_id = r.doc_id
+),
+actual AS (
+    SELECT path, query, sum((power(2, grade) - 1) / (ln(rank_no + 1) / ln(2))) AS dcg
+    FROM ranked
+    GROUP BY path, query
+),
+ideal AS (
+    SELECT path, query, sum((power(2, grade) - 1) / (ln(ideal_rank + 1) / ln(2))) AS idcg
+    FROM (
+        SELECT path, query, grade,
+               row_number() OVER (PARTITION BY path, query ORDER BY grade DESC) AS ideal_rank
+        FROM bench_judgements
+    ) best
+    WHERE ideal_rank <= 10
+    GROUP BY path, query
+)
+SELECT i.path, i.query, coalesce(a.dcg, 0) / i.idcg AS ndcg
+FROM ideal i
+LEFT JOIN actual a ON a.path = i.path AND a.query = i.query;
+
+\echo 'NDCG@10 per judged query'
+SELECT n.path, n.query, round(n.ndcg::numeric, 4) AS ndcg_at_10,
+       (SELECT string_agg(r.doc_id, ', ' ORDER BY r.rank_no)
+        FROM bench_results r
+        WHERE r.path = n.path AND r.query = n.query AND r.doc_id LIKE 'rel-%') AS judged_hits_in_order
+FROM bench_ndcg n
+ORDER BY n.path, n.query;
+
+\echo 'Mean NDCG@10 per search path'
+SELECT path, count(*) AS queries, round(avg(ndcg)::numeric, 4) AS mean_ndcg_at_10
+FROM bench_ndcg
+GROUP BY path
+ORDER BY path;
+
+DROP VIEW bench_ndcg, bench_fanout_requests;
+DROP TABLE bench_results, bench_fanout, bench_latency, bench_query_log, bench_paths, bench_judgements,
+    bench_documents, bench_profiles, bench_exams, bench_blogs, bench_vocab;
@@ -0,0 +1,32 @@
+-- Migration script to create the progress outbox of the asynchronous gamification pipeline
+-- Date: 2026-10-18
+
+CREATE TABLE IF NOT EXISTS progress_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id         VARCHAR(255) NOT NULL,
+    profile_id      VARCHAR(255) NOT NULL,
+    action          VARCHAR(50)  NOT NULL,
+    partition_no    INTEGER      NOT NULL,
+    status          VARCHAR(50)  NOT NULL,
+    attempts        INTEGER      NOT NULL DEFAULT 0,
+    create_date     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    next_attempt_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    processed_at    TIMESTAMP(6) WITH TIME ZONE,
+    last_error      VARCHAR(500)
+);
+
+-- Consumer poll: due events of one partition in append order (ProgressOutboxRepository.findDue)
+CREATE INDEX IF NOT EXISTS idx_progress_outbox_pending_partition_id
+    ON progress_outbox (partition_no, id) WHERE status = 'PENDING';
+
+-- Per-user ordering check (earlier event of the same user waiting for a retry)
+CREATE INDEX IF NOT EXISTS idx_progress_outbox_pending_user_id
+    ON progress_outbox (user_id, id) WHERE status = 'PENDING';
+
+-- Metrics: pending / dead-lettered counts and the oldest pending event, without scanning processed rows
+CREATE INDEX IF NOT EXISTS idx_progress_outbox_unprocessed_status_id
+    ON progress_outbox (status, id) WHERE status <> 'PROCESSED';
+
+-- Cleanup of processed events past the retention
+CREATE INDEX IF NOT EXISTS idx_progress_outbox_processed_at
+    ON progress_outbox (processed_at) WHERE status = 'PROCESSED';